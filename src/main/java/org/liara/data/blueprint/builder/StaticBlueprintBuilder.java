@@ -1,6 +1,6 @@
 package org.liara.data.blueprint.builder;
 
-import org.checkerframework.checker.index.qual.NonNegative;
+import org.apache.commons.lang3.mutable.MutableInt;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.liara.data.blueprint.Blueprint;
@@ -8,7 +8,7 @@ import org.liara.data.blueprint.BlueprintElement;
 import org.liara.data.blueprint.implementation.StaticBlueprint;
 import org.liara.data.blueprint.implementation.StaticBlueprintContent;
 import org.liara.data.primitive.Primitive;
-import org.liara.support.tree.TreeWalker;
+import org.liara.support.tree.TreeFold;
 
 public class StaticBlueprintBuilder {
 
@@ -19,15 +19,23 @@ public class StaticBlueprintBuilder {
   private BlueprintElementBuilder _blueprint;
 
   @NonNull
-  private final TreeWalker<BlueprintElementBuilder> _walker;
+  private final TreeFold<BlueprintElementBuilder, StaticBlueprintContent> _builder;
+
+  @NonNull
+  private final TreeFold<BlueprintElementBuilder, MutableInt> _identifiers;
 
   @NonNull
   private final StaticBlueprintBuildingContext _context;
 
   public StaticBlueprintBuilder() {
     _blueprint = null;
-    _walker = new TreeWalker<>(BlueprintElementBuilder.class);
     _context = new StaticBlueprintBuildingContext();
+    _builder = new TreeFold<BlueprintElementBuilder, StaticBlueprintContent>(
+        BlueprintElementBuilder.class
+    ).onEnter(BlueprintElementBuilder.class, this::buildChildren);
+    _identifiers = new TreeFold<BlueprintElementBuilder, MutableInt>(
+        BlueprintElementBuilder.class
+    ).onEnter(BlueprintElementBuilder.class, this::assignChildrenIdentifiers);
   }
 
   public @NonNull Blueprint build() {
@@ -38,58 +46,46 @@ public class StaticBlueprintBuilder {
 
     _context.setBlueprint(blueprint);
 
-    assignIdentifiers(root);
-
-    _walker.setRoot(root);
-    _walker.movesForward();
+    _context.setIdentifier(root, 0);
+    _identifiers.fold(root, new MutableInt(1));
 
     content.getElements().add(root.build(_context));
     content.getParents().add(null);
     content.setRoot(content.getElements().get(0));
 
-    while (!_walker.isAtEnd()) {
-      while (_walker.canEnter()) {
-        @NonNull final BlueprintElementBuilder next = _walker.enter();
-        @NonNull final BlueprintElement current = content.getElements().get(
-            _context.getIdentifier(next)
-        );
-
-        for (int index = 0, size = next.getChildren().getSize(); index < size; ++index) {
-          content.getElements().add(next.getChildren().get(index).build(_context));
-          content.getParents().add(current);
-        }
-      }
-
-      _walker.exit();
-    }
+    _builder.fold(root, content);
 
     _context.clear();
-    _walker.setRoot(null);
 
     return blueprint;
   }
 
-  private void assignIdentifiers(@NonNull final BlueprintElementBuilder blueprint) {
-    _walker.setRoot(blueprint);
-    _walker.movesForward();
-
-    _context.setIdentifier(blueprint, 0);
-    @NonNegative int nextIdentifier = 1;
+  private boolean buildChildren(
+      @NonNull final BlueprintElementBuilder next,
+      @NonNull final StaticBlueprintContent content
+  ) {
+    @NonNull final BlueprintElement current = content.getElements().get(
+        _context.getIdentifier(next)
+    );
 
-    while (!_walker.isAtEnd()) {
-      while (_walker.canEnter()) {
-        @NonNull final BlueprintElementBuilder next = _walker.enter();
+    for (int index = 0, size = next.getChildren().getSize(); index < size; ++index) {
+      content.getElements().add(next.getChildren().get(index).build(_context));
+      content.getParents().add(current);
+    }
 
-        for (int index = 0, size = next.getChildren().getSize(); index < size; ++index) {
-          _context.setIdentifier(next.getChildren().get(index), nextIdentifier);
-          nextIdentifier += 1;
-        }
-      }
+    return true;
+  }
 
-      _walker.exit();
+  private boolean assignChildrenIdentifiers(
+      @NonNull final BlueprintElementBuilder next,
+      @NonNull final MutableInt nextIdentifier
+  ) {
+    for (int index = 0, size = next.getChildren().getSize(); index < size; ++index) {
+      _context.setIdentifier(next.getChildren().get(index), nextIdentifier.intValue());
+      nextIdentifier.increment();
     }
 
-    _walker.setRoot(null);
+    return true;
   }
 
   public @NonNull ChainedStaticObjectBlueprintBuilder<StaticBlueprintBuilder> describeObject() {
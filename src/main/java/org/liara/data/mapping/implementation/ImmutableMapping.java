@@ -6,9 +6,8 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.liara.data.mapping.Field;
 import org.liara.data.mapping.Mapping;
 import org.liara.data.mapping.Structure;
-import org.liara.support.BaseComparators;
+import org.liara.support.index.HashIndex;
 import org.liara.support.index.IdentifiedIndex;
-import org.liara.support.index.ListIndex;
 import org.liara.support.view.View;
 
 public class ImmutableMapping implements Mapping {
@@ -20,7 +19,7 @@ public class ImmutableMapping implements Mapping {
   private final IdentifiedIndex<@NonNull ImmutableStructure> _structures;
 
   @NonNull
-  private final ListIndex<@NonNull String, @NonNull ImmutableStructure> _structuresByName;
+  private final HashIndex<@NonNull String, @NonNull ImmutableStructure> _structuresByName;
 
   @NonNull
   private final IdentifiedIndex<@NonNull ImmutableField> _fields;
@@ -29,7 +28,7 @@ public class ImmutableMapping implements Mapping {
     _name = mapping.getName();
 
     _structures = new IdentifiedIndex<>(mapping.getStructures().getSize());
-    _structuresByName = new ListIndex<>(mapping.getStructures().getSize(), BaseComparators.STRING_COMPARATOR);
+    _structuresByName = new HashIndex<>(mapping.getStructures().getSize());
     _fields = new IdentifiedIndex<>(mapping.getFields().getSize());
 
     for (@NonNull final Structure structure : mapping.getStructures()) {
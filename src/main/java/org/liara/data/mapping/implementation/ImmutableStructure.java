@@ -7,13 +7,12 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.liara.data.mapping.Field;
 import org.liara.data.mapping.Mapping;
 import org.liara.data.mapping.Structure;
-import org.liara.support.BaseComparators;
-import org.liara.support.index.ListIndex;
+import org.liara.support.index.HashIndex;
 import org.liara.support.view.View;
 
 public class ImmutableStructure implements Structure {
   @NonNull
-  private final ListIndex<@NonNull String, @NonNull ImmutableField> _fields;
+  private final HashIndex<@NonNull String, @NonNull ImmutableField> _fields;
 
   @NonNull
   private final String _name;
@@ -31,7 +30,7 @@ public class ImmutableStructure implements Structure {
     _identifier = structure.getIdentifier();
     _name = structure.getName();
     _mapping = mapping;
-    _fields = new ListIndex<>(structure.getFields().getSize(), BaseComparators.STRING_COMPARATOR);
+    _fields = new HashIndex<>(structure.getFields().getSize());
 
     for (@NonNull final Field field : structure.getFields()) {
       _fields.put(
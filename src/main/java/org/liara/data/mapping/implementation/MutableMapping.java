@@ -4,9 +4,8 @@ import java.util.NoSuchElementException;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.liara.data.mapping.Mapping;
-import org.liara.support.BaseComparators;
+import org.liara.support.index.HashIndex;
 import org.liara.support.index.IdentifiedIndex;
-import org.liara.support.index.ListIndex;
 import org.liara.support.view.View;
 
 public class MutableMapping implements Mapping {
@@ -26,12 +25,12 @@ public class MutableMapping implements Mapping {
   private int _nextFieldIdentifier;
 
   @NonNull
-  private final ListIndex<@NonNull String, @NonNull MutableStructure> _structuresByName;
+  private final HashIndex<@NonNull String, @NonNull MutableStructure> _structuresByName;
 
   public MutableMapping () {
     _name = "unnamed";
     _structures = new IdentifiedIndex<>(16);
-    _structuresByName = new ListIndex<>(16, BaseComparators.STRING_COMPARATOR);
+    _structuresByName = new HashIndex<>(16);
     _fields = new IdentifiedIndex<>(64);
     _nextStructureIdentifier = 0;
     _nextFieldIdentifier = 0;
@@ -8,8 +8,7 @@ import org.liara.data.mapping.Field;
 import org.liara.data.mapping.Mapping;
 import org.liara.data.mapping.Structure;
 import org.liara.data.primitive.Primitive;
-import org.liara.support.BaseComparators;
-import org.liara.support.index.ListIndex;
+import org.liara.support.index.HashIndex;
 import org.liara.support.view.View;
 
 public class MutableStructure implements Structure {
@@ -20,7 +19,7 @@ public class MutableStructure implements Structure {
   private String _name;
 
   @NonNull
-  private final ListIndex<@NonNull String, @NonNull MutableField> _fields;
+  private final HashIndex<@NonNull String, @NonNull MutableField> _fields;
 
   @NonNegative
   private final int _identifier;
@@ -28,7 +27,7 @@ public class MutableStructure implements Structure {
   public MutableStructure (@NonNull final MutableStructureBuilder builder) {
     _mapping = Objects.requireNonNull(builder.getMapping());
     _name = Objects.requireNonNull(builder.getName());
-    _fields = new ListIndex<>(8, BaseComparators.STRING_COMPARATOR);
+    _fields = new HashIndex<>(8);
     _identifier = _mapping.registerStructure(this);
   }
 
@@ -11,9 +11,8 @@ import org.liara.data.mapping.Mapping;
 import org.liara.data.mapping.Structure;
 import org.liara.data.mapping.relationship.Relationship;
 import org.liara.data.mapping.relationship.RelationshipManager;
-import org.liara.support.BaseComparators;
+import org.liara.support.index.HashIndex;
 import org.liara.support.index.Index;
-import org.liara.support.index.ListIndex;
 import org.liara.support.view.View;
 
 public class StaticRelationshipManager implements RelationshipManager {
@@ -39,12 +38,12 @@ public class StaticRelationshipManager implements RelationshipManager {
   private @NonNull List<? extends @NonNull Index<@NonNull String, @NonNull Relationship>> buildRelationshipsByTableFromBuilder(
       @NonNull final StaticRelationshipManagerBuilder builder
   ) {
-    @NonNull final List<@NonNull ListIndex<@NonNull String, @NonNull Relationship>> relationshipsByTable = (
+    @NonNull final List<@NonNull HashIndex<@NonNull String, @NonNull Relationship>> relationshipsByTable = (
         new ArrayList<>(_mapping.getStructures().getSize())
     );
 
     for (int index = 0, size = _mapping.getStructures().getSize(); index < size; ++index) {
-      relationshipsByTable.add(new ListIndex<>(8, BaseComparators.STRING_COMPARATOR));
+      relationshipsByTable.add(new HashIndex<>(8));
     }
 
     for (int index = 0, size = _relationships.getSize(); index < size; ++index) {
@@ -0,0 +1,329 @@
+package org.liara.data.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A sort of an arbitrary number of rows that spills sorted runs to disk.
+ *
+ * Appended rows are buffered into a store of a bounded number of rows. Each time the store is
+ * full, its rows are sorted in parallel and written into a run segment of a temporary directory.
+ * The final sort merges every run into the output segment with a k-way merge, so that only one
+ * store and the mapped pages of each run are needed whatever the number of sorted rows. The sort
+ * is stable.
+ *
+ * @see RowSorter
+ */
+public final class ExternalSorter implements Closeable {
+  /**
+   * Default number of rows of each sorted run.
+   */
+  @NonNegative
+  public static final int DEFAULT_RUN_ROWS = 1 << 20;
+
+  @NonNull
+  private final RowComparator _comparator;
+
+  @NonNull
+  private final ForkJoinPool _pool;
+
+  @NonNull
+  private final Path _directory;
+
+  @NonNull
+  private final RowStore _store;
+
+  @NonNegative
+  private final int _runRows;
+
+  @NonNull
+  private final List<@NonNull Path> _runs;
+
+  @NonNegative
+  private long _size;
+
+  private boolean _closed;
+
+  /**
+   * Prepare a sort that uses the common fork-join pool and runs of the default size.
+   *
+   * @param directory Directory into which creating the temporary runs.
+   * @param comparator Comparison of the rows to sort.
+   *
+   * @throws IOException If the temporary directory can't be created.
+   */
+  public ExternalSorter(
+      @NonNull final Path directory,
+      @NonNull final RowComparator comparator
+  ) throws IOException {
+    this(directory, comparator, DEFAULT_RUN_ROWS, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Prepare a sort.
+   *
+   * @param directory Directory into which creating the temporary runs.
+   * @param comparator Comparison of the rows to sort.
+   * @param runRows Maximum number of rows kept in memory, and so of rows of each run.
+   * @param pool Pool that sorts each run.
+   *
+   * @throws IOException If the temporary directory can't be created.
+   */
+  public ExternalSorter(
+      @NonNull final Path directory,
+      @NonNull final RowComparator comparator,
+      @NonNegative final int runRows,
+      @NonNull final ForkJoinPool pool
+  ) throws IOException {
+    _comparator = comparator;
+    _pool = pool;
+    _runRows = Math.max(1, runRows);
+    _store = new RowStore(comparator.getLayout());
+    _runs = new ArrayList<>();
+    _size = 0;
+    _closed = false;
+    _directory = Files.createTempDirectory(directory, "sort");
+  }
+
+  /**
+   * Append a row to sort.
+   *
+   * @param values The values of each column of the row to append.
+   *
+   * @throws IOException If a run can't be written.
+   */
+  public void append(@Nullable final Object... values) throws IOException {
+    assertNotClosed();
+
+    if (_store.getSize() >= _runRows) {
+      spill();
+    }
+
+    _store.append(values);
+    _size += 1;
+  }
+
+  /**
+   * Append each row of a source to sort.
+   *
+   * @param rows A source with the layout of the rows to sort.
+   *
+   * @throws IOException If a run can't be written.
+   */
+  public void appendAll(@NonNull final RowSource rows) throws IOException {
+    assertNotClosed();
+
+    @NonNegative final int bytes = _comparator.getLayout().getBytes();
+
+    if (rows.getLayout().getBytes() != bytes) {
+      throw new IllegalArgumentException(
+          "Unable to append the given rows because they have " + rows.getLayout().getBytes() +
+              " bytes and the sorted rows have " + bytes + " bytes."
+      );
+    }
+
+    for (int row = 0; row < rows.getSize(); ++row) {
+      if (_store.getSize() >= _runRows) {
+        spill();
+      }
+
+      @NonNegative final int target = _store.append();
+      @NonNull final ByteBuffer source = rows.getPage(row).duplicate();
+      @NonNegative final int offset = rows.getOffset(row);
+
+      @NonNull final ByteBuffer destination = _store.getPage(target).duplicate();
+
+      source.limit(offset + bytes);
+      source.position(offset);
+      destination.position(_store.getOffset(target));
+      destination.put(source);
+    }
+
+    _size += rows.getSize();
+  }
+
+  /**
+   * Sort the buffered rows and write them into a new run.
+   */
+  private void spill() throws IOException {
+    @NonNull final Path path = _directory.resolve("run-" + _runs.size() + ".segment");
+
+    write(path);
+    _runs.add(path);
+    _store.clear();
+  }
+
+  /**
+   * Write the buffered rows in order into a new segment.
+   *
+   * @param path Path of the segment to create.
+   */
+  private void write(@NonNull final Path path) throws IOException {
+    @NonNull final int[] order = new RowSorter(_store, _comparator).sort(_pool);
+
+    try (@NonNull final SegmentWriter writer = new SegmentWriter(path, _store.getLayout())) {
+      for (final int row : order) {
+        writer.append(_store, row);
+      }
+    }
+  }
+
+  /**
+   * Write each appended row in order into a new segment and release every temporary run.
+   *
+   * @param output Path of the sorted segment to create.
+   *
+   * @throws IOException If the runs can't be read or if the output can't be written.
+   */
+  public void sort(@NonNull final Path output) throws IOException {
+    assertNotClosed();
+
+    try {
+      if (_runs.isEmpty()) {
+        write(output);
+      } else {
+        if (_store.getSize() > 0) {
+          spill();
+        }
+
+        merge(output);
+      }
+    } finally {
+      close();
+    }
+  }
+
+  /**
+   * Merge each run into a new segment.
+   *
+   * @param output Path of the segment to create.
+   */
+  private void merge(@NonNull final Path output) throws IOException {
+    @NonNull final List<@NonNull Segment> segments = new ArrayList<>(_runs.size());
+
+    try {
+      @NonNull final PriorityQueue<@NonNull Cursor> cursors = new PriorityQueue<>(_runs.size());
+
+      for (@NonNull final Path run : _runs) {
+        @NonNull final Segment segment = Segment.open(run, _store.getLayout());
+        segments.add(segment);
+
+        if (segment.getSize() > 0) {
+          cursors.add(new Cursor(segment, segments.size() - 1));
+        }
+      }
+
+      try (@NonNull final SegmentWriter writer = new SegmentWriter(output, _store.getLayout())) {
+        while (!cursors.isEmpty()) {
+          @NonNull final Cursor cursor = cursors.poll();
+
+          writer.append(cursor._segment, cursor._row);
+
+          if (cursor.next()) {
+            cursors.add(cursor);
+          }
+        }
+      }
+    } finally {
+      for (@NonNull final Segment segment : segments) {
+        segment.close();
+      }
+    }
+  }
+
+  private void assertNotClosed() {
+    if (_closed) {
+      throw new IllegalStateException(
+          "Unable to use this sort because it was already sorted or closed."
+      );
+    }
+  }
+
+  /**
+   * Delete each temporary run of this sort.
+   *
+   * @throws IOException If a run can't be deleted.
+   */
+  @Override
+  public void close() throws IOException {
+    if (_closed) {
+      return;
+    }
+
+    _closed = true;
+    _store.clear();
+
+    for (@NonNull final Path run : _runs) {
+      Files.deleteIfExists(run);
+    }
+
+    _runs.clear();
+    Files.deleteIfExists(_directory);
+  }
+
+  /**
+   * @return The number of appended rows.
+   */
+  public @NonNegative long getSize() {
+    return _size;
+  }
+
+  /**
+   * @return The number of runs written to disk.
+   */
+  public @NonNegative int getRuns() {
+    return _runs.size();
+  }
+
+  /**
+   * @return The comparison of the sorted rows.
+   */
+  public @NonNull RowComparator getComparator() {
+    return _comparator;
+  }
+
+  /**
+   * The next row of a run to merge.
+   */
+  private final class Cursor implements Comparable<@NonNull Cursor> {
+    @NonNull
+    private final Segment _segment;
+
+    @NonNegative
+    private final int _run;
+
+    @NonNegative
+    private int _row;
+
+    Cursor(@NonNull final Segment segment, @NonNegative final int run) {
+      _segment = segment;
+      _run = run;
+      _row = 0;
+    }
+
+    boolean next() {
+      _row += 1;
+      return _row < _segment.getSize();
+    }
+
+    @Override
+    public int compareTo(@NonNull final Cursor other) {
+      final int comparison = _comparator.compare(
+          _segment.getPage(_row), _segment.getOffset(_row),
+          other._segment.getPage(other._row), other._segment.getOffset(other._row)
+      );
+
+      return comparison == 0 ? Integer.compare(_run, other._run) : comparison;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package org.liara.data.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A strategy for allocating the pages of a row store.
+ */
+@FunctionalInterface
+public interface PageAllocator {
+  /**
+   * @return An allocator of direct, off-heap, pages.
+   */
+  static @NonNull PageAllocator direct() {
+    return (@NonNegative final int index, @NonNegative final int bytes) -> (
+        ByteBuffer.allocateDirect(bytes)
+    );
+  }
+
+  /**
+   * @return An allocator of heap pages.
+   */
+  static @NonNull PageAllocator heap() {
+    return (@NonNegative final int index, @NonNegative final int bytes) -> (
+        ByteBuffer.allocate(bytes)
+    );
+  }
+
+  /**
+   * Return an allocator of pages mapped into a file, the page of index i is mapped at the offset
+   * i * bytes of the file so that each page of a store must have the same size. Mapped pages are
+   * paged in and out by the operating system, which allows a store to exceed the available memory.
+   *
+   * The file is created if it does not exist and truncated otherwise, so that each allocated page
+   * is filled with zeros. A page stays mapped until it is garbage collected.
+   *
+   * @param file The file that backs each allocated page.
+   *
+   * @return An allocator of memory-mapped pages.
+   *
+   * @throws IOException If the file can't be created or truncated.
+   */
+  static @NonNull PageAllocator mapped(@NonNull final Path file) throws IOException {
+    FileChannel.open(
+        file,
+        StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING
+    ).close();
+
+    return (@NonNegative final int index, @NonNegative final int bytes) -> {
+      try (
+          @NonNull final FileChannel channel = FileChannel.open(
+              file, StandardOpenOption.READ, StandardOpenOption.WRITE
+          )
+      ) {
+        return channel.map(MapMode.READ_WRITE, (long) index * bytes, bytes);
+      } catch (@NonNull final IOException exception) {
+        throw new UncheckedIOException(
+            "Unable to allocate the page #" + index + " because the file " + file +
+                " can't be mapped.", exception
+        );
+      }
+    };
+  }
+
+  /**
+   * Allocate a new page filled with zeros.
+   *
+   * @param index Index of the page to allocate.
+   * @param bytes Size of the page to allocate in bytes.
+   *
+   * @return The allocated page.
+   */
+  @NonNull ByteBuffer allocate(@NonNegative final int index, @NonNegative final int bytes);
+}
@@ -0,0 +1,131 @@
+package org.liara.data.store;
+
+import java.nio.ByteBuffer;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.data.type.ComparableDataType;
+import org.liara.data.type.DataType;
+import org.liara.data.type.PrefixComparableDataType;
+
+/**
+ * A comparison of encoded rows by a sequence of key columns.
+ *
+ * Rows are compared by their first key column, then by the next key column when equal and so on.
+ * The normalized prefix of a row is the prefix of its first key column, a lower prefix always
+ * implies a lower row.
+ */
+public final class RowComparator {
+  @NonNull
+  private final RowLayout _layout;
+
+  private final int @NonNull [] _columns;
+
+  @NonNull
+  private final ComparableDataType @NonNull [] _types;
+
+  private final int @NonNull [] _offsets;
+
+  /**
+   * Instantiate a comparison of the rows of a layout.
+   *
+   * @param layout Layout of the rows to compare.
+   * @param columns Key columns to compare, in order of priority.
+   *
+   * @throws IllegalArgumentException If no column is given or if a column is not comparable.
+   */
+  public RowComparator(@NonNull final RowLayout layout, @NonNegative final int... columns) {
+    if (columns.length == 0) {
+      throw new IllegalArgumentException(
+          "Unable to compare rows because no key column was given."
+      );
+    }
+
+    _layout = layout;
+    _columns = columns.clone();
+    _types = new ComparableDataType[columns.length];
+    _offsets = new int[columns.length];
+
+    for (int index = 0; index < columns.length; ++index) {
+      @NonNull final DataType<?> type = layout.getType(columns[index]);
+
+      if (!(type instanceof ComparableDataType)) {
+        throw new IllegalArgumentException(
+            "Unable to compare rows by the column " + columns[index] + " because its data type " +
+                type + " is not comparable."
+        );
+      }
+
+      _types[index] = (ComparableDataType) type;
+      _offsets[index] = layout.getOffset(columns[index]);
+    }
+  }
+
+  /**
+   * Compare two encoded rows.
+   *
+   * @param leftPage Page that contains the left row.
+   * @param leftOffset Offset in bytes of the left row.
+   * @param rightPage Page that contains the right row.
+   * @param rightOffset Offset in bytes of the right row.
+   *
+   * @return A negative integer, zero or a positive integer if the left row is lower, equal or
+   *     greater than the right one.
+   */
+  public int compare(
+      @NonNull final ByteBuffer leftPage, @NonNegative final int leftOffset,
+      @NonNull final ByteBuffer rightPage, @NonNegative final int rightOffset
+  ) {
+    for (int index = 0; index < _types.length; ++index) {
+      final int comparison = _types[index].compare(
+          leftPage, leftOffset + _offsets[index], rightPage, rightOffset + _offsets[index]
+      );
+
+      if (comparison != 0) {
+        return comparison;
+      }
+    }
+
+    return 0;
+  }
+
+  /**
+   * Return the normalized prefix of an encoded row, prefixes are compared as unsigned longs.
+   *
+   * @param page Page that contains the row.
+   * @param offset Offset in bytes of the row.
+   *
+   * @return The prefix of the first key column of the row, or zero if this column has no prefix.
+   *
+   * @see PrefixComparableDataType#getPrefix(ByteBuffer, int)
+   */
+  public long getPrefix(@NonNull final ByteBuffer page, @NonNegative final int offset) {
+    if (_types[0] instanceof PrefixComparableDataType) {
+      return ((PrefixComparableDataType) _types[0]).getPrefix(page, offset + _offsets[0]);
+    }
+
+    return 0L;
+  }
+
+  /**
+   * @return The layout of the compared rows.
+   */
+  public @NonNull RowLayout getLayout() {
+    return _layout;
+  }
+
+  /**
+   * @return The number of key columns.
+   */
+  public @NonNegative int getKeys() {
+    return _columns.length;
+  }
+
+  /**
+   * @param key Index of a key column.
+   *
+   * @return The column compared at the given priority.
+   */
+  public @NonNegative int getColumn(@NonNegative final int key) {
+    return _columns[key];
+  }
+}
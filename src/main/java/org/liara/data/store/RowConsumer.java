@@ -0,0 +1,24 @@
+package org.liara.data.store;
+
+import java.nio.ByteBuffer;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * An operation that accepts the rows of a row store during a scan.
+ */
+@FunctionalInterface
+public interface RowConsumer {
+  /**
+   * Accept a row.
+   *
+   * @param page The page that contains the row.
+   * @param offset Offset in bytes of the row into its page.
+   * @param row Index of the row into its store.
+   */
+  void accept(
+      @NonNull final ByteBuffer page,
+      @NonNegative final int offset,
+      @NonNegative final int row
+  );
+}
@@ -0,0 +1,169 @@
+package org.liara.data.store;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.data.mapping.Field;
+import org.liara.data.mapping.Structure;
+import org.liara.data.type.DataType;
+import org.liara.data.type.DataTypes;
+import org.liara.support.view.View;
+
+/**
+ * A fixed-size binary layout of the rows of a structure.
+ *
+ * Each field of the structure is stored at a fixed offset of the row with the data type resolved
+ * for it. A layout is a snapshot of the fields of its structure at the time of its creation.
+ */
+public final class RowLayout {
+  @NonNull
+  private final Structure _structure;
+
+  @NonNull
+  private final Field @NonNull [] _fields;
+
+  @NonNull
+  private final DataType<?> @NonNull [] _types;
+
+  private final int @NonNull [] _offsets;
+
+  @NonNull
+  private final Map<@NonNull Field, @NonNull Integer> _columns;
+
+  @NonNegative
+  private final int _bytes;
+
+  /**
+   * Create the layout of the given structure by using the default data type of each field
+   * primitive.
+   *
+   * @param structure A structure to lay out.
+   *
+   * @return The layout of the given structure.
+   *
+   * @throws IllegalArgumentException If a field of the structure has no fixed-size data type.
+   * @see DataTypes#of(org.liara.data.primitive.Primitive)
+   */
+  public static @NonNull RowLayout of(@NonNull final Structure structure) {
+    return new RowLayout(structure, (@NonNull final Field field) -> DataTypes.of(field.getType()));
+  }
+
+  /**
+   * Create the layout of the given structure.
+   *
+   * @param structure A structure to lay out.
+   * @param types A function that returns the data type to use for storing each field.
+   *
+   * @throws IllegalArgumentException If no data type was resolved for a field of the structure.
+   */
+  public RowLayout(
+      @NonNull final Structure structure,
+      @NonNull final Function<@NonNull Field, @Nullable DataType<?>> types
+  ) {
+    @NonNull final View<@NonNull ? extends Field> fields = structure.getFields();
+
+    _structure = structure;
+    _fields = new Field[fields.getSize()];
+    _types = new DataType<?>[fields.getSize()];
+    _offsets = new int[fields.getSize()];
+    _columns = new IdentityHashMap<>(fields.getSize());
+
+    int bytes = 0;
+
+    for (int column = 0; column < _fields.length; ++column) {
+      @NonNull final Field field = fields.get(column);
+      @Nullable final DataType<?> type = types.apply(field);
+
+      if (type == null) {
+        throw new IllegalArgumentException(
+            "Unable to lay out the field " + field.getName() + " of the structure " +
+                structure.getName() + " because no fixed-size data type was resolved for its " +
+                "type " + field.getType().getName() + "."
+        );
+      }
+
+      _fields[column] = field;
+      _types[column] = type;
+      _offsets[column] = bytes;
+      _columns.put(field, column);
+
+      bytes += type.getBytes();
+    }
+
+    _bytes = bytes;
+  }
+
+  /**
+   * @return The structure described by this layout.
+   */
+  public @NonNull Structure getStructure() {
+    return _structure;
+  }
+
+  /**
+   * @return The number of bytes of each row.
+   */
+  public @NonNegative int getBytes() {
+    return _bytes;
+  }
+
+  /**
+   * @return The number of columns of this layout.
+   */
+  public @NonNegative int getColumns() {
+    return _fields.length;
+  }
+
+  /**
+   * Return the column that stores the given field.
+   *
+   * @param field A field of the structure described by this layout.
+   *
+   * @return The column that stores the given field.
+   *
+   * @throws NoSuchElementException If the given field is not part of this layout.
+   */
+  public @NonNegative int getColumn(@NonNull final Field field) throws NoSuchElementException {
+    @Nullable final Integer column = _columns.get(field);
+
+    if (column == null) {
+      throw new NoSuchElementException(
+          "Unable to find the column of the field " + field.getName() + " because this field is " +
+              "not part of this layout."
+      );
+    }
+
+    return column;
+  }
+
+  /**
+   * @param column A column of this layout.
+   *
+   * @return The field stored into the given column.
+   */
+  public @NonNull Field getField(@NonNegative final int column) {
+    return _fields[column];
+  }
+
+  /**
+   * @param column A column of this layout.
+   *
+   * @return The data type used for storing the given column.
+   */
+  public @NonNull DataType<?> getType(@NonNegative final int column) {
+    return _types[column];
+  }
+
+  /**
+   * @param column A column of this layout.
+   *
+   * @return The offset in bytes of the given column from the start of a row.
+   */
+  public @NonNegative int getOffset(@NonNegative final int column) {
+    return _offsets[column];
+  }
+}
@@ -0,0 +1,265 @@
+package org.liara.data.store;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A stable sort of the rows of a source by a sequence of key columns.
+ *
+ * The sorter extracts the normalized key prefix of each row once, then compares rows through their
+ * prefixes and only compares the encoded keys of rows with equal prefixes. The rows themselves are
+ * never moved, a sort returns the permutation of row indices that orders them.
+ *
+ * @see RowComparator
+ */
+public final class RowSorter {
+  /**
+   * Ranges smaller than this threshold are sorted by insertion.
+   */
+  @NonNegative
+  static final int INSERTION_THRESHOLD = 16;
+
+  /**
+   * Ranges smaller than this threshold are not split into parallel tasks.
+   */
+  @NonNegative
+  static final int PARALLEL_THRESHOLD = 1 << 13;
+
+  @NonNull
+  private final RowSource _rows;
+
+  @NonNull
+  private final RowComparator _comparator;
+
+  private final long @NonNull [] _prefixes;
+
+  /**
+   * Prepare the sort of the rows of a source by some of their columns.
+   *
+   * @param rows Rows to sort.
+   * @param columns Key columns to sort by, in order of priority.
+   *
+   * @throws IllegalArgumentException If no column is given or if a column is not comparable.
+   */
+  public RowSorter(@NonNull final RowSource rows, @NonNegative final int... columns) {
+    this(rows, new RowComparator(rows.getLayout(), columns));
+  }
+
+  /**
+   * Prepare the sort of the rows of a source.
+   *
+   * @param rows Rows to sort.
+   * @param comparator Comparison of the rows of the source.
+   */
+  public RowSorter(@NonNull final RowSource rows, @NonNull final RowComparator comparator) {
+    _rows = rows;
+    _comparator = comparator;
+    _prefixes = new long[rows.getSize()];
+
+    for (int row = 0; row < _prefixes.length; ++row) {
+      _prefixes[row] = comparator.getPrefix(rows.getPage(row), rows.getOffset(row));
+    }
+  }
+
+  /**
+   * @return The indices of each row in ascending order of the key columns.
+   */
+  public int @NonNull [] sort() {
+    @NonNull final int[] result = identity();
+    sort(result, new int[result.length], 0, result.length);
+    return result;
+  }
+
+  /**
+   * Sort the rows by using the common fork-join pool.
+   *
+   * @return The indices of each row in ascending order of the key columns.
+   *
+   * @see #sort(ForkJoinPool)
+   */
+  public int @NonNull [] parallelSort() {
+    return sort(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Sort the rows by splitting the sort into tasks of the given pool.
+   *
+   * @param pool Pool that executes the sort.
+   *
+   * @return The indices of each row in ascending order of the key columns.
+   */
+  public int @NonNull [] sort(@NonNull final ForkJoinPool pool) {
+    @NonNull final int[] result = identity();
+    pool.invoke(new SortTask(result, new int[result.length], 0, result.length));
+    return result;
+  }
+
+  private int @NonNull [] identity() {
+    @NonNull final int[] result = new int[_prefixes.length];
+
+    for (int row = 0; row < result.length; ++row) {
+      result[row] = row;
+    }
+
+    return result;
+  }
+
+  /**
+   * Sort a range of row indices.
+   *
+   * @param rows Row indices to sort.
+   * @param buffer A scratch array of the same size.
+   * @param from First index of the range to sort, inclusive.
+   * @param to Last index of the range to sort, exclusive.
+   */
+  void sort(
+      final int @NonNull [] rows,
+      final int @NonNull [] buffer,
+      @NonNegative final int from,
+      @NonNegative final int to
+  ) {
+    if (to - from <= INSERTION_THRESHOLD) {
+      insertionSort(rows, from, to);
+    } else {
+      @NonNegative final int middle = (from + to) >>> 1;
+
+      sort(rows, buffer, from, middle);
+      sort(rows, buffer, middle, to);
+      merge(rows, buffer, from, middle, to);
+    }
+  }
+
+  private void insertionSort(
+      final int @NonNull [] rows,
+      @NonNegative final int from,
+      @NonNegative final int to
+  ) {
+    for (int index = from + 1; index < to; ++index) {
+      final int row = rows[index];
+      int cursor = index - 1;
+
+      while (cursor >= from && compare(rows[cursor], row) > 0) {
+        rows[cursor + 1] = rows[cursor];
+        --cursor;
+      }
+
+      rows[cursor + 1] = row;
+    }
+  }
+
+  /**
+   * Merge two consecutive sorted ranges of row indices.
+   *
+   * @param rows Row indices to merge.
+   * @param buffer A scratch array of the same size.
+   * @param from First index of the first range, inclusive.
+   * @param middle First index of the second range, inclusive.
+   * @param to Last index of the second range, exclusive.
+   */
+  void merge(
+      final int @NonNull [] rows,
+      final int @NonNull [] buffer,
+      @NonNegative final int from,
+      @NonNegative final int middle,
+      @NonNegative final int to
+  ) {
+    if (compare(rows[middle - 1], rows[middle]) <= 0) {
+      return;
+    }
+
+    System.arraycopy(rows, from, buffer, from, to - from);
+
+    int left = from;
+    int right = middle;
+
+    for (int index = from; index < to; ++index) {
+      if (right >= to || (left < middle && compare(buffer[left], buffer[right]) <= 0)) {
+        rows[index] = buffer[left++];
+      } else {
+        rows[index] = buffer[right++];
+      }
+    }
+  }
+
+  /**
+   * Compare two rows by the key columns.
+   *
+   * @param left Index of a row.
+   * @param right Index of another row.
+   *
+   * @return A negative integer, zero or a positive integer if the left row is lower, equal or
+   *     greater than the right one.
+   */
+  int compare(@NonNegative final int left, @NonNegative final int right) {
+    final int comparison = Long.compareUnsigned(_prefixes[left], _prefixes[right]);
+
+    if (comparison != 0) {
+      return comparison;
+    }
+
+    return _comparator.compare(
+        _rows.getPage(left), _rows.getOffset(left),
+        _rows.getPage(right), _rows.getOffset(right)
+    );
+  }
+
+  /**
+   * @return The sorted rows.
+   */
+  public @NonNull RowSource getRows() {
+    return _rows;
+  }
+
+  /**
+   * @return The comparison of the sorted rows.
+   */
+  public @NonNull RowComparator getComparator() {
+    return _comparator;
+  }
+
+  /**
+   * Sort a range of row indices by sorting each half in parallel before merging them.
+   */
+  private final class SortTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final int @NonNull [] _indices;
+
+    private final int @NonNull [] _buffer;
+
+    @NonNegative
+    private final int _from;
+
+    @NonNegative
+    private final int _to;
+
+    SortTask(
+        final int @NonNull [] indices,
+        final int @NonNull [] buffer,
+        @NonNegative final int from,
+        @NonNegative final int to
+    ) {
+      _indices = indices;
+      _buffer = buffer;
+      _from = from;
+      _to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (_to - _from <= PARALLEL_THRESHOLD) {
+        sort(_indices, _buffer, _from, _to);
+      } else {
+        @NonNegative final int middle = (_from + _to) >>> 1;
+
+        invokeAll(
+            new SortTask(_indices, _buffer, _from, middle),
+            new SortTask(_indices, _buffer, middle, _to)
+        );
+        merge(_indices, _buffer, _from, middle, _to);
+      }
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package org.liara.data.store;
+
+import java.nio.ByteBuffer;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A sequence of rows encoded with a row layout into pages of bytes.
+ */
+public interface RowSource {
+  /**
+   * @return The layout of each row.
+   */
+  @NonNull RowLayout getLayout();
+
+  /**
+   * @return The number of rows.
+   */
+  @NonNegative int getSize();
+
+  /**
+   * Return the page that contains the given row.
+   *
+   * @param row Index of a row.
+   *
+   * @return The page that contains the given row.
+   */
+  @NonNull ByteBuffer getPage(@NonNegative final int row);
+
+  /**
+   * Return the offset of the given row into its page.
+   *
+   * @param row Index of a row.
+   *
+   * @return The offset in bytes of the given row into its page.
+   */
+  @NonNegative int getOffset(@NonNegative final int row);
+}
@@ -0,0 +1,366 @@
+package org.liara.data.store;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.lang3.mutable.Mutable;
+import org.apache.commons.lang3.mutable.MutableObject;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.data.mapping.Field;
+import org.liara.data.type.DataType;
+import org.liara.data.type.DataTypes;
+
+/**
+ * A store of fixed-size rows kept into pages of bytes.
+ *
+ * Each page contains a power of two number of rows laid out by a row layout, so that locating a
+ * row is a shift and a mask. Pages are allocated on demand by a page allocator, by default as
+ * direct buffers in order to keep the stored rows off the heap.
+ */
+public class RowStore implements RowSource {
+  /**
+   * Default size of each page in bytes.
+   */
+  @NonNegative
+  public static final int DEFAULT_PAGE_BYTES = 1 << 20;
+
+  @NonNull
+  private final RowLayout _layout;
+
+  @NonNull
+  private final PageAllocator _allocator;
+
+  @NonNull
+  private final List<@NonNull ByteBuffer> _pages;
+
+  @NonNegative
+  private final int _pageShift;
+
+  @NonNegative
+  private final int _pageMask;
+
+  @NonNegative
+  private int _size;
+
+  @NonNegative
+  private int _written;
+
+  /**
+   * Instantiate a new empty store of direct pages of the default size.
+   *
+   * @param layout The layout of each row of the store.
+   */
+  public RowStore(@NonNull final RowLayout layout) {
+    this(layout, PageAllocator.direct(), DEFAULT_PAGE_BYTES);
+  }
+
+  /**
+   * Instantiate a new empty store.
+   *
+   * @param layout The layout of each row of the store.
+   * @param allocator The allocator to use for creating each page of the store.
+   * @param pageBytes The maximum size of each page in bytes, a page always contains at least one
+   *     row.
+   */
+  public RowStore(
+      @NonNull final RowLayout layout,
+      @NonNull final PageAllocator allocator,
+      @NonNegative final int pageBytes
+  ) {
+    _layout = layout;
+    _allocator = allocator;
+    _pages = new ArrayList<>();
+    _pageShift = Integer.numberOfTrailingZeros(
+        Integer.highestOneBit(Math.max(1, pageBytes / Math.max(1, layout.getBytes())))
+    );
+    _pageMask = (1 << _pageShift) - 1;
+    _size = 0;
+    _written = 0;
+  }
+
+  /**
+   * Append a new row with all of its bytes set to zero, that is a null value for each nullable
+   * column.
+   *
+   * @return The index of the appended row.
+   */
+  public @NonNegative int append() {
+    @NonNegative final int row = _size;
+    @NonNegative final int page = row >>> _pageShift;
+
+    if (page == _pages.size()) {
+      _pages.add(_allocator.allocate(page, getRowsPerPage() * _layout.getBytes()));
+    }
+
+    if (row < _written) {
+      clear(_pages.get(page), getOffset(row), _layout.getBytes());
+    } else {
+      _written = row + 1;
+    }
+
+    _size += 1;
+
+    return row;
+  }
+
+  /**
+   * Append a new row with the given values.
+   *
+   * @param values The values of each column of the row to append.
+   *
+   * @return The index of the appended row.
+   */
+  public @NonNegative int append(@Nullable final Object... values) {
+    if (values.length != _layout.getColumns()) {
+      throw new IllegalArgumentException(
+          "Unable to append the given values because " + values.length + " values were given " +
+              "and the rows of this store have " + _layout.getColumns() + " columns."
+      );
+    }
+
+    @NonNegative final int row = append();
+
+    for (int column = 0; column < values.length; ++column) {
+      set(row, column, values[column]);
+    }
+
+    return row;
+  }
+
+  /**
+   * Fill a region of a page with zeros.
+   *
+   * @param page The page to update.
+   * @param offset Offset in bytes of the region to clear.
+   * @param bytes Size of the region to clear in bytes.
+   */
+  static void clear(
+      @NonNull final ByteBuffer page,
+      @NonNegative final int offset,
+      @NonNegative final int bytes
+  ) {
+    int index = offset;
+    @NonNegative final int end = offset + bytes;
+
+    for (; index + Long.BYTES <= end; index += Long.BYTES) {
+      page.putLong(index, 0L);
+    }
+
+    for (; index < end; ++index) {
+      page.put(index, (byte) 0);
+    }
+  }
+
+  /**
+   * Update a column of a row.
+   *
+   * @param row Index of the row to update.
+   * @param column Column to update.
+   * @param value The new value of the column.
+   */
+  @SuppressWarnings("unchecked")
+  public void set(
+      @NonNegative final int row,
+      @NonNegative final int column,
+      @Nullable final Object value
+  ) {
+    checkRow(row);
+    ((DataType<Object>) _layout.getType(column)).write(
+        _pages.get(row >>> _pageShift), getOffset(row) + _layout.getOffset(column), value
+    );
+  }
+
+  /**
+   * Update a field of a row.
+   *
+   * @param row Index of the row to update.
+   * @param field Field to update.
+   * @param value The new value of the field.
+   */
+  public void set(
+      @NonNegative final int row,
+      @NonNull final Field field,
+      @Nullable final Object value
+  ) {
+    set(row, _layout.getColumn(field), value);
+  }
+
+  /**
+   * Read a column of a row.
+   *
+   * @param row Index of the row to read.
+   * @param column Column to read.
+   * @param output Output object.
+   */
+  @SuppressWarnings("unchecked")
+  public void get(
+      @NonNegative final int row,
+      @NonNegative final int column,
+      @NonNull final Mutable<?> output
+  ) {
+    checkRow(row);
+    ((DataType<Object>) _layout.getType(column)).read(
+        _pages.get(row >>> _pageShift),
+        getOffset(row) + _layout.getOffset(column),
+        (Mutable<Object>) output
+    );
+  }
+
+  /**
+   * Read a column of a row.
+   *
+   * @param row Index of the row to read.
+   * @param column Column to read.
+   *
+   * @return The value of the column.
+   */
+  public @Nullable Object get(@NonNegative final int row, @NonNegative final int column) {
+    @NonNull final Mutable<@Nullable Object> result = new MutableObject<>();
+    get(row, column, result);
+    return result.getValue();
+  }
+
+  /**
+   * Return true if a column of a row is null.
+   *
+   * @param row Index of the row to read.
+   * @param column Column to read.
+   *
+   * @return True if the given column of the given row is null.
+   */
+  public boolean isNull(@NonNegative final int row, @NonNegative final int column) {
+    checkRow(row);
+    return DataTypes.isNull(
+        _layout.getType(column), _pages.get(row >>> _pageShift), getOffset(row) + _layout.getOffset(column)
+    );
+  }
+
+  /**
+   * Read a non-null integral column of a row without boxing it.
+   *
+   * @param row Index of the row to read.
+   * @param column Integral column to read.
+   *
+   * @return The value of the column.
+   *
+   * @see DataTypes#readLong(DataType, ByteBuffer, int)
+   */
+  public long getLong(@NonNegative final int row, @NonNegative final int column) {
+    checkRow(row);
+    return DataTypes.readLong(
+        _layout.getType(column), _pages.get(row >>> _pageShift), getOffset(row) + _layout.getOffset(column)
+    );
+  }
+
+  /**
+   * Read a non-null numeric column of a row without boxing it.
+   *
+   * @param row Index of the row to read.
+   * @param column Numeric column to read.
+   *
+   * @return The value of the column.
+   *
+   * @see DataTypes#readDouble(DataType, ByteBuffer, int)
+   */
+  public double getDouble(@NonNegative final int row, @NonNegative final int column) {
+    checkRow(row);
+    return DataTypes.readDouble(
+        _layout.getType(column), _pages.get(row >>> _pageShift), getOffset(row) + _layout.getOffset(column)
+    );
+  }
+
+  /**
+   * Read a field of a row.
+   *
+   * @param row Index of the row to read.
+   * @param field Field to read.
+   *
+   * @return The value of the field.
+   */
+  public @Nullable Object get(@NonNegative final int row, @NonNull final Field field) {
+    return get(row, _layout.getColumn(field));
+  }
+
+  /**
+   * Scan each row of this store in order.
+   *
+   * @param consumer An operation to apply to each row.
+   */
+  public void forEach(@NonNull final RowConsumer consumer) {
+    @NonNegative final int bytes = _layout.getBytes();
+    int row = 0;
+
+    for (int page = 0; row < _size; ++page) {
+      @NonNull final ByteBuffer buffer = _pages.get(page);
+      @NonNegative final int end = Math.min(_size, (page + 1) << _pageShift);
+
+      for (int offset = 0; row < end; ++row, offset += bytes) {
+        consumer.accept(buffer, offset, row);
+      }
+    }
+  }
+
+  /**
+   * @see RowSource#getPage(int)
+   */
+  @Override
+  public @NonNull ByteBuffer getPage(@NonNegative final int row) {
+    checkRow(row);
+    return _pages.get(row >>> _pageShift);
+  }
+
+  /**
+   * @see RowSource#getOffset(int)
+   */
+  @Override
+  public @NonNegative int getOffset(@NonNegative final int row) {
+    return (row & _pageMask) * _layout.getBytes();
+  }
+
+  private void checkRow(@NonNegative final int row) {
+    if (row >= _size) {
+      throw new IndexOutOfBoundsException(
+          "Unable to access the row " + row + " because this store contains " + _size + " rows."
+      );
+    }
+  }
+
+  /**
+   * Remove all rows of this store, already allocated pages are kept for further appends.
+   */
+  public void clear() {
+    _size = 0;
+  }
+
+  /**
+   * @see RowSource#getLayout()
+   */
+  @Override
+  public @NonNull RowLayout getLayout() {
+    return _layout;
+  }
+
+  /**
+   * @see RowSource#getSize()
+   */
+  @Override
+  public @NonNegative int getSize() {
+    return _size;
+  }
+
+  /**
+   * @return The number of rows of each page of this store.
+   */
+  public @NonNegative int getRowsPerPage() {
+    return 1 << _pageShift;
+  }
+
+  /**
+   * @return The number of allocated pages.
+   */
+  public @NonNegative int getPageCount() {
+    return _pages.size();
+  }
+}
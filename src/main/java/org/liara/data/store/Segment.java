@@ -0,0 +1,324 @@
+package org.liara.data.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.apache.commons.lang3.mutable.Mutable;
+import org.apache.commons.lang3.mutable.MutableObject;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.data.mapping.Field;
+import org.liara.data.type.DataType;
+import org.liara.data.type.DataTypes;
+import org.liara.support.view.ComputedView;
+import org.liara.support.view.View;
+
+/**
+ * A sealed segment file mapped into memory.
+ *
+ * Opening a segment only decodes its header and maps its rows, so it does not depend on the size
+ * of the segment. Rows are read in place from the mapped file, by chunks of a power of two number
+ * of rows in order to support files larger than a single mapped buffer.
+ *
+ * @see SegmentWriter
+ */
+public final class Segment implements RowSource, Closeable {
+  /**
+   * Maximum number of bytes of each mapped chunk.
+   */
+  @NonNegative
+  private static final int CHUNK_BYTES = 1 << 30;
+
+  @NonNull
+  private final RowLayout _layout;
+
+  @NonNull
+  private final FileChannel _channel;
+
+  @NonNull
+  private final ByteBuffer @NonNull [] _chunks;
+
+  @NonNegative
+  private final int _chunkShift;
+
+  @NonNegative
+  private final int _chunkMask;
+
+  @NonNegative
+  private final int _size;
+
+  /**
+   * Open a sealed segment file.
+   *
+   * @param path Path of the segment file to open.
+   * @param layout The layout to use for reading the rows of the segment.
+   *
+   * @return The opened segment.
+   *
+   * @throws IOException If the file can't be read, is not a segment file or is not sealed.
+   * @throws IllegalArgumentException If the given layout does not match the layout of the segment.
+   */
+  public static @NonNull Segment open(
+      @NonNull final Path path,
+      @NonNull final RowLayout layout
+  ) throws IOException {
+    @NonNull final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+
+    try {
+      return new Segment(channel, layout);
+    } catch (@NonNull final IOException | RuntimeException exception) {
+      channel.close();
+      throw exception;
+    }
+  }
+
+  private Segment(
+      @NonNull final FileChannel channel,
+      @NonNull final RowLayout layout
+  ) throws IOException {
+    @NonNull final SegmentHeader header = SegmentHeader.decode(channel);
+
+    if (!header.isSealed()) {
+      throw new IOException(
+          "Unable to open the segment because the segment was not sealed."
+      );
+    }
+
+    if (header.getRows() > Integer.MAX_VALUE) {
+      throw new IOException(
+          "Unable to open the segment because it contains " + header.getRows() + " rows and " +
+              "only " + Integer.MAX_VALUE + " rows can be addressed."
+      );
+    }
+
+    header.check(layout);
+
+    @NonNegative final long bytes = header.getRows() * layout.getBytes();
+
+    if (channel.size() < header.getDataOffset() + bytes) {
+      throw new IOException(
+          "Unable to open the segment because the file is truncated."
+      );
+    }
+
+    _layout = layout;
+    _channel = channel;
+    _size = (int) header.getRows();
+    _chunkShift = Integer.numberOfTrailingZeros(
+        Integer.highestOneBit(Math.max(1, CHUNK_BYTES / Math.max(1, layout.getBytes())))
+    );
+    _chunkMask = (1 << _chunkShift) - 1;
+    _chunks = new ByteBuffer[(int) ((header.getRows() + _chunkMask) >>> _chunkShift)];
+
+    @NonNegative final long chunkBytes = (long) layout.getBytes() << _chunkShift;
+
+    for (int chunk = 0; chunk < _chunks.length; ++chunk) {
+      @NonNegative final long start = chunk * chunkBytes;
+
+      _chunks[chunk] = channel.map(
+          MapMode.READ_ONLY, header.getDataOffset() + start, Math.min(chunkBytes, bytes - start)
+      );
+    }
+  }
+
+  /**
+   * Read a column of a row.
+   *
+   * @param row Index of the row to read.
+   * @param column Column to read.
+   * @param output Output object.
+   */
+  @SuppressWarnings("unchecked")
+  public void get(
+      @NonNegative final int row,
+      @NonNegative final int column,
+      @NonNull final Mutable<?> output
+  ) {
+    checkRow(row);
+    ((DataType<Object>) _layout.getType(column)).read(
+        _chunks[row >>> _chunkShift],
+        getOffset(row) + _layout.getOffset(column),
+        (Mutable<Object>) output
+    );
+  }
+
+  /**
+   * Read a column of a row.
+   *
+   * @param row Index of the row to read.
+   * @param column Column to read.
+   *
+   * @return The value of the column.
+   */
+  public @Nullable Object get(@NonNegative final int row, @NonNegative final int column) {
+    @NonNull final Mutable<@Nullable Object> result = new MutableObject<>();
+    get(row, column, result);
+    return result.getValue();
+  }
+
+  /**
+   * Return true if a column of a row is null.
+   *
+   * @param row Index of the row to read.
+   * @param column Column to read.
+   *
+   * @return True if the given column of the given row is null.
+   */
+  public boolean isNull(@NonNegative final int row, @NonNegative final int column) {
+    checkRow(row);
+    return DataTypes.isNull(
+        _layout.getType(column), _chunks[row >>> _chunkShift], getOffset(row) + _layout.getOffset(column)
+    );
+  }
+
+  /**
+   * Read a non-null integral column of a row without boxing it.
+   *
+   * @param row Index of the row to read.
+   * @param column Integral column to read.
+   *
+   * @return The value of the column.
+   *
+   * @see DataTypes#readLong(DataType, ByteBuffer, int)
+   */
+  public long getLong(@NonNegative final int row, @NonNegative final int column) {
+    checkRow(row);
+    return DataTypes.readLong(
+        _layout.getType(column), _chunks[row >>> _chunkShift], getOffset(row) + _layout.getOffset(column)
+    );
+  }
+
+  /**
+   * Read a non-null numeric column of a row without boxing it.
+   *
+   * @param row Index of the row to read.
+   * @param column Numeric column to read.
+   *
+   * @return The value of the column.
+   *
+   * @see DataTypes#readDouble(DataType, ByteBuffer, int)
+   */
+  public double getDouble(@NonNegative final int row, @NonNegative final int column) {
+    checkRow(row);
+    return DataTypes.readDouble(
+        _layout.getType(column), _chunks[row >>> _chunkShift], getOffset(row) + _layout.getOffset(column)
+    );
+  }
+
+  /**
+   * Read a field of a row.
+   *
+   * @param row Index of the row to read.
+   * @param field Field to read.
+   *
+   * @return The value of the field.
+   */
+  public @Nullable Object get(@NonNegative final int row, @NonNull final Field field) {
+    return get(row, _layout.getColumn(field));
+  }
+
+  /**
+   * Return a view over a column of this segment. The returned view decodes each value from the
+   * mapped file when it is accessed.
+   *
+   * @param column A column of this segment.
+   *
+   * @return A view over each value of the given column.
+   */
+  public @NonNull View<@Nullable Object> getColumn(@NonNegative final int column) {
+    if (column >= _layout.getColumns()) {
+      throw new IndexOutOfBoundsException(
+          "Unable to return the column " + column + " because this segment contains " +
+              _layout.getColumns() + " columns."
+      );
+    }
+
+    return new ComputedView<>((@NonNegative final int row) -> get(row, column), this::getSize);
+  }
+
+  /**
+   * @param field A field of this segment.
+   *
+   * @return A view over each value of the given field.
+   *
+   * @see #getColumn(int)
+   */
+  public @NonNull View<@Nullable Object> getColumn(@NonNull final Field field) {
+    return getColumn(_layout.getColumn(field));
+  }
+
+  /**
+   * Scan each row of this segment in order.
+   *
+   * @param consumer An operation to apply to each row.
+   */
+  public void forEach(@NonNull final RowConsumer consumer) {
+    @NonNegative final int bytes = _layout.getBytes();
+    int row = 0;
+
+    for (int chunk = 0; row < _size; ++chunk) {
+      @NonNull final ByteBuffer buffer = _chunks[chunk];
+      @NonNegative final int end = (int) Math.min(_size, (long) (chunk + 1) << _chunkShift);
+
+      for (int offset = 0; row < end; ++row, offset += bytes) {
+        consumer.accept(buffer, offset, row);
+      }
+    }
+  }
+
+  /**
+   * @see RowSource#getPage(int)
+   */
+  @Override
+  public @NonNull ByteBuffer getPage(@NonNegative final int row) {
+    checkRow(row);
+    return _chunks[row >>> _chunkShift];
+  }
+
+  /**
+   * @see RowSource#getOffset(int)
+   */
+  @Override
+  public @NonNegative int getOffset(@NonNegative final int row) {
+    return (row & _chunkMask) * _layout.getBytes();
+  }
+
+  private void checkRow(@NonNegative final int row) {
+    if (row >= _size) {
+      throw new IndexOutOfBoundsException(
+          "Unable to access the row " + row + " because this segment contains " + _size + " rows."
+      );
+    }
+  }
+
+  /**
+   * Close the file of this segment. Mapped chunks remain readable until they are garbage collected.
+   *
+   * @throws IOException If the file can't be closed.
+   */
+  @Override
+  public void close() throws IOException {
+    _channel.close();
+  }
+
+  /**
+   * @see RowSource#getLayout()
+   */
+  @Override
+  public @NonNull RowLayout getLayout() {
+    return _layout;
+  }
+
+  /**
+   * @see RowSource#getSize()
+   */
+  @Override
+  public @NonNegative int getSize() {
+    return _size;
+  }
+}
@@ -0,0 +1,254 @@
+package org.liara.data.store;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * The header of a segment file.
+ *
+ * A header starts with a fixed part that contains the magic number of the format, its version,
+ * the sealing flag, the number of rows, the number of bytes of each row and the offset of the
+ * first row. It continues with the name of the mapping and of the structure stored into the
+ * segment and, for each column, the name of its field, the name of its primitive type, the number
+ * of bytes of its data type and its offset into each row. The first row is aligned to eight bytes.
+ */
+final class SegmentHeader {
+  static final int MAGIC = 0x4C534547;
+
+  static final short VERSION = 1;
+
+  @NonNegative
+  static final int SEALED_POSITION = 6;
+
+  @NonNegative
+  static final int ROWS_POSITION = 8;
+
+  @NonNegative
+  private static final int FIXED_BYTES = 24;
+
+  @NonNull
+  private final String _mapping;
+
+  @NonNull
+  private final String _structure;
+
+  @NonNull
+  private final String @NonNull [] _names;
+
+  @NonNull
+  private final String @NonNull [] _primitives;
+
+  private final int @NonNull [] _bytes;
+
+  private final int @NonNull [] _offsets;
+
+  private final boolean _sealed;
+
+  @NonNegative
+  private final long _rows;
+
+  @NonNegative
+  private final int _rowBytes;
+
+  @NonNegative
+  private final int _dataOffset;
+
+  private SegmentHeader(
+      @NonNull final String mapping,
+      @NonNull final String structure,
+      @NonNegative final int columns,
+      final boolean sealed,
+      @NonNegative final long rows,
+      @NonNegative final int rowBytes,
+      @NonNegative final int dataOffset
+  ) {
+    _mapping = mapping;
+    _structure = structure;
+    _names = new String[columns];
+    _primitives = new String[columns];
+    _bytes = new int[columns];
+    _offsets = new int[columns];
+    _sealed = sealed;
+    _rows = rows;
+    _rowBytes = rowBytes;
+    _dataOffset = dataOffset;
+  }
+
+  /**
+   * Encode the header of an empty and unsealed segment of the given layout.
+   *
+   * @param layout The layout of the rows of the segment.
+   *
+   * @return A buffer that contains the encoded header, ready to be written.
+   */
+  static @NonNull ByteBuffer encode(@NonNull final RowLayout layout) {
+    @NonNull final byte[] mapping = getBytes(layout.getStructure().getMapping().getName());
+    @NonNull final byte[] structure = getBytes(layout.getStructure().getName());
+    @NonNull final byte[][] names = new byte[layout.getColumns()][];
+    @NonNull final byte[][] primitives = new byte[layout.getColumns()][];
+
+    int size = FIXED_BYTES + 2 * Integer.BYTES + mapping.length + structure.length + Integer.BYTES;
+
+    for (int column = 0; column < layout.getColumns(); ++column) {
+      names[column] = getBytes(layout.getField(column).getName());
+      primitives[column] = getBytes(layout.getField(column).getType().getName());
+      size += 4 * Integer.BYTES + names[column].length + primitives[column].length;
+    }
+
+    @NonNegative final int dataOffset = (size + Long.BYTES - 1) & -Long.BYTES;
+    @NonNull final ByteBuffer result = ByteBuffer.allocate(dataOffset);
+
+    result.putInt(MAGIC);
+    result.putShort(VERSION);
+    result.put((byte) 0);
+    result.put((byte) 0);
+    result.putLong(0L);
+    result.putInt(layout.getBytes());
+    result.putInt(dataOffset);
+    put(result, mapping);
+    put(result, structure);
+    result.putInt(layout.getColumns());
+
+    for (int column = 0; column < layout.getColumns(); ++column) {
+      put(result, names[column]);
+      put(result, primitives[column]);
+      result.putInt(layout.getType(column).getBytes());
+      result.putInt(layout.getOffset(column));
+    }
+
+    result.position(0);
+
+    return result;
+  }
+
+  /**
+   * Decode the header of a segment file.
+   *
+   * @param channel A channel over a segment file.
+   *
+   * @return The decoded header.
+   *
+   * @throws IOException If the file can't be read or is not a segment file.
+   */
+  static @NonNull SegmentHeader decode(@NonNull final FileChannel channel) throws IOException {
+    @NonNull final ByteBuffer fixed = ByteBuffer.allocate(FIXED_BYTES);
+    read(channel, fixed, 0);
+
+    if (fixed.getInt(0) != MAGIC || fixed.getShort(4) != VERSION) {
+      throw new IOException(
+          "Unable to decode the header of the segment because the file is not a segment file of " +
+              "version " + VERSION + "."
+      );
+    }
+
+    @NonNegative final int dataOffset = fixed.getInt(20);
+    @NonNull final ByteBuffer variable = ByteBuffer.allocate(dataOffset - FIXED_BYTES);
+    read(channel, variable, FIXED_BYTES);
+    variable.position(0);
+
+    @NonNull final String mapping = getString(variable);
+    @NonNull final String structure = getString(variable);
+    @NonNull final SegmentHeader result = new SegmentHeader(
+        mapping, structure, variable.getInt(), fixed.get(SEALED_POSITION) != 0,
+        fixed.getLong(ROWS_POSITION), fixed.getInt(16), dataOffset
+    );
+
+    for (int column = 0; column < result._names.length; ++column) {
+      result._names[column] = getString(variable);
+      result._primitives[column] = getString(variable);
+      result._bytes[column] = variable.getInt();
+      result._offsets[column] = variable.getInt();
+    }
+
+    return result;
+  }
+
+  private static void read(
+      @NonNull final FileChannel channel,
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final long position
+  ) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new IOException(
+            "Unable to decode the header of the segment because the file is truncated."
+        );
+      }
+    }
+  }
+
+  private static byte @NonNull [] getBytes(@NonNull final String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static void put(@NonNull final ByteBuffer buffer, final byte @NonNull [] value) {
+    buffer.putInt(value.length);
+    buffer.put(value);
+  }
+
+  private static @NonNull String getString(@NonNull final ByteBuffer buffer) {
+    @NonNull final byte[] bytes = new byte[buffer.getInt()];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Check that the rows described by this header can be read with the given layout.
+   *
+   * @param layout The layout to use for reading the rows of the segment.
+   *
+   * @throws IllegalArgumentException If the given layout does not match this header.
+   */
+  void check(@NonNull final RowLayout layout) {
+    if (
+        !_structure.equals(layout.getStructure().getName()) ||
+            _names.length != layout.getColumns() ||
+            _rowBytes != layout.getBytes()
+    ) {
+      throw new IllegalArgumentException(
+          "Unable to read the segment of the structure " + _mapping + "." + _structure + " with " +
+              "a layout of the structure " + layout.getStructure().getName() + " of " +
+              layout.getColumns() + " columns and " + layout.getBytes() + " bytes per row."
+      );
+    }
+
+    for (int column = 0; column < _names.length; ++column) {
+      if (
+          !_names[column].equals(layout.getField(column).getName()) ||
+              !_primitives[column].equals(layout.getField(column).getType().getName()) ||
+              _bytes[column] != layout.getType(column).getBytes() ||
+              _offsets[column] != layout.getOffset(column)
+      ) {
+        throw new IllegalArgumentException(
+            "Unable to read the segment of the structure " + _mapping + "." + _structure +
+                " with the given layout because the column " + column + " of the segment stores " +
+                "the field " + _names[column] + " of type " + _primitives[column] + " on " +
+                _bytes[column] + " bytes and the layout stores the field " +
+                layout.getField(column).getName() + " of type " +
+                layout.getField(column).getType().getName() + " on " +
+                layout.getType(column).getBytes() + " bytes."
+        );
+      }
+    }
+  }
+
+  boolean isSealed() {
+    return _sealed;
+  }
+
+  @NonNegative long getRows() {
+    return _rows;
+  }
+
+  @NonNegative int getRowBytes() {
+    return _rowBytes;
+  }
+
+  @NonNegative int getDataOffset() {
+    return _dataOffset;
+  }
+}
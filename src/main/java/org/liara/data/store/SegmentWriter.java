@@ -0,0 +1,296 @@
+package org.liara.data.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.data.type.DataType;
+
+/**
+ * An append-only writer of a segment file.
+ *
+ * A segment file contains a header that describes the layout of its rows followed by each row
+ * encoded with its layout. Rows are buffered and written in blocks, a segment becomes readable
+ * once it is sealed and can't be appended anymore afterwards.
+ *
+ * @see Segment
+ */
+public final class SegmentWriter implements Closeable {
+  /**
+   * Default size of the write buffer in bytes.
+   */
+  @NonNegative
+  public static final int DEFAULT_BUFFER_BYTES = 1 << 16;
+
+  @NonNull
+  private final RowLayout _layout;
+
+  @NonNull
+  private final FileChannel _channel;
+
+  @NonNull
+  private final ByteBuffer _buffer;
+
+  @NonNegative
+  private int _size;
+
+  private boolean _sealed;
+
+  /**
+   * Create a new segment file with a write buffer of the default size.
+   *
+   * @param path Path of the segment file to create.
+   * @param layout The layout of the rows of the segment.
+   *
+   * @throws IOException If the file already exists or can't be created.
+   */
+  public SegmentWriter(
+      @NonNull final Path path,
+      @NonNull final RowLayout layout
+  ) throws IOException {
+    this(path, layout, DEFAULT_BUFFER_BYTES);
+  }
+
+  /**
+   * Create a new segment file.
+   *
+   * @param path Path of the segment file to create.
+   * @param layout The layout of the rows of the segment.
+   * @param bufferBytes Size of the write buffer in bytes, the buffer always contains at least one
+   *     row.
+   *
+   * @throws IOException If the file already exists or can't be created.
+   */
+  public SegmentWriter(
+      @NonNull final Path path,
+      @NonNull final RowLayout layout,
+      @NonNegative final int bufferBytes
+  ) throws IOException {
+    _layout = layout;
+    _buffer = ByteBuffer.allocateDirect(
+        Math.max(1, bufferBytes / Math.max(1, layout.getBytes())) * layout.getBytes()
+    );
+    _channel = FileChannel.open(
+        path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE
+    );
+    _size = 0;
+    _sealed = false;
+
+    try {
+      write(SegmentHeader.encode(layout));
+    } catch (@NonNull final IOException exception) {
+      _channel.close();
+      throw exception;
+    }
+  }
+
+  /**
+   * Append a row to this segment.
+   *
+   * @param values The values of each column of the row to append.
+   *
+   * @return The index of the appended row.
+   *
+   * @throws IOException If the buffered rows can't be written.
+   */
+  @SuppressWarnings("unchecked")
+  public @NonNegative int append(@Nullable final Object... values) throws IOException {
+    if (values.length != _layout.getColumns()) {
+      throw new IllegalArgumentException(
+          "Unable to append the given values because " + values.length + " values were given " +
+              "and the rows of this segment have " + _layout.getColumns() + " columns."
+      );
+    }
+
+    @NonNegative final int offset = reserve();
+
+    try {
+      for (int column = 0; column < values.length; ++column) {
+        ((DataType<Object>) _layout.getType(column)).write(
+            _buffer, offset + _layout.getOffset(column), values[column]
+        );
+      }
+    } catch (@NonNull final RuntimeException exception) {
+      _buffer.position(offset);
+      throw exception;
+    }
+
+    return _size++;
+  }
+
+  /**
+   * Append each row of a store to this segment.
+   *
+   * @param store A store with the same layout as this segment.
+   *
+   * @throws IOException If the rows can't be written.
+   */
+  public void append(@NonNull final RowStore store) throws IOException {
+    assertNotSealed();
+
+    if (store.getLayout().getBytes() != _layout.getBytes()) {
+      throw new IllegalArgumentException(
+          "Unable to append the given store because its rows have " +
+              store.getLayout().getBytes() + " bytes and the rows of this segment have " +
+              _layout.getBytes() + " bytes."
+      );
+    }
+
+    flush();
+
+    for (int row = 0; row < store.getSize(); row += store.getRowsPerPage()) {
+      @NonNull final ByteBuffer page = store.getPage(row).duplicate();
+
+      page.position(0);
+      page.limit(Math.min(store.getRowsPerPage(), store.getSize() - row) * _layout.getBytes());
+
+      write(page);
+    }
+
+    _size += store.getSize();
+  }
+
+  /**
+   * Append a copy of an encoded row of a source to this segment.
+   *
+   * @param rows A source of rows with the same layout as this segment.
+   * @param row Index of the row to copy.
+   *
+   * @return The index of the appended row.
+   *
+   * @throws IOException If the buffered rows can't be written.
+   */
+  public @NonNegative int append(
+      @NonNull final RowSource rows,
+      @NonNegative final int row
+  ) throws IOException {
+    if (rows.getLayout().getBytes() != _layout.getBytes()) {
+      throw new IllegalArgumentException(
+          "Unable to append the given row because its source rows have " +
+              rows.getLayout().getBytes() + " bytes and the rows of this segment have " +
+              _layout.getBytes() + " bytes."
+      );
+    }
+
+    @NonNull final ByteBuffer page = rows.getPage(row).duplicate();
+    @NonNegative final int offset = rows.getOffset(row);
+
+    page.limit(offset + _layout.getBytes());
+    page.position(offset);
+
+    assertNotSealed();
+
+    if (_buffer.remaining() < _layout.getBytes()) {
+      flush();
+    }
+
+    _buffer.put(page);
+
+    return _size++;
+  }
+
+  /**
+   * Reserve a cleared row into the write buffer.
+   *
+   * @return The offset of the reserved row into the write buffer.
+   */
+  private @NonNegative int reserve() throws IOException {
+    assertNotSealed();
+
+    if (_buffer.remaining() < _layout.getBytes()) {
+      flush();
+    }
+
+    @NonNegative final int result = _buffer.position();
+
+    RowStore.clear(_buffer, result, _layout.getBytes());
+    _buffer.position(result + _layout.getBytes());
+
+    return result;
+  }
+
+  private void flush() throws IOException {
+    _buffer.flip();
+    write(_buffer);
+    _buffer.clear();
+  }
+
+  private void write(@NonNull final ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      _channel.write(buffer);
+    }
+  }
+
+  private void assertNotSealed() {
+    if (_sealed) {
+      throw new IllegalStateException(
+          "Unable to append rows to this segment because this segment was sealed."
+      );
+    }
+  }
+
+  /**
+   * Write each buffered row, record the number of rows into the header, force the content of the
+   * segment to the storage device and close the segment file.
+   *
+   * @throws IOException If the segment can't be written.
+   */
+  public void seal() throws IOException {
+    if (_sealed) {
+      return;
+    }
+
+    try {
+      flush();
+
+      @NonNull final ByteBuffer rows = ByteBuffer.allocate(Long.BYTES);
+      rows.putLong(0, _size);
+      _channel.write(rows, SegmentHeader.ROWS_POSITION);
+      _channel.force(true);
+
+      @NonNull final ByteBuffer sealed = ByteBuffer.allocate(1);
+      sealed.put(0, (byte) 1);
+      _channel.write(sealed, SegmentHeader.SEALED_POSITION);
+      _channel.force(true);
+    } finally {
+      _sealed = true;
+      _channel.close();
+    }
+  }
+
+  /**
+   * Seal this segment.
+   *
+   * @see #seal()
+   */
+  @Override
+  public void close() throws IOException {
+    seal();
+  }
+
+  /**
+   * @return True if this segment was sealed.
+   */
+  public boolean isSealed() {
+    return _sealed;
+  }
+
+  /**
+   * @return The number of rows appended to this segment.
+   */
+  public @NonNegative int getSize() {
+    return _size;
+  }
+
+  /**
+   * @return The layout of the rows of this segment.
+   */
+  public @NonNull RowLayout getLayout() {
+    return _layout;
+  }
+}
@@ -5,6 +5,15 @@ import org.apache.commons.lang3.mutable.Mutable;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+/**
+ * A fixed-size binary encoding of the values of a type.
+ *
+ * Data types are shared between stores, segments and threads, an implementation must therefore be
+ * stateless or keep its scratch state per thread, and must never change the position or the limit
+ * of the buffers that it reads or writes.
+ *
+ * @param <T> Type of the encoded values.
+ */
 public interface DataType<T> {
   /**
    * @return The number of bytes required to store this data type.
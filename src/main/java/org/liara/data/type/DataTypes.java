@@ -1,9 +1,14 @@
 package org.liara.data.type;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Map;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.data.primitive.Primitive;
+import org.liara.data.primitive.Primitives;
 import org.liara.data.type.common.BooleanDataType;
 import org.liara.data.type.common.ByteDataType;
 import org.liara.data.type.common.CharacterDataType;
@@ -80,6 +85,114 @@ public final class DataTypes {
       new NullableDataType<>(SHORT)
   );
 
+  @NonNull
+  private static final Map<@NonNull Primitive<?>, @NonNull DataType<?>> PRIMITIVES;
+
+  static {
+    PRIMITIVES = new HashMap<>(16);
+
+    PRIMITIVES.put(Primitives.BOOLEAN, BOOLEAN);
+    PRIMITIVES.put(Primitives.BYTE, BYTE);
+    PRIMITIVES.put(Primitives.CHARACTER, CHARACTER);
+    PRIMITIVES.put(Primitives.DOUBLE, DOUBLE);
+    PRIMITIVES.put(Primitives.FLOAT, FLOAT);
+    PRIMITIVES.put(Primitives.INTEGER, INTEGER);
+    PRIMITIVES.put(Primitives.LONG, LONG);
+    PRIMITIVES.put(Primitives.SHORT, SHORT);
+    PRIMITIVES.put(Primitives.NULLABLE_BOOLEAN, NULLABLE_BOOLEAN);
+    PRIMITIVES.put(Primitives.NULLABLE_BYTE, NULLABLE_BYTE);
+    PRIMITIVES.put(Primitives.NULLABLE_CHARACTER, NULLABLE_CHARACTER);
+    PRIMITIVES.put(Primitives.NULLABLE_DOUBLE, NULLABLE_DOUBLE);
+    PRIMITIVES.put(Primitives.NULLABLE_FLOAT, NULLABLE_FLOAT);
+    PRIMITIVES.put(Primitives.NULLABLE_INTEGER, NULLABLE_INTEGER);
+    PRIMITIVES.put(Primitives.NULLABLE_LONG, NULLABLE_LONG);
+    PRIMITIVES.put(Primitives.NULLABLE_SHORT, NULLABLE_SHORT);
+  }
+
+  /**
+   * Return the fixed-size data type used to store values of the given primitive type.
+   *
+   * @param primitive A primitive type.
+   * @return The data type used to store values of the given primitive type, or null if the given
+   * primitive type has no fixed-size representation, like strings that require a capacity.
+   */
+  public static @Nullable DataType<?> of(@NonNull final Primitive<?> primitive) {
+    return PRIMITIVES.get(primitive);
+  }
+
+  /**
+   * Return true if the value stored at the given location is null.
+   *
+   * @param type The data type of the value to check.
+   * @param buffer A buffer to read.
+   * @param offset A number of bytes to skip.
+   * @return True if the given type is nullable and the value stored at the given location is null.
+   */
+  public static boolean isNull(
+      @NonNull final DataType<?> type,
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final int offset
+  ) {
+    return type instanceof NullableDataType && ((NullableDataType<?>) type).isNull(buffer, offset);
+  }
+
+  /**
+   * Read a non-null integral value without boxing it.
+   *
+   * @param type The data type of the value to read.
+   * @param buffer A buffer to read.
+   * @param offset A number of bytes to skip.
+   * @return The value stored at the given location as a long.
+   * @throws IllegalArgumentException If the given type does not store integral values.
+   */
+  public static long readLong(
+      @NonNull final DataType<?> type,
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final int offset
+  ) {
+    if (type instanceof NullableDataType) {
+      return readLong(((NullableDataType<?>) type).getWrapped(), buffer, offset + 1);
+    } else if (type instanceof LongAccessor) {
+      return ((LongAccessor) type).readLong(buffer, offset);
+    } else if (type instanceof IntAccessor) {
+      return ((IntAccessor) type).readInt(buffer, offset);
+    } else if (type instanceof ShortAccessor) {
+      return ((ShortAccessor) type).readShort(buffer, offset);
+    } else if (type instanceof ByteAccessor) {
+      return ((ByteAccessor) type).readByte(buffer, offset);
+    } else {
+      throw new IllegalArgumentException(
+          "Unable to read an integral value with the data type " + type + " because this type " +
+              "does not store integral values."
+      );
+    }
+  }
+
+  /**
+   * Read a non-null numeric value without boxing it.
+   *
+   * @param type The data type of the value to read.
+   * @param buffer A buffer to read.
+   * @param offset A number of bytes to skip.
+   * @return The value stored at the given location as a double.
+   * @throws IllegalArgumentException If the given type does not store numeric values.
+   */
+  public static double readDouble(
+      @NonNull final DataType<?> type,
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final int offset
+  ) {
+    if (type instanceof NullableDataType) {
+      return readDouble(((NullableDataType<?>) type).getWrapped(), buffer, offset + 1);
+    } else if (type instanceof DoubleAccessor) {
+      return ((DoubleAccessor) type).readDouble(buffer, offset);
+    } else if (type instanceof FloatAccessor) {
+      return ((FloatAccessor) type).readFloat(buffer, offset);
+    } else {
+      return readLong(type, buffer, offset);
+    }
+  }
+
   /**
    * Make a non-null string type nullable.
    *
@@ -0,0 +1,32 @@
+package org.liara.data.type;
+
+import java.nio.ByteBuffer;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A data type that can read and write a float value without boxing it.
+ */
+public interface FloatAccessor {
+  /**
+   * Read a float value from the given buffer.
+   *
+   * @param buffer A byte buffer to read.
+   * @param offset Number of byte to ignore from the start of the given buffer.
+   * @return The value stored at the given location.
+   */
+  float readFloat(@NonNull final ByteBuffer buffer, @NonNegative final int offset);
+
+  /**
+   * Write a float value into the given buffer.
+   *
+   * @param buffer A byte buffer to mutate.
+   * @param offset Number of byte to ignore from the start of the given buffer.
+   * @param value The value to write.
+   */
+  void writeFloat(
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final int offset,
+      final float value
+  );
+}
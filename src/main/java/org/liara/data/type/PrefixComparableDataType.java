@@ -0,0 +1,24 @@
+package org.liara.data.type;
+
+import java.nio.ByteBuffer;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A comparable data type that can summarize each value into a normalized key prefix.
+ *
+ * Prefixes are compared as unsigned longs and follow the order of their values : if the prefix of
+ * a value is lower than the prefix of another one, the value is lower than the other one. Values
+ * with equal prefixes must be compared with {@link #compare(ByteBuffer, int, ByteBuffer, int)}, so
+ * a sort can compare most of its values through their prefixes without decoding them.
+ */
+public interface PrefixComparableDataType extends ComparableDataType {
+  /**
+   * Return the normalized key prefix of a value.
+   *
+   * @param buffer Buffer from which extracting the value.
+   * @param offset Offset in bytes to apply to the buffer.
+   * @return The normalized key prefix of the value, to compare as an unsigned long.
+   */
+  long getPrefix(@NonNull final ByteBuffer buffer, @NonNegative final int offset);
+}
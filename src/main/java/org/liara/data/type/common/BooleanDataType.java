@@ -4,10 +4,13 @@ import java.nio.ByteBuffer;
 import org.apache.commons.lang3.mutable.Mutable;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.data.type.BooleanAccessor;
 import org.liara.data.type.ComparableDataType;
 import org.liara.data.type.DataType;
+import org.liara.data.type.PrefixComparableDataType;
 
-public class BooleanDataType implements DataType<@NonNull Boolean>, ComparableDataType {
+public class BooleanDataType
+    implements DataType<@NonNull Boolean>, PrefixComparableDataType, BooleanAccessor {
 
   /**
    * @see ComparableDataType#compare(ByteBuffer, int, ByteBuffer, int)
@@ -22,6 +25,14 @@ public class BooleanDataType implements DataType<@NonNull Boolean>, ComparableDa
     return Boolean.compare(leftBuffer.get(leftOffset) > 0, rightBuffer.get(rightOffset) > 0);
   }
 
+  /**
+   * @see PrefixComparableDataType#getPrefix(ByteBuffer, int)
+   */
+  @Override
+  public long getPrefix(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return readBoolean(buffer, offset) ? Long.MIN_VALUE : 0L;
+  }
+
   /**
    * @see DataType#getBytes()
    */
@@ -39,7 +50,7 @@ public class BooleanDataType implements DataType<@NonNull Boolean>, ComparableDa
       @NonNegative final int offset,
       @NonNull final Mutable<@NonNull Boolean> output
   ) {
-    output.setValue(buffer.get(offset) > 0);
+    output.setValue(readBoolean(buffer, offset));
   }
 
   /**
@@ -50,6 +61,26 @@ public class BooleanDataType implements DataType<@NonNull Boolean>, ComparableDa
       final @NonNull ByteBuffer buffer,
       @NonNegative final int offset,
       final @NonNull Boolean value
+  ) {
+    writeBoolean(buffer, offset, value);
+  }
+
+  /**
+   * @see BooleanAccessor#readBoolean(ByteBuffer, int)
+   */
+  @Override
+  public boolean readBoolean(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return buffer.get(offset) > 0;
+  }
+
+  /**
+   * @see BooleanAccessor#writeBoolean(ByteBuffer, int, boolean)
+   */
+  @Override
+  public void writeBoolean(
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final int offset,
+      final boolean value
   ) {
     buffer.put(offset, (byte) (value ? 1 : 0));
   }
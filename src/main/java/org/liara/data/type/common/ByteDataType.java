@@ -4,10 +4,13 @@ import java.nio.ByteBuffer;
 import org.apache.commons.lang3.mutable.Mutable;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.data.type.ByteAccessor;
 import org.liara.data.type.ComparableDataType;
 import org.liara.data.type.DataType;
+import org.liara.data.type.PrefixComparableDataType;
 
-public class ByteDataType implements DataType<@NonNull Byte>, ComparableDataType {
+public class ByteDataType
+    implements DataType<@NonNull Byte>, PrefixComparableDataType, ByteAccessor {
 
   /**
    * @see ComparableDataType#compare(ByteBuffer, int, ByteBuffer, int)
@@ -22,6 +25,14 @@ public class ByteDataType implements DataType<@NonNull Byte>, ComparableDataType
     return Byte.compare(leftBuffer.get(leftOffset), rightBuffer.get(rightOffset));
   }
 
+  /**
+   * @see PrefixComparableDataType#getPrefix(ByteBuffer, int)
+   */
+  @Override
+  public long getPrefix(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return (long) (readByte(buffer, offset) ^ Byte.MIN_VALUE) << 56;
+  }
+
   /**
    * @see DataType#getBytes()
    */
@@ -39,7 +50,7 @@ public class ByteDataType implements DataType<@NonNull Byte>, ComparableDataType
       @NonNegative final int offset,
       @NonNull final Mutable<@NonNull Byte> output
   ) {
-    output.setValue(buffer.get(offset));
+    output.setValue(readByte(buffer, offset));
   }
 
   /**
@@ -50,6 +61,26 @@ public class ByteDataType implements DataType<@NonNull Byte>, ComparableDataType
       final @NonNull ByteBuffer buffer,
       @NonNegative final int offset,
       final @NonNull Byte value
+  ) {
+    writeByte(buffer, offset, value);
+  }
+
+  /**
+   * @see ByteAccessor#readByte(ByteBuffer, int)
+   */
+  @Override
+  public byte readByte(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return buffer.get(offset);
+  }
+
+  /**
+   * @see ByteAccessor#writeByte(ByteBuffer, int, byte)
+   */
+  @Override
+  public void writeByte(
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final int offset,
+      final byte value
   ) {
     buffer.put(offset, value);
   }
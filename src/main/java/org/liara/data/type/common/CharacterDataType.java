@@ -4,10 +4,13 @@ import java.nio.ByteBuffer;
 import org.apache.commons.lang3.mutable.Mutable;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.data.type.CharAccessor;
 import org.liara.data.type.ComparableDataType;
 import org.liara.data.type.DataType;
+import org.liara.data.type.PrefixComparableDataType;
 
-public class CharacterDataType implements DataType<@NonNull Character>, ComparableDataType {
+public class CharacterDataType
+    implements DataType<@NonNull Character>, PrefixComparableDataType, CharAccessor {
 
   /**
    * @see ComparableDataType#compare(ByteBuffer, int, ByteBuffer, int)
@@ -22,6 +25,14 @@ public class CharacterDataType implements DataType<@NonNull Character>, Comparab
     return Character.compare(leftBuffer.getChar(leftOffset), rightBuffer.getChar(rightOffset));
   }
 
+  /**
+   * @see PrefixComparableDataType#getPrefix(ByteBuffer, int)
+   */
+  @Override
+  public long getPrefix(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return (long) readChar(buffer, offset) << 48;
+  }
+
   /**
    * @see DataType#getBytes()
    */
@@ -39,7 +50,7 @@ public class CharacterDataType implements DataType<@NonNull Character>, Comparab
       @NonNegative final int offset,
       @NonNull final Mutable<@NonNull Character> output
   ) {
-    output.setValue(buffer.getChar(offset));
+    output.setValue(readChar(buffer, offset));
   }
 
   /**
@@ -50,6 +61,26 @@ public class CharacterDataType implements DataType<@NonNull Character>, Comparab
       @NonNull final ByteBuffer buffer,
       @NonNegative final int offset,
       @NonNull final Character value
+  ) {
+    writeChar(buffer, offset, value);
+  }
+
+  /**
+   * @see CharAccessor#readChar(ByteBuffer, int)
+   */
+  @Override
+  public char readChar(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return buffer.getChar(offset);
+  }
+
+  /**
+   * @see CharAccessor#writeChar(ByteBuffer, int, char)
+   */
+  @Override
+  public void writeChar(
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final int offset,
+      final char value
   ) {
     buffer.putChar(offset, value);
   }
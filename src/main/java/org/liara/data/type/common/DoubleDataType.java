@@ -7,8 +7,11 @@ import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.liara.data.type.ComparableDataType;
 import org.liara.data.type.DataType;
+import org.liara.data.type.DoubleAccessor;
+import org.liara.data.type.PrefixComparableDataType;
 
-public class DoubleDataType implements DataType<@NonNull Double>, ComparableDataType {
+public class DoubleDataType
+    implements DataType<@NonNull Double>, PrefixComparableDataType, DoubleAccessor {
 
   /**
    * @see ComparableDataType#compare(ByteBuffer, int, ByteBuffer, int)
@@ -20,7 +23,16 @@ public class DoubleDataType implements DataType<@NonNull Double>, ComparableData
       final @NonNull ByteBuffer rightBuffer,
       @NonNegative final int rightOffset
   ) {
-    return Double.compare(leftBuffer.get(leftOffset), rightBuffer.get(rightOffset));
+    return Double.compare(leftBuffer.getDouble(leftOffset), rightBuffer.getDouble(rightOffset));
+  }
+
+  /**
+   * @see PrefixComparableDataType#getPrefix(ByteBuffer, int)
+   */
+  @Override
+  public long getPrefix(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    final long bits = Double.doubleToLongBits(readDouble(buffer, offset));
+    return bits ^ ((bits >> 63) | Long.MIN_VALUE);
   }
 
   /**
@@ -40,7 +52,7 @@ public class DoubleDataType implements DataType<@NonNull Double>, ComparableData
       @NonNegative final int offset,
       @NonNull final Mutable<@NonNull Double> output
   ) {
-    output.setValue(buffer.getDouble(offset));
+    output.setValue(readDouble(buffer, offset));
   }
 
   /**
@@ -51,6 +63,26 @@ public class DoubleDataType implements DataType<@NonNull Double>, ComparableData
       @NonNull final ByteBuffer buffer,
       @NonNegative final int offset,
       @NonNull final Double value
+  ) {
+    writeDouble(buffer, offset, value);
+  }
+
+  /**
+   * @see DoubleAccessor#readDouble(ByteBuffer, int)
+   */
+  @Override
+  public double readDouble(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return buffer.getDouble(offset);
+  }
+
+  /**
+   * @see DoubleAccessor#writeDouble(ByteBuffer, int, double)
+   */
+  @Override
+  public void writeDouble(
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final int offset,
+      final double value
   ) {
     buffer.putDouble(offset, value);
   }
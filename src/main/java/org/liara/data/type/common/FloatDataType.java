@@ -6,8 +6,11 @@ import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.liara.data.type.ComparableDataType;
 import org.liara.data.type.DataType;
+import org.liara.data.type.FloatAccessor;
+import org.liara.data.type.PrefixComparableDataType;
 
-public class FloatDataType implements DataType<@NonNull Float>, ComparableDataType {
+public class FloatDataType
+    implements DataType<@NonNull Float>, PrefixComparableDataType, FloatAccessor {
 
   /**
    * @see ComparableDataType#compare(ByteBuffer, int, ByteBuffer, int)
@@ -22,6 +25,15 @@ public class FloatDataType implements DataType<@NonNull Float>, ComparableDataTy
     return Float.compare(leftBuffer.getFloat(leftOffset), rightBuffer.getFloat(rightOffset));
   }
 
+  /**
+   * @see PrefixComparableDataType#getPrefix(ByteBuffer, int)
+   */
+  @Override
+  public long getPrefix(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    final int bits = Float.floatToIntBits(readFloat(buffer, offset));
+    return (long) (bits ^ ((bits >> 31) | Integer.MIN_VALUE)) << 32;
+  }
+
   /**
    * @see DataType#getBytes()
    */
@@ -39,7 +51,7 @@ public class FloatDataType implements DataType<@NonNull Float>, ComparableDataTy
       @NonNegative final int offset,
       @NonNull final Mutable<@NonNull Float> output
   ) {
-    output.setValue(buffer.getFloat(offset));
+    output.setValue(readFloat(buffer, offset));
   }
 
   /**
@@ -50,6 +62,26 @@ public class FloatDataType implements DataType<@NonNull Float>, ComparableDataTy
       @NonNull final ByteBuffer buffer,
       @NonNegative final int offset,
       @NonNull final Float value
+  ) {
+    writeFloat(buffer, offset, value);
+  }
+
+  /**
+   * @see FloatAccessor#readFloat(ByteBuffer, int)
+   */
+  @Override
+  public float readFloat(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return buffer.getFloat(offset);
+  }
+
+  /**
+   * @see FloatAccessor#writeFloat(ByteBuffer, int, float)
+   */
+  @Override
+  public void writeFloat(
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final int offset,
+      final float value
   ) {
     buffer.putFloat(offset, value);
   }
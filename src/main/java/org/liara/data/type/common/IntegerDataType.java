@@ -6,8 +6,11 @@ import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.liara.data.type.ComparableDataType;
 import org.liara.data.type.DataType;
+import org.liara.data.type.IntAccessor;
+import org.liara.data.type.PrefixComparableDataType;
 
-public class IntegerDataType implements DataType<@NonNull Integer>, ComparableDataType {
+public class IntegerDataType
+    implements DataType<@NonNull Integer>, PrefixComparableDataType, IntAccessor {
 
   /**
    * @see ComparableDataType#compare(ByteBuffer, int, ByteBuffer, int)
@@ -22,6 +25,14 @@ public class IntegerDataType implements DataType<@NonNull Integer>, ComparableDa
     return Integer.compare(leftBuffer.getInt(leftOffset), rightBuffer.getInt(rightOffset));
   }
 
+  /**
+   * @see PrefixComparableDataType#getPrefix(ByteBuffer, int)
+   */
+  @Override
+  public long getPrefix(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return (long) (readInt(buffer, offset) ^ Integer.MIN_VALUE) << 32;
+  }
+
   /**
    * @see DataType#getBytes()
    */
@@ -39,7 +50,7 @@ public class IntegerDataType implements DataType<@NonNull Integer>, ComparableDa
       @NonNegative final int offset,
       @NonNull final Mutable<@NonNull Integer> output
   ) {
-    output.setValue(buffer.getInt(offset));
+    output.setValue(readInt(buffer, offset));
   }
 
   /**
@@ -50,6 +61,26 @@ public class IntegerDataType implements DataType<@NonNull Integer>, ComparableDa
       @NonNull final ByteBuffer buffer,
       @NonNegative final int offset,
       @NonNull final Integer value
+  ) {
+    writeInt(buffer, offset, value);
+  }
+
+  /**
+   * @see IntAccessor#readInt(ByteBuffer, int)
+   */
+  @Override
+  public int readInt(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return buffer.getInt(offset);
+  }
+
+  /**
+   * @see IntAccessor#writeInt(ByteBuffer, int, int)
+   */
+  @Override
+  public void writeInt(
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final int offset,
+      final int value
   ) {
     buffer.putInt(offset, value);
   }
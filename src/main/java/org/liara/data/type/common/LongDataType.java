@@ -6,8 +6,11 @@ import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.liara.data.type.ComparableDataType;
 import org.liara.data.type.DataType;
+import org.liara.data.type.LongAccessor;
+import org.liara.data.type.PrefixComparableDataType;
 
-public class LongDataType implements DataType<@NonNull Long>, ComparableDataType {
+public class LongDataType
+    implements DataType<@NonNull Long>, PrefixComparableDataType, LongAccessor {
 
   /**
    * @see ComparableDataType#compare(ByteBuffer, int, ByteBuffer, int)
@@ -22,6 +25,14 @@ public class LongDataType implements DataType<@NonNull Long>, ComparableDataType
     return Long.compare(leftBuffer.getLong(leftOffset), rightBuffer.getLong(rightOffset));
   }
 
+  /**
+   * @see PrefixComparableDataType#getPrefix(ByteBuffer, int)
+   */
+  @Override
+  public long getPrefix(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return readLong(buffer, offset) ^ Long.MIN_VALUE;
+  }
+
   /**
    * @see DataType#getBytes()
    */
@@ -39,7 +50,7 @@ public class LongDataType implements DataType<@NonNull Long>, ComparableDataType
       @NonNegative final int offset,
       @NonNull final Mutable<@NonNull Long> output
   ) {
-    output.setValue(buffer.getLong(offset));
+    output.setValue(readLong(buffer, offset));
   }
 
   /**
@@ -50,6 +61,26 @@ public class LongDataType implements DataType<@NonNull Long>, ComparableDataType
       @NonNull final ByteBuffer buffer,
       @NonNegative final int offset,
       @NonNull final Long value
+  ) {
+    writeLong(buffer, offset, value);
+  }
+
+  /**
+   * @see LongAccessor#readLong(ByteBuffer, int)
+   */
+  @Override
+  public long readLong(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return buffer.getLong(offset);
+  }
+
+  /**
+   * @see LongAccessor#writeLong(ByteBuffer, int, long)
+   */
+  @Override
+  public void writeLong(
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final int offset,
+      final long value
   ) {
     buffer.putLong(offset, value);
   }
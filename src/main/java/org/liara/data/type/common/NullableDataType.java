@@ -5,10 +5,19 @@ import org.apache.commons.lang3.mutable.Mutable;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.data.type.BooleanAccessor;
+import org.liara.data.type.ByteAccessor;
+import org.liara.data.type.CharAccessor;
 import org.liara.data.type.ComparableDataType;
 import org.liara.data.type.DataType;
+import org.liara.data.type.DoubleAccessor;
+import org.liara.data.type.FloatAccessor;
+import org.liara.data.type.IntAccessor;
+import org.liara.data.type.LongAccessor;
+import org.liara.data.type.PrefixComparableDataType;
+import org.liara.data.type.ShortAccessor;
 
-public class NullableDataType<T> implements DataType<@Nullable T>, ComparableDataType {
+public class NullableDataType<T> implements DataType<@Nullable T>, PrefixComparableDataType {
 
   @NonNull
   private final DataType<T> _wrapped;
@@ -18,6 +27,13 @@ public class NullableDataType<T> implements DataType<@Nullable T>, ComparableDat
     _wrapped = wrapped;
   }
 
+  /**
+   * @return The data type used for storing the non-null values of this type.
+   */
+  public @NonNull DataType<T> getWrapped() {
+    return _wrapped;
+  }
+
   /**
    * @see ComparableDataType#compare(ByteBuffer, int, ByteBuffer, int)
    */
@@ -28,21 +44,38 @@ public class NullableDataType<T> implements DataType<@Nullable T>, ComparableDat
       @NonNull final ByteBuffer rightBuffer,
       @NonNegative final int rightOffset
   ) {
-    final int comparison = Boolean.compare(
-        isDefined(leftBuffer, leftOffset),
-        isDefined(rightBuffer, rightOffset)
-    );
+    final boolean leftDefined = isDefined(leftBuffer, leftOffset);
+    final int comparison = Boolean.compare(leftDefined, isDefined(rightBuffer, rightOffset));
 
-    if (comparison == 0 && _wrapped instanceof ComparableDataType) {
+    if (comparison == 0 && leftDefined && _wrapped instanceof ComparableDataType) {
       return ((ComparableDataType) _wrapped).compare(
-          leftBuffer, leftOffset,
-          rightBuffer, rightOffset
+          leftBuffer, leftOffset + 1,
+          rightBuffer, rightOffset + 1
       );
     } else {
       return comparison;
     }
   }
 
+  /**
+   * Null values have the lowest prefix, other values have the prefix of the wrapped type shifted
+   * after a set bit.
+   *
+   * @see PrefixComparableDataType#getPrefix(ByteBuffer, int)
+   */
+  @Override
+  public long getPrefix(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    if (isNull(buffer, offset)) {
+      return 0L;
+    } else if (_wrapped instanceof PrefixComparableDataType) {
+      return Long.MIN_VALUE | (
+          ((PrefixComparableDataType) _wrapped).getPrefix(buffer, offset + 1) >>> 1
+      );
+    } else {
+      return Long.MIN_VALUE;
+    }
+  }
+
   /**
    * Return true if the value stored at the given location is not null.
    *
@@ -104,4 +137,252 @@ public class NullableDataType<T> implements DataType<@Nullable T>, ComparableDat
       _wrapped.write(buffer, offset + 1, value);
     }
   }
+
+  /**
+   * Read a non-null boolean value without boxing it, the result is undefined if the value stored at
+   * the given location is null.
+   *
+   * @param buffer A buffer to read.
+   * @param offset A number of bytes to skip.
+   * @return The value stored at the given location.
+   * @throws ClassCastException If the wrapped type does not store boolean values.
+   * @see #isNull(ByteBuffer, int)
+   */
+  public boolean readBoolean(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return ((BooleanAccessor) _wrapped).readBoolean(buffer, offset + 1);
+  }
+
+  /**
+   * Write a non-null boolean value without boxing it.
+   *
+   * @param buffer A buffer to mutate.
+   * @param offset A number of bytes to skip.
+   * @param value The value to write.
+   * @throws ClassCastException If the wrapped type does not store boolean values.
+   */
+  public void writeBoolean(
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final int offset,
+      final boolean value
+  ) {
+    buffer.put(offset, (byte) 1);
+    ((BooleanAccessor) _wrapped).writeBoolean(buffer, offset + 1, value);
+  }
+
+  /**
+   * Read a non-null byte value without boxing it, the result is undefined if the value stored at
+   * the given location is null.
+   *
+   * @param buffer A buffer to read.
+   * @param offset A number of bytes to skip.
+   * @return The value stored at the given location.
+   * @throws ClassCastException If the wrapped type does not store byte values.
+   * @see #isNull(ByteBuffer, int)
+   */
+  public byte readByte(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return ((ByteAccessor) _wrapped).readByte(buffer, offset + 1);
+  }
+
+  /**
+   * Write a non-null byte value without boxing it.
+   *
+   * @param buffer A buffer to mutate.
+   * @param offset A number of bytes to skip.
+   * @param value The value to write.
+   * @throws ClassCastException If the wrapped type does not store byte values.
+   */
+  public void writeByte(
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final int offset,
+      final byte value
+  ) {
+    buffer.put(offset, (byte) 1);
+    ((ByteAccessor) _wrapped).writeByte(buffer, offset + 1, value);
+  }
+
+  /**
+   * Read a non-null char value without boxing it, the result is undefined if the value stored at
+   * the given location is null.
+   *
+   * @param buffer A buffer to read.
+   * @param offset A number of bytes to skip.
+   * @return The value stored at the given location.
+   * @throws ClassCastException If the wrapped type does not store char values.
+   * @see #isNull(ByteBuffer, int)
+   */
+  public char readChar(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return ((CharAccessor) _wrapped).readChar(buffer, offset + 1);
+  }
+
+  /**
+   * Write a non-null char value without boxing it.
+   *
+   * @param buffer A buffer to mutate.
+   * @param offset A number of bytes to skip.
+   * @param value The value to write.
+   * @throws ClassCastException If the wrapped type does not store char values.
+   */
+  public void writeChar(
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final int offset,
+      final char value
+  ) {
+    buffer.put(offset, (byte) 1);
+    ((CharAccessor) _wrapped).writeChar(buffer, offset + 1, value);
+  }
+
+  /**
+   * Read a non-null short value without boxing it, the result is undefined if the value stored at
+   * the given location is null.
+   *
+   * @param buffer A buffer to read.
+   * @param offset A number of bytes to skip.
+   * @return The value stored at the given location.
+   * @throws ClassCastException If the wrapped type does not store short values.
+   * @see #isNull(ByteBuffer, int)
+   */
+  public short readShort(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return ((ShortAccessor) _wrapped).readShort(buffer, offset + 1);
+  }
+
+  /**
+   * Write a non-null short value without boxing it.
+   *
+   * @param buffer A buffer to mutate.
+   * @param offset A number of bytes to skip.
+   * @param value The value to write.
+   * @throws ClassCastException If the wrapped type does not store short values.
+   */
+  public void writeShort(
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final int offset,
+      final short value
+  ) {
+    buffer.put(offset, (byte) 1);
+    ((ShortAccessor) _wrapped).writeShort(buffer, offset + 1, value);
+  }
+
+  /**
+   * Read a non-null int value without boxing it, the result is undefined if the value stored at
+   * the given location is null.
+   *
+   * @param buffer A buffer to read.
+   * @param offset A number of bytes to skip.
+   * @return The value stored at the given location.
+   * @throws ClassCastException If the wrapped type does not store int values.
+   * @see #isNull(ByteBuffer, int)
+   */
+  public int readInt(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return ((IntAccessor) _wrapped).readInt(buffer, offset + 1);
+  }
+
+  /**
+   * Write a non-null int value without boxing it.
+   *
+   * @param buffer A buffer to mutate.
+   * @param offset A number of bytes to skip.
+   * @param value The value to write.
+   * @throws ClassCastException If the wrapped type does not store int values.
+   */
+  public void writeInt(
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final int offset,
+      final int value
+  ) {
+    buffer.put(offset, (byte) 1);
+    ((IntAccessor) _wrapped).writeInt(buffer, offset + 1, value);
+  }
+
+  /**
+   * Read a non-null long value without boxing it, the result is undefined if the value stored at
+   * the given location is null.
+   *
+   * @param buffer A buffer to read.
+   * @param offset A number of bytes to skip.
+   * @return The value stored at the given location.
+   * @throws ClassCastException If the wrapped type does not store long values.
+   * @see #isNull(ByteBuffer, int)
+   */
+  public long readLong(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return ((LongAccessor) _wrapped).readLong(buffer, offset + 1);
+  }
+
+  /**
+   * Write a non-null long value without boxing it.
+   *
+   * @param buffer A buffer to mutate.
+   * @param offset A number of bytes to skip.
+   * @param value The value to write.
+   * @throws ClassCastException If the wrapped type does not store long values.
+   */
+  public void writeLong(
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final int offset,
+      final long value
+  ) {
+    buffer.put(offset, (byte) 1);
+    ((LongAccessor) _wrapped).writeLong(buffer, offset + 1, value);
+  }
+
+  /**
+   * Read a non-null float value without boxing it, the result is undefined if the value stored at
+   * the given location is null.
+   *
+   * @param buffer A buffer to read.
+   * @param offset A number of bytes to skip.
+   * @return The value stored at the given location.
+   * @throws ClassCastException If the wrapped type does not store float values.
+   * @see #isNull(ByteBuffer, int)
+   */
+  public float readFloat(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return ((FloatAccessor) _wrapped).readFloat(buffer, offset + 1);
+  }
+
+  /**
+   * Write a non-null float value without boxing it.
+   *
+   * @param buffer A buffer to mutate.
+   * @param offset A number of bytes to skip.
+   * @param value The value to write.
+   * @throws ClassCastException If the wrapped type does not store float values.
+   */
+  public void writeFloat(
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final int offset,
+      final float value
+  ) {
+    buffer.put(offset, (byte) 1);
+    ((FloatAccessor) _wrapped).writeFloat(buffer, offset + 1, value);
+  }
+
+  /**
+   * Read a non-null double value without boxing it, the result is undefined if the value stored at
+   * the given location is null.
+   *
+   * @param buffer A buffer to read.
+   * @param offset A number of bytes to skip.
+   * @return The value stored at the given location.
+   * @throws ClassCastException If the wrapped type does not store double values.
+   * @see #isNull(ByteBuffer, int)
+   */
+  public double readDouble(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return ((DoubleAccessor) _wrapped).readDouble(buffer, offset + 1);
+  }
+
+  /**
+   * Write a non-null double value without boxing it.
+   *
+   * @param buffer A buffer to mutate.
+   * @param offset A number of bytes to skip.
+   * @param value The value to write.
+   * @throws ClassCastException If the wrapped type does not store double values.
+   */
+  public void writeDouble(
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final int offset,
+      final double value
+  ) {
+    buffer.put(offset, (byte) 1);
+    ((DoubleAccessor) _wrapped).writeDouble(buffer, offset + 1, value);
+  }
 }
@@ -6,9 +6,11 @@ import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.liara.data.type.ComparableDataType;
 import org.liara.data.type.DataType;
+import org.liara.data.type.PrefixComparableDataType;
+import org.liara.data.type.ShortAccessor;
 
 public class ShortDataType
-    implements DataType<@NonNull Short>, ComparableDataType {
+    implements DataType<@NonNull Short>, PrefixComparableDataType, ShortAccessor {
 
   /**
    * @see ComparableDataType#compare(ByteBuffer, int, ByteBuffer, int)
@@ -23,6 +25,14 @@ public class ShortDataType
     return Short.compare(leftBuffer.getShort(leftOffset), rightBuffer.getShort(rightOffset));
   }
 
+  /**
+   * @see PrefixComparableDataType#getPrefix(ByteBuffer, int)
+   */
+  @Override
+  public long getPrefix(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return (long) (readShort(buffer, offset) ^ Short.MIN_VALUE) << 48;
+  }
+
   /**
    * @see DataType#getBytes()
    */
@@ -40,7 +50,7 @@ public class ShortDataType
       @NonNegative final int offset,
       @NonNull final Mutable<@NonNull Short> output
   ) {
-    output.setValue(buffer.getShort(offset));
+    output.setValue(readShort(buffer, offset));
   }
 
   /**
@@ -51,6 +61,26 @@ public class ShortDataType
       @NonNull final ByteBuffer buffer,
       @NonNegative final int offset,
       @NonNull final Short value
+  ) {
+    writeShort(buffer, offset, value);
+  }
+
+  /**
+   * @see ShortAccessor#readShort(ByteBuffer, int)
+   */
+  @Override
+  public short readShort(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    return buffer.getShort(offset);
+  }
+
+  /**
+   * @see ShortAccessor#writeShort(ByteBuffer, int, short)
+   */
+  @Override
+  public void writeShort(
+      @NonNull final ByteBuffer buffer,
+      @NonNegative final int offset,
+      final short value
   ) {
     buffer.putShort(offset, value);
   }
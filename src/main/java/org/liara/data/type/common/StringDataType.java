@@ -1,38 +1,48 @@
 package org.liara.data.type.common;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
+import java.util.Set;
 import org.apache.commons.lang3.mutable.Mutable;
-import org.apache.commons.lang3.mutable.MutableObject;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.liara.data.type.ComparableDataType;
 import org.liara.data.type.DataType;
+import org.liara.data.type.PrefixComparableDataType;
+
+/**
+ * Strings of a bounded number of characters stored with a given charset.
+ *
+ * Instances of this type are safe for concurrent use, each thread encodes and decodes its strings
+ * with its own encoder, decoder and character buffer.
+ */
+public class StringDataType implements DataType<@NonNull String>, PrefixComparableDataType {
+  /**
+   * Charsets of which the binary order of encoded strings is the code point order of the strings.
+   */
+  @NonNull
+  private static final Set<@NonNull Charset> BINARY_CHARSETS = Set.of(
+      StandardCharsets.UTF_8, StandardCharsets.US_ASCII, StandardCharsets.ISO_8859_1
+  );
 
-public class StringDataType implements DataType<@NonNull String>, ComparableDataType {
 
   @NonNegative
   private final int _capacity;
   @NonNull
   private final Charset _charset;
   @NonNull
-  private final CharsetEncoder _encoder;
-  @NonNull
-  private final CharsetDecoder _decoder;
-  @NonNull
-  private final CharBuffer _charBuffer;
+  private final ThreadLocal<@NonNull Codec> _codecs;
   @NonNegative
   private final int _bytes;
-  @NonNull
-  private final Mutable<@NonNull String> _left = new MutableObject<>("");
-  @NonNull
-  private final Mutable<@NonNull String> _right = new MutableObject<>("");
+  private final boolean _binary;
 
 
   public StringDataType(
@@ -41,10 +51,9 @@ public class StringDataType implements DataType<@NonNull String>, ComparableData
   ) {
     _capacity = capacity;
     _charset = charset;
-    _encoder = _charset.newEncoder();
-    _decoder = _charset.newDecoder();
-    _bytes = Integer.BYTES + (int) Math.ceil(_encoder.maxBytesPerChar() * _capacity);
-    _charBuffer = CharBuffer.allocate(capacity);
+    _codecs = ThreadLocal.withInitial(() -> new Codec(charset, capacity));
+    _bytes = Integer.BYTES + (int) Math.ceil(charset.newEncoder().maxBytesPerChar() * _capacity);
+    _binary = BINARY_CHARSETS.contains(charset);
   }
 
   public static @NonNull DataType<@NonNull String> utf8(@NonNegative final int capacity) {
@@ -52,6 +61,9 @@ public class StringDataType implements DataType<@NonNull String>, ComparableData
   }
 
   /**
+   * Strings of a charset that preserves the code point order, like UTF-8, are compared byte per
+   * byte without being decoded. Strings of other charsets are decoded and compared as java strings.
+   *
    * @see ComparableDataType#compare(ByteBuffer, int, ByteBuffer, int)
    */
   @Override
@@ -61,10 +73,75 @@ public class StringDataType implements DataType<@NonNull String>, ComparableData
       @NonNull final ByteBuffer rightBuffer,
       @NonNegative final int rightOffset
   ) {
-    read(leftBuffer, leftOffset, _left);
-    read(rightBuffer, rightOffset, _right);
+    if (_binary) {
+      return compareBytes(leftBuffer, leftOffset, rightBuffer, rightOffset);
+    }
+
+    @NonNull final Codec codec = _codecs.get();
+
+    return codec.decode(leftBuffer, leftOffset).compareTo(codec.decode(rightBuffer, rightOffset));
+  }
+
+  private static int compareBytes(
+      @NonNull final ByteBuffer leftBuffer,
+      @NonNegative final int leftOffset,
+      @NonNull final ByteBuffer rightBuffer,
+      @NonNegative final int rightOffset
+  ) {
+    final int leftLength = leftBuffer.getInt(leftOffset);
+    final int rightLength = rightBuffer.getInt(rightOffset);
+    final int length = Math.min(leftLength, rightLength);
+    final int leftStart = leftOffset + Integer.BYTES;
+    final int rightStart = rightOffset + Integer.BYTES;
+    int index = 0;
+
+    if (
+        leftBuffer.order() == ByteOrder.BIG_ENDIAN && rightBuffer.order() == ByteOrder.BIG_ENDIAN
+    ) {
+      for (; index + Long.BYTES <= length; index += Long.BYTES) {
+        final long left = leftBuffer.getLong(leftStart + index);
+        final long right = rightBuffer.getLong(rightStart + index);
+
+        if (left != right) {
+          return Long.compareUnsigned(left, right);
+        }
+      }
+    }
+
+    for (; index < length; ++index) {
+      final int comparison = Byte.toUnsignedInt(leftBuffer.get(leftStart + index)) -
+          Byte.toUnsignedInt(rightBuffer.get(rightStart + index));
+
+      if (comparison != 0) {
+        return comparison;
+      }
+    }
+
+    return Integer.compare(leftLength, rightLength);
+  }
+
+  /**
+   * The prefix of a string of a charset that preserves the code point order is made of its first
+   * eight encoded bytes, strings of other charsets all have the same prefix.
+   *
+   * @see PrefixComparableDataType#getPrefix(ByteBuffer, int)
+   */
+  @Override
+  public long getPrefix(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+    if (!_binary) {
+      return 0L;
+    }
+
+    final int length = Math.min(buffer.getInt(offset), Long.BYTES);
+    long result = 0L;
+
+    for (int index = 0; index < length; ++index) {
+      result |= (long) Byte.toUnsignedInt(buffer.get(offset + Integer.BYTES + index)) << (
+          Long.SIZE - Byte.SIZE * (index + 1)
+      );
+    }
 
-    return _left.getValue().compareTo(_right.getValue());
+    return result;
   }
 
   /**
@@ -84,31 +161,7 @@ public class StringDataType implements DataType<@NonNull String>, ComparableData
       @NonNegative final int offset,
       @NonNull final Mutable<@NonNull String> output
   ) {
-    _charBuffer.clear();
-    _decoder.reset();
-
-    final int oldPosition = buffer.position();
-    final int oldLimit = buffer.limit();
-
-    buffer.position(offset);
-    buffer.limit(buffer.position() + Integer.BYTES);
-
-    final int length = buffer.getInt();
-
-    buffer.position(offset + Integer.BYTES);
-    buffer.limit(buffer.position() + length);
-
-    if (buffer.limit() <= 0) {
-      output.setValue("");
-    } else {
-      _decoder.decode(buffer, _charBuffer, true);
-      _decoder.flush(_charBuffer);
-      _charBuffer.flip();
-      output.setValue(_charBuffer.toString());
-    }
-
-    buffer.limit(oldLimit);
-    buffer.position(oldPosition);
+    output.setValue(_codecs.get().decode(buffer, offset));
   }
 
   /**
@@ -127,25 +180,7 @@ public class StringDataType implements DataType<@NonNull String>, ComparableData
       );
     }
 
-    final int oldPosition = buffer.position();
-    final int oldLimit = buffer.limit();
-
-    _charBuffer.clear();
-    _encoder.reset();
-
-    _charBuffer.put(value, 0, value.length());
-    _charBuffer.flip();
-
-    buffer.position(offset + Integer.BYTES);
-    buffer.limit(buffer.position());
-
-    _encoder.encode(_charBuffer, buffer, true);
-    _encoder.flush(buffer);
-
-    buffer.putInt(buffer.limit() - buffer.position(), offset);
-
-    buffer.position(oldPosition);
-    buffer.limit(oldLimit);
+    _codecs.get().encode(buffer, offset, _bytes, value);
   }
 
   /**
@@ -193,4 +228,84 @@ public class StringDataType implements DataType<@NonNull String>, ComparableData
   public int hashCode() {
     return Objects.hash(_capacity, _charset);
   }
+
+  /**
+   * The scratch state used by a thread for encoding and decoding strings.
+   */
+  private static final class Codec {
+    @NonNull
+    private final CharsetEncoder _encoder;
+    @NonNull
+    private final CharsetDecoder _decoder;
+    @NonNull
+    private final CharBuffer _characters;
+
+    Codec(@NonNull final Charset charset, @NonNegative final int capacity) {
+      _encoder = charset.newEncoder()
+          .onMalformedInput(CodingErrorAction.REPLACE)
+          .onUnmappableCharacter(CodingErrorAction.REPLACE);
+      _decoder = charset.newDecoder()
+          .onMalformedInput(CodingErrorAction.REPLACE)
+          .onUnmappableCharacter(CodingErrorAction.REPLACE);
+      _characters = CharBuffer.allocate(capacity);
+    }
+
+    /**
+     * Decode a string without changing the position or the limit of the given buffer.
+     *
+     * @param buffer Buffer to read.
+     * @param offset Offset in bytes of the string to decode.
+     *
+     * @return The decoded string.
+     */
+    @NonNull String decode(@NonNull final ByteBuffer buffer, @NonNegative final int offset) {
+      final int length = buffer.getInt(offset);
+
+      if (length <= 0) {
+        return "";
+      }
+
+      @NonNull final ByteBuffer input = buffer.duplicate();
+      input.limit(offset + Integer.BYTES + length);
+      input.position(offset + Integer.BYTES);
+
+      _characters.clear();
+      _decoder.reset();
+      _decoder.decode(input, _characters, true);
+      _decoder.flush(_characters);
+      _characters.flip();
+
+      return _characters.toString();
+    }
+
+    /**
+     * Encode a string without changing the position or the limit of the given buffer.
+     *
+     * @param buffer Buffer to update.
+     * @param offset Offset in bytes of the string to encode.
+     * @param bytes Number of bytes reserved for the string, including its length.
+     * @param value String to encode.
+     */
+    void encode(
+        @NonNull final ByteBuffer buffer,
+        @NonNegative final int offset,
+        @NonNegative final int bytes,
+        @NonNull final String value
+    ) {
+      _characters.clear();
+      _encoder.reset();
+
+      _characters.put(value, 0, value.length());
+      _characters.flip();
+
+      @NonNull final ByteBuffer output = buffer.duplicate();
+      output.limit(offset + bytes);
+      output.position(offset + Integer.BYTES);
+
+      _encoder.encode(_characters, output, true);
+      _encoder.flush(output);
+
+      buffer.putInt(offset, output.position() - offset - Integer.BYTES);
+    }
+  }
 }
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.util.List;
+import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.common.value.qual.MinLen;
@@ -17,6 +18,56 @@ import org.liara.expression.operation.SequentialOperation;
 import org.liara.expression.operation.UnaryOperation;
 
 public class ExpressionFactory {
+  @Nullable
+  private final ExpressionTable _table;
+
+  /**
+   * Instantiate a new factory that creates a new instance of each expression.
+   */
+  public ExpressionFactory() {
+    this(false);
+  }
+
+  /**
+   * Instantiate a new factory.
+   *
+   * An interning factory hash-conses each expression that it creates into a weak table of canonical
+   * instances, so structurally equal expressions created by the same factory are the same instance.
+   *
+   * @param interning True if the factory must intern each expression that it creates.
+   */
+  public ExpressionFactory(final boolean interning) {
+    _table = interning ? new ExpressionTable() : null;
+  }
+
+  /**
+   * @return True if this factory interns each expression that it creates.
+   */
+  public boolean isInterning() {
+    return _table != null;
+  }
+
+  /**
+   * @return The number of canonical expressions currently held by this factory.
+   */
+  public @NonNegative int getInternedSize() {
+    return _table == null ? 0 : _table.getSize();
+  }
+
+  /**
+   * Return the canonical instance of the given expression if this factory is interning.
+   *
+   * @param expression An expression created by this factory.
+   * @param <Interned> Type of the interned expression.
+   *
+   * @return The canonical instance of the given expression, or the given expression itself.
+   */
+  protected <Interned extends Expression<?>> @NonNull Interned intern(
+      @NonNull final Interned expression
+  ) {
+    return _table == null ? expression : _table.intern(expression);
+  }
+
   /**
    * Return the given expression.
    * 
@@ -29,7 +80,7 @@ public class ExpressionFactory {
   }
 
   public <Result> @NonNull Expression<Result> placeholder (@NonNull final Primitive<Result> type) {
-    return new Placeholder<>(type);
+    return intern(new Placeholder<>(type));
   }
 
   /**
@@ -44,7 +95,7 @@ public class ExpressionFactory {
       @NonNull final Primitive<Result> type,
       final Result value
   ) {
-    return new Constant<>(type, value);
+    return intern(new Constant<>(type, value));
   }
 
   public @NonNull Expression<@Nullable Byte> nullable (@Nullable final Byte value) {
@@ -147,200 +198,200 @@ public class ExpressionFactory {
       @NonNull final Expression<@NonNull Value> leftOperand,
       @NonNull final Expression<@NonNull Value> rightOperand
   ) {
-    return new SequentialOperation<>(
+    return intern(new SequentialOperation<>(
         leftOperand.getResultType(),
         Operator.ADDITION,
         leftOperand,
         rightOperand
-    );
+    ));
   }
 
   public <@NonNull Value extends Number> @NonNull Expression<@NonNull Value> add(
       @NonNull @MinLen(1) final List<? extends @NonNull Expression<@NonNull Value>> operands
   ) {
-    return new SequentialOperation<>(
+    return intern(new SequentialOperation<>(
         operands.get(0).getResultType(),
         Operator.ADDITION,
         operands
-    );
+    ));
   }
 
   public <@NonNull Value extends Number> @NonNull Expression<@NonNull Value> subtract(
       @NonNull final Expression<@NonNull Value> leftOperand,
       @NonNull final Expression<@NonNull Value> rightOperand
   ) {
-    return new SequentialOperation<>(
+    return intern(new SequentialOperation<>(
         leftOperand.getResultType(),
         Operator.SUBTRACTION,
         leftOperand,
         rightOperand
-    );
+    ));
   }
 
   public <@NonNull Value extends Number> @NonNull Expression<@NonNull Value> subtract (
       @NonNull @MinLen(1) final List<? extends @NonNull Expression<@NonNull Value>> operands
   ) {
-    return new SequentialOperation<>(
+    return intern(new SequentialOperation<>(
         operands.get(0).getResultType(),
         Operator.SUBTRACTION,
         operands
-    );
+    ));
   }
 
   public <@NonNull Value extends Number> @NonNull Expression<@NonNull Value> multiply (
       @NonNull final Expression<@NonNull Value> leftOperand,
       @NonNull final Expression<@NonNull Value> rightOperand
   ) {
-    return new SequentialOperation<>(
+    return intern(new SequentialOperation<>(
         leftOperand.getResultType(),
         Operator.MULTIPLICATION,
         leftOperand,
         rightOperand
-    );
+    ));
   }
 
   public <@NonNull Value extends Number> @NonNull Expression<@NonNull Value> multiply(
       @NonNull @MinLen(1) final List<@NonNull Expression<@NonNull Value>> operands
   ) {
-    return new SequentialOperation<>(
+    return intern(new SequentialOperation<>(
         operands.get(0).getResultType(),
         Operator.MULTIPLICATION,
         operands
-    );
+    ));
   }
 
   public <@NonNull Value extends Number> @NonNull Expression<@NonNull Value> divide(
       @NonNull final Expression<@NonNull Value> leftOperand,
       @NonNull final Expression<@NonNull Value> rightOperand
   ) {
-    return new SequentialOperation<>(
+    return intern(new SequentialOperation<>(
         leftOperand.getResultType(),
         Operator.DIVISION,
         leftOperand,
         rightOperand
-    );
+    ));
   }
 
   public <@NonNull Value extends Number> @NonNull Expression<@NonNull Value> divide(
       @NonNull @MinLen(1) final List<@NonNull Expression<@NonNull Value>> operands
   ) {
-    return new SequentialOperation<>(
+    return intern(new SequentialOperation<>(
         operands.get(0).getResultType(),
         Operator.DIVISION,
         operands
-    );
+    ));
   }
 
   public <@NonNull Value extends Number> @NonNull Expression<@NonNull Value> modulus(
       @NonNull final Expression<@NonNull Value> leftOperand,
       @NonNull final Expression<@NonNull Value> rightOperand
   ) {
-    return new SequentialOperation<>(
+    return intern(new SequentialOperation<>(
         leftOperand.getResultType(),
         Operator.MODULUS,
         leftOperand,
         rightOperand
-    );
+    ));
   }
 
   public <@NonNull Value extends Number> @NonNull Expression<@NonNull Value> modulus(
       @NonNull @MinLen(1) final List<@NonNull Expression<@NonNull Value>> operands
   ) {
-    return new SequentialOperation<>(
+    return intern(new SequentialOperation<>(
         operands.get(0).getResultType(),
         Operator.MODULUS,
         operands
-    );
+    ));
   }
 
   public <@NonNull Value extends Number> @NonNull Expression<@NonNull Value> bitwiseOr(
       @NonNull final Expression<@NonNull Value> leftOperand,
       @NonNull final Expression<@NonNull Value> rightOperand
   ) {
-    return new SequentialOperation<>(
+    return intern(new SequentialOperation<>(
         leftOperand.getResultType(),
         Operator.BITWISE_OR,
         leftOperand,
         rightOperand
-    );
+    ));
   }
 
   public <@NonNull Value extends Number> @NonNull Expression<@NonNull Value> bitwiseOr(
       @NonNull @MinLen(1) final List<@NonNull Expression<@NonNull Value>> operands
   ) {
-    return new SequentialOperation<>(
+    return intern(new SequentialOperation<>(
         operands.get(0).getResultType(),
         Operator.BITWISE_OR,
         operands
-    );
+    ));
   }
 
   public <@NonNull Value extends Number> @NonNull Expression<@NonNull Value> bitwiseAnd(
       @NonNull final Expression<@NonNull Value> leftOperand,
       @NonNull final Expression<@NonNull Value> rightOperand
   ) {
-    return new SequentialOperation<>(
+    return intern(new SequentialOperation<>(
         leftOperand.getResultType(),
         Operator.BITWISE_AND,
         leftOperand,
         rightOperand
-    );
+    ));
   }
 
   public <@NonNull Value extends Number> @NonNull Expression<@NonNull Value> bitwiseAnd(
       @NonNull @MinLen(1) final List<@NonNull Expression<@NonNull Value>> operands
   ) {
-    return new SequentialOperation<>(
+    return intern(new SequentialOperation<>(
         operands.get(0).getResultType(),
         Operator.BITWISE_AND,
         operands
-    );
+    ));
   }
 
   public <@NonNull Value extends Number> @NonNull Expression<@NonNull Value> bitwiseXor(
       @NonNull final Expression<@NonNull Value> leftOperand,
       @NonNull final Expression<@NonNull Value> rightOperand
   ) {
-    return new SequentialOperation<>(
+    return intern(new SequentialOperation<>(
         leftOperand.getResultType(),
         Operator.BITWISE_XOR,
         leftOperand,
         rightOperand
-    );
+    ));
   }
 
   public <@NonNull Value extends Number> @NonNull Expression<@NonNull Value> bitwiseXor(
       @NonNull @MinLen(1) final List<@NonNull Expression<@NonNull Value>> operands
   ) {
-    return new SequentialOperation<>(
+    return intern(new SequentialOperation<>(
         operands.get(0).getResultType(),
         Operator.BITWISE_XOR,
         operands
-    );
+    ));
   }
 
   public <@NonNull Value extends Number> @NonNull Expression<@NonNull Value> minus(
       @NonNull final Expression<@NonNull Value> value
   ) {
-    return new UnaryOperation<>(value.getResultType(), Operator.MINUS, value);
+    return intern(new UnaryOperation<>(value.getResultType(), Operator.MINUS, value));
   }
 
   public <@NonNull Value extends Number> @NonNull Expression<@NonNull Value> plus(
       @NonNull final Expression<@NonNull Value> value
   ) {
-    return new UnaryOperation<>(value.getResultType(), Operator.PLUS, value);
+    return intern(new UnaryOperation<>(value.getResultType(), Operator.PLUS, value));
   }
 
   public <@NonNull Value extends Number> @NonNull Expression<@NonNull Value> bitwiseNot(
       @NonNull final Expression<@NonNull Value> value
   ) {
-    return new UnaryOperation<>(value.getResultType(), Operator.BITWISE_NOT, value);
+    return intern(new UnaryOperation<>(value.getResultType(), Operator.BITWISE_NOT, value));
   }
 
   public @NonNull Expression<@NonNull Boolean> not(
       @NonNull final Expression<@NonNull Boolean> predicate
   ) {
-    return new UnaryOperation<>(Primitives.BOOLEAN, Operator.NOT, predicate);
+    return intern(new UnaryOperation<>(Primitives.BOOLEAN, Operator.NOT, predicate));
   }
 
   public <Value extends Comparable<? super Value>> @NonNull Expression<@NonNull Boolean> between(
@@ -348,84 +399,84 @@ public class ExpressionFactory {
       @NonNull final Expression<@NonNull Value> lower,
       @NonNull final Expression<@NonNull Value> upper
   ) {
-    return new Range<>(target, lower, upper);
+    return intern(new Range<>(target, lower, upper));
   }
 
   public <Value extends Comparable<? super Value>> @NonNull Expression<@NonNull Boolean> greaterThan(
       @NonNull final Expression<@NonNull Value> left,
       @NonNull final Expression<@NonNull Value> right
   ) {
-    return new BinaryOperation<>(
+    return intern(new BinaryOperation<>(
         Primitives.BOOLEAN,
         Operator.GREATER_THAN,
         left, right
-    );
+    ));
   }
 
   public <Value extends Comparable<? super Value>> @NonNull Expression<@NonNull Boolean> greaterThanOrEqual(
       @NonNull final Expression<@NonNull Value> left,
       @NonNull final Expression<@NonNull Value> right
   ) {
-    return new BinaryOperation<>(
+    return intern(new BinaryOperation<>(
         Primitives.BOOLEAN,
         Operator.GREATER_THAN_OR_EQUAL,
         left, right
-    );
+    ));
   }
 
   public <Value extends Comparable<? super Value>> @NonNull Expression<@NonNull Boolean> lessThan(
       @NonNull final Expression<@NonNull Value> left,
       @NonNull final Expression<@NonNull Value> right
   ) {
-    return new BinaryOperation<>(
+    return intern(new BinaryOperation<>(
         Primitives.BOOLEAN,
         Operator.LESS_THAN,
         left, right
-    );
+    ));
   }
 
   public <Value extends Comparable<? super Value>> @NonNull Expression<@NonNull Boolean> lessThanOrEqual(
       @NonNull final Expression<@NonNull Value> left,
       @NonNull final Expression<@NonNull Value> right
   ) {
-    return new BinaryOperation<>(
+    return intern(new BinaryOperation<>(
         Primitives.BOOLEAN,
         Operator.LESS_THAN_OR_EQUAL,
         left, right
-    );
+    ));
   }
 
   public <Value> @NonNull Expression<@NonNull Boolean> equal(
       @NonNull final Expression<Value> left,
       @NonNull final Expression<Value> right
   ) {
-    return new BinaryOperation<>(
+    return intern(new BinaryOperation<>(
         Primitives.BOOLEAN,
         Operator.EQUAL,
         left, right
-    );
+    ));
   }
 
   public @NonNull Expression<@NonNull Boolean> like(
       @NonNull final Expression<@NonNull String> left,
       @NonNull final Expression<@NonNull String> right
   ) {
-    return new BinaryOperation<>(
+    return intern(new BinaryOperation<>(
         Primitives.BOOLEAN,
         Operator.LIKE,
         left, right
-    );
+    ));
   }
 
   public @NonNull Expression<@NonNull Boolean> regexp(
       @NonNull final Expression<@NonNull String> left,
       @NonNull final Expression<@NonNull String> right
   ) {
-    return new BinaryOperation<>(
+    return intern(new BinaryOperation<>(
         Primitives.BOOLEAN,
         Operator.REGEXP,
         left, right
-    );
+    ));
   }
 
   public <Value> @NonNull Expression<Value> function(
@@ -433,22 +484,22 @@ public class ExpressionFactory {
       @NonNull final String identifier,
       @NonNull final List<@NonNull ? extends Expression<?>> parameters
   ) {
-    return new Function<>(
+    return intern(new Function<>(
         expectedType,
         identifier,
         parameters
-    );
+    ));
   }
 
   public @NonNull Expression<@NonNull Boolean> and(
       @NonNull final Expression<@NonNull Boolean> left,
       @NonNull final Expression<@NonNull Boolean> right
   ) {
-    return new SequentialOperation<>(
+    return intern(new SequentialOperation<>(
         Primitives.BOOLEAN,
         Operator.AND,
         left, right
-    );
+    ));
   }
 
   public @NonNull Expression<@NonNull Boolean> and(
@@ -457,7 +508,7 @@ public class ExpressionFactory {
     switch (predicates.length) {
       case 0: return nonnull(true);
       case 1: return predicates[0];
-      default: return new SequentialOperation<>(Primitives.BOOLEAN, Operator.AND, predicates);
+      default: return intern(new SequentialOperation<>(Primitives.BOOLEAN, Operator.AND, predicates));
     }
   }
 
@@ -467,7 +518,7 @@ public class ExpressionFactory {
     switch (predicates.size()) {
       case 0: return nonnull(true);
       case 1: return predicates.get(0);
-      default: return new SequentialOperation<>(Primitives.BOOLEAN, Operator.AND, predicates);
+      default: return intern(new SequentialOperation<>(Primitives.BOOLEAN, Operator.AND, predicates));
     }
   }
 
@@ -475,11 +526,11 @@ public class ExpressionFactory {
       @NonNull final Expression<@NonNull Boolean> left,
       @NonNull final Expression<@NonNull Boolean> right
   ) {
-    return new SequentialOperation<>(
+    return intern(new SequentialOperation<>(
         Primitives.BOOLEAN,
         Operator.OR,
         left, right
-    );
+    ));
   }
 
   public @NonNull Expression<@NonNull Boolean> or (
@@ -488,7 +539,7 @@ public class ExpressionFactory {
     switch (predicates.length) {
       case 0: return nonnull(true);
       case 1: return predicates[0];
-      default: return new SequentialOperation<>(Primitives.BOOLEAN, Operator.OR, predicates);
+      default: return intern(new SequentialOperation<>(Primitives.BOOLEAN, Operator.OR, predicates));
     }
   }
 
@@ -498,7 +549,7 @@ public class ExpressionFactory {
     switch (predicates.size()) {
       case 0: return nonnull(true);
       case 1: return predicates.get(0);
-      default: return new SequentialOperation<>(Primitives.BOOLEAN, Operator.OR, predicates);
+      default: return intern(new SequentialOperation<>(Primitives.BOOLEAN, Operator.OR, predicates));
     }
   }
 
@@ -506,11 +557,11 @@ public class ExpressionFactory {
       @NonNull final Expression<@NonNull Boolean> left,
       @NonNull final Expression<@NonNull Boolean> right
   ) {
-    return new SequentialOperation<>(
+    return intern(new SequentialOperation<>(
         Primitives.BOOLEAN,
         Operator.XOR,
         left, right
-    );
+    ));
   }
 
   public @NonNull Expression<@NonNull Boolean> xor(
@@ -519,7 +570,7 @@ public class ExpressionFactory {
     switch (predicates.length) {
       case 0: return nonnull(true);
       case 1: return predicates[0];
-      default: return new SequentialOperation<>(Primitives.BOOLEAN, Operator.XOR, predicates);
+      default: return intern(new SequentialOperation<>(Primitives.BOOLEAN, Operator.XOR, predicates));
     }
   }
 
@@ -529,7 +580,7 @@ public class ExpressionFactory {
     switch (predicates.size()) {
       case 0: return nonnull(true);
       case 1: return predicates.get(0);
-      default: return new SequentialOperation<>(Primitives.BOOLEAN, Operator.XOR, predicates);
+      default: return intern(new SequentialOperation<>(Primitives.BOOLEAN, Operator.XOR, predicates));
     }
   }
 }
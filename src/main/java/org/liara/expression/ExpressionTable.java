@@ -0,0 +1,57 @@
+package org.liara.expression;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A weak table of canonical expressions.
+ *
+ * Each structurally distinct expression is associated with a canonical instance that is kept as
+ * long as it is referenced elsewhere.
+ */
+final class ExpressionTable {
+  @NonNull
+  private final Map<@NonNull Expression<?>, @NonNull WeakReference<@NonNull Expression<?>>> _table;
+
+  /**
+   * Instantiate a new empty table.
+   */
+  ExpressionTable() {
+    _table = new WeakHashMap<>();
+  }
+
+  /**
+   * Return the canonical instance of the given expression, registering the given expression as the
+   * canonical one if it does not exist yet.
+   *
+   * @param expression An expression to intern.
+   * @param <Interned> Type of the interned expression.
+   *
+   * @return The canonical instance of the given expression.
+   */
+  @SuppressWarnings("unchecked")
+  synchronized <Interned extends Expression<?>> @NonNull Interned intern(
+      @NonNull final Interned expression
+  ) {
+    @Nullable final WeakReference<@NonNull Expression<?>> reference = _table.get(expression);
+    @Nullable final Expression<?> canonical = reference == null ? null : reference.get();
+
+    if (canonical == null) {
+      _table.put(expression, new WeakReference<>(expression));
+      return expression;
+    }
+
+    return (Interned) canonical;
+  }
+
+  /**
+   * @return The number of canonical expressions into this table.
+   */
+  synchronized @NonNegative int getSize() {
+    return _table.size();
+  }
+}
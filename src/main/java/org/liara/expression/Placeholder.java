@@ -1,6 +1,8 @@
 package org.liara.expression;
 
+import java.util.Objects;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.liara.data.primitive.Primitive;
 import org.liara.support.view.View;
 
@@ -38,6 +40,36 @@ public final class Placeholder<Result> implements Expression<Result>{
     return CHILDREN;
   }
 
+  /**
+   * Placeholders are positional, so two placeholders of the same type are interchangeable.
+   *
+   * @see Object#equals(Object)
+   */
+  @Override
+  public boolean equals(@Nullable final Object other) {
+    if (other == null) {
+      return false;
+    }
+
+    if (other == this) {
+      return true;
+    }
+
+    if (other instanceof Placeholder) {
+      return Objects.equals(_type, ((Placeholder) other).getResultType());
+    }
+
+    return false;
+  }
+
+  /**
+   * @see Object#hashCode()
+   */
+  @Override
+  public int hashCode() {
+    return Objects.hash(Placeholder.class, _type);
+  }
+
   /**
    * @see Object#toString()
    */
@@ -58,7 +58,8 @@ public final class Variable<Result> implements Expression<Result> {
     if (other instanceof Variable) {
       @NonNull final Variable otherVariable = (Variable) other;
 
-      return Objects.equals(_name, otherVariable.getName());
+      return Objects.equals(_name, otherVariable.getName()) &&
+          Objects.equals(_type, otherVariable.getResultType());
     }
 
     return false;
@@ -66,7 +67,7 @@ public final class Variable<Result> implements Expression<Result> {
 
   @Override
   public int hashCode() {
-    return Objects.hash(_name);
+    return Objects.hash(_name, _type);
   }
 
   @Override
@@ -0,0 +1,283 @@
+package org.liara.expression.evaluation;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.expression.Variable;
+import org.liara.support.view.View;
+import org.liara.support.view.primitive.ByteView;
+import org.liara.support.view.primitive.DoubleView;
+import org.liara.support.view.primitive.FloatView;
+import org.liara.support.view.primitive.IntegerView;
+import org.liara.support.view.primitive.LongView;
+import org.liara.support.view.primitive.ShortView;
+
+/**
+ * A batch of rows stored column by column.
+ *
+ * Each column binds a variable to a primitive array or to a view, only the first rows of each
+ * column up to the size of the batch are part of the batch so that the same arrays can be refilled
+ * and reused for each batch of a scan. Numeric values of primitive arrays and of primitive views
+ * are read without boxing.
+ */
+public final class ColumnarBatch {
+  @NonNegative
+  private final int _size;
+
+  @NonNull
+  private final Map<@NonNull String, @NonNull Object> _columns;
+
+  /**
+   * Instantiate a new empty batch.
+   *
+   * @param size Number of rows of the batch.
+   */
+  public ColumnarBatch(@NonNegative final int size) {
+    _size = size;
+    _columns = new HashMap<>();
+  }
+
+  /**
+   * Bind a variable to a column of values.
+   *
+   * @param variable A variable to bind.
+   * @param values Values of the variable for each row of this batch.
+   *
+   * @return This batch instance for chaining purposes.
+   */
+  public @NonNull ColumnarBatch set(
+      @NonNull final Variable<?> variable,
+      final int @NonNull [] values
+  ) {
+    return setColumn(variable, values, values.length);
+  }
+
+  /**
+   * @see #set(Variable, int[])
+   */
+  public @NonNull ColumnarBatch set(
+      @NonNull final Variable<?> variable,
+      final long @NonNull [] values
+  ) {
+    return setColumn(variable, values, values.length);
+  }
+
+  /**
+   * @see #set(Variable, int[])
+   */
+  public @NonNull ColumnarBatch set(
+      @NonNull final Variable<?> variable,
+      final short @NonNull [] values
+  ) {
+    return setColumn(variable, values, values.length);
+  }
+
+  /**
+   * @see #set(Variable, int[])
+   */
+  public @NonNull ColumnarBatch set(
+      @NonNull final Variable<?> variable,
+      final byte @NonNull [] values
+  ) {
+    return setColumn(variable, values, values.length);
+  }
+
+  /**
+   * @see #set(Variable, int[])
+   */
+  public @NonNull ColumnarBatch set(
+      @NonNull final Variable<?> variable,
+      final double @NonNull [] values
+  ) {
+    return setColumn(variable, values, values.length);
+  }
+
+  /**
+   * @see #set(Variable, int[])
+   */
+  public @NonNull ColumnarBatch set(
+      @NonNull final Variable<?> variable,
+      final float @NonNull [] values
+  ) {
+    return setColumn(variable, values, values.length);
+  }
+
+  /**
+   * @see #set(Variable, int[])
+   */
+  public @NonNull ColumnarBatch set(
+      @NonNull final Variable<?> variable,
+      final boolean @NonNull [] values
+  ) {
+    return setColumn(variable, values, values.length);
+  }
+
+  /**
+   * Bind a variable to a view of values that may contain nulls.
+   *
+   * @param variable A variable to bind.
+   * @param values Values of the variable for each row of this batch.
+   *
+   * @return This batch instance for chaining purposes.
+   */
+  public @NonNull ColumnarBatch set(
+      @NonNull final Variable<?> variable,
+      @NonNull final View<?> values
+  ) {
+    return setColumn(variable, values, values.getSize());
+  }
+
+  private @NonNull ColumnarBatch setColumn(
+      @NonNull final Variable<?> variable,
+      @NonNull final Object column,
+      @NonNegative final int size
+  ) {
+    if (size < _size) {
+      throw new IllegalArgumentException(
+          "Unable to bind the variable " + variable.getName() + " because the given column " +
+              "contains " + size + " values and this batch contains " + _size + " rows."
+      );
+    }
+
+    _columns.put(variable.getName(), column);
+    return this;
+  }
+
+  /**
+   * Return the column bound to the given variable.
+   *
+   * @param variable A variable.
+   *
+   * @return The primitive array or the view bound to the given variable, null if the variable is
+   *     not bound.
+   */
+  public @Nullable Object getColumn(@NonNull final Variable<?> variable) {
+    return _columns.get(variable.getName());
+  }
+
+  /**
+   * Return the value of a variable for a given row of this batch.
+   *
+   * @param variable A variable.
+   * @param row Index of a row of this batch.
+   *
+   * @return The value of the given variable, null if the variable is not bound.
+   */
+  public @Nullable Object getValue(
+      @NonNull final Variable<?> variable,
+      @NonNegative final int row
+  ) {
+    @Nullable final Object column = _columns.get(variable.getName());
+
+    if (column == null) {
+      return null;
+    } else if (column instanceof View<?>) {
+      return ((View<?>) column).get(row);
+    } else if (column instanceof int[]) {
+      return ((int[]) column)[row];
+    } else if (column instanceof long[]) {
+      return ((long[]) column)[row];
+    } else if (column instanceof short[]) {
+      return ((short[]) column)[row];
+    } else if (column instanceof byte[]) {
+      return ((byte[]) column)[row];
+    } else if (column instanceof double[]) {
+      return ((double[]) column)[row];
+    } else if (column instanceof float[]) {
+      return ((float[]) column)[row];
+    } else {
+      return ((boolean[]) column)[row];
+    }
+  }
+
+  /**
+   * Return the value of a non-null integral variable for a given row of this batch.
+   *
+   * @param variable A non-null integral variable.
+   * @param row Index of a row of this batch.
+   *
+   * @return The value of the given variable.
+   */
+  public long getLong(@NonNull final Variable<?> variable, @NonNegative final int row) {
+    @Nullable final Object column = _columns.get(variable.getName());
+
+    if (column instanceof int[]) {
+      return ((int[]) column)[row];
+    } else if (column instanceof long[]) {
+      return ((long[]) column)[row];
+    } else if (column instanceof short[]) {
+      return ((short[]) column)[row];
+    } else if (column instanceof byte[]) {
+      return ((byte[]) column)[row];
+    } else if (column instanceof IntegerView) {
+      return ((IntegerView) column).getInt(row);
+    } else if (column instanceof LongView) {
+      return ((LongView) column).getLong(row);
+    } else if (column instanceof ShortView) {
+      return ((ShortView) column).getShort(row);
+    } else if (column instanceof ByteView) {
+      return ((ByteView) column).getByte(row);
+    } else {
+      return ((Number) getValue(variable, row)).longValue();
+    }
+  }
+
+  /**
+   * Return the value of a non-null floating variable for a given row of this batch.
+   *
+   * @param variable A non-null floating variable.
+   * @param row Index of a row of this batch.
+   *
+   * @return The value of the given variable.
+   */
+  public double getDouble(@NonNull final Variable<?> variable, @NonNegative final int row) {
+    @Nullable final Object column = _columns.get(variable.getName());
+
+    if (column instanceof double[]) {
+      return ((double[]) column)[row];
+    } else if (column instanceof float[]) {
+      return ((float[]) column)[row];
+    } else if (column instanceof DoubleView) {
+      return ((DoubleView) column).getDouble(row);
+    } else if (column instanceof FloatView) {
+      return ((FloatView) column).getFloat(row);
+    } else {
+      return ((Number) getValue(variable, row)).doubleValue();
+    }
+  }
+
+  /**
+   * Return a row of this batch.
+   *
+   * @param index Index of the row to return.
+   *
+   * @return A view over the given row of this batch.
+   */
+  public @NonNull Row getRow(@NonNegative final int index) {
+    return new Row() {
+      @Override
+      public @Nullable Object getValue(@NonNull final Variable<?> variable) {
+        return ColumnarBatch.this.getValue(variable, index);
+      }
+
+      @Override
+      public long getLong(@NonNull final Variable<?> variable) {
+        return ColumnarBatch.this.getLong(variable, index);
+      }
+
+      @Override
+      public double getDouble(@NonNull final Variable<?> variable) {
+        return ColumnarBatch.this.getDouble(variable, index);
+      }
+    };
+  }
+
+  /**
+   * @return The number of rows of this batch.
+   */
+  public @NonNegative int getSize() {
+    return _size;
+  }
+}
@@ -0,0 +1,279 @@
+package org.liara.expression.evaluation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.expression.Constant;
+import org.liara.expression.Expression;
+import org.liara.expression.Identity;
+import org.liara.expression.Placeholder;
+import org.liara.expression.Variable;
+import org.liara.expression.operation.BinaryOperation;
+import org.liara.expression.operation.Function;
+import org.liara.expression.operation.Operator;
+import org.liara.expression.operation.Range;
+import org.liara.expression.operation.SequentialOperation;
+import org.liara.expression.operation.UnaryOperation;
+import org.liara.support.tree.TreeWalker;
+
+/**
+ * An interpreter that evaluate an expression in memory against rows of values.
+ *
+ * Placeholders are bound, in order of appearance, to the parameters of this evaluator in the same
+ * way as the SQL compiler render them as positional parameters.
+ */
+public class ExpressionEvaluator {
+  @NonNull
+  private final TreeWalker<Expression> _walker;
+
+  @NonNull
+  private final List<@Nullable Object> _values;
+
+  @NonNull
+  private final Map<@NonNull String, @NonNull FunctionImplementation> _functions;
+
+  @NonNull
+  private List<?> _parameters;
+
+  @NonNegative
+  private int _nextParameter;
+
+  @Nullable
+  private Row _row;
+
+  /**
+   * Instantiate a new expression evaluator.
+   */
+  public ExpressionEvaluator() {
+    _walker = new TreeWalker<>(Expression.class);
+    _values = new ArrayList<>();
+    _functions = new HashMap<>();
+    _parameters = Collections.emptyList();
+    _nextParameter = 0;
+    _row = null;
+  }
+
+  /**
+   * Evaluate the current expression against the given row.
+   *
+   * @param row Values of each variable of the expression.
+   *
+   * @return The result of the evaluation.
+   */
+  public @Nullable Object evaluate(@NonNull final Row row) {
+    if (_walker.getRoot() == null) {
+      throw new IllegalStateException(
+          "Unable to evaluate the current expression because no expression was set."
+      );
+    }
+
+    _row = row;
+    _nextParameter = 0;
+    _values.clear();
+    _walker.moveToStart();
+
+    while (!_walker.isAtEnd()) {
+      while (_walker.canEnter()) {
+        _walker.enter();
+      }
+
+      exit();
+    }
+
+    _row = null;
+
+    return _values.remove(0);
+  }
+
+  /**
+   * Evaluate the current predicate against the given row.
+   *
+   * @param row Values of each variable of the predicate.
+   *
+   * @return True if the predicate evaluates to the SQL TRUE value, false if it evaluates to FALSE
+   * or NULL.
+   */
+  public boolean test(@NonNull final Row row) {
+    return SQLSemantics.isTrue(evaluate(row));
+  }
+
+  /**
+   * Let the evaluator moves out of its current node and compute its value.
+   */
+  private void exit() {
+    @NonNull final Expression<?> exited = _walker.exit();
+
+    if (exited instanceof Constant<?>) {
+      _values.add(((Constant<?>) exited).getValue());
+    } else if (exited instanceof Variable<?>) {
+      _values.add(_row.getValue((Variable<?>) exited));
+    } else if (exited instanceof Placeholder<?>) {
+      exitPlaceholder();
+    } else if (exited instanceof UnaryOperation<?>) {
+      exitUnaryOperation((UnaryOperation<?>) exited);
+    } else if (exited instanceof BinaryOperation<?>) {
+      exitBinaryOperation((BinaryOperation<?>) exited);
+    } else if (exited instanceof SequentialOperation<?>) {
+      exitSequentialOperation((SequentialOperation<?>) exited);
+    } else if (exited instanceof Range<?>) {
+      exitRange();
+    } else if (exited instanceof Function<?>) {
+      exitFunction((Function<?>) exited);
+    } else if (!(exited instanceof Identity<?>)) {
+      throw new IllegalArgumentException(
+          "Unable to evaluate the expression " + exited.toString() + " because its kind of " +
+              "expression is not handled by this evaluator."
+      );
+    }
+  }
+
+  private void exitPlaceholder() {
+    if (_nextParameter >= _parameters.size()) {
+      throw new IllegalStateException(
+          "Unable to resolve the placeholder #" + _nextParameter + " because only " +
+              _parameters.size() + " parameter(s) were given to this evaluator."
+      );
+    }
+
+    _values.add(_parameters.get(_nextParameter++));
+  }
+
+  private void exitUnaryOperation(@NonNull final UnaryOperation<?> operation) {
+    final int last = _values.size() - 1;
+
+    _values.set(
+        last,
+        SQLSemantics.apply(operation.getOperator(), operation.getResultType(), _values.get(last))
+    );
+  }
+
+  private void exitBinaryOperation(@NonNull final BinaryOperation<?> operation) {
+    @Nullable final Object right = _values.remove(_values.size() - 1);
+    final int last = _values.size() - 1;
+
+    _values.set(
+        last,
+        SQLSemantics.apply(
+            operation.getOperator(), operation.getResultType(), _values.get(last), right
+        )
+    );
+  }
+
+  private void exitSequentialOperation(@NonNull final SequentialOperation<?> operation) {
+    @NonNegative final int operands = operation.getChildren().getSize();
+    @NonNegative final int first = _values.size() - operands;
+    @NonNull final Operator operator = operation.getOperator();
+    @Nullable Object result;
+
+    if (operator == Operator.IN) {
+      result = SQLSemantics.in(_values.get(first), _values.subList(first + 1, _values.size()));
+    } else if (operator == Operator.BETWEEN && operands == 3) {
+      result = SQLSemantics.between(
+          _values.get(first), _values.get(first + 1), _values.get(first + 2)
+      );
+    } else {
+      result = _values.get(first);
+
+      for (int index = first + 1, size = _values.size(); index < size; ++index) {
+        result = SQLSemantics.apply(operator, operation.getResultType(), result, _values.get(index));
+      }
+    }
+
+    popValues(operands - 1);
+    _values.set(first, result);
+  }
+
+  private void exitRange() {
+    final int first = _values.size() - 3;
+    @Nullable final Object result = SQLSemantics.between(
+        _values.get(first), _values.get(first + 1), _values.get(first + 2)
+    );
+
+    popValues(2);
+    _values.set(first, result);
+  }
+
+  private void exitFunction(@NonNull final Function<?> function) {
+    @Nullable final FunctionImplementation implementation = _functions.get(function.getName());
+
+    if (implementation == null) {
+      throw new IllegalStateException(
+          "Unable to evaluate the function " + function.getName() + " because no " +
+              "implementation of this function was defined for this evaluator."
+      );
+    }
+
+    @NonNegative final int operands = function.getChildren().getSize();
+    @NonNegative final int first = _values.size() - operands;
+    @NonNull final Object[] parameters = _values.subList(first, _values.size()).toArray();
+
+    popValues(operands);
+    _values.add(implementation.apply(parameters));
+  }
+
+  private void popValues(@NonNegative final int count) {
+    for (int index = 0; index < count; ++index) {
+      _values.remove(_values.size() - 1);
+    }
+  }
+
+  /**
+   * Define the implementation of a function.
+   *
+   * @param name The name of the function to define.
+   * @param implementation The implementation of the function.
+   */
+  public void define(
+      @NonNull final String name,
+      @NonNull final FunctionImplementation implementation
+  ) {
+    _functions.put(name, implementation);
+  }
+
+  /**
+   * @param name The name of a function.
+   *
+   * @return True if an implementation of the given function was defined.
+   */
+  public boolean isDefined(@NonNull final String name) {
+    return _functions.containsKey(name);
+  }
+
+  /**
+   * @return The parameters bound to each placeholder of the expression, in order of appearance.
+   */
+  public @NonNull List<?> getParameters() {
+    return _parameters;
+  }
+
+  /**
+   * Update the parameters bound to each placeholder of the expression.
+   *
+   * @param parameters Parameters to bind to each placeholder, in order of appearance.
+   */
+  public void setParameters(@NonNull final List<?> parameters) {
+    _parameters = parameters;
+  }
+
+  /**
+   * @return The current evaluated expression.
+   */
+  public @Nullable Expression<?> getExpression() {
+    return _walker.getRoot();
+  }
+
+  /**
+   * Update the evaluated expression.
+   *
+   * @param expression An expression to evaluate.
+   */
+  public void setExpression(@Nullable final Expression<?> expression) {
+    _walker.setRoot(expression);
+    _values.clear();
+  }
+}
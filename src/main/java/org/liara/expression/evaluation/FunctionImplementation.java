@@ -0,0 +1,19 @@
+package org.liara.expression.evaluation;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An in-memory implementation of a function referenced by a function expression.
+ */
+@FunctionalInterface
+public interface FunctionImplementation {
+  /**
+   * Apply this function to the given parameters.
+   *
+   * @param parameters Values of each parameter of the function call, in order.
+   *
+   * @return The result of the function call.
+   */
+  @Nullable Object apply(@NonNull final Object[] parameters);
+}
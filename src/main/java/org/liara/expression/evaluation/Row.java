@@ -0,0 +1,60 @@
+package org.liara.expression.evaluation;
+
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.expression.Variable;
+
+/**
+ * A binding of variables to values against which an expression can be evaluated.
+ */
+@FunctionalInterface
+public interface Row {
+  /**
+   * Wrap a map of values indexed by variable names into a row.
+   *
+   * @param values Values of each variable indexed by variable name.
+   *
+   * @return A row that resolve each variable by using its name.
+   */
+  static @NonNull Row of(@NonNull final Map<@NonNull String, ?> values) {
+    return (@NonNull final Variable<?> variable) -> values.get(variable.getName());
+  }
+
+  /**
+   * Return the value bound to the given variable.
+   *
+   * @param variable A variable to resolve.
+   *
+   * @return The value bound to the given variable, null if the variable is not defined.
+   */
+  @Nullable Object getValue(@NonNull final Variable<?> variable);
+
+  /**
+   * Return the value bound to the given non-null integral variable.
+   *
+   * Implementations that store their values as primitives should override this method in order to
+   * avoid boxing.
+   *
+   * @param variable A non-null integral variable to resolve.
+   *
+   * @return The value bound to the given variable.
+   */
+  default long getLong(@NonNull final Variable<?> variable) {
+    return ((Number) getValue(variable)).longValue();
+  }
+
+  /**
+   * Return the value bound to the given non-null floating variable.
+   *
+   * Implementations that store their values as primitives should override this method in order to
+   * avoid boxing.
+   *
+   * @param variable A non-null floating variable to resolve.
+   *
+   * @return The value bound to the given variable.
+   */
+  default double getDouble(@NonNull final Variable<?> variable) {
+    return ((Number) getValue(variable)).doubleValue();
+  }
+}
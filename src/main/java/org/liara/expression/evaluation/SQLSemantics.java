@@ -0,0 +1,606 @@
+package org.liara.expression.evaluation;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.data.primitive.Primitive;
+import org.liara.expression.operation.Operator;
+
+/**
+ * In-memory implementation of each operator with the SQL semantics of NULL values.
+ *
+ * Any operation that receives a NULL operand results in NULL, except for logical operations that
+ * follow the SQL three-valued logic and for the null-safe IS operator.
+ */
+public final class SQLSemantics {
+  /**
+   * Maximum number of compiled patterns kept in memory for each kind of pattern operator.
+   */
+  private static final int PATTERNS_CACHE_SIZE = 256;
+
+  @NonNull
+  private static final Map<@NonNull String, @NonNull Pattern> LIKE_PATTERNS = (
+      new ConcurrentHashMap<>()
+  );
+
+  @NonNull
+  private static final Map<@NonNull String, @NonNull Pattern> REGEXP_PATTERNS = (
+      new ConcurrentHashMap<>()
+  );
+
+  /**
+   * Apply an unary operator.
+   *
+   * @param operator The operator to apply.
+   * @param type The expected type of the result.
+   * @param operand The operand of the operation.
+   *
+   * @return The result of the operation.
+   */
+  public static @Nullable Object apply(
+      @NonNull final Operator operator,
+      @NonNull final Primitive<?> type,
+      @Nullable final Object operand
+  ) {
+    switch (operator) {
+      case NOT:
+      case NEGATION:
+        return not(operand);
+      case PLUS:
+        return operand;
+      case MINUS:
+      case BITWISE_NOT:
+        return arithmetic(operator, type.getJavaClass(), operand);
+      default:
+        throw new IllegalArgumentException(
+            "Unable to apply the operator " + operator + " to a single operand because the " +
+                "given operator is not an unary operator."
+        );
+    }
+  }
+
+  /**
+   * Apply a binary operator.
+   *
+   * @param operator The operator to apply.
+   * @param type The expected type of the result.
+   * @param left The left operand of the operation.
+   * @param right The right operand of the operation.
+   *
+   * @return The result of the operation.
+   */
+  public static @Nullable Object apply(
+      @NonNull final Operator operator,
+      @NonNull final Primitive<?> type,
+      @Nullable final Object left,
+      @Nullable final Object right
+  ) {
+    switch (operator) {
+      case AND:
+        return and(left, right);
+      case OR:
+        return or(left, right);
+      case XOR:
+        return xor(left, right);
+      case ADDITION:
+      case SUBTRACTION:
+      case MULTIPLICATION:
+      case DIVISION:
+      case MODULUS:
+      case BITWISE_AND:
+      case BITWISE_OR:
+      case BITWISE_XOR:
+      case SHIFT_LEFT:
+      case SHIFT_RIGHT:
+        return arithmetic(operator, type.getJavaClass(), left, right);
+      case EQUAL:
+      case IN:
+        return equal(left, right);
+      case NOT_EQUAL:
+        return not(equal(left, right));
+      case GREATER_THAN:
+        return test(compare(left, right), Operator.GREATER_THAN);
+      case GREATER_THAN_OR_EQUAL:
+        return test(compare(left, right), Operator.GREATER_THAN_OR_EQUAL);
+      case LESS_THAN:
+        return test(compare(left, right), Operator.LESS_THAN);
+      case LESS_THAN_OR_EQUAL:
+        return test(compare(left, right), Operator.LESS_THAN_OR_EQUAL);
+      case IS:
+        return is(left, right);
+      case LIKE:
+        return like(left, right);
+      case REGEXP:
+        return regexp(left, right);
+      default:
+        throw new IllegalArgumentException(
+            "Unable to apply the operator " + operator + " to two operands because the given " +
+                "operator is not a binary operator."
+        );
+    }
+  }
+
+  /**
+   * Convert a value into a SQL truth value.
+   *
+   * @param value A value to convert.
+   *
+   * @return True, false or null if the given value is null.
+   */
+  public static @Nullable Boolean toBoolean(@Nullable final Object value) {
+    if (value == null || value instanceof Boolean) {
+      return (Boolean) value;
+    } else if (value instanceof Number) {
+      return ((Number) value).doubleValue() != 0;
+    } else {
+      throw new IllegalArgumentException(
+          "Unable to use the value " + value + " as a truth value."
+      );
+    }
+  }
+
+  /**
+   * @param operand A truth value.
+   *
+   * @return The negation of the given truth value, or null if the given value is null.
+   */
+  public static @Nullable Boolean not(@Nullable final Object operand) {
+    @Nullable final Boolean value = toBoolean(operand);
+    return value == null ? null : !value;
+  }
+
+  /**
+   * @param left A truth value.
+   * @param right Another truth value.
+   *
+   * @return The conjunction of both values in the three-valued logic.
+   */
+  public static @Nullable Boolean and(@Nullable final Object left, @Nullable final Object right) {
+    @Nullable final Boolean leftValue = toBoolean(left);
+    @Nullable final Boolean rightValue = toBoolean(right);
+
+    if (Boolean.FALSE.equals(leftValue) || Boolean.FALSE.equals(rightValue)) {
+      return false;
+    }
+
+    return leftValue == null || rightValue == null ? null : true;
+  }
+
+  /**
+   * @param left A truth value.
+   * @param right Another truth value.
+   *
+   * @return The disjunction of both values in the three-valued logic.
+   */
+  public static @Nullable Boolean or(@Nullable final Object left, @Nullable final Object right) {
+    @Nullable final Boolean leftValue = toBoolean(left);
+    @Nullable final Boolean rightValue = toBoolean(right);
+
+    if (Boolean.TRUE.equals(leftValue) || Boolean.TRUE.equals(rightValue)) {
+      return true;
+    }
+
+    return leftValue == null || rightValue == null ? null : false;
+  }
+
+  /**
+   * @param left A truth value.
+   * @param right Another truth value.
+   *
+   * @return The exclusive disjunction of both values, or null if any of them is null.
+   */
+  public static @Nullable Boolean xor(@Nullable final Object left, @Nullable final Object right) {
+    @Nullable final Boolean leftValue = toBoolean(left);
+    @Nullable final Boolean rightValue = toBoolean(right);
+
+    return leftValue == null || rightValue == null ? null : leftValue ^ rightValue;
+  }
+
+  /**
+   * Compare two values.
+   *
+   * @param left The left operand of the comparison.
+   * @param right The right operand of the comparison.
+   *
+   * @return A positive integer if left is greater than right, a negative integer if left is lower
+   * than right, zero if both are equal and null if any of them is null.
+   */
+  public static @Nullable Integer compare(
+      @Nullable final Object left, @Nullable final Object right
+  ) {
+    if (left == null || right == null) {
+      return null;
+    }
+
+    if (left instanceof Number && right instanceof Number) {
+      return compare((Number) left, (Number) right);
+    }
+
+    if (left instanceof ZonedDateTime && right instanceof ZonedDateTime) {
+      return ((ZonedDateTime) left).toInstant().compareTo(((ZonedDateTime) right).toInstant());
+    }
+
+    if (left instanceof Character || right instanceof Character) {
+      return left.toString().compareTo(right.toString());
+    }
+
+    if (left instanceof Comparable && left.getClass().isInstance(right)) {
+      @SuppressWarnings("unchecked")
+      @NonNull final Comparable<Object> comparable = (Comparable<Object>) left;
+      return comparable.compareTo(right);
+    }
+
+    throw new IllegalArgumentException(
+        "Unable to compare " + left + " with " + right + " because the given values are not " +
+            "comparable."
+    );
+  }
+
+  private static int compare(@NonNull final Number left, @NonNull final Number right) {
+    if (isFloating(left) || isFloating(right)) {
+      return Double.compare(left.doubleValue(), right.doubleValue());
+    } else {
+      return Long.compare(left.longValue(), right.longValue());
+    }
+  }
+
+  private static @Nullable Boolean test(
+      @Nullable final Integer comparison,
+      @NonNull final Operator operator
+  ) {
+    if (comparison == null) {
+      return null;
+    }
+
+    switch (operator) {
+      case GREATER_THAN:
+        return comparison > 0;
+      case GREATER_THAN_OR_EQUAL:
+        return comparison >= 0;
+      case LESS_THAN:
+        return comparison < 0;
+      default:
+        return comparison <= 0;
+    }
+  }
+
+  /**
+   * @param left A value.
+   * @param right Another value.
+   *
+   * @return True if both values are equal, false otherwise and null if any of them is null.
+   */
+  public static @Nullable Boolean equal(@Nullable final Object left, @Nullable final Object right) {
+    if (left == null || right == null) {
+      return null;
+    }
+
+    if (left instanceof Comparable && right instanceof Comparable) {
+      return compare(left, right) == 0;
+    } else {
+      return left.equals(right);
+    }
+  }
+
+  /**
+   * Null-safe equality.
+   *
+   * @param left A value.
+   * @param right Another value.
+   *
+   * @return True if both values are equal or null, false otherwise.
+   */
+  public static @NonNull Boolean is(@Nullable final Object left, @Nullable final Object right) {
+    if (left == null || right == null) {
+      return left == right;
+    }
+
+    return equal(left, right);
+  }
+
+  /**
+   * @param value A value to search for.
+   * @param candidates Values to compare with the given one.
+   *
+   * @return True if the value is equal to any candidate, null if the value is null or if no
+   * candidate matches and a candidate is null, false otherwise.
+   */
+  public static @Nullable Boolean in(
+      @Nullable final Object value,
+      @NonNull final List<?> candidates
+  ) {
+    if (value == null) {
+      return null;
+    }
+
+    boolean unknown = false;
+
+    for (int index = 0, size = candidates.size(); index < size; ++index) {
+      @Nullable final Boolean equality = equal(value, candidates.get(index));
+
+      if (equality == null) {
+        unknown = true;
+      } else if (equality) {
+        return true;
+      }
+    }
+
+    return unknown ? null : false;
+  }
+
+  /**
+   * @param value A value to test.
+   * @param minimum The lower bound of the range (included).
+   * @param maximum The upper bound of the range (included).
+   *
+   * @return True if the value is in the given range, false otherwise and null if any of the given
+   * values is null.
+   */
+  public static @Nullable Boolean between(
+      @Nullable final Object value,
+      @Nullable final Object minimum,
+      @Nullable final Object maximum
+  ) {
+    return and(
+        test(compare(value, minimum), Operator.GREATER_THAN_OR_EQUAL),
+        test(compare(value, maximum), Operator.LESS_THAN_OR_EQUAL)
+    );
+  }
+
+  /**
+   * @param value A string to match.
+   * @param pattern A SQL pattern that may contains '%' and '_' wildcards.
+   *
+   * @return True if the given string match the given pattern, null if any of them is null.
+   */
+  public static @Nullable Boolean like(@Nullable final Object value, @Nullable final Object pattern) {
+    if (value == null || pattern == null) {
+      return null;
+    }
+
+    return getPattern(LIKE_PATTERNS, pattern.toString(), true).matcher(value.toString()).matches();
+  }
+
+  /**
+   * @param value A string to match.
+   * @param pattern A regular expression.
+   *
+   * @return True if the given string contains a match of the given regular expression, null if
+   * any of them is null.
+   */
+  public static @Nullable Boolean regexp(
+      @Nullable final Object value, @Nullable final Object pattern
+  ) {
+    if (value == null || pattern == null) {
+      return null;
+    }
+
+    return getPattern(REGEXP_PATTERNS, pattern.toString(), false).matcher(value.toString()).find();
+  }
+
+  private static @NonNull Pattern getPattern(
+      @NonNull final Map<@NonNull String, @NonNull Pattern> cache,
+      @NonNull final String pattern,
+      final boolean like
+  ) {
+    @Nullable Pattern result = cache.get(pattern);
+
+    if (result == null) {
+      result = Pattern.compile(like ? translateLikePattern(pattern) : pattern, Pattern.DOTALL);
+
+      if (cache.size() >= PATTERNS_CACHE_SIZE) {
+        cache.clear();
+      }
+
+      cache.put(pattern, result);
+    }
+
+    return result;
+  }
+
+  /**
+   * Translate a SQL LIKE pattern into a java regular expression.
+   *
+   * @param pattern A SQL LIKE pattern.
+   *
+   * @return An equivalent java regular expression.
+   */
+  private static @NonNull String translateLikePattern(@NonNull final String pattern) {
+    @NonNull final StringBuilder result = new StringBuilder(pattern.length() + 8);
+    @NonNull final StringBuilder literal = new StringBuilder();
+
+    for (int index = 0, size = pattern.length(); index < size; ++index) {
+      final char character = pattern.charAt(index);
+
+      if (character == '\\' && index + 1 < size) {
+        literal.append(pattern.charAt(++index));
+      } else if (character == '%' || character == '_') {
+        if (literal.length() > 0) {
+          result.append(Pattern.quote(literal.toString()));
+          literal.setLength(0);
+        }
+
+        result.append(character == '%' ? ".*" : ".");
+      } else {
+        literal.append(character);
+      }
+    }
+
+    if (literal.length() > 0) {
+      result.append(Pattern.quote(literal.toString()));
+    }
+
+    return result.toString();
+  }
+
+  private static @Nullable Object arithmetic(
+      @NonNull final Operator operator,
+      @NonNull final Class<?> type,
+      @Nullable final Object operand
+  ) {
+    if (operand == null) {
+      return null;
+    }
+
+    @NonNull final Number value = (Number) operand;
+
+    if (operator == Operator.MINUS) {
+      return isFloating(type, value, value)
+          ? toResult(type, -value.doubleValue())
+          : toResult(type, -value.longValue());
+    } else {
+      return toResult(type, ~value.longValue());
+    }
+  }
+
+  private static @Nullable Object arithmetic(
+      @NonNull final Operator operator,
+      @NonNull final Class<?> type,
+      @Nullable final Object leftOperand,
+      @Nullable final Object rightOperand
+  ) {
+    if (leftOperand == null || rightOperand == null) {
+      return null;
+    }
+
+    @NonNull final Number left = (Number) leftOperand;
+    @NonNull final Number right = (Number) rightOperand;
+
+    if (isFloating(type, left, right) && !isBitwise(operator)) {
+      final double leftValue = left.doubleValue();
+      final double rightValue = right.doubleValue();
+
+      switch (operator) {
+        case ADDITION:
+          return toResult(type, leftValue + rightValue);
+        case SUBTRACTION:
+          return toResult(type, leftValue - rightValue);
+        case MULTIPLICATION:
+          return toResult(type, leftValue * rightValue);
+        case DIVISION:
+          return rightValue == 0 ? null : toResult(type, leftValue / rightValue);
+        default:
+          return rightValue == 0 ? null : toResult(type, leftValue % rightValue);
+      }
+    }
+
+    final long leftValue = left.longValue();
+    final long rightValue = right.longValue();
+
+    switch (operator) {
+      case ADDITION:
+        return toResult(type, leftValue + rightValue);
+      case SUBTRACTION:
+        return toResult(type, leftValue - rightValue);
+      case MULTIPLICATION:
+        return toResult(type, leftValue * rightValue);
+      case DIVISION:
+        return rightValue == 0 ? null : toResult(type, leftValue / rightValue);
+      case MODULUS:
+        return rightValue == 0 ? null : toResult(type, leftValue % rightValue);
+      case BITWISE_AND:
+        return toResult(type, leftValue & rightValue);
+      case BITWISE_OR:
+        return toResult(type, leftValue | rightValue);
+      case BITWISE_XOR:
+        return toResult(type, leftValue ^ rightValue);
+      case SHIFT_LEFT:
+        return toResult(type, leftValue << rightValue);
+      default:
+        return toResult(type, leftValue >> rightValue);
+    }
+  }
+
+  private static boolean isBitwise(@NonNull final Operator operator) {
+    switch (operator) {
+      case BITWISE_AND:
+      case BITWISE_OR:
+      case BITWISE_XOR:
+      case SHIFT_LEFT:
+      case SHIFT_RIGHT:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private static boolean isFloating(@NonNull final Number value) {
+    return value instanceof Double || value instanceof Float;
+  }
+
+  private static boolean isFloating(
+      @NonNull final Class<?> type,
+      @NonNull final Number left,
+      @NonNull final Number right
+  ) {
+    if (type == Double.class || type == Float.class) {
+      return true;
+    } else if (Number.class.isAssignableFrom(type) && type != Number.class) {
+      return false;
+    } else {
+      return isFloating(left) || isFloating(right);
+    }
+  }
+
+  /**
+   * Convert an integral result into the expected result type.
+   *
+   * @param type The expected result type.
+   * @param value The value to convert.
+   *
+   * @return The converted value.
+   */
+  public static @NonNull Number toResult(@NonNull final Class<?> type, final long value) {
+    if (type == Integer.class) {
+      return (int) value;
+    } else if (type == Short.class) {
+      return (short) value;
+    } else if (type == Byte.class) {
+      return (byte) value;
+    } else if (type == Double.class) {
+      return (double) value;
+    } else if (type == Float.class) {
+      return (float) value;
+    } else {
+      return value;
+    }
+  }
+
+  /**
+   * Convert a floating result into the expected result type.
+   *
+   * @param type The expected result type.
+   * @param value The value to convert.
+   *
+   * @return The converted value.
+   */
+  public static @NonNull Number toResult(@NonNull final Class<?> type, final double value) {
+    if (type == Float.class) {
+      return (float) value;
+    } else if (type == Long.class) {
+      return (long) value;
+    } else if (type == Integer.class) {
+      return (int) value;
+    } else if (type == Short.class) {
+      return (short) value;
+    } else if (type == Byte.class) {
+      return (byte) value;
+    } else {
+      return value;
+    }
+  }
+
+  /**
+   * @param value A value to test.
+   *
+   * @return True if the given value is the SQL TRUE value.
+   */
+  public static boolean isTrue(@Nullable final Object value) {
+    return Objects.equals(toBoolean(value), Boolean.TRUE);
+  }
+}
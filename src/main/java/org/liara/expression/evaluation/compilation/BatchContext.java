@@ -0,0 +1,168 @@
+package org.liara.expression.evaluation.compilation;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.expression.Variable;
+import org.liara.expression.evaluation.ColumnarBatch;
+import org.liara.expression.evaluation.Row;
+
+/**
+ * The state of a batch evaluation: the evaluated batch, the parameters of the evaluation and pools
+ * of scratch vectors sized for the batch.
+ *
+ * A context is owned by a single thread and is reused from one batch to another in order to avoid
+ * allocating vectors for each batch.
+ */
+final class BatchContext {
+  @NonNull
+  private static final Object[] NO_PARAMETERS = new Object[0];
+
+  @NonNull
+  private final List<long @NonNull []> _longs;
+
+  @NonNull
+  private final List<double @NonNull []> _doubles;
+
+  @NonNull
+  private final List<byte @NonNull []> _truths;
+
+  @NonNull
+  private final List<int @NonNull []> _selections;
+
+  @NonNull
+  private final Cursor _cursor;
+
+  @Nullable
+  private ColumnarBatch _batch;
+
+  @NonNull
+  private Object[] _parameters;
+
+  @NonNegative
+  private int _capacity;
+
+  BatchContext() {
+    _longs = new ArrayList<>();
+    _doubles = new ArrayList<>();
+    _truths = new ArrayList<>();
+    _selections = new ArrayList<>();
+    _cursor = new Cursor();
+    _batch = null;
+    _parameters = NO_PARAMETERS;
+    _capacity = 0;
+  }
+
+  /**
+   * Prepare this context for the evaluation of the given batch.
+   *
+   * @param batch The batch to evaluate.
+   * @param parameters Values of each placeholder.
+   */
+  void bind(@NonNull final ColumnarBatch batch, @NonNull final Object[] parameters) {
+    if (batch.getSize() > _capacity) {
+      _longs.clear();
+      _doubles.clear();
+      _truths.clear();
+      _selections.clear();
+      _capacity = batch.getSize();
+    }
+
+    _batch = batch;
+    _parameters = parameters;
+  }
+
+  /**
+   * Release the batch and the parameters of the last evaluation.
+   */
+  void unbind() {
+    _batch = null;
+    _parameters = NO_PARAMETERS;
+  }
+
+  @NonNull ColumnarBatch getBatch() {
+    return _batch;
+  }
+
+  @NonNull Object[] getParameters() {
+    return _parameters;
+  }
+
+  /**
+   * Return a row over the given index of the evaluated batch. The returned row is shared and only
+   * remains valid until the next call of this method.
+   *
+   * @param index Index of a row of the evaluated batch.
+   *
+   * @return A row over the given index of the evaluated batch.
+   */
+  @NonNull Row getRow(@NonNegative final int index) {
+    _cursor._index = index;
+    return _cursor;
+  }
+
+  long @NonNull [] acquireLongs() {
+    return _longs.isEmpty() ? new long[_capacity] : _longs.remove(_longs.size() - 1);
+  }
+
+  void release(final long @NonNull [] vector) {
+    if (vector.length == _capacity) {
+      _longs.add(vector);
+    }
+  }
+
+  double @NonNull [] acquireDoubles() {
+    return _doubles.isEmpty() ? new double[_capacity] : _doubles.remove(_doubles.size() - 1);
+  }
+
+  void release(final double @NonNull [] vector) {
+    if (vector.length == _capacity) {
+      _doubles.add(vector);
+    }
+  }
+
+  byte @NonNull [] acquireTruths() {
+    return _truths.isEmpty() ? new byte[_capacity] : _truths.remove(_truths.size() - 1);
+  }
+
+  void release(final byte @NonNull [] vector) {
+    if (vector.length == _capacity) {
+      _truths.add(vector);
+    }
+  }
+
+  int @NonNull [] acquireSelection() {
+    return _selections.isEmpty() ? new int[_capacity] : _selections.remove(_selections.size() - 1);
+  }
+
+  void release(final int @NonNull [] vector) {
+    if (vector.length == _capacity) {
+      _selections.add(vector);
+    }
+  }
+
+  /**
+   * A row that reads the current index of the evaluated batch.
+   */
+  private final class Cursor implements Row {
+    @NonNegative
+    private int _index;
+
+    @Override
+    public @Nullable Object getValue(@NonNull final Variable<?> variable) {
+      return _batch.getValue(variable, _index);
+    }
+
+    @Override
+    public long getLong(@NonNull final Variable<?> variable) {
+      return _batch.getLong(variable, _index);
+    }
+
+    @Override
+    public double getDouble(@NonNull final Variable<?> variable) {
+      return _batch.getDouble(variable, _index);
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package org.liara.expression.evaluation.compilation;
+
+import java.util.function.Predicate;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.expression.Expression;
+import org.liara.expression.evaluation.ColumnarBatch;
+import org.liara.expression.evaluation.Row;
+
+/**
+ * An expression compiled into a tree of primitive-specialized nodes.
+ *
+ * A compiled predicate is immutable and may be shared between threads.
+ */
+public final class CompiledPredicate implements Predicate<@NonNull Row> {
+  @NonNull
+  private static final Object[] NO_PARAMETERS = new Object[0];
+
+  @NonNull
+  private final Expression<?> _expression;
+
+  @NonNull
+  private final Node _root;
+
+  @NonNegative
+  private final int _placeholders;
+
+  @NonNull
+  private final ThreadLocal<@NonNull BatchContext> _contexts;
+
+  CompiledPredicate(
+      @NonNull final Expression<?> expression,
+      @NonNull final Node root,
+      @NonNegative final int placeholders
+  ) {
+    _expression = expression;
+    _root = root;
+    _placeholders = placeholders;
+    _contexts = ThreadLocal.withInitial(BatchContext::new);
+  }
+
+  /**
+   * @see Predicate#test(Object)
+   */
+  @Override
+  public boolean test(@NonNull final Row row) {
+    checkParameters(NO_PARAMETERS);
+    return _root.test(row, NO_PARAMETERS) == Node.TRUE;
+  }
+
+  /**
+   * Test the given row.
+   *
+   * @param row Values of each variable.
+   * @param parameters Values of each placeholder, in order of appearance.
+   *
+   * @return True if the compiled expression evaluates to the SQL TRUE value.
+   */
+  public boolean test(@NonNull final Row row, @NonNull final Object... parameters) {
+    checkParameters(parameters);
+    return _root.test(row, parameters) == Node.TRUE;
+  }
+
+  /**
+   * Evaluate the compiled expression against the given row.
+   *
+   * @param row Values of each variable.
+   * @param parameters Values of each placeholder, in order of appearance.
+   *
+   * @return The result of the evaluation.
+   */
+  public @Nullable Object evaluate(@NonNull final Row row, @NonNull final Object... parameters) {
+    checkParameters(parameters);
+    return _root.evaluate(row, parameters);
+  }
+
+  /**
+   * Select the rows of a batch for which the compiled expression evaluates to the SQL TRUE value.
+   *
+   * The batch is evaluated one operation at a time over whole columns, conjunctions narrowing the
+   * selection of rows passed to each of their operands.
+   *
+   * @param batch A batch of rows to test.
+   * @param selection An array of at least the size of the batch to fill with the ascending indexes
+   *     of each selected row.
+   * @param parameters Values of each placeholder, in order of appearance.
+   *
+   * @return The number of selected rows.
+   */
+  public @NonNegative int select(
+      @NonNull final ColumnarBatch batch,
+      final int @NonNull [] selection,
+      @NonNull final Object... parameters
+  ) {
+    checkParameters(parameters);
+
+    @NonNull final BatchContext context = _contexts.get();
+    @NonNegative final int size = batch.getSize();
+
+    for (int index = 0; index < size; ++index) {
+      selection[index] = index;
+    }
+
+    context.bind(batch, parameters);
+
+    try {
+      return _root.selectBatch(context, selection, size, selection);
+    } finally {
+      context.unbind();
+    }
+  }
+
+  /**
+   * Ensure that the given parameters give a value to each placeholder of the compiled expression.
+   *
+   * @param parameters Values of each placeholder, in order of appearance.
+   */
+  private void checkParameters(@NonNull final Object @NonNull [] parameters) {
+    if (parameters.length != _placeholders) {
+      throw new IllegalArgumentException(
+          "Unable to evaluate the compiled expression because it expects " + _placeholders +
+              " parameters but " + parameters.length + " were given."
+      );
+    }
+  }
+
+  /**
+   * @return The compiled expression.
+   */
+  public @NonNull Expression<?> getExpression() {
+    return _expression;
+  }
+
+  /**
+   * @return The number of placeholders of the compiled expression.
+   */
+  public @NonNegative int getPlaceholderCount() {
+    return _placeholders;
+  }
+}
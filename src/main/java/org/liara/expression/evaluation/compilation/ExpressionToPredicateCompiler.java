@@ -0,0 +1,393 @@
+package org.liara.expression.evaluation.compilation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.data.primitive.Primitive;
+import org.liara.expression.Constant;
+import org.liara.expression.Expression;
+import org.liara.expression.Identity;
+import org.liara.expression.Placeholder;
+import org.liara.expression.Variable;
+import org.liara.expression.evaluation.FunctionImplementation;
+import org.liara.expression.evaluation.compilation.Node.Kind;
+import org.liara.expression.evaluation.compilation.Nodes.BooleanConstant;
+import org.liara.expression.evaluation.compilation.Nodes.Comparison;
+import org.liara.expression.evaluation.compilation.Nodes.Conjunction;
+import org.liara.expression.evaluation.compilation.Nodes.Disjunction;
+import org.liara.expression.evaluation.compilation.Nodes.DoubleArithmetic;
+import org.liara.expression.evaluation.compilation.Nodes.DoubleComparison;
+import org.liara.expression.evaluation.compilation.Nodes.DoubleConstant;
+import org.liara.expression.evaluation.compilation.Nodes.DoubleNegation;
+import org.liara.expression.evaluation.compilation.Nodes.DoubleRange;
+import org.liara.expression.evaluation.compilation.Nodes.FunctionNode;
+import org.liara.expression.evaluation.compilation.Nodes.GenericOperation;
+import org.liara.expression.evaluation.compilation.Nodes.GenericRange;
+import org.liara.expression.evaluation.compilation.Nodes.GenericUnaryOperation;
+import org.liara.expression.evaluation.compilation.Nodes.LongArithmetic;
+import org.liara.expression.evaluation.compilation.Nodes.LongComparison;
+import org.liara.expression.evaluation.compilation.Nodes.LongConstant;
+import org.liara.expression.evaluation.compilation.Nodes.LongNegation;
+import org.liara.expression.evaluation.compilation.Nodes.LongRange;
+import org.liara.expression.evaluation.compilation.Nodes.Negation;
+import org.liara.expression.evaluation.compilation.Nodes.ObjectConstant;
+import org.liara.expression.evaluation.compilation.Nodes.PlaceholderNode;
+import org.liara.expression.evaluation.compilation.Nodes.VariableNode;
+import org.liara.expression.operation.BinaryOperation;
+import org.liara.expression.operation.Function;
+import org.liara.expression.operation.Operation;
+import org.liara.expression.operation.Operator;
+import org.liara.expression.operation.Range;
+import org.liara.expression.operation.SequentialOperation;
+import org.liara.expression.operation.UnaryOperation;
+import org.liara.support.tree.TreeWalker;
+
+/**
+ * Compile expressions into predicates made of primitive-specialized nodes.
+ *
+ * The type of each expression is resolved once at compilation time, so non-null numeric
+ * sub-expressions are computed without boxing and without any per-row instanceof dispatch. Compiled
+ * predicates are cached by structural equality of their expression.
+ */
+public class ExpressionToPredicateCompiler {
+  /**
+   * Default maximum number of compiled predicates kept into the cache of a compiler.
+   */
+  @NonNegative
+  public static final int DEFAULT_CACHE_CAPACITY = 256;
+
+  @NonNull
+  private final TreeWalker<Expression> _walker;
+
+  @NonNull
+  private final List<@NonNull Node> _nodes;
+
+  @NonNull
+  private final Map<@NonNull String, @NonNull FunctionImplementation> _functions;
+
+  @NonNull
+  private final Map<@NonNull Expression<?>, @NonNull CompiledPredicate> _cache;
+
+  @NonNegative
+  private int _placeholders;
+
+  /**
+   * Instantiate a new compiler with a cache of the default capacity.
+   */
+  public ExpressionToPredicateCompiler() {
+    this(DEFAULT_CACHE_CAPACITY);
+  }
+
+  /**
+   * Instantiate a new compiler.
+   *
+   * @param cacheCapacity Maximum number of compiled predicates to keep into the cache.
+   */
+  public ExpressionToPredicateCompiler(@NonNegative final int cacheCapacity) {
+    _walker = new TreeWalker<>(Expression.class);
+    _nodes = new ArrayList<>();
+    _functions = new HashMap<>();
+    _cache = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(
+          final Map.Entry<@NonNull Expression<?>, @NonNull CompiledPredicate> eldest
+      ) {
+        return size() > cacheCapacity;
+      }
+    };
+    _placeholders = 0;
+  }
+
+  /**
+   * Compile the given expression, or return the cached compilation of a structurally equal one.
+   *
+   * @param expression An expression to compile.
+   *
+   * @return The compiled expression.
+   */
+  public @NonNull CompiledPredicate compile(@NonNull final Expression<?> expression) {
+    @Nullable CompiledPredicate result = _cache.get(expression);
+
+    if (result == null) {
+      result = new CompiledPredicate(expression, compileNode(expression), _placeholders);
+      _cache.put(expression, result);
+    }
+
+    return result;
+  }
+
+  private @NonNull Node compileNode(@NonNull final Expression<?> expression) {
+    _walker.setRoot(expression);
+    _walker.movesForward();
+    _nodes.clear();
+    _placeholders = 0;
+
+    while (!_walker.isAtEnd()) {
+      while (_walker.canEnter()) {
+        _walker.enter();
+      }
+
+      exit();
+    }
+
+    _walker.setRoot(null);
+
+    return _nodes.remove(0);
+  }
+
+  /**
+   * Let the compiler moves out of its current node and compile it.
+   */
+  private void exit() {
+    @NonNull final Expression<?> exited = _walker.exit();
+
+    if (exited instanceof Constant<?>) {
+      _nodes.add(compileConstant((Constant<?>) exited));
+    } else if (exited instanceof Variable<?>) {
+      _nodes.add(new VariableNode((Variable<?>) exited));
+    } else if (exited instanceof Placeholder<?>) {
+      _nodes.add(new PlaceholderNode(_placeholders++, exited.getResultType()));
+    } else if (exited instanceof UnaryOperation<?>) {
+      _nodes.add(compileUnaryOperation((UnaryOperation<?>) exited, popNodes(1)[0]));
+    } else if (
+        exited instanceof BinaryOperation<?> || exited instanceof SequentialOperation<?>
+    ) {
+      _nodes.add(compileOperation(
+          (Operation<?>) exited, popNodes(exited.getChildren().getSize())
+      ));
+    } else if (exited instanceof Range<?>) {
+      _nodes.add(compileRange(popNodes(3)));
+    } else if (exited instanceof Function<?>) {
+      _nodes.add(compileFunction((Function<?>) exited, popNodes(exited.getChildren().getSize())));
+    } else if (!(exited instanceof Identity<?>)) {
+      throw new IllegalArgumentException(
+          "Unable to compile the expression " + exited.toString() + " because its kind of " +
+              "expression is not handled by this compiler."
+      );
+    }
+  }
+
+  private @NonNull Node @NonNull [] popNodes(@NonNegative final int count) {
+    @NonNull final Node[] result = new Node[count];
+    @NonNegative final int first = _nodes.size() - count;
+
+    for (int index = 0; index < count; ++index) {
+      result[index] = _nodes.get(first + index);
+    }
+
+    for (int index = 0; index < count; ++index) {
+      _nodes.remove(_nodes.size() - 1);
+    }
+
+    return result;
+  }
+
+  private @NonNull Node compileConstant(@NonNull final Constant<?> constant) {
+    @Nullable final Object value = constant.getValue();
+    @NonNull final Kind kind = Node.kindOf(constant.getResultType());
+
+    if (kind == Kind.BOOLEAN) {
+      return new BooleanConstant(Node.truth(value));
+    } else if (value != null && kind == Kind.LONG) {
+      return new LongConstant(constant.getResultType(), ((Number) value).longValue());
+    } else if (value != null && kind == Kind.DOUBLE) {
+      return new DoubleConstant(constant.getResultType(), ((Number) value).doubleValue());
+    } else {
+      return new ObjectConstant(value);
+    }
+  }
+
+  private @NonNull Node compileUnaryOperation(
+      @NonNull final UnaryOperation<?> operation,
+      @NonNull final Node operand
+  ) {
+    @NonNull final Primitive<?> type = operation.getResultType();
+    @NonNull final Kind kind = Node.kindOf(type);
+
+    switch (operation.getOperator()) {
+      case NOT:
+      case NEGATION:
+        return new Negation(operand);
+      case PLUS:
+        return operand;
+      case MINUS:
+        if (kind == Kind.LONG && operand.getKind() == Kind.LONG) {
+          return new LongNegation(type, operand, false);
+        } else if (kind == Kind.DOUBLE && isNumeric(operand)) {
+          return new DoubleNegation(type, operand);
+        }
+        break;
+      case BITWISE_NOT:
+        if (kind == Kind.LONG && operand.getKind() == Kind.LONG) {
+          return new LongNegation(type, operand, true);
+        }
+        break;
+      default:
+        break;
+    }
+
+    return new GenericUnaryOperation(operation.getOperator(), type, operand);
+  }
+
+  private @NonNull Node compileOperation(
+      @NonNull final Operation<?> operation,
+      @NonNull final Node @NonNull [] operands
+  ) {
+    @NonNull final Operator operator = operation.getOperator();
+    @NonNull final Primitive<?> type = operation.getResultType();
+    @NonNull final Kind kind = Node.kindOf(type);
+
+    if (operands.length == 1 && operator != Operator.IN) {
+      return operands[0];
+    }
+
+    switch (operator) {
+      case AND:
+        return new Conjunction(operands);
+      case OR:
+        return new Disjunction(operands);
+      case ADDITION:
+      case SUBTRACTION:
+      case MULTIPLICATION:
+        if (kind == Kind.DOUBLE && areNumeric(operands)) {
+          return foldDoubleArithmetic(type, operator, operands);
+        }
+
+        if (kind == Kind.LONG && areIntegral(operands)) {
+          return foldLongArithmetic(type, operator, operands);
+        }
+        break;
+      case BITWISE_AND:
+      case BITWISE_OR:
+      case BITWISE_XOR:
+      case SHIFT_LEFT:
+      case SHIFT_RIGHT:
+        if (kind == Kind.LONG && areIntegral(operands)) {
+          return foldLongArithmetic(type, operator, operands);
+        }
+        break;
+      default:
+        if (Comparison.isComparison(operator) && operands.length == 2) {
+          if (areIntegral(operands)) {
+            return new LongComparison(operator, operands[0], operands[1]);
+          } else if (areNumeric(operands)) {
+            return new DoubleComparison(operator, operands[0], operands[1]);
+          }
+        }
+        break;
+    }
+
+    return new GenericOperation(operator, type, operands);
+  }
+
+  private @NonNull Node foldLongArithmetic(
+      @NonNull final Primitive<?> type,
+      @NonNull final Operator operator,
+      @NonNull final Node @NonNull [] operands
+  ) {
+    @NonNull Node result = operands[0];
+
+    for (int index = 1; index < operands.length; ++index) {
+      result = new LongArithmetic(type, operator, result, operands[index]);
+    }
+
+    return result;
+  }
+
+  private @NonNull Node foldDoubleArithmetic(
+      @NonNull final Primitive<?> type,
+      @NonNull final Operator operator,
+      @NonNull final Node @NonNull [] operands
+  ) {
+    @NonNull Node result = operands[0];
+
+    for (int index = 1; index < operands.length; ++index) {
+      result = new DoubleArithmetic(type, operator, result, operands[index]);
+    }
+
+    return result;
+  }
+
+  private @NonNull Node compileRange(@NonNull final Node @NonNull [] operands) {
+    if (areIntegral(operands)) {
+      return new LongRange(operands[0], operands[1], operands[2]);
+    } else if (areNumeric(operands)) {
+      return new DoubleRange(operands[0], operands[1], operands[2]);
+    } else {
+      return new GenericRange(operands[0], operands[1], operands[2]);
+    }
+  }
+
+  private @NonNull Node compileFunction(
+      @NonNull final Function<?> function,
+      @NonNull final Node @NonNull [] operands
+  ) {
+    @Nullable final FunctionImplementation implementation = _functions.get(function.getName());
+
+    if (implementation == null) {
+      throw new IllegalStateException(
+          "Unable to compile the function " + function.getName() + " because no " +
+              "implementation of this function was defined for this compiler."
+      );
+    }
+
+    return new FunctionNode(implementation, function.getResultType(), operands);
+  }
+
+  private static boolean isNumeric(@NonNull final Node node) {
+    return node.getKind() == Kind.LONG || node.getKind() == Kind.DOUBLE;
+  }
+
+  private static boolean areNumeric(@NonNull final Node @NonNull [] nodes) {
+    for (@NonNull final Node node : nodes) {
+      if (!isNumeric(node)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static boolean areIntegral(@NonNull final Node @NonNull [] nodes) {
+    for (@NonNull final Node node : nodes) {
+      if (node.getKind() != Kind.LONG) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Define the implementation of a function, this operation clears the cache of this compiler.
+   *
+   * @param name The name of the function to define.
+   * @param implementation The implementation of the function.
+   */
+  public void define(
+      @NonNull final String name,
+      @NonNull final FunctionImplementation implementation
+  ) {
+    _functions.put(name, implementation);
+    _cache.clear();
+  }
+
+  /**
+   * Remove all compiled predicates from the cache of this compiler.
+   */
+  public void clear() {
+    _cache.clear();
+  }
+
+  /**
+   * @return The number of compiled predicates into the cache of this compiler.
+   */
+  public @NonNegative int getCacheSize() {
+    return _cache.size();
+  }
+}
@@ -0,0 +1,236 @@
+package org.liara.expression.evaluation.compilation;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.data.primitive.Primitive;
+import org.liara.data.primitive.Primitives;
+import org.liara.expression.evaluation.Row;
+import org.liara.expression.evaluation.SQLSemantics;
+
+/**
+ * A compiled expression node.
+ *
+ * Each node can be evaluated in a generic, boxed, way but nodes that compute non-null numbers or
+ * truth values override the primitive-specialized evaluation methods in order to avoid any boxing.
+ */
+abstract class Node {
+  static final int FALSE = 0;
+
+  static final int TRUE = 1;
+
+  static final int UNKNOWN = 2;
+
+  /**
+   * The most specialized evaluation method supported by a node.
+   */
+  enum Kind {
+    /**
+     * The node computes non-null integral values, see {@link #evaluateLong(Row, Object[])}.
+     */
+    LONG,
+
+    /**
+     * The node computes non-null floating values, see {@link #evaluateDouble(Row, Object[])}.
+     */
+    DOUBLE,
+
+    /**
+     * The node computes truth values, see {@link #test(Row, Object[])}.
+     */
+    BOOLEAN,
+
+    /**
+     * The node computes any other kind of value, see {@link #evaluate(Row, Object[])}.
+     */
+    OBJECT
+  }
+
+  /**
+   * Return the kind of node that may compute a value of the given type.
+   *
+   * @param type A primitive type.
+   *
+   * @return The kind of node that may compute a value of the given type.
+   */
+  static @NonNull Kind kindOf(@NonNull final Primitive<?> type) {
+    if (type.equals(Primitives.BOOLEAN) || type.equals(Primitives.NULLABLE_BOOLEAN)) {
+      return Kind.BOOLEAN;
+    } else if (
+        type.equals(Primitives.LONG) || type.equals(Primitives.INTEGER) ||
+            type.equals(Primitives.SHORT) || type.equals(Primitives.BYTE)
+    ) {
+      return Kind.LONG;
+    } else if (type.equals(Primitives.DOUBLE) || type.equals(Primitives.FLOAT)) {
+      return Kind.DOUBLE;
+    } else {
+      return Kind.OBJECT;
+    }
+  }
+
+  /**
+   * Convert a value into a truth value.
+   *
+   * @param value A value to convert.
+   *
+   * @return TRUE, FALSE or UNKNOWN.
+   */
+  static int truth(@Nullable final Object value) {
+    @Nullable final Boolean result = SQLSemantics.toBoolean(value);
+    return result == null ? UNKNOWN : (result ? TRUE : FALSE);
+  }
+
+  /**
+   * @return The most specialized evaluation method supported by this node.
+   */
+  abstract @NonNull Kind getKind();
+
+  /**
+   * Compute the value of this node.
+   *
+   * @param row Values of each variable.
+   * @param parameters Values of each placeholder.
+   *
+   * @return The value of this node.
+   */
+  abstract @Nullable Object evaluate(
+      @NonNull final Row row,
+      @NonNull final Object[] parameters
+  );
+
+  /**
+   * Compute the truth value of this node.
+   *
+   * @param row Values of each variable.
+   * @param parameters Values of each placeholder.
+   *
+   * @return TRUE, FALSE or UNKNOWN.
+   */
+  int test(@NonNull final Row row, @NonNull final Object[] parameters) {
+    return truth(evaluate(row, parameters));
+  }
+
+  /**
+   * Compute the value of this node as a non-null integral value.
+   *
+   * @param row Values of each variable.
+   * @param parameters Values of each placeholder.
+   *
+   * @return The value of this node.
+   */
+  long evaluateLong(@NonNull final Row row, @NonNull final Object[] parameters) {
+    return ((Number) evaluate(row, parameters)).longValue();
+  }
+
+  /**
+   * Compute the value of this node as a non-null floating value.
+   *
+   * @param row Values of each variable.
+   * @param parameters Values of each placeholder.
+   *
+   * @return The value of this node.
+   */
+  double evaluateDouble(@NonNull final Row row, @NonNull final Object[] parameters) {
+    return ((Number) evaluate(row, parameters)).doubleValue();
+  }
+
+  /**
+   * Compute the truth value of this node for each selected row of a batch.
+   *
+   * @param context The state of the batch evaluation.
+   * @param selection Ascending indexes of the rows to evaluate.
+   * @param count Number of selected rows.
+   * @param output Truth values of each row, indexed by row.
+   */
+  void testBatch(
+      @NonNull final BatchContext context,
+      final int @NonNull [] selection,
+      @NonNegative final int count,
+      final byte @NonNull [] output
+  ) {
+    @NonNull final Object[] parameters = context.getParameters();
+
+    for (int index = 0; index < count; ++index) {
+      final int row = selection[index];
+      output[row] = (byte) test(context.getRow(row), parameters);
+    }
+  }
+
+  /**
+   * Compute the value of this node as a non-null integral value for each selected row of a batch.
+   *
+   * @param context The state of the batch evaluation.
+   * @param selection Ascending indexes of the rows to evaluate.
+   * @param count Number of selected rows.
+   * @param output Values of each row, indexed by row.
+   */
+  void evaluateLongBatch(
+      @NonNull final BatchContext context,
+      final int @NonNull [] selection,
+      @NonNegative final int count,
+      final long @NonNull [] output
+  ) {
+    @NonNull final Object[] parameters = context.getParameters();
+
+    for (int index = 0; index < count; ++index) {
+      final int row = selection[index];
+      output[row] = evaluateLong(context.getRow(row), parameters);
+    }
+  }
+
+  /**
+   * Compute the value of this node as a non-null floating value for each selected row of a batch.
+   *
+   * @param context The state of the batch evaluation.
+   * @param selection Ascending indexes of the rows to evaluate.
+   * @param count Number of selected rows.
+   * @param output Values of each row, indexed by row.
+   */
+  void evaluateDoubleBatch(
+      @NonNull final BatchContext context,
+      final int @NonNull [] selection,
+      @NonNegative final int count,
+      final double @NonNull [] output
+  ) {
+    @NonNull final Object[] parameters = context.getParameters();
+
+    for (int index = 0; index < count; ++index) {
+      final int row = selection[index];
+      output[row] = evaluateDouble(context.getRow(row), parameters);
+    }
+  }
+
+  /**
+   * Keep the selected rows of a batch for which this node is true.
+   *
+   * @param context The state of the batch evaluation.
+   * @param selection Ascending indexes of the rows to evaluate.
+   * @param count Number of selected rows.
+   * @param output Ascending indexes of the rows for which this node is true, may be the given
+   *     selection.
+   *
+   * @return The number of rows for which this node is true.
+   */
+  @NonNegative int selectBatch(
+      @NonNull final BatchContext context,
+      final int @NonNull [] selection,
+      @NonNegative final int count,
+      final int @NonNull [] output
+  ) {
+    final byte @NonNull [] truths = context.acquireTruths();
+    testBatch(context, selection, count, truths);
+
+    int result = 0;
+
+    for (int index = 0; index < count; ++index) {
+      final int row = selection[index];
+
+      if (truths[row] == TRUE) {
+        output[result++] = row;
+      }
+    }
+
+    context.release(truths);
+    return result;
+  }
+}
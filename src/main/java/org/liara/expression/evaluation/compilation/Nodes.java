@@ -0,0 +1,1410 @@
+package org.liara.expression.evaluation.compilation;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.data.primitive.Primitive;
+import org.liara.expression.Variable;
+import org.liara.expression.evaluation.FunctionImplementation;
+import org.liara.expression.evaluation.Row;
+import org.liara.expression.evaluation.SQLSemantics;
+import org.liara.expression.operation.Operator;
+import org.liara.support.view.primitive.ByteView;
+import org.liara.support.view.primitive.DoubleView;
+import org.liara.support.view.primitive.FloatView;
+import org.liara.support.view.primitive.IntegerView;
+import org.liara.support.view.primitive.LongView;
+import org.liara.support.view.primitive.ShortView;
+
+/**
+ * Implementations of each compiled expression node.
+ */
+final class Nodes {
+  /**
+   * A node that computes non-null integral values.
+   */
+  abstract static class LongNode extends Node {
+    @NonNull
+    private final Class<?> _type;
+
+    LongNode(@NonNull final Primitive<?> type) {
+      _type = type.getJavaClass();
+    }
+
+    /**
+     * Narrow a value as the given integral type would do.
+     *
+     * @param type An integral type.
+     * @param value A value to narrow.
+     *
+     * @return The narrowed value.
+     */
+    static long narrow(@NonNull final Class<?> type, final long value) {
+      if (type == Integer.class) {
+        return (int) value;
+      } else if (type == Short.class) {
+        return (short) value;
+      } else if (type == Byte.class) {
+        return (byte) value;
+      } else {
+        return value;
+      }
+    }
+
+    @Override
+    final @NonNull Kind getKind() {
+      return Kind.LONG;
+    }
+
+    @Override
+    final @Nullable Object evaluate(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return SQLSemantics.toResult(_type, evaluateLong(row, parameters));
+    }
+
+    @Override
+    final int test(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return evaluateLong(row, parameters) != 0 ? TRUE : FALSE;
+    }
+
+    @Override
+    abstract long evaluateLong(@NonNull final Row row, @NonNull final Object[] parameters);
+
+    @Override
+    final double evaluateDouble(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return evaluateLong(row, parameters);
+    }
+
+    @NonNull Class<?> getType() {
+      return _type;
+    }
+
+    @Override
+    final void testBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final byte @NonNull [] output
+    ) {
+      final long @NonNull [] values = context.acquireLongs();
+      evaluateLongBatch(context, selection, count, values);
+
+      for (int index = 0; index < count; ++index) {
+        final int row = selection[index];
+        output[row] = (byte) (values[row] != 0 ? TRUE : FALSE);
+      }
+
+      context.release(values);
+    }
+
+    @Override
+    final void evaluateDoubleBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final double @NonNull [] output
+    ) {
+      final long @NonNull [] values = context.acquireLongs();
+      evaluateLongBatch(context, selection, count, values);
+
+      for (int index = 0; index < count; ++index) {
+        final int row = selection[index];
+        output[row] = values[row];
+      }
+
+      context.release(values);
+    }
+
+    /**
+     * Narrow each selected value as the type of this node would do.
+     *
+     * @param selection Ascending indexes of the rows to narrow.
+     * @param count Number of selected rows.
+     * @param values Values to narrow, indexed by row.
+     */
+    final void narrowBatch(
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final long @NonNull [] values
+    ) {
+      if (_type != Long.class) {
+        for (int index = 0; index < count; ++index) {
+          final int row = selection[index];
+          values[row] = narrow(_type, values[row]);
+        }
+      }
+    }
+  }
+
+  /**
+   * A node that computes non-null floating values.
+   */
+  abstract static class DoubleNode extends Node {
+    @NonNull
+    private final Class<?> _type;
+
+    DoubleNode(@NonNull final Primitive<?> type) {
+      _type = type.getJavaClass();
+    }
+
+    @Override
+    final @NonNull Kind getKind() {
+      return Kind.DOUBLE;
+    }
+
+    @Override
+    final @Nullable Object evaluate(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return SQLSemantics.toResult(_type, evaluateDouble(row, parameters));
+    }
+
+    @Override
+    final int test(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return evaluateDouble(row, parameters) != 0 ? TRUE : FALSE;
+    }
+
+    @Override
+    final long evaluateLong(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return (long) evaluateDouble(row, parameters);
+    }
+
+    @Override
+    abstract double evaluateDouble(@NonNull final Row row, @NonNull final Object[] parameters);
+
+    @NonNull Class<?> getType() {
+      return _type;
+    }
+
+    @Override
+    final void testBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final byte @NonNull [] output
+    ) {
+      final double @NonNull [] values = context.acquireDoubles();
+      evaluateDoubleBatch(context, selection, count, values);
+
+      for (int index = 0; index < count; ++index) {
+        final int row = selection[index];
+        output[row] = (byte) (values[row] != 0 ? TRUE : FALSE);
+      }
+
+      context.release(values);
+    }
+  }
+
+  /**
+   * A node that computes truth values.
+   */
+  abstract static class BooleanNode extends Node {
+    @Override
+    final @NonNull Kind getKind() {
+      return Kind.BOOLEAN;
+    }
+
+    @Override
+    final @Nullable Object evaluate(@NonNull final Row row, @NonNull final Object[] parameters) {
+      final int result = test(row, parameters);
+      return result == UNKNOWN ? null : result == TRUE;
+    }
+
+    @Override
+    abstract int test(@NonNull final Row row, @NonNull final Object[] parameters);
+
+    @Override
+    final long evaluateLong(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return test(row, parameters) == TRUE ? 1 : 0;
+    }
+
+    @Override
+    final double evaluateDouble(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return evaluateLong(row, parameters);
+    }
+  }
+
+  static final class LongConstant extends LongNode {
+    private final long _value;
+
+    LongConstant(@NonNull final Primitive<?> type, final long value) {
+      super(type);
+      _value = value;
+    }
+
+    @Override
+    long evaluateLong(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return _value;
+    }
+
+    @Override
+    void evaluateLongBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final long @NonNull [] output
+    ) {
+      for (int index = 0; index < count; ++index) {
+        final int row = selection[index];
+        output[row] = _value;
+      }
+    }
+  }
+
+  static final class DoubleConstant extends DoubleNode {
+    private final double _value;
+
+    DoubleConstant(@NonNull final Primitive<?> type, final double value) {
+      super(type);
+      _value = value;
+    }
+
+    @Override
+    double evaluateDouble(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return _value;
+    }
+
+    @Override
+    void evaluateDoubleBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final double @NonNull [] output
+    ) {
+      for (int index = 0; index < count; ++index) {
+        final int row = selection[index];
+        output[row] = _value;
+      }
+    }
+  }
+
+  static final class BooleanConstant extends BooleanNode {
+    private final int _value;
+
+    BooleanConstant(final int value) {
+      _value = value;
+    }
+
+    @Override
+    int test(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return _value;
+    }
+
+    @Override
+    void testBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final byte @NonNull [] output
+    ) {
+      final byte value = (byte) _value;
+
+      for (int index = 0; index < count; ++index) {
+        final int row = selection[index];
+        output[row] = value;
+      }
+    }
+  }
+
+  static final class ObjectConstant extends Node {
+    @Nullable
+    private final Object _value;
+
+    ObjectConstant(@Nullable final Object value) {
+      _value = value;
+    }
+
+    @Override
+    @NonNull Kind getKind() {
+      return Kind.OBJECT;
+    }
+
+    @Override
+    @Nullable Object evaluate(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return _value;
+    }
+  }
+
+  /**
+   * A variable, resolved through the primitive accessors of a row when its type allows it.
+   */
+  static final class VariableNode extends Node {
+    @NonNull
+    private final Variable<?> _variable;
+
+    @NonNull
+    private final Kind _kind;
+
+    VariableNode(@NonNull final Variable<?> variable) {
+      _variable = variable;
+      _kind = kindOf(variable.getResultType());
+    }
+
+    @Override
+    @NonNull Kind getKind() {
+      return _kind;
+    }
+
+    @Override
+    @Nullable Object evaluate(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return row.getValue(_variable);
+    }
+
+    @Override
+    long evaluateLong(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return row.getLong(_variable);
+    }
+
+    @Override
+    double evaluateDouble(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return row.getDouble(_variable);
+    }
+
+    @Override
+    void evaluateLongBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final long @NonNull [] output
+    ) {
+      @Nullable final Object column = context.getBatch().getColumn(_variable);
+
+      if (column instanceof int[]) {
+        final int @NonNull [] values = (int[]) column;
+        for (int index = 0; index < count; ++index) {
+          final int row = selection[index];
+          output[row] = values[row];
+        }
+      } else if (column instanceof long[]) {
+        final long @NonNull [] values = (long[]) column;
+        for (int index = 0; index < count; ++index) {
+          final int row = selection[index];
+          output[row] = values[row];
+        }
+      } else if (column instanceof IntegerView) {
+        final @NonNull IntegerView values = (IntegerView) column;
+        for (int index = 0; index < count; ++index) {
+          final int row = selection[index];
+          output[row] = values.getInt(row);
+        }
+      } else if (column instanceof LongView) {
+        final @NonNull LongView values = (LongView) column;
+        for (int index = 0; index < count; ++index) {
+          final int row = selection[index];
+          output[row] = values.getLong(row);
+        }
+      } else if (column instanceof ShortView) {
+        final @NonNull ShortView values = (ShortView) column;
+        for (int index = 0; index < count; ++index) {
+          final int row = selection[index];
+          output[row] = values.getShort(row);
+        }
+      } else if (column instanceof ByteView) {
+        final @NonNull ByteView values = (ByteView) column;
+        for (int index = 0; index < count; ++index) {
+          final int row = selection[index];
+          output[row] = values.getByte(row);
+        }
+      } else {
+        super.evaluateLongBatch(context, selection, count, output);
+      }
+    }
+
+    @Override
+    void evaluateDoubleBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final double @NonNull [] output
+    ) {
+      @Nullable final Object column = context.getBatch().getColumn(_variable);
+
+      if (column instanceof double[]) {
+        final double @NonNull [] values = (double[]) column;
+        for (int index = 0; index < count; ++index) {
+          final int row = selection[index];
+          output[row] = values[row];
+        }
+      } else if (column instanceof int[]) {
+        final int @NonNull [] values = (int[]) column;
+        for (int index = 0; index < count; ++index) {
+          final int row = selection[index];
+          output[row] = values[row];
+        }
+      } else if (column instanceof long[]) {
+        final long @NonNull [] values = (long[]) column;
+        for (int index = 0; index < count; ++index) {
+          final int row = selection[index];
+          output[row] = values[row];
+        }
+      } else if (column instanceof DoubleView) {
+        final @NonNull DoubleView values = (DoubleView) column;
+        for (int index = 0; index < count; ++index) {
+          final int row = selection[index];
+          output[row] = values.getDouble(row);
+        }
+      } else if (column instanceof FloatView) {
+        final @NonNull FloatView values = (FloatView) column;
+        for (int index = 0; index < count; ++index) {
+          final int row = selection[index];
+          output[row] = values.getFloat(row);
+        }
+      } else if (column instanceof IntegerView) {
+        final @NonNull IntegerView values = (IntegerView) column;
+        for (int index = 0; index < count; ++index) {
+          final int row = selection[index];
+          output[row] = values.getInt(row);
+        }
+      } else if (column instanceof LongView) {
+        final @NonNull LongView values = (LongView) column;
+        for (int index = 0; index < count; ++index) {
+          final int row = selection[index];
+          output[row] = values.getLong(row);
+        }
+      } else {
+        super.evaluateDoubleBatch(context, selection, count, output);
+      }
+    }
+
+    @Override
+    void testBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final byte @NonNull [] output
+    ) {
+      @Nullable final Object column = context.getBatch().getColumn(_variable);
+
+      if (column instanceof boolean[]) {
+        final boolean @NonNull [] values = (boolean[]) column;
+        for (int index = 0; index < count; ++index) {
+          final int row = selection[index];
+          output[row] = (byte) (values[row] ? TRUE : FALSE);
+        }
+      } else {
+        super.testBatch(context, selection, count, output);
+      }
+    }
+  }
+
+  static final class PlaceholderNode extends Node {
+    private final int _index;
+
+    @NonNull
+    private final Kind _kind;
+
+    PlaceholderNode(final int index, @NonNull final Primitive<?> type) {
+      _index = index;
+      _kind = kindOf(type);
+    }
+
+    @Override
+    @NonNull Kind getKind() {
+      return _kind;
+    }
+
+    @Override
+    @Nullable Object evaluate(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return parameters[_index];
+    }
+  }
+
+  static final class LongArithmetic extends LongNode {
+    @NonNull
+    private final Operator _operator;
+
+    @NonNull
+    private final Node _left;
+
+    @NonNull
+    private final Node _right;
+
+    LongArithmetic(
+        @NonNull final Primitive<?> type,
+        @NonNull final Operator operator,
+        @NonNull final Node left,
+        @NonNull final Node right
+    ) {
+      super(type);
+      _operator = operator;
+      _left = left;
+      _right = right;
+    }
+
+    @Override
+    long evaluateLong(@NonNull final Row row, @NonNull final Object[] parameters) {
+      final long left = _left.evaluateLong(row, parameters);
+      final long right = _right.evaluateLong(row, parameters);
+
+      switch (_operator) {
+        case ADDITION:
+          return narrow(getType(), left + right);
+        case SUBTRACTION:
+          return narrow(getType(), left - right);
+        case MULTIPLICATION:
+          return narrow(getType(), left * right);
+        case BITWISE_AND:
+          return narrow(getType(), left & right);
+        case BITWISE_OR:
+          return narrow(getType(), left | right);
+        case BITWISE_XOR:
+          return narrow(getType(), left ^ right);
+        case SHIFT_LEFT:
+          return narrow(getType(), left << right);
+        default:
+          return narrow(getType(), left >> right);
+      }
+    }
+
+    @Override
+    void evaluateLongBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final long @NonNull [] output
+    ) {
+      _left.evaluateLongBatch(context, selection, count, output);
+
+      final long @NonNull [] right = context.acquireLongs();
+      _right.evaluateLongBatch(context, selection, count, right);
+
+      switch (_operator) {
+        case ADDITION:
+          for (int index = 0; index < count; ++index) {
+            final int row = selection[index];
+            output[row] += right[row];
+          }
+          break;
+        case SUBTRACTION:
+          for (int index = 0; index < count; ++index) {
+            final int row = selection[index];
+            output[row] -= right[row];
+          }
+          break;
+        case MULTIPLICATION:
+          for (int index = 0; index < count; ++index) {
+            final int row = selection[index];
+            output[row] *= right[row];
+          }
+          break;
+        case BITWISE_AND:
+          for (int index = 0; index < count; ++index) {
+            final int row = selection[index];
+            output[row] &= right[row];
+          }
+          break;
+        case BITWISE_OR:
+          for (int index = 0; index < count; ++index) {
+            final int row = selection[index];
+            output[row] |= right[row];
+          }
+          break;
+        case BITWISE_XOR:
+          for (int index = 0; index < count; ++index) {
+            final int row = selection[index];
+            output[row] ^= right[row];
+          }
+          break;
+        case SHIFT_LEFT:
+          for (int index = 0; index < count; ++index) {
+            final int row = selection[index];
+            output[row] <<= right[row];
+          }
+          break;
+        default:
+          for (int index = 0; index < count; ++index) {
+            final int row = selection[index];
+            output[row] >>= right[row];
+          }
+          break;
+      }
+
+      context.release(right);
+      narrowBatch(selection, count, output);
+    }
+  }
+
+  static final class DoubleArithmetic extends DoubleNode {
+    @NonNull
+    private final Operator _operator;
+
+    @NonNull
+    private final Node _left;
+
+    @NonNull
+    private final Node _right;
+
+    private final boolean _single;
+
+    DoubleArithmetic(
+        @NonNull final Primitive<?> type,
+        @NonNull final Operator operator,
+        @NonNull final Node left,
+        @NonNull final Node right
+    ) {
+      super(type);
+      _operator = operator;
+      _left = left;
+      _right = right;
+      _single = type.getJavaClass() == Float.class;
+    }
+
+    @Override
+    double evaluateDouble(@NonNull final Row row, @NonNull final Object[] parameters) {
+      final double left = _left.evaluateDouble(row, parameters);
+      final double right = _right.evaluateDouble(row, parameters);
+      final double result;
+
+      switch (_operator) {
+        case ADDITION:
+          result = left + right;
+          break;
+        case SUBTRACTION:
+          result = left - right;
+          break;
+        default:
+          result = left * right;
+          break;
+      }
+
+      return _single ? (float) result : result;
+    }
+
+    @Override
+    void evaluateDoubleBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final double @NonNull [] output
+    ) {
+      _left.evaluateDoubleBatch(context, selection, count, output);
+
+      final double @NonNull [] right = context.acquireDoubles();
+      _right.evaluateDoubleBatch(context, selection, count, right);
+
+      switch (_operator) {
+        case ADDITION:
+          for (int index = 0; index < count; ++index) {
+            final int row = selection[index];
+            output[row] += right[row];
+          }
+          break;
+        case SUBTRACTION:
+          for (int index = 0; index < count; ++index) {
+            final int row = selection[index];
+            output[row] -= right[row];
+          }
+          break;
+        default:
+          for (int index = 0; index < count; ++index) {
+            final int row = selection[index];
+            output[row] *= right[row];
+          }
+          break;
+      }
+
+      context.release(right);
+
+      if (_single) {
+        for (int index = 0; index < count; ++index) {
+          final int row = selection[index];
+          output[row] = (float) output[row];
+        }
+      }
+    }
+  }
+
+  static final class LongNegation extends LongNode {
+    @NonNull
+    private final Node _operand;
+
+    private final boolean _bitwise;
+
+    LongNegation(
+        @NonNull final Primitive<?> type,
+        @NonNull final Node operand,
+        final boolean bitwise
+    ) {
+      super(type);
+      _operand = operand;
+      _bitwise = bitwise;
+    }
+
+    @Override
+    long evaluateLong(@NonNull final Row row, @NonNull final Object[] parameters) {
+      final long operand = _operand.evaluateLong(row, parameters);
+      return narrow(getType(), _bitwise ? ~operand : -operand);
+    }
+
+    @Override
+    void evaluateLongBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final long @NonNull [] output
+    ) {
+      _operand.evaluateLongBatch(context, selection, count, output);
+
+      if (_bitwise) {
+        for (int index = 0; index < count; ++index) {
+          final int row = selection[index];
+          output[row] = ~output[row];
+        }
+      } else {
+        for (int index = 0; index < count; ++index) {
+          final int row = selection[index];
+          output[row] = -output[row];
+        }
+      }
+
+      narrowBatch(selection, count, output);
+    }
+  }
+
+  static final class DoubleNegation extends DoubleNode {
+    @NonNull
+    private final Node _operand;
+
+    DoubleNegation(@NonNull final Primitive<?> type, @NonNull final Node operand) {
+      super(type);
+      _operand = operand;
+    }
+
+    @Override
+    double evaluateDouble(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return -_operand.evaluateDouble(row, parameters);
+    }
+
+    @Override
+    void evaluateDoubleBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final double @NonNull [] output
+    ) {
+      _operand.evaluateDoubleBatch(context, selection, count, output);
+
+      for (int index = 0; index < count; ++index) {
+        final int row = selection[index];
+        output[row] = -output[row];
+      }
+    }
+  }
+
+  /**
+   * A comparison, described by the truth value to return for each possible result of a
+   * three-way comparison.
+   */
+  abstract static class Comparison extends BooleanNode {
+    private final int _less;
+
+    private final int _equal;
+
+    private final int _greater;
+
+    Comparison(@NonNull final Operator operator) {
+      _less = operator == Operator.LESS_THAN || operator == Operator.LESS_THAN_OR_EQUAL ||
+          operator == Operator.NOT_EQUAL ? TRUE : FALSE;
+      _equal = operator == Operator.EQUAL || operator == Operator.LESS_THAN_OR_EQUAL ||
+          operator == Operator.GREATER_THAN_OR_EQUAL ? TRUE : FALSE;
+      _greater = operator == Operator.GREATER_THAN || operator == Operator.GREATER_THAN_OR_EQUAL ||
+          operator == Operator.NOT_EQUAL ? TRUE : FALSE;
+    }
+
+    /**
+     * @param operator An operator.
+     *
+     * @return True if the given operator is a comparison that can be compiled into this node.
+     */
+    static boolean isComparison(@NonNull final Operator operator) {
+      switch (operator) {
+        case EQUAL:
+        case NOT_EQUAL:
+        case LESS_THAN:
+        case LESS_THAN_OR_EQUAL:
+        case GREATER_THAN:
+        case GREATER_THAN_OR_EQUAL:
+          return true;
+        default:
+          return false;
+      }
+    }
+
+    final int accept(final int comparison) {
+      return comparison < 0 ? _less : (comparison == 0 ? _equal : _greater);
+    }
+  }
+
+  static final class LongComparison extends Comparison {
+    @NonNull
+    private final Node _left;
+
+    @NonNull
+    private final Node _right;
+
+    LongComparison(
+        @NonNull final Operator operator,
+        @NonNull final Node left,
+        @NonNull final Node right
+    ) {
+      super(operator);
+      _left = left;
+      _right = right;
+    }
+
+    @Override
+    int test(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return accept(
+          Long.compare(_left.evaluateLong(row, parameters), _right.evaluateLong(row, parameters))
+      );
+    }
+
+    @Override
+    void testBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final byte @NonNull [] output
+    ) {
+      final long @NonNull [] left = context.acquireLongs();
+      final long @NonNull [] right = context.acquireLongs();
+      _left.evaluateLongBatch(context, selection, count, left);
+      _right.evaluateLongBatch(context, selection, count, right);
+
+      for (int index = 0; index < count; ++index) {
+        final int row = selection[index];
+        output[row] = (byte) accept(Long.compare(left[row], right[row]));
+      }
+
+      context.release(left);
+      context.release(right);
+    }
+  }
+
+  static final class DoubleComparison extends Comparison {
+    @NonNull
+    private final Node _left;
+
+    @NonNull
+    private final Node _right;
+
+    DoubleComparison(
+        @NonNull final Operator operator,
+        @NonNull final Node left,
+        @NonNull final Node right
+    ) {
+      super(operator);
+      _left = left;
+      _right = right;
+    }
+
+    @Override
+    int test(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return accept(Double.compare(
+          _left.evaluateDouble(row, parameters), _right.evaluateDouble(row, parameters)
+      ));
+    }
+
+    @Override
+    void testBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final byte @NonNull [] output
+    ) {
+      final double @NonNull [] left = context.acquireDoubles();
+      final double @NonNull [] right = context.acquireDoubles();
+      _left.evaluateDoubleBatch(context, selection, count, left);
+      _right.evaluateDoubleBatch(context, selection, count, right);
+
+      for (int index = 0; index < count; ++index) {
+        final int row = selection[index];
+        output[row] = (byte) accept(Double.compare(left[row], right[row]));
+      }
+
+      context.release(left);
+      context.release(right);
+    }
+  }
+
+  static final class LongRange extends BooleanNode {
+    @NonNull
+    private final Node _value;
+
+    @NonNull
+    private final Node _minimum;
+
+    @NonNull
+    private final Node _maximum;
+
+    LongRange(
+        @NonNull final Node value,
+        @NonNull final Node minimum,
+        @NonNull final Node maximum
+    ) {
+      _value = value;
+      _minimum = minimum;
+      _maximum = maximum;
+    }
+
+    @Override
+    int test(@NonNull final Row row, @NonNull final Object[] parameters) {
+      final long value = _value.evaluateLong(row, parameters);
+
+      return value >= _minimum.evaluateLong(row, parameters) &&
+          value <= _maximum.evaluateLong(row, parameters) ? TRUE : FALSE;
+    }
+
+    @Override
+    void testBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final byte @NonNull [] output
+    ) {
+      final long @NonNull [] values = context.acquireLongs();
+      final long @NonNull [] minimums = context.acquireLongs();
+      final long @NonNull [] maximums = context.acquireLongs();
+      _value.evaluateLongBatch(context, selection, count, values);
+      _minimum.evaluateLongBatch(context, selection, count, minimums);
+      _maximum.evaluateLongBatch(context, selection, count, maximums);
+
+      for (int index = 0; index < count; ++index) {
+        final int row = selection[index];
+        final long value = values[row];
+        output[row] = (byte) (value >= minimums[row] && value <= maximums[row] ? TRUE : FALSE);
+      }
+
+      context.release(values);
+      context.release(minimums);
+      context.release(maximums);
+    }
+  }
+
+  static final class DoubleRange extends BooleanNode {
+    @NonNull
+    private final Node _value;
+
+    @NonNull
+    private final Node _minimum;
+
+    @NonNull
+    private final Node _maximum;
+
+    DoubleRange(
+        @NonNull final Node value,
+        @NonNull final Node minimum,
+        @NonNull final Node maximum
+    ) {
+      _value = value;
+      _minimum = minimum;
+      _maximum = maximum;
+    }
+
+    @Override
+    int test(@NonNull final Row row, @NonNull final Object[] parameters) {
+      final double value = _value.evaluateDouble(row, parameters);
+
+      return Double.compare(value, _minimum.evaluateDouble(row, parameters)) >= 0 &&
+          Double.compare(value, _maximum.evaluateDouble(row, parameters)) <= 0 ? TRUE : FALSE;
+    }
+
+    @Override
+    void testBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final byte @NonNull [] output
+    ) {
+      final double @NonNull [] values = context.acquireDoubles();
+      final double @NonNull [] minimums = context.acquireDoubles();
+      final double @NonNull [] maximums = context.acquireDoubles();
+      _value.evaluateDoubleBatch(context, selection, count, values);
+      _minimum.evaluateDoubleBatch(context, selection, count, minimums);
+      _maximum.evaluateDoubleBatch(context, selection, count, maximums);
+
+      for (int index = 0; index < count; ++index) {
+        final int row = selection[index];
+        final double value = values[row];
+        output[row] = (byte) (
+            Double.compare(value, minimums[row]) >= 0 &&
+                Double.compare(value, maximums[row]) <= 0 ? TRUE : FALSE
+        );
+      }
+
+      context.release(values);
+      context.release(minimums);
+      context.release(maximums);
+    }
+  }
+
+  static final class Conjunction extends BooleanNode {
+    @NonNull
+    private final Node[] _operands;
+
+    Conjunction(@NonNull final Node[] operands) {
+      _operands = operands;
+    }
+
+    @Override
+    int test(@NonNull final Row row, @NonNull final Object[] parameters) {
+      int result = TRUE;
+
+      for (@NonNull final Node operand : _operands) {
+        final int value = operand.test(row, parameters);
+
+        if (value == FALSE) {
+          return FALSE;
+        } else if (value == UNKNOWN) {
+          result = UNKNOWN;
+        }
+      }
+
+      return result;
+    }
+
+    @Override
+    void testBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final byte @NonNull [] output
+    ) {
+      final int @NonNull [] remaining = context.acquireSelection();
+      final byte @NonNull [] truths = context.acquireTruths();
+      int remainingCount = count;
+
+      for (int index = 0; index < count; ++index) {
+        final int row = selection[index];
+        output[row] = TRUE;
+        remaining[index] = row;
+      }
+
+      for (int operand = 0; operand < _operands.length && remainingCount > 0; ++operand) {
+        _operands[operand].testBatch(context, remaining, remainingCount, truths);
+
+        int next = 0;
+
+        for (int index = 0; index < remainingCount; ++index) {
+          final int row = remaining[index];
+          final byte value = truths[row];
+
+          if (value == FALSE) {
+            output[row] = FALSE;
+          } else {
+            if (value == UNKNOWN) {
+              output[row] = UNKNOWN;
+            }
+
+            remaining[next++] = row;
+          }
+        }
+
+        remainingCount = next;
+      }
+
+      context.release(remaining);
+      context.release(truths);
+    }
+
+    @Override
+    @NonNegative int selectBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final int @NonNull [] output
+    ) {
+      @NonNegative int result = count;
+
+      for (int operand = 0; operand < _operands.length && result > 0; ++operand) {
+        result = _operands[operand].selectBatch(
+            context, operand == 0 ? selection : output, result, output
+        );
+      }
+
+      return result;
+    }
+  }
+
+  static final class Disjunction extends BooleanNode {
+    @NonNull
+    private final Node[] _operands;
+
+    Disjunction(@NonNull final Node[] operands) {
+      _operands = operands;
+    }
+
+    @Override
+    int test(@NonNull final Row row, @NonNull final Object[] parameters) {
+      int result = FALSE;
+
+      for (@NonNull final Node operand : _operands) {
+        final int value = operand.test(row, parameters);
+
+        if (value == TRUE) {
+          return TRUE;
+        } else if (value == UNKNOWN) {
+          result = UNKNOWN;
+        }
+      }
+
+      return result;
+    }
+
+    @Override
+    void testBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final byte @NonNull [] output
+    ) {
+      final int @NonNull [] remaining = context.acquireSelection();
+      final byte @NonNull [] truths = context.acquireTruths();
+      int remainingCount = count;
+
+      for (int index = 0; index < count; ++index) {
+        final int row = selection[index];
+        output[row] = FALSE;
+        remaining[index] = row;
+      }
+
+      for (int operand = 0; operand < _operands.length && remainingCount > 0; ++operand) {
+        _operands[operand].testBatch(context, remaining, remainingCount, truths);
+
+        int next = 0;
+
+        for (int index = 0; index < remainingCount; ++index) {
+          final int row = remaining[index];
+          final byte value = truths[row];
+
+          if (value == TRUE) {
+            output[row] = TRUE;
+          } else {
+            if (value == UNKNOWN) {
+              output[row] = UNKNOWN;
+            }
+
+            remaining[next++] = row;
+          }
+        }
+
+        remainingCount = next;
+      }
+
+      context.release(remaining);
+      context.release(truths);
+    }
+  }
+
+  static final class Negation extends BooleanNode {
+    @NonNull
+    private final Node _operand;
+
+    Negation(@NonNull final Node operand) {
+      _operand = operand;
+    }
+
+    @Override
+    int test(@NonNull final Row row, @NonNull final Object[] parameters) {
+      final int value = _operand.test(row, parameters);
+      return value == UNKNOWN ? UNKNOWN : TRUE - value;
+    }
+
+    @Override
+    void testBatch(
+        @NonNull final BatchContext context,
+        final int @NonNull [] selection,
+        @NonNegative final int count,
+        final byte @NonNull [] output
+    ) {
+      _operand.testBatch(context, selection, count, output);
+
+      for (int index = 0; index < count; ++index) {
+        final int row = selection[index];
+        final byte value = output[row];
+        output[row] = (byte) (value == UNKNOWN ? UNKNOWN : TRUE - value);
+      }
+    }
+  }
+
+  /**
+   * An unary operation evaluated with the generic semantics of each operator.
+   */
+  static final class GenericUnaryOperation extends Node {
+    @NonNull
+    private final Operator _operator;
+
+    @NonNull
+    private final Primitive<?> _type;
+
+    @NonNull
+    private final Node _operand;
+
+    GenericUnaryOperation(
+        @NonNull final Operator operator,
+        @NonNull final Primitive<?> type,
+        @NonNull final Node operand
+    ) {
+      _operator = operator;
+      _type = type;
+      _operand = operand;
+    }
+
+    @Override
+    @NonNull Kind getKind() {
+      return kindOf(_type) == Kind.BOOLEAN ? Kind.BOOLEAN : Kind.OBJECT;
+    }
+
+    @Override
+    @Nullable Object evaluate(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return SQLSemantics.apply(_operator, _type, _operand.evaluate(row, parameters));
+    }
+  }
+
+  /**
+   * An operation evaluated with the generic semantics of each operator.
+   */
+  static final class GenericOperation extends Node {
+    @NonNull
+    private final Operator _operator;
+
+    @NonNull
+    private final Primitive<?> _type;
+
+    @NonNull
+    private final Node[] _operands;
+
+    GenericOperation(
+        @NonNull final Operator operator,
+        @NonNull final Primitive<?> type,
+        @NonNull final Node[] operands
+    ) {
+      _operator = operator;
+      _type = type;
+      _operands = operands;
+    }
+
+    @Override
+    @NonNull Kind getKind() {
+      return kindOf(_type) == Kind.BOOLEAN ? Kind.BOOLEAN : Kind.OBJECT;
+    }
+
+    @Override
+    @Nullable Object evaluate(@NonNull final Row row, @NonNull final Object[] parameters) {
+      if (_operator == Operator.IN) {
+        return in(row, parameters);
+      }
+
+      if (_operator == Operator.BETWEEN && _operands.length == 3) {
+        return SQLSemantics.between(
+            _operands[0].evaluate(row, parameters),
+            _operands[1].evaluate(row, parameters),
+            _operands[2].evaluate(row, parameters)
+        );
+      }
+
+      @Nullable Object result = _operands[0].evaluate(row, parameters);
+
+      for (int index = 1; index < _operands.length; ++index) {
+        result = SQLSemantics.apply(
+            _operator, _type, result, _operands[index].evaluate(row, parameters)
+        );
+      }
+
+      return result;
+    }
+
+    private @Nullable Boolean in(@NonNull final Row row, @NonNull final Object[] parameters) {
+      @Nullable final Object value = _operands[0].evaluate(row, parameters);
+
+      if (value == null) {
+        return null;
+      }
+
+      boolean unknown = false;
+
+      for (int index = 1; index < _operands.length; ++index) {
+        @Nullable final Boolean equality = SQLSemantics.equal(
+            value, _operands[index].evaluate(row, parameters)
+        );
+
+        if (equality == null) {
+          unknown = true;
+        } else if (equality) {
+          return true;
+        }
+      }
+
+      return unknown ? null : false;
+    }
+  }
+
+  static final class GenericRange extends Node {
+    @NonNull
+    private final Node _value;
+
+    @NonNull
+    private final Node _minimum;
+
+    @NonNull
+    private final Node _maximum;
+
+    GenericRange(
+        @NonNull final Node value,
+        @NonNull final Node minimum,
+        @NonNull final Node maximum
+    ) {
+      _value = value;
+      _minimum = minimum;
+      _maximum = maximum;
+    }
+
+    @Override
+    @NonNull Kind getKind() {
+      return Kind.BOOLEAN;
+    }
+
+    @Override
+    @Nullable Object evaluate(@NonNull final Row row, @NonNull final Object[] parameters) {
+      return SQLSemantics.between(
+          _value.evaluate(row, parameters),
+          _minimum.evaluate(row, parameters),
+          _maximum.evaluate(row, parameters)
+      );
+    }
+  }
+
+  static final class FunctionNode extends Node {
+    @NonNull
+    private final FunctionImplementation _implementation;
+
+    @NonNull
+    private final Primitive<?> _type;
+
+    @NonNull
+    private final Node[] _operands;
+
+    FunctionNode(
+        @NonNull final FunctionImplementation implementation,
+        @NonNull final Primitive<?> type,
+        @NonNull final Node[] operands
+    ) {
+      _implementation = implementation;
+      _type = type;
+      _operands = operands;
+    }
+
+    @Override
+    @NonNull Kind getKind() {
+      return kindOf(_type) == Kind.BOOLEAN ? Kind.BOOLEAN : Kind.OBJECT;
+    }
+
+    @Override
+    @Nullable Object evaluate(@NonNull final Row row, @NonNull final Object[] parameters) {
+      @NonNull final Object[] values = new Object[_operands.length];
+
+      for (int index = 0; index < _operands.length; ++index) {
+        values[index] = _operands[index].evaluate(row, parameters);
+      }
+
+      return _implementation.apply(values);
+    }
+  }
+}
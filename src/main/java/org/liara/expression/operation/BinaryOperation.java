@@ -19,6 +19,11 @@ public final class BinaryOperation<Result> implements Operation<Result> {
   @NonNull
   private final Primitive<Result> _type;
 
+  /**
+   * Lazily computed hash code of this expression, 0 if not computed yet.
+   */
+  private int _hashCode;
+
   public BinaryOperation (
       @NonNull final Primitive<Result> type,
       @NonNull final Operator operator,
@@ -92,6 +97,10 @@ public final class BinaryOperation<Result> implements Operation<Result> {
     if (other instanceof BinaryOperation) {
       @NonNull final BinaryOperation otherBinaryOperation = (BinaryOperation) other;
 
+      if (hashCode() != otherBinaryOperation.hashCode()) {
+        return false;
+      }
+
       return Objects.equals(
           _operands,
           otherBinaryOperation.getChildren()
@@ -112,7 +121,11 @@ public final class BinaryOperation<Result> implements Operation<Result> {
    */
   @Override
   public int hashCode() {
-    return Objects.hash(_operands, _operator, _type);
+    if (_hashCode == 0) {
+      _hashCode = Objects.hash(_operands, _operator, _type);
+    }
+
+    return _hashCode;
   }
 
   /**
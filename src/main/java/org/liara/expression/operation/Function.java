@@ -26,6 +26,11 @@ public final class Function<Result> implements Expression<Result> {
   @NonNull
   private final View<@NonNull ? extends Expression<?>> _operands;
 
+  /**
+   * Lazily computed hash code of this expression, 0 if not computed yet.
+   */
+  private int _hashCode;
+
   public Function (
       @NonNull final Primitive<Result> type,
       @NonNull final String name,
@@ -102,6 +107,10 @@ public final class Function<Result> implements Expression<Result> {
     if (other instanceof Function) {
       @NonNull final  Function<?> otherFunction = (Function<?>) other;
 
+      if (hashCode() != otherFunction.hashCode()) {
+        return false;
+      }
+
       return Objects.equals(
           _name, otherFunction.getName()
       ) && Objects.equals(
@@ -116,7 +125,11 @@ public final class Function<Result> implements Expression<Result> {
 
   @Override
   public int hashCode() {
-    return Objects.hash(_name, _type, _operands);
+    if (_hashCode == 0) {
+      _hashCode = Objects.hash(_name, _type, _operands);
+    }
+
+    return _hashCode;
   }
 
   /**
@@ -25,6 +25,11 @@ public final class Range<Type extends Comparable<? super Type>> implements Expre
   @NonNull
   private final View<? extends Expression<?>> _children;
 
+  /**
+   * Lazily computed hash code of this expression, 0 if not computed yet.
+   */
+  private int _hashCode;
+
   public Range(
       @NonNull final Expression<Type> value,
       @NonNull final Expression<Type> minimum,
@@ -89,6 +94,10 @@ public final class Range<Type extends Comparable<? super Type>> implements Expre
     if (other instanceof Range) {
       @NonNull final Range otherRange = (Range) other;
 
+      if (hashCode() != otherRange.hashCode()) {
+        return false;
+      }
+
       return Objects.equals(
           _children,
           otherRange.getChildren()
@@ -103,7 +112,11 @@ public final class Range<Type extends Comparable<? super Type>> implements Expre
    */
   @Override
   public int hashCode() {
-    return Objects.hash(_children);
+    if (_hashCode == 0) {
+      _hashCode = Objects.hash(_children);
+    }
+
+    return _hashCode;
   }
 
   /**
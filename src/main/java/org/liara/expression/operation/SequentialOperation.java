@@ -24,6 +24,11 @@ public final class SequentialOperation<Result> implements Operation<Result> {
   @NonNull
   private final Primitive<Result> _type;
 
+  /**
+   * Lazily computed hash code of this expression, 0 if not computed yet.
+   */
+  private int _hashCode;
+
   public SequentialOperation(
       @NonNull final Primitive<Result> type,
       @NonNull final Operator operator,
@@ -102,6 +107,10 @@ public final class SequentialOperation<Result> implements Operation<Result> {
     if (other instanceof SequentialOperation) {
       @NonNull final SequentialOperation otherOperation = (SequentialOperation) other;
 
+      if (hashCode() != otherOperation.hashCode()) {
+        return false;
+      }
+
       return Objects.equals(
           _operands,
           otherOperation.getChildren()
@@ -122,7 +131,11 @@ public final class SequentialOperation<Result> implements Operation<Result> {
    */
   @Override
   public int hashCode() {
-    return Objects.hash(_operands, _operator, _type);
+    if (_hashCode == 0) {
+      _hashCode = Objects.hash(_operands, _operator, _type);
+    }
+
+    return _hashCode;
   }
 
   /**
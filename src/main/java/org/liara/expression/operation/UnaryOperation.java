@@ -17,6 +17,11 @@ public final class UnaryOperation<Result> implements Operation<Result> {
   @NonNull
   private final Primitive<Result> _type;
 
+  /**
+   * Lazily computed hash code of this expression, 0 if not computed yet.
+   */
+  private int _hashCode;
+
   public UnaryOperation(
       @NonNull final Primitive<Result> type,
       @NonNull final Operator operator,
@@ -68,6 +73,10 @@ public final class UnaryOperation<Result> implements Operation<Result> {
     if (other instanceof UnaryOperation) {
       @NonNull final UnaryOperation otherUnaryOperation = (UnaryOperation) other;
 
+      if (hashCode() != otherUnaryOperation.hashCode()) {
+        return false;
+      }
+
       return Objects.equals(
           _operands,
           otherUnaryOperation.getChildren()
@@ -88,7 +97,11 @@ public final class UnaryOperation<Result> implements Operation<Result> {
    */
   @Override
   public int hashCode() {
-    return Objects.hash(_operands, _operator, _type);
+    if (_hashCode == 0) {
+      _hashCode = Objects.hash(_operands, _operator, _type);
+    }
+
+    return _hashCode;
   }
 
   /**
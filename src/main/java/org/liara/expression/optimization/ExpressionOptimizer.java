@@ -0,0 +1,529 @@
+package org.liara.expression.optimization;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.data.primitive.NullablePrimitive;
+import org.liara.data.primitive.Primitive;
+import org.liara.expression.Constant;
+import org.liara.expression.Expression;
+import org.liara.expression.Identity;
+import org.liara.expression.evaluation.ExpressionEvaluator;
+import org.liara.expression.evaluation.Row;
+import org.liara.expression.operation.BinaryOperation;
+import org.liara.expression.operation.Function;
+import org.liara.expression.operation.Operation;
+import org.liara.expression.operation.Operator;
+import org.liara.expression.operation.Range;
+import org.liara.expression.operation.SequentialOperation;
+import org.liara.expression.operation.UnaryOperation;
+import org.liara.support.tree.TreeWalker;
+import org.liara.support.view.View;
+
+/**
+ * A pass that rewrites an expression into a simpler equivalent one.
+ *
+ * The optimizer removes identity expressions, folds each operation over constants, flattens nested
+ * sequential operations of the same associative operator, removes neutral operands and simplifies
+ * negations. Rewritten expressions are new immutable trees that share each unchanged subtree with
+ * the original expression. Constants are folded with the same semantics as the in-memory
+ * evaluator, so an optimized expression evaluates to the same value as the original one for each
+ * row. Only operations that have the same result in each SQL dialect are folded, operations that
+ * depend on the collation or on the arithmetic of the database, like string comparisons, pattern
+ * matching, divisions and bitwise operations, are left to the database unless they propagate a null
+ * operand.
+ */
+public class ExpressionOptimizer {
+  @NonNull
+  private static final Row EMPTY_ROW = (variable) -> null;
+
+  @NonNull
+  private final TreeWalker<Expression> _walker;
+
+  @NonNull
+  private final List<@NonNull Expression<?>> _results;
+
+  @NonNull
+  private final ExpressionEvaluator _evaluator;
+
+  /**
+   * Instantiate a new optimizer.
+   */
+  public ExpressionOptimizer() {
+    _walker = new TreeWalker<>(Expression.class);
+    _results = new ArrayList<>();
+    _evaluator = new ExpressionEvaluator();
+  }
+
+  /**
+   * Rewrite the given expression into a simpler equivalent one.
+   *
+   * @param expression An expression to optimize.
+   * @param <Result> Type of the result of the expression.
+   *
+   * @return The optimized expression, or the given expression if it can't be simplified.
+   */
+  @SuppressWarnings("unchecked")
+  public <Result> @NonNull Expression<Result> optimize(
+      @NonNull final Expression<Result> expression
+  ) {
+    _results.clear();
+    _walker.setRoot(expression);
+    _walker.moveToStart();
+
+    while (!_walker.isAtEnd()) {
+      while (_walker.canEnter()) {
+        _walker.enter();
+      }
+
+      exit();
+    }
+
+    _walker.setRoot(null);
+
+    return (Expression<Result>) _results.remove(0);
+  }
+
+  /**
+   * Let the optimizer moves out of its current node and rewrite it.
+   */
+  private void exit() {
+    @NonNull final Expression<?> exited = _walker.exit();
+    @NonNegative final int first = _results.size() - exited.getChildren().getSize();
+    @NonNull final List<@NonNull Expression<?>> children = _results.subList(
+        first, _results.size()
+    );
+    @NonNull final Expression<?> result;
+
+    if (exited instanceof Identity<?>) {
+      result = children.get(0);
+    } else if (exited instanceof UnaryOperation<?>) {
+      result = exitUnaryOperation((UnaryOperation<?>) exited, children);
+    } else if (exited instanceof BinaryOperation<?>) {
+      result = exitBinaryOperation((BinaryOperation<?>) exited, children);
+    } else if (exited instanceof SequentialOperation<?>) {
+      result = exitSequentialOperation((SequentialOperation<?>) exited, children);
+    } else if (exited instanceof Range<?>) {
+      result = exitRange((Range<?>) exited, children);
+    } else if (exited instanceof Function<?>) {
+      result = isChanged(exited, children) ? new Function<>(
+          exited.getResultType(), ((Function<?>) exited).getName(), children
+      ) : exited;
+    } else {
+      result = exited;
+    }
+
+    children.clear();
+    _results.add(result);
+  }
+
+  private @NonNull Expression<?> exitUnaryOperation(
+      @NonNull final UnaryOperation<?> operation,
+      @NonNull final List<@NonNull Expression<?>> children
+  ) {
+    @NonNull final Expression<?> operand = children.get(0);
+    @NonNull final Operator operator = operation.getOperator();
+    @NonNull final Expression<?> result = isChanged(operation, children) ? new UnaryOperation<>(
+        operation.getResultType(), operator, operand
+    ) : operation;
+
+    if (operand instanceof Constant<?>) {
+      return fold(result);
+    }
+
+    if (operator == Operator.PLUS && operand.getResultType().equals(operation.getResultType())) {
+      return operand;
+    }
+
+    if ((operator == Operator.NOT || operator == Operator.NEGATION) && isBoolean(operand)) {
+      if (operand instanceof UnaryOperation<?>) {
+        @NonNull final UnaryOperation<?> negated = (UnaryOperation<?>) operand;
+
+        if (
+            (negated.getOperator() == Operator.NOT || negated.getOperator() == Operator.NEGATION) &&
+                isBoolean(negated.getOperand())
+        ) {
+          return negated.getOperand();
+        }
+      }
+
+      if (operand instanceof BinaryOperation<?>) {
+        @NonNull final BinaryOperation<?> comparison = (BinaryOperation<?>) operand;
+        @Nullable final Operator inverse = invert(comparison.getOperator());
+
+        if (inverse != null) {
+          return new BinaryOperation<>(
+              comparison.getResultType(),
+              inverse,
+              comparison.getLeftOperand(),
+              comparison.getRightOperand()
+          );
+        }
+      }
+    }
+
+    return result;
+  }
+
+  private @NonNull Expression<?> exitBinaryOperation(
+      @NonNull final BinaryOperation<?> operation,
+      @NonNull final List<@NonNull Expression<?>> children
+  ) {
+    @NonNull final Expression<?> result = isChanged(operation, children) ? new BinaryOperation<>(
+        operation.getResultType(), operation.getOperator(), children
+    ) : operation;
+
+    return areConstants(children) ? fold(result) : result;
+  }
+
+  @SuppressWarnings("unchecked")
+  private @NonNull Expression<?> exitSequentialOperation(
+      @NonNull final SequentialOperation<?> operation,
+      @NonNull final List<@NonNull Expression<?>> children
+  ) {
+    @NonNull final Operator operator = operation.getOperator();
+    @NonNull final Primitive<?> type = operation.getResultType();
+
+    if (areConstants(children)) {
+      return fold(
+          isChanged(operation, children) ? new SequentialOperation<>(type, operator, children)
+                                         : operation
+      );
+    }
+
+    if (!isAssociative(operator, type)) {
+      return isChanged(operation, children) ? new SequentialOperation<>(
+          type, operator, children
+      ) : operation;
+    }
+
+    @Nullable final Object neutral = getNeutral(operator, type);
+    @Nullable final Object absorbing = getAbsorbing(operator);
+    @NonNull final List<@NonNull Expression<?>> operands = new ArrayList<>(children.size());
+
+    for (@NonNull final Expression<?> child : children) {
+      if (
+          child instanceof SequentialOperation<?> &&
+              ((SequentialOperation<?>) child).getOperator() == operator &&
+              child.getResultType().equals(type)
+      ) {
+        for (int index = 0, size = child.getChildren().getSize(); index < size; ++index) {
+          operands.add(child.getChildren().get(index));
+        }
+      } else {
+        operands.add(child);
+      }
+    }
+
+    for (int index = 0; index < operands.size(); ) {
+      @Nullable final Object value = getConstantValue(operands.get(index));
+
+      if (absorbing != null && absorbing.equals(value)) {
+        return new Constant<>((Primitive<Object>) type, absorbing);
+      } else if (neutral != null && neutral.equals(value)) {
+        operands.remove(index);
+      } else {
+        ++index;
+      }
+    }
+
+    if (operands.isEmpty()) {
+      return new Constant<>((Primitive<Object>) type, neutral);
+    }
+
+    if (operands.size() == 1 && isCollapsible(operator, type, operands.get(0))) {
+      return operands.get(0);
+    }
+
+    if (operands.size() < 2 || operands.equals(children)) {
+      return isChanged(operation, children) ? new SequentialOperation<>(
+          type, operator, children
+      ) : operation;
+    }
+
+    return new SequentialOperation<>(type, operator, operands);
+  }
+
+  @SuppressWarnings("unchecked")
+  private @NonNull Expression<?> exitRange(
+      @NonNull final Range<?> range,
+      @NonNull final List<@NonNull Expression<?>> children
+  ) {
+    @NonNull final Expression<?> result = isChanged(range, children) ? new Range<>(
+        (Expression<Comparable<Object>>) children.get(0),
+        (Expression<Comparable<Object>>) children.get(1),
+        (Expression<Comparable<Object>>) children.get(2)
+    ) : range;
+
+    return areConstants(children) ? fold(result) : result;
+  }
+
+  /**
+   * Replace an expression over constants by the result of its evaluation.
+   *
+   * @param expression An expression that does not depend on any variable or placeholder.
+   *
+   * @return A constant equal to the result of the evaluation of the given expression, or the given
+   * expression if its result can't be represented by a constant of the same type.
+   */
+  @SuppressWarnings("unchecked")
+  private @NonNull Expression<?> fold(@NonNull final Expression<?> expression) {
+    @NonNull final Primitive<?> type = expression.getResultType();
+    @Nullable final Object value;
+
+    if (!isFoldable(expression)) {
+      return expression;
+    }
+
+    _evaluator.setExpression(expression);
+
+    try {
+      value = _evaluator.evaluate(EMPTY_ROW);
+    } catch (@NonNull final RuntimeException exception) {
+      return expression;
+    } finally {
+      _evaluator.setExpression(null);
+    }
+
+    if (value == null ? type instanceof NullablePrimitive : type.getJavaClass().isInstance(value)) {
+      return new Constant<>((Primitive<Object>) type, value);
+    } else {
+      return expression;
+    }
+  }
+
+  /**
+   * An operation over constants is folded only if its result does not depend on the SQL dialect.
+   * Comparisons are folded over numbers and booleans but not over strings or dates because the
+   * collation of the database may differ from the natural order of their Java values.
+   *
+   * @param expression An expression over constants.
+   *
+   * @return True if the given expression has the same result in each SQL dialect.
+   */
+  private static boolean isFoldable(@NonNull final Expression<?> expression) {
+    @NonNull final View<? extends Expression<?>> operands = expression.getChildren();
+
+    if (expression instanceof Range<?>) {
+      return hasNullOperand(operands) || areNumbersOrBooleans(operands);
+    }
+
+    if (!(expression instanceof Operation<?>)) {
+      return false;
+    }
+
+    switch (((Operation<?>) expression).getOperator()) {
+      case NOT:
+      case NEGATION:
+      case AND:
+      case OR:
+      case XOR:
+        return true;
+      case PLUS:
+      case MINUS:
+      case ADDITION:
+      case SUBTRACTION:
+      case MULTIPLICATION:
+      case EQUAL:
+      case NOT_EQUAL:
+      case GREATER_THAN:
+      case GREATER_THAN_OR_EQUAL:
+      case LESS_THAN:
+      case LESS_THAN_OR_EQUAL:
+      case IS:
+        return hasNullOperand(operands) || areNumbersOrBooleans(operands);
+      case DIVISION:
+      case MODULUS:
+      case LIKE:
+      case REGEXP:
+      case BITWISE_NOT:
+      case BITWISE_AND:
+      case BITWISE_OR:
+      case BITWISE_XOR:
+      case SHIFT_LEFT:
+      case SHIFT_RIGHT:
+        return hasNullOperand(operands);
+      default:
+        return false;
+    }
+  }
+
+  private static boolean hasNullOperand(
+      @NonNull final View<? extends Expression<?>> operands
+  ) {
+    for (int index = 0, size = operands.getSize(); index < size; ++index) {
+      @NonNull final Expression<?> operand = operands.get(index);
+
+      if (operand instanceof Constant<?> && ((Constant<?>) operand).getValue() == null) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private static boolean areNumbersOrBooleans(
+      @NonNull final View<? extends Expression<?>> operands
+  ) {
+    for (int index = 0, size = operands.getSize(); index < size; ++index) {
+      @NonNull final Class<?> javaClass = operands.get(index).getResultType().getJavaClass();
+
+      if (!Number.class.isAssignableFrom(javaClass) && javaClass != Boolean.class) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static boolean isChanged(
+      @NonNull final Expression<?> expression,
+      @NonNull final List<@NonNull Expression<?>> children
+  ) {
+    @NonNull final View<? extends Expression<?>> original = expression.getChildren();
+
+    for (int index = 0, size = children.size(); index < size; ++index) {
+      if (original.get(index) != children.get(index)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private static boolean areConstants(@NonNull final List<@NonNull Expression<?>> expressions) {
+    for (@NonNull final Expression<?> expression : expressions) {
+      if (!(expression instanceof Constant<?>)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static @Nullable Object getConstantValue(@NonNull final Expression<?> expression) {
+    return expression instanceof Constant<?> ? ((Constant<?>) expression).getValue() : null;
+  }
+
+  private static boolean isBoolean(@NonNull final Expression<?> expression) {
+    return expression.getResultType().getJavaClass() == Boolean.class;
+  }
+
+  private static boolean isIntegral(@NonNull final Primitive<?> type) {
+    @NonNull final Class<?> javaClass = type.getJavaClass();
+
+    return javaClass == Long.class || javaClass == Integer.class || javaClass == Short.class ||
+        javaClass == Byte.class;
+  }
+
+  /**
+   * Floating operations are not associative, so only integral and boolean operations are
+   * flattened.
+   */
+  private static boolean isAssociative(
+      @NonNull final Operator operator,
+      @NonNull final Primitive<?> type
+  ) {
+    switch (operator) {
+      case AND:
+      case OR:
+      case XOR:
+        return true;
+      case ADDITION:
+      case MULTIPLICATION:
+      case BITWISE_AND:
+      case BITWISE_OR:
+      case BITWISE_XOR:
+        return isIntegral(type);
+      default:
+        return false;
+    }
+  }
+
+  private static @Nullable Object getNeutral(
+      @NonNull final Operator operator,
+      @NonNull final Primitive<?> type
+  ) {
+    switch (operator) {
+      case AND:
+        return Boolean.TRUE;
+      case OR:
+      case XOR:
+        return Boolean.FALSE;
+      case ADDITION:
+      case BITWISE_OR:
+      case BITWISE_XOR:
+        return cast(type, 0);
+      case MULTIPLICATION:
+        return cast(type, 1);
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable Object getAbsorbing(@NonNull final Operator operator) {
+    switch (operator) {
+      case AND:
+        return Boolean.FALSE;
+      case OR:
+        return Boolean.TRUE;
+      default:
+        return null;
+    }
+  }
+
+  private static @NonNull Number cast(@NonNull final Primitive<?> type, final int value) {
+    @NonNull final Class<?> javaClass = type.getJavaClass();
+
+    if (javaClass == Long.class) {
+      return (long) value;
+    } else if (javaClass == Short.class) {
+      return (short) value;
+    } else if (javaClass == Byte.class) {
+      return (byte) value;
+    } else {
+      return value;
+    }
+  }
+
+  /**
+   * A single remaining operand replaces its operation only if its value is the value of the
+   * operation, boolean operators convert their operand into a truth value and arithmetic ones
+   * narrow it to their type.
+   */
+  private static boolean isCollapsible(
+      @NonNull final Operator operator,
+      @NonNull final Primitive<?> type,
+      @NonNull final Expression<?> operand
+  ) {
+    switch (operator) {
+      case AND:
+      case OR:
+      case XOR:
+        return isBoolean(operand);
+      default:
+        return operand.getResultType().getJavaClass() == type.getJavaClass();
+    }
+  }
+
+  private static @Nullable Operator invert(@NonNull final Operator operator) {
+    switch (operator) {
+      case EQUAL:
+        return Operator.NOT_EQUAL;
+      case NOT_EQUAL:
+        return Operator.EQUAL;
+      case GREATER_THAN:
+        return Operator.LESS_THAN_OR_EQUAL;
+      case GREATER_THAN_OR_EQUAL:
+        return Operator.LESS_THAN;
+      case LESS_THAN:
+        return Operator.GREATER_THAN_OR_EQUAL;
+      case LESS_THAN_OR_EQUAL:
+        return Operator.GREATER_THAN;
+      default:
+        return null;
+    }
+  }
+}
@@ -2,13 +2,12 @@ package org.liara.expression.sql;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import org.apache.commons.text.StringEscapeUtils;
+import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.liara.expression.Constant;
@@ -25,59 +24,70 @@ import org.liara.expression.operation.UnaryOperation;
 import org.liara.support.tree.TreeWalker;
 
 public class ExpressionToSQLCompiler {
-
   @NonNull
-  private final static String EMPTY_STRING = "";
+  private final static String NULL = "NULL";
+
+  /**
+   * Ordinals of the operators of the expressions that the compiler is in.
+   */
+  private int @NonNull [] _operators;
+
+  @NonNegative
+  private int _operatorsSize;
 
   @NonNull
-  private static final List<@NonNull String> SYMBOLS;
+  private final List<@NonNull Expression<?>> _parameters;
 
-  static {
-    SYMBOLS = new ArrayList<>(Operator.values().length);
+  @NonNull
+  private final List<@NonNull Expression<?>> _readonlyParameters;
 
-    for (int index = 0; index < Operator.values().length; ++index) {
-      SYMBOLS.add(EMPTY_STRING);
-    }
+  @NonNull
+  private final TreeWalker<Expression> _walker;
 
-    SYMBOLS.set(Operator.BITWISE_XOR.ordinal(), "^");
-    SYMBOLS.set(Operator.MULTIPLICATION.ordinal(), "*");
-    SYMBOLS.set(Operator.DIVISION.ordinal(), "/");
-    SYMBOLS.set(Operator.MODULUS.ordinal(), "%");
-    SYMBOLS.set(Operator.SUBTRACTION.ordinal(), "-");
-    SYMBOLS.set(Operator.ADDITION.ordinal(), "+");
-    SYMBOLS.set(Operator.SHIFT_LEFT.ordinal(), "<<");
-    SYMBOLS.set(Operator.SHIFT_RIGHT.ordinal(), ">>");
-    SYMBOLS.set(Operator.BITWISE_AND.ordinal(), "&");
-    SYMBOLS.set(Operator.BITWISE_OR.ordinal(), "|");
-    SYMBOLS.set(Operator.EQUAL.ordinal(), "=");
-    SYMBOLS.set(Operator.GREATER_THAN_OR_EQUAL.ordinal(), ">=");
-    SYMBOLS.set(Operator.GREATER_THAN.ordinal(), ">");
-    SYMBOLS.set(Operator.LESS_THAN_OR_EQUAL.ordinal(), "<=");
-    SYMBOLS.set(Operator.LESS_THAN.ordinal(), "<");
-    SYMBOLS.set(Operator.NOT_EQUAL.ordinal(), "!=");
-    SYMBOLS.set(Operator.LIKE.ordinal(), "LIKE");
-    SYMBOLS.set(Operator.REGEXP.ordinal(), "REGEXP");
-    SYMBOLS.set(Operator.AND.ordinal(), "AND");
-    SYMBOLS.set(Operator.XOR.ordinal(), "XOR");
-    SYMBOLS.set(Operator.OR.ordinal(), "OR");
-    SYMBOLS.set(Operator.PLUS.ordinal(), "+");
-    SYMBOLS.set(Operator.MINUS.ordinal(), "-");
-    SYMBOLS.set(Operator.NOT.ordinal(), "NOT");
-    SYMBOLS.set(Operator.BITWISE_NOT.ordinal(), "~");
-  }
+  private boolean _parameterized;
 
   @NonNull
-  private final List<@NonNull Operator> _operators;
+  private SQLDialect _dialect;
 
   @NonNull
-  private final TreeWalker<Expression> _walker;
+  private final SQLOutput _output;
 
   /**
-   * Instantiate a new expression to SQL transpiler.
+   * Instantiate a new expression to SQL transpiler for the MySQL dialect.
    */
   public ExpressionToSQLCompiler() {
-    _operators = new LinkedList<>();
+    this(SQLDialect.MYSQL);
+  }
+
+  /**
+   * Instantiate a new expression to SQL transpiler.
+   *
+   * @param dialect The dialect to render expressions into.
+   */
+  public ExpressionToSQLCompiler(@NonNull final SQLDialect dialect) {
+    this(dialect, SQLOutput.DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Instantiate a new expression to SQL transpiler.
+   *
+   * @param dialect The dialect to render expressions into.
+   * @param bufferCapacity Number of characters to buffer before writing them into an appendable.
+   *
+   * @see #compile(Appendable)
+   */
+  public ExpressionToSQLCompiler(
+      @NonNull final SQLDialect dialect,
+      @NonNegative final int bufferCapacity
+  ) {
+    _dialect = dialect;
+    _output = new SQLOutput(bufferCapacity);
+    _operators = new int[16];
+    _operatorsSize = 0;
+    _parameters = new ArrayList<>();
+    _readonlyParameters = Collections.unmodifiableList(_parameters);
     _walker = new TreeWalker<>(Expression.class);
+    _parameterized = false;
   }
 
   /**
@@ -85,15 +95,39 @@ public class ExpressionToSQLCompiler {
    */
   public void reset() {
     _walker.moveToStart();
-    _operators.clear();
+    _operatorsSize = 0;
+    _parameters.clear();
   }
 
   /**
-   * Compile the entire expression into the given builder.
+   * Compile the entire expression into the given appendable.
    *
-   * @param output The string builder to fill with the compiled content.
+   * The compiled content is streamed into the given appendable through the bounded buffer of this
+   * compiler, so that the compiled content is never held in memory as a whole.
+   *
+   * @param output The appendable to fill with the compiled content.
+   *
+   * @throws java.io.UncheckedIOException If the given appendable fails to receive the content.
    */
-  public void compile(@NonNull final StringBuilder output) {
+  public void compile(@NonNull final Appendable output) {
+    _output.setTarget(output);
+
+    try {
+      compile(_output);
+      _output.flush();
+    } finally {
+      _output.clear();
+      _output.setTarget(null);
+    }
+  }
+
+  /**
+   * Compile the entire expression into the given output, the content that the output still buffers
+   * at the end of the compilation is left to the caller to flush.
+   *
+   * @param output The output to fill with the compiled content.
+   */
+  public void compile(@NonNull final SQLOutput output) {
     while (!_walker.isAtEnd()) {
       while (_walker.canEnter()) {
         enter(output);
@@ -112,11 +146,11 @@ public class ExpressionToSQLCompiler {
   /**
    * Let the compiler enter into the next child expression.
    *
-   * @param output The string builder to fill with the compiled content.
+   * @param output The output to fill with the compiled content.
    *
    * @return The entered expression.
    */
-  public @NonNull Expression<?> enter (@NonNull final StringBuilder output) {
+  public @NonNull Expression<?> enter (@NonNull final SQLOutput output) {
     @NonNull final Expression<?> expression = _walker.enter();
 
     if (expression instanceof Operation) {
@@ -134,8 +168,33 @@ public class ExpressionToSQLCompiler {
     return expression;
   }
 
-  private void enterFunction(final Function<?> expression, final StringBuilder output) {
-    _operators.add(Operator.FUNCTION);
+  /**
+   * Let the compiler enter into the next child expression.
+   *
+   * The compiled content is written into the given string builder through the buffer of this
+   * compiler, that is flushed before returning.
+   *
+   * @param output The string builder to fill with the compiled content.
+   *
+   * @return The entered expression.
+   *
+   * @see #enter(SQLOutput)
+   */
+  public @NonNull Expression<?> enter (@NonNull final StringBuilder output) {
+    _output.setTarget(output);
+
+    try {
+      @NonNull final Expression<?> result = enter(_output);
+      _output.flush();
+      return result;
+    } finally {
+      _output.clear();
+      _output.setTarget(null);
+    }
+  }
+
+  private void enterFunction(final Function<?> expression, final SQLOutput output) {
+    pushOperator(Operator.FUNCTION);
 
     if (doViolatePrecedence()) {
       output.append('(');
@@ -145,8 +204,8 @@ public class ExpressionToSQLCompiler {
     output.append('(');
   }
 
-  private void enterRange(final Range<?> expression, final StringBuilder output) {
-    _operators.add(Operator.BETWEEN);
+  private void enterRange(final Range<?> expression, final SQLOutput output) {
+    pushOperator(Operator.BETWEEN);
 
     if (doViolatePrecedence()) {
       output.append('(');
@@ -157,25 +216,40 @@ public class ExpressionToSQLCompiler {
    * Render the given operation expression as this compiler enter in it.
    *
    * @param operation The visited operation.
-   * @param output The string builder to fill with the compiled content.
+   * @param output The output to fill with the compiled content.
    * @param <T> The expected result type of the given operation.
    */
   private <T> void enterOperation(
       @NonNull final Operation<T> operation,
-      @NonNull final StringBuilder output
+      @NonNull final SQLOutput output
   ) {
-    _operators.add(operation.getOperator());
+    pushOperator(operation.getOperator());
 
     if (doViolatePrecedence()) {
       output.append('(');
     }
 
     if (operation instanceof UnaryOperation) {
-      output.append(SYMBOLS.get(operation.getOperator().ordinal()));
+      appendSymbol(operation.getOperator(), output);
       output.append(' ');
+    } else if (isPairwise(operation)) {
+      for (int index = 2, size = operation.getChildren().getSize(); index < size; ++index) {
+        output.append('(');
+      }
     }
   }
 
+  /**
+   * @param operation An operation.
+   *
+   * @return True if the operands of the given operation must be grouped by pairs, as its operator
+   *     can't be chained into the dialect of this compiler.
+   */
+  private boolean isPairwise(@NonNull final Operation<?> operation) {
+    return operation instanceof SequentialOperation &&
+        !_dialect.isChainable(operation.getOperator());
+  }
+
   /**
    * @see TreeWalker#canEnter()
    */
@@ -207,10 +281,10 @@ public class ExpressionToSQLCompiler {
   /**
    * Let the compiler moves out of its current node.
    *
-   * @param output The string builder to fill with the compiled content.
+   * @param output The output to fill with the compiled content.
    * @return The exited expression.
    */
-  public @NonNull Expression<?> exit (@NonNull final StringBuilder output) {
+  public @NonNull Expression<?> exit (@NonNull final SQLOutput output) {
     @NonNull final Expression<?> exited = _walker.exit();
 
     if (exited instanceof Constant<?>) {
@@ -228,87 +302,117 @@ public class ExpressionToSQLCompiler {
     }
 
     if (_walker.hasCurrent() && _walker.current() instanceof Range<?>) {
-      exitBackToRange((Range<?>) _walker.current(), exited, output);
+      exitBackToRange(output);
     }
 
     return exited;
   }
 
-  private void exitBackToRange(
-      @NonNull final Range<?> range,
-      @NonNull final Expression<?> exited,
-      @NonNull final StringBuilder output
-  ) {
-    if (exited == range.getValue()) {
-      output.append(" BETWEEN ");
-    } else if (exited == range.getMinimum()) {
-      output.append(" AND ");
+  /**
+   * Let the compiler moves out of its current node.
+   *
+   * The compiled content is written into the given string builder through the buffer of this
+   * compiler, that is flushed before returning.
+   *
+   * @param output The string builder to fill with the compiled content.
+   *
+   * @return The exited expression.
+   *
+   * @see #exit(SQLOutput)
+   */
+  public @NonNull Expression<?> exit (@NonNull final StringBuilder output) {
+    _output.setTarget(output);
+
+    try {
+      @NonNull final Expression<?> result = exit(_output);
+      _output.flush();
+      return result;
+    } finally {
+      _output.clear();
+      _output.setTarget(null);
     }
   }
 
-  private void exitPlaceholder(final Placeholder<?> exited, final StringBuilder output) {
+  private void exitBackToRange(@NonNull final SQLOutput output) {
+    switch (_walker.getCursor()) {
+      case 1:
+        output.append(" BETWEEN ");
+        break;
+      case 2:
+        output.append(" AND ");
+        break;
+      default:
+        break;
+    }
+  }
+
+  private void exitPlaceholder(final Placeholder<?> exited, final SQLOutput output) {
+    _parameters.add(exited);
     output.append('?');
   }
 
-  private void exitRange(final Range<?> exited, final StringBuilder output) {
+  private void exitRange(final Range<?> exited, final SQLOutput output) {
     if (doViolatePrecedence()) {
       output.append(')');
     }
 
-    _operators.remove(_operators.size() - 1);
+    _operatorsSize -= 1;
   }
 
-  private void exitFunction(final Function<?> exited, final StringBuilder output) {
+  private void exitFunction(final Function<?> exited, final SQLOutput output) {
     output.append(')');
 
     if (doViolatePrecedence()) {
       output.append(')');
     }
 
-    _operators.remove(_operators.size() - 1);
+    _operatorsSize -= 1;
   }
 
   /**
    * Called when this compiler exit an identifier.
    *
    * @param variable The identifier that was exited.
-   * @param output The string builder to fill with the compiled content.
+   * @param output The output to fill with the compiled content.
    */
   private void exitVariable(
       @NonNull final Variable variable,
-      @NonNull final StringBuilder output
-  ) { output.append(variable.getName()); }
+      @NonNull final SQLOutput output
+  ) { _dialect.appendIdentifier(variable.getName(), output); }
 
   /**
    * Called when this compiler exit an operation.
    *
    * @param operation The operation that was exited.
-   * @param output The string builder to fill with the compiled content.
+   * @param output The output to fill with the compiled content.
    */
   private <T> void exitOperation(
       @NonNull final Operation<T> operation,
-      @NonNull final StringBuilder output
+      @NonNull final SQLOutput output
   ) {
     if (doViolatePrecedence()) {
       output.append(')');
     }
 
-    _operators.remove(_operators.size() - 1);
+    _operatorsSize -= 1;
   }
 
   /**
    * Called when this compiler exit a constant.
    *
    * @param expression The exited expression.
-   * @param output The string builder to fill with the compiled content.
+   * @param output The output to fill with the compiled content.
    *
    * @param <T> DataType of the constant expression.
    */
   private <T> void exitConstant (
       @NonNull final Constant<T> expression,
-      @NonNull final StringBuilder output
+      @NonNull final SQLOutput output
   ) {
-    if (Boolean.class.isAssignableFrom(expression.getResultType().getJavaClass())) {
+    if (_parameterized && expression.getValue() != null) {
+      _parameters.add(expression);
+      output.append('?');
+    } else if (Boolean.class.isAssignableFrom(expression.getResultType().getJavaClass())) {
       exitConstant((Boolean) expression.getValue(), output);
     } else if (Number.class.isAssignableFrom(expression.getResultType().getJavaClass())) {
       exitConstant((Number) expression.getValue(), output);
@@ -331,35 +435,50 @@ public class ExpressionToSQLCompiler {
    * Output a numeric value.
    *
    * @param value A numeric value to output.
-   * @param output The string builder to fill with the compiled content.
+   * @param output The output to fill with the compiled content.
    */
-  private void exitConstant(@Nullable final Number value, @NonNull final StringBuilder output) {
-    output.append(value == null ? "NULL" : value.toString());
+  private void exitConstant(@Nullable final Number value, @NonNull final SQLOutput output) {
+    if (value == null) {
+      output.append(NULL);
+    } else if (value instanceof Double) {
+      output.append(value.doubleValue());
+    } else if (value instanceof Float) {
+      output.append(value.floatValue());
+    } else if (
+        value instanceof Long || value instanceof Integer ||
+            value instanceof Short || value instanceof Byte
+    ) {
+      output.append(value.longValue());
+    } else {
+      output.append(value.toString());
+    }
   }
 
   /**
    * Output a boolean value.
    *
    * @param value A boolean value to output.
-   * @param output The string builder to fill with the compiled content.
+   * @param output The output to fill with the compiled content.
    */
-  private void exitConstant(@Nullable final Boolean value, @NonNull final StringBuilder output) {
-    output.append(value == null ? "NULL" : (value ? "1" : "0"));
+  private void exitConstant(@Nullable final Boolean value, @NonNull final SQLOutput output) {
+    if (value == null) {
+      output.append(NULL);
+    } else {
+      _dialect.appendBoolean(value, output);
+    }
   }
 
   /**
    * Output a string value.
    *
    * @param value A string value to output.
-   * @param output The string builder to fill with the compiled content.
+   * @param output The output to fill with the compiled content.
    */
-  private void exitConstant(@Nullable final String value, @NonNull final StringBuilder output) {
+  private void exitConstant(@Nullable final String value, @NonNull final SQLOutput output) {
     if (value == null) {
-      output.append("NULL");
+      output.append(NULL);
     } else {
-      output.append('"');
-      output.append(StringEscapeUtils.escapeJava(value));
-      output.append('"');
+      _dialect.appendString(value, output);
     }
   }
 
@@ -367,15 +486,13 @@ public class ExpressionToSQLCompiler {
    * Output a character value.
    *
    * @param value A character value to output.
-   * @param output The string builder to fill with the compiled content.
+   * @param output The output to fill with the compiled content.
    */
-  private void exitConstant(@Nullable final Character value, @NonNull final StringBuilder output) {
+  private void exitConstant(@Nullable final Character value, @NonNull final SQLOutput output) {
     if (value == null) {
-      output.append("NULL");
+      output.append(NULL);
     } else {
-      output.append('\"');
-      output.append(StringEscapeUtils.escapeJava(value.toString()));
-      output.append('\"');
+      _dialect.appendCharacter(value, output);
     }
   }
 
@@ -383,17 +500,13 @@ public class ExpressionToSQLCompiler {
    * Output a value.
    *
    * @param value A value to output.
-   * @param output The string builder to fill with the compiled content.
+   * @param output The output to fill with the compiled content.
    */
-  private void exitConstant(@Nullable final ZonedDateTime value, @NonNull final StringBuilder output) {
+  private void exitConstant(@Nullable final ZonedDateTime value, @NonNull final SQLOutput output) {
     if (value == null) {
-      output.append("NULL");
+      output.append(NULL);
     } else {
-      output.append('\"');
-      output.append(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(
-          value.withZoneSameInstant(ZoneOffset.UTC)
-      ));
-      output.append('\"');
+      _dialect.appendTimestamp(value, output);
     }
   }
 
@@ -401,15 +514,13 @@ public class ExpressionToSQLCompiler {
    * Output a value.
    *
    * @param value A value to output.
-   * @param output The string builder to fill with the compiled content.
+   * @param output The output to fill with the compiled content.
    */
-  private void exitConstant(@Nullable final LocalDate value, @NonNull final StringBuilder output) {
+  private void exitConstant(@Nullable final LocalDate value, @NonNull final SQLOutput output) {
     if (value == null) {
-      output.append("NULL");
+      output.append(NULL);
     } else {
-      output.append('\"');
-      output.append(DateTimeFormatter.ISO_LOCAL_DATE.format(value));
-      output.append('\"');
+      _dialect.appendDate(value, output);
     }
   }
 
@@ -417,24 +528,22 @@ public class ExpressionToSQLCompiler {
    * Output a value.
    *
    * @param value A value to output.
-   * @param output The string builder to fill with the compiled content.
+   * @param output The output to fill with the compiled content.
    */
-  private void exitConstant(@Nullable final LocalTime value, @NonNull final StringBuilder output) {
+  private void exitConstant(@Nullable final LocalTime value, @NonNull final SQLOutput output) {
     if (value == null) {
-      output.append("NULL");
+      output.append(NULL);
     } else {
-      output.append('\"');
-      output.append(DateTimeFormatter.ISO_LOCAL_TIME.format(value));
-      output.append('\"');
+      _dialect.appendTime(value, output);
     }
   }
 
   /**
    * Called when the compiler goes back to an expression.
    *
-   * @param output The string builder to fill with the compiled content.
+   * @param output The output to fill with the compiled content.
    */
-  public @NonNull Expression<?> back (@NonNull final StringBuilder output) {
+  public @NonNull Expression<?> back (@NonNull final SQLOutput output) {
     @NonNull final Expression<?> expression = _walker.current();
 
     if (expression instanceof Operation<?>) {
@@ -446,9 +555,34 @@ public class ExpressionToSQLCompiler {
     return expression;
   }
 
+  /**
+   * Called when the compiler goes back to an expression.
+   *
+   * The compiled content is written into the given string builder through the buffer of this
+   * compiler, that is flushed before returning.
+   *
+   * @param output The string builder to fill with the compiled content.
+   *
+   * @return The current expression.
+   *
+   * @see #back(SQLOutput)
+   */
+  public @NonNull Expression<?> back (@NonNull final StringBuilder output) {
+    _output.setTarget(output);
+
+    try {
+      @NonNull final Expression<?> result = back(_output);
+      _output.flush();
+      return result;
+    } finally {
+      _output.clear();
+      _output.setTarget(null);
+    }
+  }
+
   private void backFunction(
       @NonNull final Function<?> expression,
-      @NonNull final StringBuilder output
+      @NonNull final SQLOutput output
   ) {
     if (_walker.canEnter()) {
       output.append(", ");
@@ -459,31 +593,106 @@ public class ExpressionToSQLCompiler {
    * Called when the compiler goes back to an operation.
    *
    * @param operation The operation that was entered.
-   * @param output The string builder to fill with the compiled content.
+   * @param output The output to fill with the compiled content.
    */
   private <T> void backOperation(
       @NonNull final Operation<T> operation,
-      @NonNull final StringBuilder output
+      @NonNull final SQLOutput output
   ) {
     if (operation instanceof BinaryOperation || operation instanceof SequentialOperation) {
       if (_walker.canEnter()) {
+        if (_walker.getCursor() > 1 && isPairwise(operation)) {
+          output.append(')');
+        }
+
         output.append(' ');
-        output.append(SYMBOLS.get(operation.getOperator().ordinal()));
+        appendSymbol(operation.getOperator(), output);
         output.append(' ');
       }
     }
   }
 
+  /**
+   * Output the symbol of an operator into the dialect of this compiler.
+   *
+   * @param operator An operator to output.
+   * @param output The output to fill with the compiled content.
+   */
+  private void appendSymbol(@NonNull final Operator operator, @NonNull final SQLOutput output) {
+    @Nullable final String symbol = _dialect.getSymbol(operator);
+
+    if (symbol == null) {
+      throw new UnsupportedOperationException(
+          "Unable to render the operator " + operator + " because the " + _dialect.getName() +
+              " dialect does not support it."
+      );
+    }
+
+    output.append(symbol);
+  }
+
   /**
    * @return True if the current operation violates the operator precedence.
    */
   private boolean doViolatePrecedence() {
-    return _operators.size() > 1 && (
-        _operators.get(_operators.size() - 2).getPriority() <
-            _operators.get(_operators.size() - 1).getPriority()
+    return _operatorsSize > 1 && _dialect.requiresParentheses(
+        _operators[_operatorsSize - 2], _operators[_operatorsSize - 1]
     );
   }
 
+  /**
+   * Push the given operator on top of the operator stack.
+   *
+   * @param operator An operator to push.
+   */
+  private void pushOperator(@NonNull final Operator operator) {
+    if (_operatorsSize == _operators.length) {
+      _operators = Arrays.copyOf(_operators, _operators.length * 2);
+    }
+
+    _operators[_operatorsSize++] = operator.ordinal();
+  }
+
+  /**
+   * @return Placeholders, and constants when this compiler is parameterized, rendered since the last
+   *     reset of this compiler in order of appearance.
+   */
+  public @NonNull List<@NonNull Expression<?>> getParameters() {
+    return _readonlyParameters;
+  }
+
+  /**
+   * @return True if this compiler renders non-null constants as parameters.
+   */
+  public boolean isParameterized() {
+    return _parameterized;
+  }
+
+  /**
+   * Update the way this compiler renders constants. A parameterized compiler renders each non-null
+   * constant as a parameter and records it into its parameter list, so that expressions that only
+   * differ by their constants produce the same SQL text. Null constants are always rendered inline.
+   *
+   * @param parameterized True if this compiler must render non-null constants as parameters.
+   */
+  public void setParameterized(final boolean parameterized) {
+    _parameterized = parameterized;
+  }
+
+  /**
+   * @return The dialect that this compiler renders expressions into.
+   */
+  public @NonNull SQLDialect getDialect() {
+    return _dialect;
+  }
+
+  /**
+   * @param dialect The dialect that this compiler must render expressions into.
+   */
+  public void setDialect(@NonNull final SQLDialect dialect) {
+    _dialect = dialect;
+  }
+
   /**
    * @return The current compiled expression.
    */
@@ -499,7 +708,8 @@ public class ExpressionToSQLCompiler {
    */
   public void setExpression(@Nullable final Expression<?> expression) {
     _walker.setRoot(expression);
-    _operators.clear();
+    _operatorsSize = 0;
+    _parameters.clear();
   }
 
   /**
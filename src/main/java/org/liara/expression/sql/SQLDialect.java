@@ -0,0 +1,421 @@
+package org.liara.expression.sql;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.expression.operation.Operator;
+
+/**
+ * The way an SQL database expects operators, literals and identifiers to be written.
+ *
+ * A dialect is immutable, its operator symbols, priorities and string escapes are precomputed
+ * into flat tables indexed by operator ordinal or by character, so that rendering with a dialect
+ * costs the same as rendering with hardcoded tables.
+ */
+public final class SQLDialect {
+  @NonNull
+  private static final Operator @NonNull [] OPERATORS = Operator.values();
+
+  /**
+   * Operators rendered as comparisons by standard dialects, comparisons can't be chained as they
+   * are not associative.
+   */
+  @NonNull
+  private static final Operator @NonNull [] COMPARISONS = new Operator[] {
+      Operator.EQUAL, Operator.NOT_EQUAL, Operator.GREATER_THAN, Operator.GREATER_THAN_OR_EQUAL,
+      Operator.LESS_THAN, Operator.LESS_THAN_OR_EQUAL, Operator.XOR
+  };
+
+  @NonNull
+  private static final char[] HEXADECIMAL_DIGITS = "0123456789ABCDEF".toCharArray();
+
+  @NonNull
+  private static final DateTimeFormatter UTC_DATE_TIME = (
+      DateTimeFormatter.ISO_LOCAL_DATE_TIME.withZone(ZoneOffset.UTC)
+  );
+
+  /**
+   * MySQL dialect: backslash escaped double-quoted strings, booleans as 1 and 0, REGEXP and XOR.
+   */
+  @NonNull
+  public static final SQLDialect MYSQL = new SQLDialectBuilder().build();
+
+  /**
+   * PostgreSQL dialect: standard single-quoted strings, typed temporal literals, regular
+   * expressions with ~, logical exclusive or as a parenthesized boolean inequality and bitwise
+   * operators of the same priority.
+   */
+  @NonNull
+  public static final SQLDialect POSTGRESQL = createPostgreSQL();
+
+  /**
+   * H2 dialect: standard single-quoted strings, typed temporal literals, logical exclusive or as a
+   * parenthesized boolean inequality and no bitwise operators.
+   */
+  @NonNull
+  public static final SQLDialect H2 = createH2();
+
+  private static @NonNull SQLDialectBuilder createStandard(@NonNull final String name) {
+    @NonNull final SQLDialectBuilder result = new SQLDialectBuilder();
+
+    result.setName(name);
+    result.setTrue("TRUE");
+    result.setFalse("FALSE");
+    result.setStringQuote('\'');
+    result.setBackslashEscapes(false);
+    result.setIdentifierQuote('"');
+    result.setTimestampPrefix("TIMESTAMP ");
+    result.setDatePrefix("DATE ");
+    result.setTimePrefix("TIME ");
+    result.setSymbol(Operator.NOT_EQUAL, "<>");
+    result.setSymbol(Operator.XOR, "<>");
+    result.setPriority(Operator.XOR, Operator.EQUAL.getPriority());
+
+    for (@NonNull final Operator operator : COMPARISONS) {
+      result.setChainable(operator, false);
+    }
+
+    return result;
+  }
+
+  private static @NonNull SQLDialect createPostgreSQL() {
+    @NonNull final SQLDialectBuilder result = createStandard("PostgreSQL");
+    @NonNull final Operator[] bitwise = new Operator[] {
+        Operator.SHIFT_LEFT, Operator.SHIFT_RIGHT, Operator.BITWISE_AND, Operator.BITWISE_OR,
+        Operator.BITWISE_XOR
+    };
+
+    result.setSymbol(Operator.BITWISE_XOR, "#");
+    result.setSymbol(Operator.REGEXP, "~");
+
+    for (@NonNull final Operator operator : bitwise) {
+      result.setPriority(operator, Operator.SHIFT_LEFT.getPriority());
+      result.setIsolated(operator, true);
+    }
+
+    return result.build();
+  }
+
+  private static @NonNull SQLDialect createH2() {
+    @NonNull final SQLDialectBuilder result = createStandard("H2");
+
+    result.setSymbol(Operator.SHIFT_LEFT, null);
+    result.setSymbol(Operator.SHIFT_RIGHT, null);
+    result.setSymbol(Operator.BITWISE_AND, null);
+    result.setSymbol(Operator.BITWISE_OR, null);
+    result.setSymbol(Operator.BITWISE_XOR, null);
+    result.setSymbol(Operator.BITWISE_NOT, null);
+
+    return result.build();
+  }
+
+  @NonNull
+  private final String _name;
+
+  @Nullable
+  private final String @NonNull [] _symbols;
+
+  private final int @NonNull [] _priorities;
+
+  private final boolean @NonNull [] _isolated;
+
+  private final boolean @NonNull [] _chainable;
+
+  @NonNull
+  private final String _true;
+
+  @NonNull
+  private final String _false;
+
+  private final char _stringQuote;
+
+  /**
+   * Replacement of each ASCII character into a string literal, null for characters that are
+   * rendered as is.
+   */
+  @Nullable
+  private final String @NonNull [] _escapes;
+
+  private final boolean _escapeNonAscii;
+
+  private final char _identifierQuote;
+
+  private final boolean _quotingIdentifiers;
+
+  @NonNull
+  private final String _timestampPrefix;
+
+  @NonNull
+  private final String _datePrefix;
+
+  @NonNull
+  private final String _timePrefix;
+
+  /**
+   * Instantiate a new dialect from its description.
+   *
+   * @param builder The description of the dialect.
+   */
+  public SQLDialect(@NonNull final SQLDialectBuilder builder) {
+    _name = builder.getName();
+    _symbols = new String[OPERATORS.length];
+    _priorities = new int[OPERATORS.length];
+    _isolated = new boolean[OPERATORS.length];
+    _chainable = new boolean[OPERATORS.length];
+
+    for (int index = 0; index < OPERATORS.length; ++index) {
+      _symbols[index] = builder.getSymbol(OPERATORS[index]);
+      _priorities[index] = builder.getPriority(OPERATORS[index]);
+      _isolated[index] = builder.isIsolated(OPERATORS[index]);
+      _chainable[index] = builder.isChainable(OPERATORS[index]);
+    }
+
+    _true = builder.getTrue();
+    _false = builder.getFalse();
+    _stringQuote = builder.getStringQuote();
+    _escapes = new String[128];
+    _escapeNonAscii = builder.isBackslashEscapes();
+
+    if (builder.isBackslashEscapes()) {
+      for (char character = 0; character < 32; ++character) {
+        _escapes[character] = unicode(character);
+      }
+
+      _escapes['\\'] = "\\\\";
+      _escapes['\b'] = "\\b";
+      _escapes['\n'] = "\\n";
+      _escapes['\t'] = "\\t";
+      _escapes['\f'] = "\\f";
+      _escapes['\r'] = "\\r";
+      _escapes[_stringQuote] = "\\" + _stringQuote;
+    } else {
+      _escapes[_stringQuote] = String.valueOf(new char[] {_stringQuote, _stringQuote});
+    }
+
+    _identifierQuote = builder.getIdentifierQuote();
+    _quotingIdentifiers = builder.isQuotingIdentifiers();
+    _timestampPrefix = builder.getTimestampPrefix();
+    _datePrefix = builder.getDatePrefix();
+    _timePrefix = builder.getTimePrefix();
+  }
+
+  private static @NonNull String unicode(final char character) {
+    return new String(new char[] {
+        '\\', 'u',
+        HEXADECIMAL_DIGITS[(character >> 12) & 0xF],
+        HEXADECIMAL_DIGITS[(character >> 8) & 0xF],
+        HEXADECIMAL_DIGITS[(character >> 4) & 0xF],
+        HEXADECIMAL_DIGITS[character & 0xF]
+    });
+  }
+
+  /**
+   * @return The name of this dialect.
+   */
+  public @NonNull String getName() {
+    return _name;
+  }
+
+  /**
+   * @param operator An operator.
+   *
+   * @return The symbol of the given operator into this dialect, or null if this dialect does not
+   *     support the given operator.
+   */
+  public @Nullable String getSymbol(@NonNull final Operator operator) {
+    return _symbols[operator.ordinal()];
+  }
+
+  /**
+   * @param operator An operator.
+   *
+   * @return The priority of the given operator into this dialect, lower priorities bind tighter.
+   */
+  public int getPriority(@NonNull final Operator operator) {
+    return _priorities[operator.ordinal()];
+  }
+
+  /**
+   * @param operator An operator.
+   *
+   * @return True if operations of the given operator may be written one after another without
+   *     parentheses into this dialect.
+   *
+   * @see SQLDialectBuilder#isChainable(Operator)
+   */
+  public boolean isChainable(@NonNull final Operator operator) {
+    return _chainable[operator.ordinal()];
+  }
+
+  /**
+   * Return true if an operation must be parenthesized as an operand of another one.
+   *
+   * @param parent Ordinal of the operator of the parent operation.
+   * @param child Ordinal of the operator of the operand.
+   *
+   * @return True if the operand must be parenthesized.
+   */
+  boolean requiresParentheses(final int parent, final int child) {
+    if (_priorities[parent] != _priorities[child]) {
+      return _priorities[parent] < _priorities[child];
+    }
+
+    return !_chainable[parent] || !_chainable[child] || (_isolated[parent] && parent != child);
+  }
+
+  /**
+   * Output a boolean literal.
+   *
+   * @param value A boolean value to output.
+   * @param output The output to fill.
+   */
+  public void appendBoolean(final boolean value, @NonNull final SQLOutput output) {
+    output.append(value ? _true : _false);
+  }
+
+  /**
+   * Output a string literal.
+   *
+   * @param value A string value to output.
+   * @param output The output to fill.
+   */
+  public void appendString(@NonNull final CharSequence value, @NonNull final SQLOutput output) {
+    output.append(_stringQuote);
+
+    for (int index = 0, size = value.length(); index < size; ++index) {
+      appendEscaped(value.charAt(index), output);
+    }
+
+    output.append(_stringQuote);
+  }
+
+  /**
+   * Output a character literal.
+   *
+   * @param value A character value to output.
+   * @param output The output to fill.
+   */
+  public void appendCharacter(final char value, @NonNull final SQLOutput output) {
+    output.append(_stringQuote);
+    appendEscaped(value, output);
+    output.append(_stringQuote);
+  }
+
+  private void appendEscaped(final char character, @NonNull final SQLOutput output) {
+    if (character < 128) {
+      @Nullable final String escape = _escapes[character];
+
+      if (escape == null) {
+        output.append(character);
+      } else {
+        output.append(escape);
+      }
+    } else if (_escapeNonAscii) {
+      output.append("\\u");
+      output.append(HEXADECIMAL_DIGITS[(character >> 12) & 0xF]);
+      output.append(HEXADECIMAL_DIGITS[(character >> 8) & 0xF]);
+      output.append(HEXADECIMAL_DIGITS[(character >> 4) & 0xF]);
+      output.append(HEXADECIMAL_DIGITS[character & 0xF]);
+    } else {
+      output.append(character);
+    }
+  }
+
+  /**
+   * Output a timestamp literal in UTC.
+   *
+   * @param value A timestamp to output.
+   * @param output The output to fill.
+   */
+  public void appendTimestamp(
+      @NonNull final ZonedDateTime value,
+      @NonNull final SQLOutput output
+  ) {
+    output.append(_timestampPrefix);
+    output.append(_stringQuote);
+    UTC_DATE_TIME.formatTo(value, output);
+    output.append(_stringQuote);
+  }
+
+  /**
+   * Output a date literal.
+   *
+   * @param value A date to output.
+   * @param output The output to fill.
+   */
+  public void appendDate(@NonNull final LocalDate value, @NonNull final SQLOutput output) {
+    output.append(_datePrefix);
+    output.append(_stringQuote);
+    DateTimeFormatter.ISO_LOCAL_DATE.formatTo(value, output);
+    output.append(_stringQuote);
+  }
+
+  /**
+   * Output a time literal.
+   *
+   * @param value A time to output.
+   * @param output The output to fill.
+   */
+  public void appendTime(@NonNull final LocalTime value, @NonNull final SQLOutput output) {
+    output.append(_timePrefix);
+    output.append(_stringQuote);
+    DateTimeFormatter.ISO_LOCAL_TIME.formatTo(value, output);
+    output.append(_stringQuote);
+  }
+
+  /**
+   * Output an identifier. When this dialect quotes identifiers, identifiers that are not made of
+   * letters, digits, underscores and dots are quoted, otherwise each identifier is output as is.
+   *
+   * @param identifier An identifier to output.
+   * @param output The output to fill.
+   */
+  public void appendIdentifier(
+      @NonNull final String identifier,
+      @NonNull final SQLOutput output
+  ) {
+    if (!_quotingIdentifiers || isPlain(identifier)) {
+      output.append(identifier);
+      return;
+    }
+
+    output.append(_identifierQuote);
+
+    for (int index = 0, size = identifier.length(); index < size; ++index) {
+      final char character = identifier.charAt(index);
+
+      if (character == _identifierQuote) {
+        output.append(_identifierQuote);
+      }
+
+      output.append(character);
+    }
+
+    output.append(_identifierQuote);
+  }
+
+  private static boolean isPlain(@NonNull final String identifier) {
+    if (identifier.isEmpty() || !isLetter(identifier.charAt(0))) {
+      return false;
+    }
+
+    for (int index = 1, size = identifier.length(); index < size; ++index) {
+      final char character = identifier.charAt(index);
+
+      if (!isLetter(character) && !(character >= '0' && character <= '9') && character != '.') {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static boolean isLetter(final char character) {
+    return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z') ||
+        character == '_';
+  }
+}
@@ -0,0 +1,270 @@
+package org.liara.expression.sql;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.expression.operation.Operator;
+
+/**
+ * A description of an SQL dialect, a new builder describes the MySQL dialect.
+ */
+public class SQLDialectBuilder {
+  @NonNull
+  private static final Operator @NonNull [] OPERATORS = Operator.values();
+
+  @NonNull
+  private String _name;
+
+  @Nullable
+  private final String @NonNull [] _symbols;
+
+  private final int @NonNull [] _priorities;
+
+  private final boolean @NonNull [] _isolated;
+
+  private final boolean @NonNull [] _chainable;
+
+  @NonNull
+  private String _true;
+
+  @NonNull
+  private String _false;
+
+  private char _stringQuote;
+
+  private boolean _backslashEscapes;
+
+  private char _identifierQuote;
+
+  private boolean _quotingIdentifiers;
+
+  @NonNull
+  private String _timestampPrefix;
+
+  @NonNull
+  private String _datePrefix;
+
+  @NonNull
+  private String _timePrefix;
+
+  public SQLDialectBuilder () {
+    _name = "MySQL";
+    _symbols = new String[OPERATORS.length];
+    _priorities = new int[OPERATORS.length];
+    _isolated = new boolean[OPERATORS.length];
+    _chainable = new boolean[OPERATORS.length];
+
+    for (int index = 0; index < OPERATORS.length; ++index) {
+      _symbols[index] = "";
+      _priorities[index] = OPERATORS[index].getPriority();
+      _chainable[index] = true;
+    }
+
+    _symbols[Operator.BITWISE_XOR.ordinal()] = "^";
+    _symbols[Operator.MULTIPLICATION.ordinal()] = "*";
+    _symbols[Operator.DIVISION.ordinal()] = "/";
+    _symbols[Operator.MODULUS.ordinal()] = "%";
+    _symbols[Operator.SUBTRACTION.ordinal()] = "-";
+    _symbols[Operator.ADDITION.ordinal()] = "+";
+    _symbols[Operator.SHIFT_LEFT.ordinal()] = "<<";
+    _symbols[Operator.SHIFT_RIGHT.ordinal()] = ">>";
+    _symbols[Operator.BITWISE_AND.ordinal()] = "&";
+    _symbols[Operator.BITWISE_OR.ordinal()] = "|";
+    _symbols[Operator.EQUAL.ordinal()] = "=";
+    _symbols[Operator.GREATER_THAN_OR_EQUAL.ordinal()] = ">=";
+    _symbols[Operator.GREATER_THAN.ordinal()] = ">";
+    _symbols[Operator.LESS_THAN_OR_EQUAL.ordinal()] = "<=";
+    _symbols[Operator.LESS_THAN.ordinal()] = "<";
+    _symbols[Operator.NOT_EQUAL.ordinal()] = "!=";
+    _symbols[Operator.LIKE.ordinal()] = "LIKE";
+    _symbols[Operator.REGEXP.ordinal()] = "REGEXP";
+    _symbols[Operator.AND.ordinal()] = "AND";
+    _symbols[Operator.XOR.ordinal()] = "XOR";
+    _symbols[Operator.OR.ordinal()] = "OR";
+    _symbols[Operator.PLUS.ordinal()] = "+";
+    _symbols[Operator.MINUS.ordinal()] = "-";
+    _symbols[Operator.NOT.ordinal()] = "NOT";
+    _symbols[Operator.BITWISE_NOT.ordinal()] = "~";
+
+    _true = "1";
+    _false = "0";
+    _stringQuote = '"';
+    _backslashEscapes = true;
+    _identifierQuote = '`';
+    _quotingIdentifiers = false;
+    _timestampPrefix = "";
+    _datePrefix = "";
+    _timePrefix = "";
+  }
+
+  public SQLDialectBuilder (@NonNull final SQLDialectBuilder toCopy) {
+    _name = toCopy.getName();
+    _symbols = toCopy._symbols.clone();
+    _priorities = toCopy._priorities.clone();
+    _isolated = toCopy._isolated.clone();
+    _chainable = toCopy._chainable.clone();
+    _true = toCopy.getTrue();
+    _false = toCopy.getFalse();
+    _stringQuote = toCopy.getStringQuote();
+    _backslashEscapes = toCopy.isBackslashEscapes();
+    _identifierQuote = toCopy.getIdentifierQuote();
+    _quotingIdentifiers = toCopy.isQuotingIdentifiers();
+    _timestampPrefix = toCopy.getTimestampPrefix();
+    _datePrefix = toCopy.getDatePrefix();
+    _timePrefix = toCopy.getTimePrefix();
+  }
+
+  public @NonNull SQLDialect build () {
+    return new SQLDialect(this);
+  }
+
+  public @NonNull String getName() {
+    return _name;
+  }
+
+  public void setName(@NonNull final String name) {
+    _name = name;
+  }
+
+  /**
+   * @param operator An operator.
+   *
+   * @return The symbol of the given operator, or null if the dialect does not support it.
+   */
+  public @Nullable String getSymbol(@NonNull final Operator operator) {
+    return _symbols[operator.ordinal()];
+  }
+
+  /**
+   * @param operator An operator.
+   * @param symbol The symbol of the given operator, or null if the dialect does not support it.
+   */
+  public void setSymbol(@NonNull final Operator operator, @Nullable final String symbol) {
+    _symbols[operator.ordinal()] = symbol;
+  }
+
+  /**
+   * @param operator An operator.
+   *
+   * @return The priority of the given operator, lower priorities bind tighter.
+   */
+  public int getPriority(@NonNull final Operator operator) {
+    return _priorities[operator.ordinal()];
+  }
+
+  public void setPriority(@NonNull final Operator operator, final int priority) {
+    _priorities[operator.ordinal()] = priority;
+  }
+
+  /**
+   * @param operator An operator.
+   *
+   * @return True if the operands of the given operator that are other operators of the same
+   *     priority must be parenthesized.
+   */
+  public boolean isIsolated(@NonNull final Operator operator) {
+    return _isolated[operator.ordinal()];
+  }
+
+  public void setIsolated(@NonNull final Operator operator, final boolean isolated) {
+    _isolated[operator.ordinal()] = isolated;
+  }
+
+  /**
+   * @param operator An operator.
+   *
+   * @return True if operations of the given operator may be written one after another without
+   *     parentheses, as in a + b + c. Operations of an operator that is not chainable are always
+   *     parenthesized against operations of the same priority, and their operands are grouped by
+   *     pairs.
+   */
+  public boolean isChainable(@NonNull final Operator operator) {
+    return _chainable[operator.ordinal()];
+  }
+
+  public void setChainable(@NonNull final Operator operator, final boolean chainable) {
+    _chainable[operator.ordinal()] = chainable;
+  }
+
+  public @NonNull String getTrue() {
+    return _true;
+  }
+
+  public void setTrue(@NonNull final String literal) {
+    _true = literal;
+  }
+
+  public @NonNull String getFalse() {
+    return _false;
+  }
+
+  public void setFalse(@NonNull final String literal) {
+    _false = literal;
+  }
+
+  public char getStringQuote() {
+    return _stringQuote;
+  }
+
+  public void setStringQuote(final char quote) {
+    _stringQuote = quote;
+  }
+
+  /**
+   * @return True if special characters of string literals are escaped with backslashes, false if
+   *     only the quote is escaped by doubling it.
+   */
+  public boolean isBackslashEscapes() {
+    return _backslashEscapes;
+  }
+
+  public void setBackslashEscapes(final boolean backslashEscapes) {
+    _backslashEscapes = backslashEscapes;
+  }
+
+  public char getIdentifierQuote() {
+    return _identifierQuote;
+  }
+
+  public void setIdentifierQuote(final char quote) {
+    _identifierQuote = quote;
+  }
+
+  /**
+   * @return True if identifiers that are not plain names are quoted, false if identifiers are
+   *     rendered as is.
+   */
+  public boolean isQuotingIdentifiers() {
+    return _quotingIdentifiers;
+  }
+
+  public void setQuotingIdentifiers(final boolean quotingIdentifiers) {
+    _quotingIdentifiers = quotingIdentifiers;
+  }
+
+  /**
+   * @return The keyword and space rendered before timestamp literals, if any.
+   */
+  public @NonNull String getTimestampPrefix() {
+    return _timestampPrefix;
+  }
+
+  public void setTimestampPrefix(@NonNull final String prefix) {
+    _timestampPrefix = prefix;
+  }
+
+  public @NonNull String getDatePrefix() {
+    return _datePrefix;
+  }
+
+  public void setDatePrefix(@NonNull final String prefix) {
+    _datePrefix = prefix;
+  }
+
+  public @NonNull String getTimePrefix() {
+    return _timePrefix;
+  }
+
+  public void setTimePrefix(@NonNull final String prefix) {
+    _timePrefix = prefix;
+  }
+}
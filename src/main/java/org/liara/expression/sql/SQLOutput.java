@@ -0,0 +1,296 @@
+package org.liara.expression.sql;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A bounded buffer of characters in front of an appendable that receives rendered SQL.
+ *
+ * Rendered characters are accumulated into a fixed array and moved to the target each time the
+ * array is full, so that a statement of any size is streamed with a constant amount of memory.
+ * Failures of the target are rethrown as unchecked exceptions.
+ */
+public final class SQLOutput implements Appendable {
+  /**
+   * Default number of characters that an output buffers before writing them into its target.
+   */
+  @NonNegative
+  public static final int DEFAULT_CAPACITY = 8192;
+
+  private final char @NonNull [] _buffer;
+
+  @NonNegative
+  private int _size;
+
+  @Nullable
+  private Appendable _target;
+
+  /**
+   * Instantiate a new output with a buffer of the default capacity.
+   */
+  public SQLOutput() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Instantiate a new output.
+   *
+   * @param capacity Number of characters to buffer before writing them into the target.
+   */
+  public SQLOutput(@NonNegative final int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException(
+          "Unable to instantiate the output because the given capacity " + capacity +
+              " is lesser than 1."
+      );
+    }
+
+    _buffer = new char[capacity];
+    _size = 0;
+    _target = null;
+  }
+
+  /**
+   * @return The appendable that receives the content of this output, if any.
+   */
+  public @Nullable Appendable getTarget() {
+    return _target;
+  }
+
+  /**
+   * Update the appendable that receives the content of this output, the buffered content is
+   * written into the previous target first.
+   *
+   * @param target The new appendable that will receive the content of this output.
+   */
+  public void setTarget(@Nullable final Appendable target) {
+    flush();
+    _target = target;
+  }
+
+  /**
+   * @return The number of characters buffered into this output.
+   */
+  public @NonNegative int getSize() {
+    return _size;
+  }
+
+  /**
+   * @return The number of characters that this output buffers before writing them into its
+   *     target.
+   */
+  public @NonNegative int getCapacity() {
+    return _buffer.length;
+  }
+
+  /**
+   * Write the buffered characters into the target of this output.
+   */
+  public void flush() {
+    if (_size == 0) {
+      return;
+    }
+
+    if (_target == null) {
+      throw new IllegalStateException(
+          "Unable to flush the output because it does not have any target."
+      );
+    }
+
+    try {
+      if (_target instanceof StringBuilder) {
+        ((StringBuilder) _target).append(_buffer, 0, _size);
+      } else {
+        _target.append(CharBuffer.wrap(_buffer, 0, _size));
+      }
+    } catch (@NonNull final IOException exception) {
+      throw new UncheckedIOException(
+          "Unable to flush the output because its target failed to receive the content.", exception
+      );
+    } finally {
+      _size = 0;
+    }
+  }
+
+  /**
+   * Discard the buffered characters without writing them into the target of this output.
+   */
+  public void clear() {
+    _size = 0;
+  }
+
+  /**
+   * @see Appendable#append(char)
+   */
+  @Override
+  public @NonNull SQLOutput append(final char character) {
+    if (_size == _buffer.length) {
+      flush();
+    }
+
+    _buffer[_size++] = character;
+
+    return this;
+  }
+
+  /**
+   * @see Appendable#append(CharSequence)
+   */
+  @Override
+  public @NonNull SQLOutput append(@Nullable final CharSequence sequence) {
+    return sequence == null ? append("null") : append(sequence, 0, sequence.length());
+  }
+
+  /**
+   * @see Appendable#append(CharSequence, int, int)
+   */
+  @Override
+  public @NonNull SQLOutput append(
+      @Nullable final CharSequence sequence,
+      @NonNegative final int start,
+      @NonNegative final int end
+  ) {
+    if (sequence == null) {
+      return append("null", start, end);
+    }
+
+    int from = start;
+
+    while (from < end) {
+      if (_size == _buffer.length) {
+        flush();
+      }
+
+      @NonNegative final int to = Math.min(end, from + _buffer.length - _size);
+
+      if (sequence instanceof String) {
+        ((String) sequence).getChars(from, to, _buffer, _size);
+        _size += to - from;
+      } else {
+        for (int index = from; index < to; ++index) {
+          _buffer[_size++] = sequence.charAt(index);
+        }
+      }
+
+      from = to;
+    }
+
+    return this;
+  }
+
+  /**
+   * Output an integer, its digits are written straight into the buffer of this output.
+   *
+   * @param value An integer to output.
+   *
+   * @return This output for chaining purposes.
+   */
+  public @NonNull SQLOutput append(final long value) {
+    @NonNegative final int length = getLength(value);
+
+    if (length > _buffer.length - _size) {
+      return appendDigits(value);
+    }
+
+    long remaining = value < 0 ? value : -value;
+    @NonNegative int index = _size + length;
+
+    do {
+      _buffer[--index] = (char) ('0' - remaining % 10);
+      remaining /= 10;
+    } while (remaining != 0);
+
+    if (value < 0) {
+      _buffer[--index] = '-';
+    }
+
+    _size += length;
+
+    return this;
+  }
+
+  /**
+   * Output an integer one digit after the other, for integers that do not fit into the remaining
+   * space of the buffer.
+   *
+   * @param value An integer to output.
+   *
+   * @return This output for chaining purposes.
+   */
+  private @NonNull SQLOutput appendDigits(final long value) {
+    final long remaining = value < 0 ? value : -value;
+    long divisor = 1;
+
+    while (remaining / divisor <= -10) {
+      divisor *= 10;
+    }
+
+    if (value < 0) {
+      append('-');
+    }
+
+    while (divisor > 0) {
+      append((char) ('0' - remaining / divisor % 10));
+      divisor /= 10;
+    }
+
+    return this;
+  }
+
+  /**
+   * @param value An integer.
+   *
+   * @return The number of characters required to output the given integer.
+   */
+  private static @NonNegative int getLength(final long value) {
+    long remaining = value < 0 ? value : -value;
+    @NonNegative int length = value < 0 ? 2 : 1;
+
+    while (remaining <= -10) {
+      remaining /= 10;
+      ++length;
+    }
+
+    return length;
+  }
+
+  /**
+   * Output a real number, the number is directly appended to the target if the target is a
+   * string builder.
+   *
+   * @param value A real number to output.
+   *
+   * @return This output for chaining purposes.
+   */
+  public @NonNull SQLOutput append(final double value) {
+    if (_target instanceof StringBuilder) {
+      flush();
+      ((StringBuilder) _target).append(value);
+      return this;
+    }
+
+    return append(Double.toString(value));
+  }
+
+  /**
+   * Output a real number, the number is directly appended to the target if the target is a
+   * string builder.
+   *
+   * @param value A real number to output.
+   *
+   * @return This output for chaining purposes.
+   */
+  public @NonNull SQLOutput append(final float value) {
+    if (_target instanceof StringBuilder) {
+      flush();
+      ((StringBuilder) _target).append(value);
+      return this;
+    }
+
+    return append(Float.toString(value));
+  }
+}
@@ -0,0 +1,221 @@
+package org.liara.expression.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.expression.Constant;
+import org.liara.expression.Expression;
+import org.liara.expression.Placeholder;
+import org.liara.expression.operation.Function;
+import org.liara.expression.operation.Operation;
+import org.liara.support.view.View;
+
+/**
+ * The shape of an expression rendered with parameters, that is the expression with the value of
+ * each non-null constant abstracted by its type.
+ *
+ * Two expressions of the same shape render the same parameterized SQL text, only the values bound
+ * to their parameters differ. Nodes are compared by class, type, operator and name, leaves that are
+ * neither constants nor placeholders are compared by equality.
+ */
+final class SQLShape {
+  @NonNull
+  private final Expression<?> _expression;
+
+  @NonNull
+  private final List<@NonNull Expression<?>> _parameters;
+
+  private final int _hashCode;
+
+  /**
+   * Instantiate the shape of an expression.
+   *
+   * @param expression The expression to abstract.
+   */
+  SQLShape(@NonNull final Expression<?> expression) {
+    @NonNull final List<@NonNull Expression<?>> stack = new ArrayList<>();
+    int hashCode = 1;
+
+    _expression = expression;
+    _parameters = new ArrayList<>();
+
+    stack.add(expression);
+
+    while (!stack.isEmpty()) {
+      @NonNull final Expression<?> node = stack.remove(stack.size() - 1);
+      @NonNull final View<@NonNull ? extends Expression<?>> children = node.getChildren();
+
+      hashCode = 31 * hashCode + hashNode(node);
+      hashCode = 31 * hashCode + children.getSize();
+
+      if (isParameter(node)) {
+        _parameters.add(node);
+      }
+
+      for (int index = children.getSize() - 1; index >= 0; --index) {
+        stack.add(children.get(index));
+      }
+    }
+
+    _hashCode = hashCode;
+  }
+
+  /**
+   * @param node A node of an expression.
+   *
+   * @return True if the given node is rendered as a parameter.
+   */
+  private static boolean isParameter(@NonNull final Expression<?> node) {
+    return node instanceof Placeholder<?> || (
+        node instanceof Constant<?> && ((Constant<?>) node).getValue() != null
+    );
+  }
+
+  /**
+   * @param node A node of an expression.
+   *
+   * @return The hash code of the given node without its children.
+   */
+  private static int hashNode(@NonNull final Expression<?> node) {
+    if (node instanceof Constant<?>) {
+      return Objects.hash(
+          Constant.class, node.getResultType(), ((Constant<?>) node).getValue() == null
+      );
+    } else if (node instanceof Operation<?>) {
+      return Objects.hash(
+          node.getClass(), node.getResultType(), ((Operation<?>) node).getOperator()
+      );
+    } else if (node instanceof Function<?>) {
+      return Objects.hash(Function.class, node.getResultType(), ((Function<?>) node).getName());
+    } else if (node.getChildren().getSize() == 0) {
+      return node.hashCode();
+    } else {
+      return Objects.hash(node.getClass(), node.getResultType());
+    }
+  }
+
+  /**
+   * @param left A node of an expression.
+   * @param right A node of another expression.
+   *
+   * @return True if both nodes, without their children, render the same parameterized SQL text.
+   */
+  private static boolean isSameNode(
+      @NonNull final Expression<?> left,
+      @NonNull final Expression<?> right
+  ) {
+    if (left instanceof Constant<?>) {
+      return right instanceof Constant<?> &&
+          Objects.equals(left.getResultType(), right.getResultType()) &&
+          (((Constant<?>) left).getValue() == null) == (((Constant<?>) right).getValue() == null);
+    } else if (left instanceof Operation<?>) {
+      return left.getClass() == right.getClass() &&
+          Objects.equals(left.getResultType(), right.getResultType()) &&
+          ((Operation<?>) left).getOperator() == ((Operation<?>) right).getOperator();
+    } else if (left instanceof Function<?>) {
+      return right instanceof Function<?> &&
+          Objects.equals(left.getResultType(), right.getResultType()) &&
+          Objects.equals(((Function<?>) left).getName(), ((Function<?>) right).getName());
+    } else if (left.getChildren().getSize() == 0) {
+      return left.equals(right);
+    } else {
+      return left.getClass() == right.getClass() &&
+          Objects.equals(left.getResultType(), right.getResultType());
+    }
+  }
+
+  /**
+   * @return The abstracted expression.
+   */
+  @NonNull Expression<?> getExpression() {
+    return _expression;
+  }
+
+  /**
+   * @return Placeholders and non-null constants of the abstracted expression in order of
+   *     appearance.
+   */
+  @NonNull List<@NonNull Expression<?>> getParameters() {
+    return _parameters;
+  }
+
+  /**
+   * @see Object#equals(Object)
+   */
+  @Override
+  public boolean equals(@Nullable final Object other) {
+    if (other == null) {
+      return false;
+    }
+
+    if (other == this) {
+      return true;
+    }
+
+    if (other instanceof SQLShape) {
+      @NonNull final SQLShape otherShape = (SQLShape) other;
+
+      return _hashCode == otherShape.hashCode() &&
+          _parameters.size() == otherShape.getParameters().size() &&
+          isSameShape(_expression, otherShape.getExpression());
+    }
+
+    return false;
+  }
+
+  /**
+   * @param left An expression.
+   * @param right Another expression.
+   *
+   * @return True if both expressions render the same parameterized SQL text.
+   */
+  private static boolean isSameShape(
+      @NonNull final Expression<?> left,
+      @NonNull final Expression<?> right
+  ) {
+    @NonNull final List<@NonNull Expression<?>> stack = new ArrayList<>();
+
+    stack.add(left);
+    stack.add(right);
+
+    while (!stack.isEmpty()) {
+      @NonNull final Expression<?> rightNode = stack.remove(stack.size() - 1);
+      @NonNull final Expression<?> leftNode = stack.remove(stack.size() - 1);
+      @NonNegative final int size = leftNode.getChildren().getSize();
+
+      if (leftNode == rightNode) {
+        continue;
+      }
+
+      if (size != rightNode.getChildren().getSize() || !isSameNode(leftNode, rightNode)) {
+        return false;
+      }
+
+      for (int index = 0; index < size; ++index) {
+        stack.add(leftNode.getChildren().get(index));
+        stack.add(rightNode.getChildren().get(index));
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * @see Object#hashCode()
+   */
+  @Override
+  public int hashCode() {
+    return _hashCode;
+  }
+
+  /**
+   * @see Object#toString()
+   */
+  @Override
+  public @NonNull String toString() {
+    return super.toString() + "{ " + _expression + " }";
+  }
+}
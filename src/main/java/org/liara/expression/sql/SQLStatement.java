@@ -0,0 +1,117 @@
+package org.liara.expression.sql;
+
+import java.util.List;
+import java.util.Objects;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.data.primitive.Primitive;
+import org.liara.expression.Constant;
+import org.liara.expression.Expression;
+
+/**
+ * A rendered SQL statement with the expressions bound to each of its parameters.
+ *
+ * Each parameter is either a placeholder, whose value is provided by the caller, or a constant,
+ * whose value and primitive type must be bound as is.
+ */
+public final class SQLStatement {
+  @NonNull
+  private final String _sql;
+
+  @NonNull
+  private final List<@NonNull Expression<?>> _parameters;
+
+  /**
+   * Instantiate a new statement.
+   *
+   * @param sql The rendered SQL text.
+   * @param parameters Expressions bound to each parameter of the statement, in order of appearance.
+   */
+  public SQLStatement(
+      @NonNull final String sql,
+      @NonNull final List<@NonNull Expression<?>> parameters
+  ) {
+    _sql = sql;
+    _parameters = List.copyOf(parameters);
+  }
+
+  /**
+   * @return The rendered SQL text.
+   */
+  public @NonNull String getSQL() {
+    return _sql;
+  }
+
+  /**
+   * @return Expressions bound to each parameter of the statement, in order of appearance.
+   */
+  public @NonNull List<@NonNull Expression<?>> getParameters() {
+    return _parameters;
+  }
+
+  /**
+   * Return the value to bind to a parameter of this statement.
+   *
+   * @param index Index of the parameter.
+   *
+   * @return The value of the parameter if it is a constant, null otherwise.
+   */
+  public @Nullable Object getParameterValue(@NonNegative final int index) {
+    @NonNull final Expression<?> parameter = _parameters.get(index);
+    return parameter instanceof Constant<?> ? ((Constant<?>) parameter).getValue() : null;
+  }
+
+  /**
+   * Return the type of a parameter of this statement.
+   *
+   * @param index Index of the parameter.
+   *
+   * @return The type of the parameter.
+   */
+  public @NonNull Primitive<?> getParameterType(@NonNegative final int index) {
+    return _parameters.get(index).getResultType();
+  }
+
+  /**
+   * @see Object#equals(Object)
+   */
+  @Override
+  public boolean equals(@Nullable final Object other) {
+    if (other == null) {
+      return false;
+    }
+
+    if (other == this) {
+      return true;
+    }
+
+    if (other instanceof SQLStatement) {
+      @NonNull final SQLStatement otherStatement = (SQLStatement) other;
+
+      return Objects.equals(
+          _sql, otherStatement.getSQL()
+      ) && Objects.equals(
+          _parameters, otherStatement.getParameters()
+      );
+    }
+
+    return false;
+  }
+
+  /**
+   * @see Object#hashCode()
+   */
+  @Override
+  public int hashCode() {
+    return Objects.hash(_sql, _parameters);
+  }
+
+  /**
+   * @see Object#toString()
+   */
+  @Override
+  public @NonNull String toString() {
+    return super.toString() + "{ " + _sql + " }";
+  }
+}
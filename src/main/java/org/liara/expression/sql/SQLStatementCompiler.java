@@ -0,0 +1,195 @@
+package org.liara.expression.sql;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.expression.Expression;
+
+/**
+ * Render expressions into SQL statements, reusing the statements of structurally equal
+ * expressions.
+ */
+public class SQLStatementCompiler {
+  /**
+   * Default maximum number of statements kept into the cache of a compiler.
+   */
+  @NonNegative
+  public static final int DEFAULT_CACHE_CAPACITY = 256;
+
+  @NonNull
+  private final ExpressionToSQLCompiler _compiler;
+
+  @NonNull
+  private final StringBuilder _output;
+
+  /**
+   * Statements by rendered expression, or by shape of rendered expression when parameterized.
+   */
+  @NonNull
+  private final Map<@NonNull Object, @NonNull SQLStatement> _cache;
+
+  /**
+   * Instantiate a new compiler with a cache of the default capacity.
+   */
+  public SQLStatementCompiler() {
+    this(DEFAULT_CACHE_CAPACITY);
+  }
+
+  /**
+   * Instantiate a new compiler.
+   *
+   * @param cacheCapacity Maximum number of statements to keep into the cache.
+   */
+  public SQLStatementCompiler(@NonNegative final int cacheCapacity) {
+    this(cacheCapacity, false);
+  }
+
+  /**
+   * Instantiate a new compiler.
+   *
+   * @param cacheCapacity Maximum number of statements to keep into the cache.
+   * @param parameterized True if the compiler must render non-null constants as parameters.
+   *
+   * @see ExpressionToSQLCompiler#setParameterized(boolean)
+   */
+  public SQLStatementCompiler(
+      @NonNegative final int cacheCapacity,
+      final boolean parameterized
+  ) {
+    this(cacheCapacity, parameterized, SQLDialect.MYSQL);
+  }
+
+  /**
+   * Instantiate a new compiler.
+   *
+   * @param cacheCapacity Maximum number of statements to keep into the cache.
+   * @param parameterized True if the compiler must render non-null constants as parameters.
+   * @param dialect The dialect to render statements into.
+   *
+   * @see ExpressionToSQLCompiler#setParameterized(boolean)
+   */
+  public SQLStatementCompiler(
+      @NonNegative final int cacheCapacity,
+      final boolean parameterized,
+      @NonNull final SQLDialect dialect
+  ) {
+    _compiler = new ExpressionToSQLCompiler(dialect);
+    _compiler.setParameterized(parameterized);
+    _output = new StringBuilder();
+    _cache = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(
+          final Map.Entry<@NonNull Object, @NonNull SQLStatement> eldest
+      ) {
+        return size() > cacheCapacity;
+      }
+    };
+  }
+
+  /**
+   * Render the given expression, or return the cached statement of a structurally equal one.
+   *
+   * When this compiler is parameterized, expressions that only differ by the values of their
+   * constants share the same rendered text, and the returned statement binds the constants of the
+   * given expression.
+   *
+   * @param expression An expression to render.
+   *
+   * @return The rendered statement.
+   */
+  public @NonNull SQLStatement compile(@NonNull final Expression<?> expression) {
+    if (!_compiler.isParameterized()) {
+      @Nullable SQLStatement result = _cache.get(expression);
+
+      if (result == null) {
+        result = render(expression);
+        _cache.put(expression, result);
+      }
+
+      return result;
+    }
+
+    @NonNull final SQLShape shape = new SQLShape(expression);
+    @Nullable final SQLStatement cached = _cache.get(shape);
+
+    if (cached == null) {
+      @NonNull final SQLStatement result = render(expression);
+      _cache.put(shape, result);
+      return result;
+    }
+
+    if (cached.getParameters().equals(shape.getParameters())) {
+      return cached;
+    }
+
+    return new SQLStatement(cached.getSQL(), shape.getParameters());
+  }
+
+  /**
+   * Render the given expression.
+   *
+   * @param expression An expression to render.
+   *
+   * @return The rendered statement.
+   */
+  private @NonNull SQLStatement render(@NonNull final Expression<?> expression) {
+    _output.setLength(0);
+    _compiler.setExpression(expression);
+    _compiler.compile(_output);
+
+    @NonNull final SQLStatement result = new SQLStatement(
+        _output.toString(), _compiler.getParameters()
+    );
+
+    _compiler.setExpression(null);
+
+    return result;
+  }
+
+  /**
+   * Render the given expression into the given builder.
+   *
+   * @param expression An expression to render.
+   * @param output The string builder to fill with the rendered statement.
+   *
+   * @return The rendered statement.
+   */
+  public @NonNull SQLStatement compile(
+      @NonNull final Expression<?> expression,
+      @NonNull final StringBuilder output
+  ) {
+    @NonNull final SQLStatement result = compile(expression);
+    output.append(result.getSQL());
+    return result;
+  }
+
+  /**
+   * @return True if this compiler renders non-null constants as parameters.
+   */
+  public boolean isParameterized() {
+    return _compiler.isParameterized();
+  }
+
+  /**
+   * @return The dialect that this compiler renders statements into.
+   */
+  public @NonNull SQLDialect getDialect() {
+    return _compiler.getDialect();
+  }
+
+  /**
+   * Remove all statements from the cache of this compiler.
+   */
+  public void clear() {
+    _cache.clear();
+  }
+
+  /**
+   * @return The number of statements into the cache of this compiler.
+   */
+  public @NonNegative int getCacheSize() {
+    return _cache.size();
+  }
+}
@@ -0,0 +1,442 @@
+package org.liara.support.index;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntFunction;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.support.view.View;
+
+/**
+ * An index of values by non-negative identifiers that can be read and updated by many threads.
+ *
+ * As an identified index, this index maps each identifier to a dense index into an array of keys
+ * and an array of values. Each array is split into chunks of a fixed size that are allocated on
+ * demand and never copied, only the small directory of chunks is copied when an array grows.
+ *
+ * Reads never lock. Puts of different identifiers run concurrently: a put reserves its
+ * identifier with a compare-and-set, takes the next dense index from an atomic counter and writes
+ * its entry. The size of the index only grows over entries that are completely written, each put
+ * advancing it over its own entry and over the entries of the puts that completed before it, so
+ * that no put waits for another one. Removals and clears lock the whole index and invalidate the
+ * reads that run concurrently, which are then retried under a shared lock.
+ *
+ * @param <T> Type of value stored into the index.
+ */
+public final class ConcurrentIdentifiedIndex<T> implements Index<@NonNegative Integer, T> {
+  /**
+   * Binary logarithm of the number of elements of each chunk.
+   */
+  @NonNegative
+  static final int CHUNK_SHIFT = 10;
+
+  @NonNegative
+  private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+  /**
+   * Slot of an identifier that is being inserted.
+   */
+  private static final int RESERVED = -1;
+
+  @NonNull
+  private final StampedLock _lock;
+
+  /**
+   * Dense index plus one of each identifier, zero for identifiers that are not in this index.
+   */
+  @NonNull
+  private final Chunks<@NonNull AtomicIntegerArray> _slots;
+
+  /**
+   * Identifier plus one of each dense index, zero for dense indices that are not written yet.
+   */
+  @NonNull
+  private final Chunks<@NonNull AtomicIntegerArray> _keys;
+
+  @NonNull
+  private final Chunks<@NonNull AtomicReferenceArray<T>> _values;
+
+  @NonNull
+  private final AtomicInteger _reserved;
+
+  @NonNull
+  private final AtomicInteger _size;
+
+  @NonNull
+  private final View<T> _valuesView;
+
+  @NonNull
+  private final View<@NonNegative Integer> _keysView;
+
+  /**
+   * Instantiate a new empty index.
+   */
+  public ConcurrentIdentifiedIndex() {
+    _lock = new StampedLock();
+    _slots = new Chunks<>((final int chunk) -> new AtomicIntegerArray(1 << CHUNK_SHIFT));
+    _keys = new Chunks<>((final int chunk) -> new AtomicIntegerArray(1 << CHUNK_SHIFT));
+    _values = new Chunks<>((final int chunk) -> new AtomicReferenceArray<>(1 << CHUNK_SHIFT));
+    _reserved = new AtomicInteger();
+    _size = new AtomicInteger();
+    _valuesView = View.readonly(this::getValueWithIndex, this::getSize);
+    _keysView = View.readonly(this::getKey, this::getSize);
+  }
+
+  /**
+   * Map an identifier to a value, replacing the previous value of the identifier if any.
+   *
+   * The identifier is visible through its key as soon as this method returns, its dense index may
+   * only become part of the size of this index when the puts that took a lower dense index
+   * complete.
+   *
+   * @param key A non-negative identifier.
+   * @param value The value to map to the given identifier.
+   */
+  public void put(@NonNegative final int key, final T value) {
+    assertIdentifier(key);
+
+    final long stamp = _lock.readLock();
+
+    try {
+      @NonNull final AtomicIntegerArray slots = _slots.acquire(key);
+      final int offset = key & CHUNK_MASK;
+
+      while (true) {
+        final int slot = slots.get(offset);
+
+        if (slot > 0) {
+          _values.acquire(slot - 1).set((slot - 1) & CHUNK_MASK, value);
+          return;
+        } else if (slot == 0 && slots.compareAndSet(offset, 0, RESERVED)) {
+          break;
+        }
+
+        Thread.onSpinWait();
+      }
+
+      @NonNegative final int index = _reserved.getAndIncrement();
+
+      _values.acquire(index).set(index & CHUNK_MASK, value);
+      slots.set(offset, index + 1);
+      _keys.acquire(index).set(index & CHUNK_MASK, key + 1);
+
+      publish();
+    } finally {
+      _lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Advance the size of this index over each entry that is completely written.
+   */
+  private void publish() {
+    while (true) {
+      @NonNegative final int size = _size.get();
+      @Nullable final AtomicIntegerArray keys = _keys.get(size);
+
+      if (size >= _reserved.get() || keys == null || keys.get(size & CHUNK_MASK) == 0) {
+        return;
+      }
+
+      _size.compareAndSet(size, size + 1);
+    }
+  }
+
+  /**
+   * Remove an identifier from this index, the last entry of the index takes its dense index.
+   *
+   * @param key The identifier to remove.
+   */
+  public void remove(@NonNegative final int key) {
+    final long stamp = _lock.writeLock();
+
+    try {
+      final int index = getSlot(key) - 1;
+
+      if (index < 0) {
+        return;
+      }
+
+      @NonNegative final int last = _size.get() - 1;
+      final int lastKey = _keys.get(last).get(last & CHUNK_MASK) - 1;
+
+      _keys.get(index).set(index & CHUNK_MASK, lastKey + 1);
+      _keys.get(last).set(last & CHUNK_MASK, 0);
+      _values.get(index).set(index & CHUNK_MASK, _values.get(last).get(last & CHUNK_MASK));
+      _values.get(last).set(last & CHUNK_MASK, null);
+      _slots.get(lastKey).set(lastKey & CHUNK_MASK, index + 1);
+      _slots.get(key).set(key & CHUNK_MASK, 0);
+      _reserved.set(last);
+      _size.set(last);
+    } finally {
+      _lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * Remove each identifier of this index, allocated chunks are kept for further puts.
+   */
+  public void clear() {
+    final long stamp = _lock.writeLock();
+
+    try {
+      for (int index = 0, size = _size.get(); index < size; ++index) {
+        final int key = _keys.get(index).get(index & CHUNK_MASK) - 1;
+
+        _keys.get(index).set(index & CHUNK_MASK, 0);
+        _slots.get(key).set(key & CHUNK_MASK, 0);
+        _values.get(index).set(index & CHUNK_MASK, null);
+      }
+
+      _reserved.set(0);
+      _size.set(0);
+    } finally {
+      _lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * @param key An identifier.
+   *
+   * @return The dense index of the given identifier plus one, or a non-positive integer if this
+   *     index does not contain the given identifier.
+   */
+  private int getSlot(final int key) {
+    if (key < 0) {
+      return 0;
+    }
+
+    @Nullable final AtomicIntegerArray slots = _slots.get(key);
+
+    return slots == null ? 0 : slots.get(key & CHUNK_MASK);
+  }
+
+  /**
+   * @param key An identifier.
+   *
+   * @return The dense index of the given identifier, or -1 if this index does not contain it.
+   */
+  public int indexOf(final int key) {
+    long stamp = _lock.tryOptimisticRead();
+    int slot = getSlot(key);
+
+    if (!_lock.validate(stamp)) {
+      stamp = _lock.readLock();
+
+      try {
+        slot = getSlot(key);
+      } finally {
+        _lock.unlockRead(stamp);
+      }
+    }
+
+    return slot > 0 ? slot - 1 : -1;
+  }
+
+  @Override
+  public @NonNegative int getIndexOfKey(@NonNegative final Integer key) {
+    final int index = indexOf(key);
+
+    if (index < 0) {
+      throw new NoSuchElementException(
+          "Unable to retrieve the index of key #" + key + " into this index because the " +
+              "given key does not exists."
+      );
+    }
+
+    return index;
+  }
+
+  @Override
+  public @NonNegative Integer getKey(@NonNegative final int index) {
+    long stamp = _lock.tryOptimisticRead();
+    int result = readKey(index);
+
+    if (!_lock.validate(stamp)) {
+      stamp = _lock.readLock();
+
+      try {
+        result = readKey(index);
+      } finally {
+        _lock.unlockRead(stamp);
+      }
+    }
+
+    if (result < 0) {
+      throw outOfBounds(index);
+    }
+
+    return result;
+  }
+
+  private int readKey(final int index) {
+    return index >= 0 && index < _size.get() ? _keys.get(index).get(index & CHUNK_MASK) - 1 : -1;
+  }
+
+  @Override
+  public boolean containsValueWithKey(@NonNegative final Integer key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public T getValueWithIndex(@NonNegative final int index) {
+    long stamp = _lock.tryOptimisticRead();
+    boolean exists = index >= 0 && index < _size.get();
+    @Nullable T result = exists ? _values.get(index).get(index & CHUNK_MASK) : null;
+
+    if (!_lock.validate(stamp)) {
+      stamp = _lock.readLock();
+
+      try {
+        exists = index >= 0 && index < _size.get();
+        result = exists ? _values.get(index).get(index & CHUNK_MASK) : null;
+      } finally {
+        _lock.unlockRead(stamp);
+      }
+    }
+
+    if (!exists) {
+      throw outOfBounds(index);
+    }
+
+    return result;
+  }
+
+  @Override
+  public T getValueWithKey(@NonNegative final Integer key) {
+    long stamp = _lock.tryOptimisticRead();
+    int slot = getSlot(key);
+    @Nullable T result = slot > 0 ? _values.get(slot - 1).get((slot - 1) & CHUNK_MASK) : null;
+
+    if (!_lock.validate(stamp)) {
+      stamp = _lock.readLock();
+
+      try {
+        slot = getSlot(key);
+        result = slot > 0 ? _values.get(slot - 1).get((slot - 1) & CHUNK_MASK) : null;
+      } finally {
+        _lock.unlockRead(stamp);
+      }
+    }
+
+    if (slot <= 0) {
+      throw new NoSuchElementException(
+          "Unable to retrieve the value of key #" + key + " into this index because the " +
+              "given key does not exists."
+      );
+    }
+
+    return result;
+  }
+
+  @Override
+  public @NonNegative int getSize() {
+    return _size.get();
+  }
+
+  @Override
+  public @NonNull View<? extends T> getValues() {
+    return _valuesView;
+  }
+
+  @Override
+  public @NonNull View<? extends @NonNegative Integer> getKeys() {
+    return _keysView;
+  }
+
+  private static void assertIdentifier(final int key) {
+    if (key < 0) {
+      throw new IllegalArgumentException(
+          "Unable to put the key #" + key + " into this index because an identifier must be " +
+              "non-negative."
+      );
+    }
+  }
+
+  private @NonNull IndexOutOfBoundsException outOfBounds(final int index) {
+    return new IndexOutOfBoundsException(
+        "Unable to get the entry at the index #" + index + " because the given index is out of " +
+            "bounds [0, " + _size.get() + "[."
+    );
+  }
+
+  /**
+   * A growable array of chunks allocated on demand.
+   *
+   * @param <C> Type of chunk.
+   */
+  private static final class Chunks<C> {
+    @NonNull
+    private final IntFunction<@NonNull C> _factory;
+
+    @NonNull
+    private volatile AtomicReferenceArray<@Nullable C> _directory;
+
+    Chunks(@NonNull final IntFunction<@NonNull C> factory) {
+      _factory = factory;
+      _directory = new AtomicReferenceArray<>(1);
+    }
+
+    /**
+     * @param index Index of an element.
+     *
+     * @return The chunk that contains the given element, or null if this chunk was not allocated.
+     */
+    @Nullable C get(@NonNegative final int index) {
+      @NonNull final AtomicReferenceArray<@Nullable C> directory = _directory;
+      @NonNegative final int chunk = index >>> CHUNK_SHIFT;
+
+      return chunk < directory.length() ? directory.get(chunk) : null;
+    }
+
+    /**
+     * @param index Index of an element.
+     *
+     * @return The chunk that contains the given element, allocated if necessary.
+     */
+    @NonNull C acquire(@NonNegative final int index) {
+      @NonNull final AtomicReferenceArray<@Nullable C> directory = _directory;
+      @NonNegative final int chunk = index >>> CHUNK_SHIFT;
+      @Nullable final C result = chunk < directory.length() ? directory.get(chunk) : null;
+
+      return result == null ? allocate(chunk) : result;
+    }
+
+    /**
+     * Allocate a chunk, enlarging the directory if necessary. Only the directory is copied.
+     *
+     * @param chunk Index of the chunk to allocate.
+     *
+     * @return The allocated chunk, or the chunk allocated by a concurrent call.
+     */
+    private synchronized @NonNull C allocate(@NonNegative final int chunk) {
+      @NonNull AtomicReferenceArray<@Nullable C> directory = _directory;
+
+      if (chunk >= directory.length()) {
+        @NonNull final AtomicReferenceArray<@Nullable C> enlarged = new AtomicReferenceArray<>(
+            Math.max(chunk + 1, directory.length() * 2)
+        );
+
+        for (int index = 0; index < directory.length(); ++index) {
+          enlarged.set(index, directory.get(index));
+        }
+
+        _directory = enlarged;
+        directory = enlarged;
+      }
+
+      @Nullable C result = directory.get(chunk);
+
+      if (result == null) {
+        result = _factory.apply(chunk);
+        directory.set(chunk, result);
+      }
+
+      return result;
+    }
+  }
+}
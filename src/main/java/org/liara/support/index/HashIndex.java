@@ -0,0 +1,443 @@
+package org.liara.support.index;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.support.view.View;
+
+/**
+ * An index of pairs kept in insertion order and located by hashing their keys.
+ *
+ * Keys and values are stored into dense arrays in their insertion order, exactly like a list
+ * index. Keys are located through an open-addressing table with linear probing that maps each
+ * key to its dense index, so that puts and lookups are done in constant time instead of
+ * maintaining a sorted list of keys. Removals still shift the following pairs in order to
+ * preserve the insertion order.
+ *
+ * If a comparator is given, a view over the keys in their order is built lazily on first access,
+ * and rebuilt after each update of the keys.
+ *
+ * @param <Key> Type of key of the index.
+ * @param <Value> Type of value of the index.
+ */
+public class HashIndex<Key, Value> implements Index<Key, Value> {
+  /**
+   * Default capacity of an index.
+   */
+  @NonNegative
+  public static final int DEFAULT_CAPACITY = 16;
+
+  /**
+   * Marker of an empty slot of the table.
+   */
+  private static final int EMPTY = 0;
+
+  @Nullable
+  private final Comparator<? super Key> _keyComparator;
+
+  @Nullable
+  private Object @NonNull [] _keys;
+
+  @Nullable
+  private Object @NonNull [] _values;
+
+  private int @NonNull [] _hashes;
+
+  /**
+   * Dense index plus one of the key of each slot, or EMPTY.
+   */
+  private int @NonNull [] _table;
+
+  @NonNegative
+  private int _size;
+
+  private int @Nullable [] _order;
+
+  @NonNull
+  private final View<? extends Value> _readonlyValues;
+
+  @NonNull
+  private final View<? extends Key> _readonlyKeys;
+
+  @NonNull
+  private final View<? extends Key> _orderedKeys;
+
+  /**
+   * Instantiate a new empty index without ordered view.
+   */
+  public HashIndex() {
+    this(DEFAULT_CAPACITY, null);
+  }
+
+  /**
+   * Instantiate a new empty index without ordered view.
+   *
+   * @param capacity Number of pairs that the index can contain without being enlarged.
+   */
+  public HashIndex(@NonNegative final int capacity) {
+    this(capacity, null);
+  }
+
+  /**
+   * Instantiate a new empty index.
+   *
+   * @param keyComparator Comparator used for ordering the keys of the index, or null.
+   */
+  public HashIndex(@Nullable final Comparator<? super Key> keyComparator) {
+    this(DEFAULT_CAPACITY, keyComparator);
+  }
+
+  /**
+   * Instantiate a new empty index.
+   *
+   * @param capacity Number of pairs that the index can contain without being enlarged.
+   * @param keyComparator Comparator used for ordering the keys of the index, or null.
+   */
+  public HashIndex(
+      @NonNegative final int capacity,
+      @Nullable final Comparator<? super Key> keyComparator
+  ) {
+    _keyComparator = keyComparator;
+    _keys = new Object[Math.max(capacity, 1)];
+    _values = new Object[_keys.length];
+    _hashes = new int[_keys.length];
+    _table = new int[getTableCapacity(_keys.length)];
+    _size = 0;
+    _order = null;
+
+    _readonlyKeys = View.readonly(this::getKey, this::getSize);
+    _readonlyValues = View.readonly(this::getValueWithIndex, this::getSize);
+    _orderedKeys = View.readonly(
+        (@NonNegative final int index) -> getKey(getOrder()[index]), this::getSize
+    );
+  }
+
+  /**
+   * Instantiate a new index that contains the given pairs, a later pair replaces the value of an
+   * earlier pair with the same key.
+   *
+   * The table is allocated once for all pairs and, if a comparator is given, the keys are sorted
+   * once.
+   *
+   * @param keys Keys of each pair.
+   * @param values Values of each pair.
+   * @param keyComparator Comparator used for ordering the keys of the index, or null.
+   */
+  public HashIndex(
+      @NonNull final View<? extends Key> keys,
+      @NonNull final View<? extends Value> values,
+      @Nullable final Comparator<? super Key> keyComparator
+  ) {
+    this(keys.getSize(), keyComparator);
+
+    if (keys.getSize() != values.getSize()) {
+      throw new IllegalArgumentException(
+          "Unable to load the given pairs because " + keys.getSize() + " keys and " +
+              values.getSize() + " values were given."
+      );
+    }
+
+    for (int index = 0, size = keys.getSize(); index < size; ++index) {
+      put(keys.get(index), values.get(index));
+    }
+
+    if (keyComparator != null) {
+      getOrder();
+    }
+  }
+
+  private static @NonNegative int getTableCapacity(@NonNegative final int capacity) {
+    return Integer.highestOneBit(Math.max(capacity, 2) * 2 - 1) * 2;
+  }
+
+  private static int hash(@Nullable final Object key) {
+    final int hash = Objects.hashCode(key) * 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+
+  /**
+   * Return the slot of the table that contains the given key, or the empty slot where the given
+   * key would be inserted.
+   *
+   * @param key A key.
+   * @param hash The hash of the given key.
+   *
+   * @return The slot of the given key.
+   */
+  private @NonNegative int locate(@Nullable final Object key, final int hash) {
+    final int mask = _table.length - 1;
+    int slot = hash & mask;
+
+    while (true) {
+      final int entry = _table[slot];
+
+      if (entry == EMPTY) {
+        return slot;
+      }
+
+      if (_hashes[entry - 1] == hash && Objects.equals(_keys[entry - 1], key)) {
+        return slot;
+      }
+
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  /**
+   * Empty a slot of the table and move back the entries that were displaced by it.
+   *
+   * @param slot The slot to empty.
+   */
+  private void release(@NonNegative final int slot) {
+    final int mask = _table.length - 1;
+    int hole = slot;
+    int next = (slot + 1) & mask;
+
+    while (_table[next] != EMPTY) {
+      final int home = _hashes[_table[next] - 1] & mask;
+
+      if (((next - home) & mask) >= ((next - hole) & mask)) {
+        _table[hole] = _table[next];
+        hole = next;
+      }
+
+      next = (next + 1) & mask;
+    }
+
+    _table[hole] = EMPTY;
+  }
+
+  private void ensureCapacity(@NonNegative final int capacity) {
+    if (capacity > _keys.length) {
+      final int next = Math.max(capacity, _keys.length * 2);
+
+      _keys = Arrays.copyOf(_keys, next);
+      _values = Arrays.copyOf(_values, next);
+      _hashes = Arrays.copyOf(_hashes, next);
+    }
+
+    if (capacity * 2 > _table.length) {
+      _table = new int[getTableCapacity(_keys.length)];
+
+      for (int index = 0; index < _size; ++index) {
+        _table[locate(_keys[index], _hashes[index])] = index + 1;
+      }
+    }
+  }
+
+  public void put(final Key key, final Value value) {
+    final int hash = hash(key);
+    final int entry = _table[locate(key, hash)];
+
+    if (entry == EMPTY) {
+      ensureCapacity(_size + 1);
+
+      _keys[_size] = key;
+      _values[_size] = value;
+      _hashes[_size] = hash;
+      _table[locate(key, hash)] = _size + 1;
+      _size += 1;
+      _order = null;
+    } else {
+      _values[entry - 1] = value;
+    }
+  }
+
+  public void setValue(@NonNegative final int index, final Value value) {
+    checkIndex(index);
+    _values[index] = value;
+  }
+
+  public void setValue(final Key key, final Value value) {
+    _values[getIndexOfKey(key)] = value;
+  }
+
+  public void setKey(final Key from, final Key to) {
+    final int entry = _table[locate(from, hash(from))];
+
+    if (entry == EMPTY) {
+      throw new IllegalArgumentException(
+          "Unable to update the key of the pair with key \"" + from + "\" to \"" + to +
+              "\" because no pair with key \"" + from + "\" exists into this index."
+      );
+    }
+
+    setKey(entry - 1, to);
+  }
+
+  public void setKey(final int index, final Key target) {
+    if (index < 0 || index >= _size) {
+      throw new IllegalArgumentException(
+          "Unable to update the key of the " + index + "th pair to \"" + target +
+              "\" because the " + index + "th pair is out of this index bounds that are between " +
+              "0 (included) and " + _size + " (excluded)."
+      );
+    }
+
+    final int hash = hash(target);
+    final int targetSlot = locate(target, hash);
+
+    if (_table[targetSlot] != EMPTY) {
+      throw new IllegalArgumentException(
+          "Unable to update the key of the " + index + "th pair to \"" + target +
+              "\" because another pair of this index does already use the given key."
+      );
+    }
+
+    release(locate(_keys[index], _hashes[index]));
+
+    _keys[index] = target;
+    _hashes[index] = hash;
+    _table[locate(target, hash)] = index + 1;
+    _order = null;
+  }
+
+  public void remove(final Key key) {
+    final int entry = _table[locate(key, hash(key))];
+
+    if (entry == EMPTY) {
+      throw new IllegalArgumentException(
+          "Unable to remove the pair with the key \"" + key + "\" from this " +
+              "index because no pair with key \"" + key + "\" exists into it."
+      );
+    }
+
+    remove(entry - 1);
+  }
+
+  public void remove(@NonNegative final int keyIndex) {
+    checkIndex(keyIndex);
+    release(locate(_keys[keyIndex], _hashes[keyIndex]));
+
+    final int moved = _size - keyIndex - 1;
+
+    System.arraycopy(_keys, keyIndex + 1, _keys, keyIndex, moved);
+    System.arraycopy(_values, keyIndex + 1, _values, keyIndex, moved);
+    System.arraycopy(_hashes, keyIndex + 1, _hashes, keyIndex, moved);
+
+    _size -= 1;
+    _keys[_size] = null;
+    _values[_size] = null;
+
+    if (moved > 0) {
+      for (int slot = 0; slot < _table.length; ++slot) {
+        if (_table[slot] > keyIndex + 1) {
+          _table[slot] -= 1;
+        }
+      }
+    }
+
+    _order = null;
+  }
+
+  public void clear() {
+    Arrays.fill(_keys, 0, _size, null);
+    Arrays.fill(_values, 0, _size, null);
+    Arrays.fill(_table, EMPTY);
+    _size = 0;
+    _order = null;
+  }
+
+  private void checkIndex(final int index) {
+    if (index < 0 || index >= _size) {
+      throw new IndexOutOfBoundsException(
+          "Unable to access the " + index + "th pair because the " + index + "th pair is out of " +
+              "this index bounds that are between 0 (included) and " + _size + " (excluded)."
+      );
+    }
+  }
+
+  /**
+   * @return The dense index of each key of this index in the order of the keys.
+   */
+  @SuppressWarnings("unchecked")
+  private int @NonNull [] getOrder() {
+    if (_order == null) {
+      @NonNull final Comparator<? super Key> comparator = Objects.requireNonNull(_keyComparator);
+
+      _order = IntStream.range(0, _size).boxed().sorted(
+          (@NonNull final Integer left, @NonNull final Integer right) -> comparator.compare(
+              (Key) _keys[left], (Key) _keys[right]
+          )
+      ).mapToInt(Integer::intValue).toArray();
+    }
+
+    return _order;
+  }
+
+  @Override
+  public @NonNegative int getIndexOfKey(final Key key) {
+    final int entry = _table[locate(key, hash(key))];
+
+    if (entry == EMPTY) {
+      throw new NoSuchElementException(
+          "Unable to retrieve the index of key \"" + key +
+              "\" into this index because the given key is not in this index."
+      );
+    }
+
+    return entry - 1;
+  }
+
+  @Override
+  public boolean containsValueWithKey(final Key key) {
+    return _table[locate(key, hash(key))] != EMPTY;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Key getKey(@NonNegative final int index) {
+    checkIndex(index);
+    return (Key) _keys[index];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Value getValueWithIndex(@NonNegative final int index) {
+    checkIndex(index);
+    return (Value) _values[index];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Value getValueWithKey(final Key key) {
+    return (Value) _values[getIndexOfKey(key)];
+  }
+
+  @Override
+  public int getSize() {
+    return _size;
+  }
+
+  @Override
+  public @NonNull View<? extends Value> getValues() {
+    return _readonlyValues;
+  }
+
+  @Override
+  public @NonNull View<? extends Key> getKeys() {
+    return _readonlyKeys;
+  }
+
+  /**
+   * Return the keys of this index in the order of the key comparator of this index.
+   *
+   * @return A view over the keys of this index in their order.
+   *
+   * @throws UnsupportedOperationException If this index was created without key comparator.
+   */
+  public @NonNull View<? extends Key> getOrderedKeys() {
+    if (_keyComparator == null) {
+      throw new UnsupportedOperationException(
+          "Unable to order the keys of this index because no key comparator was given to it."
+      );
+    }
+
+    return _orderedKeys;
+  }
+}
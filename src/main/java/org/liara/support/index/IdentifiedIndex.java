@@ -27,14 +27,10 @@ public class IdentifiedIndex<T> implements Index<@NonNegative Integer, T> {
   }
 
   public void put (@NonNegative final int key, final T value) {
-    if (key >= _set.getCapacity()) {
-      int nextCapacity = Math.max(_set.getCapacity(), 1);
-      while (nextCapacity <= key) nextCapacity *= 2;
-      _set.reallocate(nextCapacity);
-    }
+    final int index = _set.indexOf(key);
 
-    if (_set.contains(key)) {
-      _values.set(_set.indexOf(key), value);
+    if (index >= 0) {
+      _values.set(index, value);
     } else {
       _set.add(key);
       _values.add(value);
@@ -42,8 +38,9 @@ public class IdentifiedIndex<T> implements Index<@NonNegative Integer, T> {
   }
 
   public void remove(@NonNegative final int key) {
-    if (_set.contains(key)) {
-      @NonNegative final int index = _set.indexOf(key);
+    final int index = _set.indexOf(key);
+
+    if (index >= 0) {
       _set.remove(key);
       _values.set(index, _values.get(_values.size() - 1));
       _values.remove(_values.size() - 1);
@@ -7,6 +7,13 @@ import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 public class SparseSet implements Iterable<@NonNegative Integer> {
+  /**
+   * Largest capacity of a sparse set, that is the largest length of an array that most virtual
+   * machines allocate. A sparse set stores values lesser than its capacity.
+   */
+  @NonNegative
+  public static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
   @NonNegative
   private int[] _sparse;
 
@@ -58,7 +65,7 @@ public class SparseSet implements Iterable<@NonNegative Integer> {
    * @return True if this set contains the given value, false otherwise.
    */
   public boolean contains (@NonNegative final int value) {
-    return  value < getCapacity() && _size > 0 && _dense[_sparse[value]] == value;
+    return indexOf(value) >= 0;
   }
 
   /**
@@ -79,7 +86,7 @@ public class SparseSet implements Iterable<@NonNegative Integer> {
     if (value < getCapacity()) {
       @NonNegative final int index = _sparse[value];
 
-      if (_size > 0 && _dense[index] == value) {
+      if (index < _size && _dense[index] == value) {
         return index;
       }
     }
@@ -113,26 +120,55 @@ public class SparseSet implements Iterable<@NonNegative Integer> {
   }
 
   /**
-   * Add a value to this sparse set.
+   * Add a value to this sparse set, the capacity of the set is doubled until it can store the
+   * given value.
    *
    * @param value The value to add.
+   *
+   * @see #MAXIMUM_CAPACITY
    */
   public void add (@NonNegative final int value) {
-    if (value < getCapacity()) {
-      @NonNegative final int index = _sparse[value];
+    if (value < 0) {
+      throw new IllegalArgumentException(
+          "Unable to add the given value #" + value + " because a sparse set only contains " +
+              "non-negative values."
+      );
+    }
 
-      if (_size == 0 || _dense[index] != value) {
-        _sparse[value] = _size;
-        _dense[_size] = value;
-        _size += 1;
-      }
-    } else {
+    if (value >= MAXIMUM_CAPACITY) {
       throw new IllegalArgumentException(
-          "Unable to add the given value #" + value + " because the given value is greater " +
-              "than or equal to this sparse set capacity that is of " + getCapacity() +
+          "Unable to add the given value #" + value + " because a sparse set only contains " +
+              "values lesser than its maximum capacity that is of " + MAXIMUM_CAPACITY +
               " number(s)."
       );
     }
+
+    if (value >= getCapacity()) {
+      grow(value);
+    }
+
+    if (indexOf(value) < 0) {
+      _sparse[value] = _size;
+      _dense[_size] = value;
+      _size += 1;
+    }
+  }
+
+  /**
+   * Enlarge the buffers of this set in order to store the given value, without re-inserting the
+   * values of the set.
+   *
+   * @param value A value to store.
+   */
+  private void grow (@NonNegative final int value) {
+    int capacity = Math.max(getCapacity(), 1);
+
+    while (capacity <= value) {
+      capacity = capacity > MAXIMUM_CAPACITY / 2 ? MAXIMUM_CAPACITY : capacity * 2;
+    }
+
+    _sparse = Arrays.copyOf(_sparse, capacity);
+    _dense = Arrays.copyOf(_dense, capacity);
   }
 
   /**
@@ -144,7 +180,7 @@ public class SparseSet implements Iterable<@NonNegative Integer> {
     if (value < getCapacity()) {
       @NonNegative final int index = _sparse[value];
 
-      if (_size > 0 && _dense[index] == value) {
+      if (index < _size && _dense[index] == value) {
         @NonNegative final int last = _dense[_size - 1];
 
         _dense[index] = last;
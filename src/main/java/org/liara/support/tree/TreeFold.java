@@ -0,0 +1,347 @@
+package org.liara.support.tree;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.support.view.View;
+
+/**
+ * A depth-first fold of a tree into an accumulator.
+ *
+ * Hooks are registered for classes of nodes and called as the fold enters a node, moves between
+ * two children of a node and exits a node. The hooks of a node are the hooks registered for the
+ * most specific class or interface of the node, they are resolved once per class of node and
+ * cached into a table, so that dispatching a node is a single lookup instead of a cascade of type
+ * checks. Nodes without hooks are traversed silently.
+ *
+ * The fold runs without recursion over an explicit stack, so it does not depend on the depth of
+ * the tree. A fold instance is not thread-safe and can be reused for many trees.
+ *
+ * @param <Node> Type of node to fold.
+ * @param <Accumulator> Type of accumulator to fold the nodes into.
+ */
+public final class TreeFold<Node extends TreeElement, Accumulator> {
+  /**
+   * Hook called when the fold enters a node.
+   *
+   * @param <Node> Type of node.
+   * @param <Accumulator> Type of accumulator.
+   */
+  @FunctionalInterface
+  public interface Enter<Node, Accumulator> {
+    /**
+     * @param node The entered node.
+     * @param accumulator The accumulator of the fold.
+     *
+     * @return True in order to fold the children of the node, false in order to prune them.
+     */
+    boolean enter(@NonNull final Node node, final Accumulator accumulator);
+  }
+
+  /**
+   * Hook called when the fold moves from a child of a node to the next one.
+   *
+   * @param <Node> Type of node.
+   * @param <Accumulator> Type of accumulator.
+   */
+  @FunctionalInterface
+  public interface Between<Node, Accumulator> {
+    /**
+     * @param node The parent node.
+     * @param child Index of the next child to fold, always greater than zero.
+     * @param accumulator The accumulator of the fold.
+     */
+    void between(
+        @NonNull final Node node,
+        @NonNegative final int child,
+        final Accumulator accumulator
+    );
+  }
+
+  /**
+   * Hook called when the fold exits a node, even if its children were pruned.
+   *
+   * @param <Node> Type of node.
+   * @param <Accumulator> Type of accumulator.
+   */
+  @FunctionalInterface
+  public interface Exit<Node, Accumulator> {
+    /**
+     * @param node The exited node.
+     * @param accumulator The accumulator of the fold.
+     */
+    void exit(@NonNull final Node node, final Accumulator accumulator);
+  }
+
+  @NonNegative
+  private static final int DEFAULT_CAPACITY = 16;
+
+  @NonNull
+  private static final Dispatch NO_DISPATCH = new Dispatch(null, null, null);
+
+  @NonNull
+  private final Class<Node> _nodeClass;
+
+  @NonNull
+  private final Map<@NonNull Class<?>, @NonNull Enter<?, ?>> _enters;
+
+  @NonNull
+  private final Map<@NonNull Class<?>, @NonNull Between<?, ?>> _betweens;
+
+  @NonNull
+  private final Map<@NonNull Class<?>, @NonNull Exit<?, ?>> _exits;
+
+  /**
+   * Hooks resolved for each class of node encountered.
+   */
+  @NonNull
+  private final Map<@NonNull Class<?>, @NonNull Dispatch> _dispatches;
+
+  @Nullable
+  private Object @NonNull [] _nodes;
+
+  @Nullable
+  private Dispatch @NonNull [] _stack;
+
+  private int @NonNull [] _cursors;
+
+  /**
+   * Instantiate a new fold without hooks.
+   *
+   * @param nodeClass Type of node to fold.
+   */
+  public TreeFold(@NonNull final Class<Node> nodeClass) {
+    _nodeClass = nodeClass;
+    _enters = new HashMap<>();
+    _betweens = new HashMap<>();
+    _exits = new HashMap<>();
+    _dispatches = new HashMap<>();
+    _nodes = new Object[DEFAULT_CAPACITY];
+    _stack = new Dispatch[DEFAULT_CAPACITY];
+    _cursors = new int[DEFAULT_CAPACITY];
+  }
+
+  /**
+   * Register the hook to call when the fold enters a node of the given type.
+   *
+   * @param type A type of node.
+   * @param hook The hook to call.
+   * @param <T> A type of node.
+   *
+   * @return This fold instance for chaining purposes.
+   */
+  public <T extends Node> @NonNull TreeFold<Node, Accumulator> onEnter(
+      @NonNull final Class<T> type,
+      @NonNull final Enter<? super T, ? super Accumulator> hook
+  ) {
+    _enters.put(type, hook);
+    _dispatches.clear();
+    return this;
+  }
+
+  /**
+   * Register the hook to call when the fold moves between two children of a node of the given
+   * type.
+   *
+   * @param type A type of node.
+   * @param hook The hook to call.
+   * @param <T> A type of node.
+   *
+   * @return This fold instance for chaining purposes.
+   */
+  public <T extends Node> @NonNull TreeFold<Node, Accumulator> onBetween(
+      @NonNull final Class<T> type,
+      @NonNull final Between<? super T, ? super Accumulator> hook
+  ) {
+    _betweens.put(type, hook);
+    _dispatches.clear();
+    return this;
+  }
+
+  /**
+   * Register the hook to call when the fold exits a node of the given type.
+   *
+   * @param type A type of node.
+   * @param hook The hook to call.
+   * @param <T> A type of node.
+   *
+   * @return This fold instance for chaining purposes.
+   */
+  public <T extends Node> @NonNull TreeFold<Node, Accumulator> onExit(
+      @NonNull final Class<T> type,
+      @NonNull final Exit<? super T, ? super Accumulator> hook
+  ) {
+    _exits.put(type, hook);
+    _dispatches.clear();
+    return this;
+  }
+
+  /**
+   * Fold a tree into the given accumulator.
+   *
+   * @param root The root of the tree to fold.
+   * @param accumulator The accumulator to fold the tree into.
+   *
+   * @return The given accumulator.
+   */
+  public Accumulator fold(@NonNull final Node root, final Accumulator accumulator) {
+    int depth = push(0, root, accumulator);
+
+    try {
+      while (depth > 0) {
+        @NonNegative final int top = depth - 1;
+        @NonNull final Node node = _nodeClass.cast(_nodes[top]);
+        @NonNull final Dispatch dispatch = _stack[top];
+        @NonNull final View<@NonNull ? extends TreeElement> children = node.getChildren();
+        @NonNegative final int cursor = _cursors[top];
+
+        if (cursor < children.getSize()) {
+          if (cursor > 0 && dispatch._between != null) {
+            dispatch._between.between(node, cursor, accumulator);
+          }
+
+          _cursors[top] = cursor + 1;
+          depth = push(depth, _nodeClass.cast(children.get(cursor)), accumulator);
+        } else {
+          _nodes[top] = null;
+          _stack[top] = null;
+          depth = top;
+
+          if (dispatch._exit != null) {
+            dispatch._exit.exit(node, accumulator);
+          }
+        }
+      }
+    } finally {
+      Arrays.fill(_nodes, 0, depth, null);
+      Arrays.fill(_stack, 0, depth, null);
+    }
+
+    return accumulator;
+  }
+
+  /**
+   * Enter a node and push it on the stack of the fold if its children must be folded.
+   *
+   * @param depth The current depth of the stack.
+   * @param node The node to enter.
+   * @param accumulator The accumulator of the fold.
+   *
+   * @return The new depth of the stack.
+   */
+  private @NonNegative int push(
+      @NonNegative final int depth,
+      @NonNull final Node node,
+      final Accumulator accumulator
+  ) {
+    @NonNull final Dispatch dispatch = getDispatch(node.getClass());
+
+    if (dispatch._enter != null && !dispatch._enter.enter(node, accumulator)) {
+      if (dispatch._exit != null) {
+        dispatch._exit.exit(node, accumulator);
+      }
+
+      return depth;
+    }
+
+    if (depth == _nodes.length) {
+      _nodes = Arrays.copyOf(_nodes, depth * 2);
+      _stack = Arrays.copyOf(_stack, depth * 2);
+      _cursors = Arrays.copyOf(_cursors, depth * 2);
+    }
+
+    _nodes[depth] = node;
+    _stack[depth] = dispatch;
+    _cursors[depth] = 0;
+
+    return depth + 1;
+  }
+
+  /**
+   * @param type A class of node.
+   *
+   * @return The hooks of the given class of node.
+   */
+  @SuppressWarnings("unchecked")
+  private @NonNull Dispatch getDispatch(@NonNull final Class<?> type) {
+    @Nullable Dispatch result = _dispatches.get(type);
+
+    if (result == null) {
+      result = new Dispatch(
+          (Enter<Object, Object>) resolve(type, _enters),
+          (Between<Object, Object>) resolve(type, _betweens),
+          (Exit<Object, Object>) resolve(type, _exits)
+      );
+
+      if (result._enter == null && result._between == null && result._exit == null) {
+        result = NO_DISPATCH;
+      }
+
+      _dispatches.put(type, result);
+    }
+
+    return result;
+  }
+
+  /**
+   * Return the hook registered for the most specific type of the given class. Superclasses are
+   * preferred over interfaces of the same class.
+   *
+   * @param type A class of node.
+   * @param hooks Registered hooks by type.
+   * @param <T> Type of hook.
+   *
+   * @return The resolved hook if any.
+   */
+  private static <T> @Nullable T resolve(
+      @NonNull final Class<?> type,
+      @NonNull final Map<@NonNull Class<?>, @NonNull T> hooks
+  ) {
+    for (@Nullable Class<?> current = type; current != null; current = current.getSuperclass()) {
+      @Nullable final T result = hooks.get(current);
+
+      if (result != null) {
+        return result;
+      }
+    }
+
+    for (@Nullable Class<?> current = type; current != null; current = current.getSuperclass()) {
+      for (@NonNull final Class<?> contract : current.getInterfaces()) {
+        @Nullable final T result = resolve(contract, hooks);
+
+        if (result != null) {
+          return result;
+        }
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Hooks of a class of node.
+   */
+  private static final class Dispatch {
+    @Nullable
+    final Enter<Object, Object> _enter;
+
+    @Nullable
+    final Between<Object, Object> _between;
+
+    @Nullable
+    final Exit<Object, Object> _exit;
+
+    Dispatch(
+        @Nullable final Enter<Object, Object> enter,
+        @Nullable final Between<Object, Object> between,
+        @Nullable final Exit<Object, Object> exit
+    ) {
+      _enter = enter;
+      _between = between;
+      _exit = exit;
+    }
+  }
+}
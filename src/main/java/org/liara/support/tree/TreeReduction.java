@@ -0,0 +1,266 @@
+package org.liara.support.tree;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.support.view.View;
+
+/**
+ * A bottom-up reduction of a tree, each node is reduced with the results of its children in
+ * their order.
+ *
+ * A sequential reduction runs without recursion over an explicit stack. A parallel reduction
+ * splits the children of each wide node, that is each node with more than a threshold number of
+ * children, into ranges that are reduced in parallel by a fork-join pool; narrower nodes are
+ * reduced sequentially by the task that reaches them. The results of the children are always
+ * given to the reducer in order, so the reducer does not need to be associative, only to be
+ * thread-safe when the reduction is parallel.
+ *
+ * @param <Node> Type of node to reduce.
+ * @param <Result> Type of result of the reduction.
+ */
+public final class TreeReduction<Node extends TreeElement, Result> {
+  /**
+   * Reduce a node with the results of its children.
+   *
+   * @param <Node> Type of node.
+   * @param <Result> Type of result.
+   */
+  @FunctionalInterface
+  public interface Reducer<Node, Result> {
+    /**
+     * @param node The node to reduce.
+     * @param children The results of each child of the node, in order.
+     *
+     * @return The result of the given node.
+     */
+    Result reduce(@NonNull final Node node, @NonNull final View<Result> children);
+  }
+
+  /**
+   * Default maximum number of children of a node reduced by a single task.
+   */
+  @NonNegative
+  public static final int DEFAULT_THRESHOLD = 256;
+
+  @NonNegative
+  private static final int DEFAULT_CAPACITY = 16;
+
+  @NonNull
+  private final Class<Node> _nodeClass;
+
+  @NonNull
+  private final Reducer<? super Node, Result> _reducer;
+
+  @NonNegative
+  private final int _threshold;
+
+  @NonNull
+  private final ForkJoinPool _pool;
+
+  /**
+   * Instantiate a new reduction that splits nodes of the default threshold into the common pool.
+   *
+   * @param nodeClass Type of node to reduce.
+   * @param reducer The reducer to apply to each node.
+   */
+  public TreeReduction(
+      @NonNull final Class<Node> nodeClass,
+      @NonNull final Reducer<? super Node, Result> reducer
+  ) {
+    this(nodeClass, reducer, DEFAULT_THRESHOLD, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Instantiate a new reduction.
+   *
+   * @param nodeClass Type of node to reduce.
+   * @param reducer The reducer to apply to each node.
+   * @param threshold Maximum number of children of a node reduced by a single task, the children
+   *     of wider nodes are split among many tasks.
+   * @param pool The pool to use for parallel reductions.
+   */
+  public TreeReduction(
+      @NonNull final Class<Node> nodeClass,
+      @NonNull final Reducer<? super Node, Result> reducer,
+      @NonNegative final int threshold,
+      @NonNull final ForkJoinPool pool
+  ) {
+    if (threshold < 2) {
+      throw new IllegalArgumentException(
+          "Unable to instantiate the reduction because the given threshold " + threshold +
+              " is lesser than 2, a node of a single child can't be split."
+      );
+    }
+
+    _nodeClass = nodeClass;
+    _reducer = reducer;
+    _threshold = threshold;
+    _pool = pool;
+  }
+
+  /**
+   * Reduce a tree in the calling thread.
+   *
+   * @param root The root of the tree to reduce.
+   *
+   * @return The result of the root of the tree.
+   */
+  public Result reduce(@NonNull final Node root) {
+    return reduce(root, false);
+  }
+
+  /**
+   * Reduce a tree by splitting its wide nodes among the tasks of the pool of this reduction.
+   *
+   * @param root The root of the tree to reduce.
+   *
+   * @return The result of the root of the tree.
+   */
+  public Result parallelReduce(@NonNull final Node root) {
+    if (ForkJoinTask.inForkJoinPool()) {
+      return reduce(root, true);
+    }
+
+    return _pool.invoke(ForkJoinTask.adapt(() -> reduce(root, true)));
+  }
+
+  /**
+   * @param node A node.
+   * @param parallel True if the reduction is parallel.
+   *
+   * @return True if the children of the given node must be split among many tasks.
+   */
+  private boolean isWide(@NonNull final TreeElement node, final boolean parallel) {
+    return parallel && node.getChildren().getSize() > _threshold;
+  }
+
+  /**
+   * Reduce a subtree over an explicit stack, wide nodes are reduced by splitting their children.
+   *
+   * @param root The root of the subtree to reduce.
+   * @param parallel True if the reduction is parallel.
+   *
+   * @return The result of the root of the subtree.
+   */
+  @SuppressWarnings("unchecked")
+  private Result reduce(@NonNull final Node root, final boolean parallel) {
+    if (isWide(root, parallel)) {
+      return reduceWide(root);
+    }
+
+    @Nullable Object @NonNull [] nodes = new Object[DEFAULT_CAPACITY];
+    @Nullable Object @NonNull [][] results = new Object[DEFAULT_CAPACITY][];
+    int @NonNull [] cursors = new int[DEFAULT_CAPACITY];
+    int depth = 1;
+
+    nodes[0] = root;
+    results[0] = new Object[root.getChildren().getSize()];
+
+    while (true) {
+      @NonNegative final int top = depth - 1;
+      @NonNull final Node node = _nodeClass.cast(nodes[top]);
+      @NonNegative final int cursor = cursors[top];
+
+      if (cursor < results[top].length) {
+        @NonNull final Node child = _nodeClass.cast(node.getChildren().get(cursor));
+
+        if (isWide(child, parallel)) {
+          results[top][cursor] = reduceWide(child);
+          cursors[top] = cursor + 1;
+        } else {
+          if (depth == nodes.length) {
+            nodes = Arrays.copyOf(nodes, depth * 2);
+            results = Arrays.copyOf(results, depth * 2);
+            cursors = Arrays.copyOf(cursors, depth * 2);
+          }
+
+          nodes[depth] = child;
+          results[depth] = new Object[child.getChildren().getSize()];
+          cursors[depth] = 0;
+          depth += 1;
+        }
+      } else {
+        final Result result = _reducer.reduce(node, View.readonly((Result[]) results[top]));
+
+        nodes[top] = null;
+        results[top] = null;
+        depth = top;
+
+        if (depth == 0) {
+          return result;
+        }
+
+        results[depth - 1][cursors[depth - 1]] = result;
+        cursors[depth - 1] += 1;
+      }
+    }
+  }
+
+  /**
+   * Reduce a wide node by reducing ranges of its children in parallel.
+   *
+   * @param node A wide node.
+   *
+   * @return The result of the given node.
+   */
+  @SuppressWarnings("unchecked")
+  private Result reduceWide(@NonNull final Node node) {
+    @Nullable final Object @NonNull [] results = new Object[node.getChildren().getSize()];
+
+    new RangeTask(node, results, 0, results.length).invoke();
+
+    return _reducer.reduce(node, View.readonly((Result[]) results));
+  }
+
+  /**
+   * A task that reduces a range of children of a wide node.
+   */
+  private final class RangeTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    @NonNull
+    private final Node _parent;
+
+    @Nullable
+    private final Object @NonNull [] _results;
+
+    @NonNegative
+    private final int _from;
+
+    @NonNegative
+    private final int _to;
+
+    RangeTask(
+        @NonNull final Node parent,
+        @Nullable final Object @NonNull [] results,
+        @NonNegative final int from,
+        @NonNegative final int to
+    ) {
+      _parent = parent;
+      _results = results;
+      _from = from;
+      _to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (_to - _from <= _threshold) {
+        for (int index = _from; index < _to; ++index) {
+          _results[index] = reduce(_nodeClass.cast(_parent.getChildren().get(index)), true);
+        }
+      } else {
+        @NonNegative final int middle = (_from + _to) >>> 1;
+
+        invokeAll(
+            new RangeTask(_parent, _results, _from, middle),
+            new RangeTask(_parent, _results, middle, _to)
+        );
+      }
+    }
+  }
+}
@@ -1,23 +1,47 @@
 package org.liara.support.tree;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+/**
+ * A walker that moves element by element throughout a tree.
+ *
+ * The path of the walker and its cursor among the children of each element of the path are kept
+ * into growable arrays, so that entering and exiting an element does not allocate nor box
+ * anything. A walker may be reused for many trees, in which case its arrays are reused too.
+ *
+ * @param <Node> Type of tree element to walk.
+ */
 public class TreeWalker<Node extends TreeElement> {
+  /**
+   * Initial capacity of the path of a walker.
+   */
+  @NonNegative
+  private static final int DEFAULT_CAPACITY = 16;
 
   @Nullable
   private Node _root;
 
-  @NonNull
-  private final List<@NonNull Node> _path;
+  /**
+   * Elements of the path, only the first _depth elements are part of the path.
+   */
+  @Nullable
+  private Object @NonNull [] _path;
 
-  @NonNull
-  private final List<@NonNull Integer> _cursors;
+  /**
+   * Cursor of the walker into the root and into each element of the path, only the first
+   * _depth + 1 cursors are part of the walker location.
+   */
+  private int @NonNull [] _cursors;
+
+  @NonNegative
+  private int _depth;
 
   @NonNull
   private final List<@NonNull Node> _readonlyPath;
@@ -44,13 +68,12 @@ public class TreeWalker<Node extends TreeElement> {
    */
   public TreeWalker(@NonNull final Class<Node> elementClass, @Nullable final Node root) {
     _root = root;
-    _path = new ArrayList<>();
-    _cursors = new ArrayList<>();
-    _readonlyPath = Collections.unmodifiableList(_path);
+    _path = new Object[DEFAULT_CAPACITY];
+    _cursors = new int[DEFAULT_CAPACITY + 1];
+    _depth = 0;
+    _readonlyPath = new Path();
     _forward = true;
     _elementClass = elementClass;
-
-    _cursors.add(0);
   }
 
   /**
@@ -60,14 +83,32 @@ public class TreeWalker<Node extends TreeElement> {
    */
   public TreeWalker(@NonNull final TreeWalker<Node> toCopy) {
     _root = toCopy._root;
-    _path = new LinkedList<>(toCopy.getPath());
-    _cursors = new LinkedList<>(toCopy._cursors);
-    _readonlyPath = Collections.unmodifiableList(_path);
+    _path = toCopy._path.clone();
+    _cursors = toCopy._cursors.clone();
+    _depth = toCopy._depth;
+    _readonlyPath = new Path();
     _elementClass = toCopy.getElementClass();
 
     _forward = toCopy.doesMoveForward();
   }
 
+  /**
+   * @return The current element of this walker, or null if this walker is not in an element.
+   */
+  private @Nullable Node peek() {
+    return _depth == 0 ? null : _elementClass.cast(_path[_depth - 1]);
+  }
+
+  /**
+   * Enlarge the buffers of this walker if they can't contain another element.
+   */
+  private void ensureCapacity() {
+    if (_depth == _path.length) {
+      _path = Arrays.copyOf(_path, _path.length * 2);
+      _cursors = Arrays.copyOf(_cursors, _path.length + 1);
+    }
+  }
+
   /**
    * Try to enter into the next child element if any.
    *
@@ -75,10 +116,10 @@ public class TreeWalker<Node extends TreeElement> {
    * @throws NoSuchElementException If the current walker can't enter into another tree element.
    */
   public @NonNull Node enter() {
-    @Nullable final Node current = _path.isEmpty() ? null : _path.get(_path.size() - 1);
+    @Nullable final Node current = peek();
 
     if (current != null || _root != null) {
-      final int index = _cursors.get(_cursors.size() - 1) + (_forward ? 1 : -1);
+      final int index = _cursors[_depth] + (_forward ? 1 : -1);
 
       if (index > 0 && index <= (current == null ? 1 : current.getChildren().getSize())) {
         @NonNull final Node next = (
@@ -86,9 +127,12 @@ public class TreeWalker<Node extends TreeElement> {
                 : _elementClass.cast(current.getChildren().get(index - 1))
         );
 
-        _path.add(next);
-        _cursors.set(_cursors.size() - 1, index);
-        _cursors.add(_forward ? 0 : next.getChildren().getSize() + 1);
+        ensureCapacity();
+
+        _cursors[_depth] = index;
+        _path[_depth] = next;
+        _depth += 1;
+        _cursors[_depth] = _forward ? 0 : next.getChildren().getSize() + 1;
 
         return next;
       }
@@ -101,8 +145,8 @@ public class TreeWalker<Node extends TreeElement> {
    * @return True if this walker can enter into another tree element.
    */
   public boolean canEnter() {
-    @Nullable final Node current = _path.isEmpty() ? null : _path.get(_path.size() - 1);
-    final int index = _cursors.get(_cursors.size() - 1) + (_forward ? 1 : -1);
+    @Nullable final Node current = peek();
+    final int index = _cursors[_depth] + (_forward ? 1 : -1);
 
     return index > 0 && index <= (current == null ? 1 : current.getChildren().getSize());
   }
@@ -114,8 +158,8 @@ public class TreeWalker<Node extends TreeElement> {
    * @throws NoSuchElementException If the current walker is not in a tree element.
    */
   public @NonNull Node current() {
-    if (_path.size() > 0) {
-      return _path.get(_path.size() - 1);
+    if (_depth > 0) {
+      return _elementClass.cast(_path[_depth - 1]);
     }
 
     throw new NoSuchElementException();
@@ -125,7 +169,7 @@ public class TreeWalker<Node extends TreeElement> {
    * @return True if this walker is currently over a tree element element.
    */
   public boolean hasCurrent() {
-    return _path.size() > 0;
+    return _depth > 0;
   }
 
   /**
@@ -135,18 +179,19 @@ public class TreeWalker<Node extends TreeElement> {
    * @throws NoSuchElementException If the current walker can't exit any tree element.
    */
   public @NonNull Node exit() {
-    if (_path.size() > 0) {
-      _cursors.remove(_cursors.size() - 1);
-      @NonNull final Node result = _path.remove(_path.size() - 1);
+    if (_depth > 0) {
+      _depth -= 1;
+      @NonNull final Node result = _elementClass.cast(_path[_depth]);
+      _path[_depth] = null;
 
-      @Nullable final Node current = _path.isEmpty() ? null : _path.get(_path.size() - 1);
-      final int index = _cursors.get(_cursors.size() - 1);
+      @Nullable final Node current = peek();
+      final int index = _cursors[_depth];
 
       if (
           (!_forward && index == 1) ||
               (_forward && index == (current == null ? 1 : current.getChildren().getSize()))
       ) {
-        _cursors.set(_cursors.size() - 1, index + (_forward ? 1 : -1));
+        _cursors[_depth] = index + (_forward ? 1 : -1);
       }
 
       return result;
@@ -159,25 +204,31 @@ public class TreeWalker<Node extends TreeElement> {
    * @return True if this walker can exit a tree element.
    */
   public boolean canExit() {
-    return _path.size() > 0;
+    return _depth > 0;
   }
 
   /**
    * Move this walker before the first element.
    */
   public void moveToStart() {
-    _path.clear();
-    _cursors.clear();
-    _cursors.add(0);
+    clearPath();
+    _cursors[0] = 0;
   }
 
   /**
    * Move this walker after the last element.
    */
   public void moveToEnd() {
-    _path.clear();
-    _cursors.clear();
-    _cursors.add(2);
+    clearPath();
+    _cursors[0] = 2;
+  }
+
+  /**
+   * Release each element of the path of this walker.
+   */
+  private void clearPath() {
+    Arrays.fill(_path, 0, _depth, null);
+    _depth = 0;
   }
 
   /**
@@ -206,10 +257,16 @@ public class TreeWalker<Node extends TreeElement> {
               "throughout the same tree."
       );
     } else {
-      _path.clear();
-      _cursors.clear();
-      _path.addAll(walker.getPath());
-      _cursors.addAll(walker._cursors);
+      clearPath();
+
+      if (walker._path.length > _path.length) {
+        _path = new Object[walker._path.length];
+        _cursors = new int[walker._cursors.length];
+      }
+
+      System.arraycopy(walker._path, 0, _path, 0, walker._depth);
+      System.arraycopy(walker._cursors, 0, _cursors, 0, walker._depth + 1);
+      _depth = walker._depth;
     }
   }
 
@@ -217,21 +274,23 @@ public class TreeWalker<Node extends TreeElement> {
    * @return True if this walker is at the same location as the given one.
    */
   public boolean isAtLocation(@NonNull final TreeWalker<Node> walker) {
-    return walker.current() == current() && walker._cursors.equals(_cursors);
+    return walker.current() == current() && Arrays.equals(
+        walker._cursors, 0, walker._depth + 1, _cursors, 0, _depth + 1
+    );
   }
 
   /**
    * @return True if this walker is at the end of the tree.
    */
   public boolean isAtEnd() {
-    return _path.isEmpty() && _cursors.get(0) == 2;
+    return _depth == 0 && _cursors[0] == 2;
   }
 
   /**
    * @return True if this walker is at the start of the tree.
    */
   public boolean isAtStart() {
-    return _path.isEmpty() && _cursors.get(0) == 0;
+    return _depth == 0 && _cursors[0] == 0;
   }
 
   /**
@@ -259,8 +318,20 @@ public class TreeWalker<Node extends TreeElement> {
 
   /**
    * @param root The new root element of the tree to walk.
+   *
+   * @see #reset(TreeElement)
    */
   public void setRoot(@Nullable final Node root) {
+    reset(root);
+  }
+
+  /**
+   * Walk another tree by reusing the buffers of this walker. The walker is moved to the start of
+   * the tree if it moves forward, or to its end otherwise.
+   *
+   * @param root The new root element of the tree to walk.
+   */
+  public void reset(@Nullable final Node root) {
     _root = root;
 
     if (_forward) {
@@ -277,10 +348,40 @@ public class TreeWalker<Node extends TreeElement> {
     return _readonlyPath;
   }
 
+  /**
+   * @return The position of this walker among the children of its current element, from 0 before
+   *     the first child to the number of children plus one after the last child.
+   */
+  public @NonNegative int getCursor() {
+    return _cursors[_depth];
+  }
+
   /**
    * @return The kind of element visited by this walker.
    */
   public @NonNull Class<Node> getElementClass() {
     return _elementClass;
   }
+
+  /**
+   * A readonly view over the path of this walker.
+   */
+  private final class Path extends AbstractList<@NonNull Node> implements RandomAccess {
+    @Override
+    public @NonNull Node get(@NonNegative final int index) {
+      if (index >= _depth) {
+        throw new IndexOutOfBoundsException(
+            "Unable to get the element #" + index + " of the path because the path contains " +
+                _depth + " elements."
+        );
+      }
+
+      return _elementClass.cast(_path[index]);
+    }
+
+    @Override
+    public int size() {
+      return _depth;
+    }
+  }
 }
@@ -1,6 +1,7 @@
 package org.liara.support.view;
 
 import java.util.Arrays;
+import java.util.Spliterator;
 import java.util.stream.Stream;
 import org.checkerframework.checker.index.qual.LessThan;
 import org.checkerframework.checker.index.qual.NonNegative;
@@ -34,6 +35,11 @@ public final class ArrayView<T> implements View<T> {
     return _array[index];
   }
 
+  @Override
+  public @NonNull Spliterator<T> spliterator() {
+    return Arrays.spliterator(_array);
+  }
+
   @Override
   public @NonNull Stream<T> stream() {
     return Arrays.stream(_array);
@@ -65,4 +71,9 @@ public final class ArrayView<T> implements View<T> {
 
     return false;
   }
+
+  @Override
+  public int hashCode() {
+    return View.hashCode(this);
+  }
 }
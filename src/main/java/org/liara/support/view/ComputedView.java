@@ -2,8 +2,6 @@ package org.liara.support.view;
 
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -40,11 +38,6 @@ public final class ComputedView<T> implements View<T> {
     }
   }
 
-  @Override
-  public @NonNull Stream<T> stream() {
-    return IntStream.range(0, _size.get()).mapToObj(_mapper);
-  }
-
   @Override
   public Object[] toArray() {
     return stream().toArray();
@@ -71,4 +64,9 @@ public final class ComputedView<T> implements View<T> {
 
     return false;
   }
+
+  @Override
+  public int hashCode() {
+    return View.hashCode(this);
+  }
 }
@@ -3,35 +3,75 @@ package org.liara.support.view;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
-import java.util.function.IntFunction;
-import java.util.function.Supplier;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+/**
+ * A view of the elements of many views, one after another.
+ *
+ * The view keeps a table of the offset of each concatenated view in order to locate an element by
+ * binary search. The table is built lazily and rebuilt when the size of the view that contains a
+ * requested element changes. The size of this view is always the sum of the live sizes of the
+ * concatenated views.
+ *
+ * @param <T> Type of value stored into the concatenated views.
+ */
 public final class ConcatenatedView<T> implements View<T> {
   @NonNull
   private final List<@NonNull View<T>> _views;
 
+  private final int @NonNull [] _offsets;
+
+  private boolean _valid;
+
   public ConcatenatedView(@NonNull final View<T> ...views) {
     _views = new ArrayList<>(views.length);
     _views.addAll(Arrays.asList(views));
+    _offsets = new int[views.length + 1];
+    _valid = false;
   }
 
   public ConcatenatedView(@NonNull final Collection<? extends @NonNull View<T>> views) {
     _views = new ArrayList<>(views.size());
     _views.addAll(views);
+    _offsets = new int[_views.size() + 1];
+    _valid = false;
+  }
+
+  /**
+   * Compute the offset of each concatenated view.
+   */
+  private void index() {
+    @NonNegative int offset = 0;
+
+    for (@NonNegative int index = 0; index < _views.size(); ++index) {
+      _offsets[index] = offset;
+      offset += _views.get(index).getSize();
+    }
+
+    _offsets[_views.size()] = offset;
+    _valid = true;
+  }
+
+  /**
+   * Notify this view that the size of some concatenated views changed.
+   */
+  public void invalidate() {
+    _valid = false;
   }
 
   @Override
   public @NonNegative int getSize() {
     @NonNegative int size = 0;
 
-    for (@NonNull final View<T> view : _views) {
-      size += view.getSize();
+    for (@NonNegative int index = 0; index < _views.size(); ++index) {
+      size += _views.get(index).getSize();
     }
 
     return size;
@@ -39,35 +79,80 @@ public final class ConcatenatedView<T> implements View<T> {
 
   @Override
   public @Nullable T get(@NonNegative final int index) throws IndexOutOfBoundsException {
-    @NonNegative int offset = 0;
+    if (!_valid) {
+      index();
+    }
 
-    for (@NonNull final View<T> view : _views) {
-      if (index - offset < view.getSize()) {
-        return view.get(index - offset);
-      } else {
-        offset += view.getSize();
+    @NonNegative final int view = locate(index);
+
+    if (view < _views.size()) {
+      @NonNull final View<T> located = _views.get(view);
+      @NonNegative final int size = _offsets[view + 1] - _offsets[view];
+
+      if (located.getSize() == size) {
+        return located.get(index - _offsets[view]);
       }
     }
 
+    index();
+
+    @NonNegative final int retry = locate(index);
+
+    if (retry < _views.size()) {
+      return _views.get(retry).get(index - _offsets[retry]);
+    }
+
     throw new IndexOutOfBoundsException(
         "Unable to get the value at the index #" + index + " because the given index is out of " +
-            "bounds [0, " + offset + "[."
+            "bounds [0, " + _offsets[_views.size()] + "[."
     );
   }
 
-  @Override
-  public @NonNull Stream<T> stream() {
-    if (_views.size() == 0) {
-      return Stream.empty();
-    } else {
-      @NonNull Stream<T> result = _views.get(0).stream();
-
-      for (@NonNegative int index = 1; index < _views.size(); ++index) {
-        result = Stream.concat(result, _views.get(index).stream());
-      }
+  /**
+   * Find the concatenated view that contains an index by using the offset table.
+   *
+   * @param index Index of an element of this view.
+   *
+   * @return The index of the last non-empty view that starts at or before the given index, or the
+   *     number of concatenated views if the given index is out of bounds.
+   */
+  private @NonNegative int locate(@NonNegative final int index) {
+    if (index >= _offsets[_views.size()]) {
+      return _views.size();
+    }
+
+    int lower = 0;
+    int upper = _views.size() - 1;
+
+    while (lower < upper) {
+      @NonNegative final int middle = (lower + upper + 1) >>> 1;
 
-      return result;
+      if (_offsets[middle] <= index) {
+        lower = middle;
+      } else {
+        upper = middle - 1;
+      }
     }
+
+    return lower;
+  }
+
+  /**
+   * @return An iterator that walks each concatenated view in order without any lookup.
+   */
+  @Override
+  public @NonNull Iterator<T> iterator() {
+    return new Cursor();
+  }
+
+  /**
+   * @return A balanced spliterator that walks each concatenated view of a range in turn.
+   *
+   * @see View#spliterator()
+   */
+  @Override
+  public @NonNull Spliterator<T> spliterator() {
+    return new Splitter(0, -1);
   }
 
   @Override
@@ -96,4 +181,88 @@ public final class ConcatenatedView<T> implements View<T> {
 
     return false;
   }
+
+  @Override
+  public int hashCode() {
+    return View.hashCode(this);
+  }
+
+  /**
+   * A sequential cursor over each element of each concatenated view.
+   */
+  private final class Cursor implements Iterator<T> {
+    @NonNegative
+    private int _view;
+
+    @NonNegative
+    private int _index;
+
+    Cursor() {
+      _view = 0;
+      _index = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (_view < _views.size() && _index >= _views.get(_view).getSize()) {
+        _view += 1;
+        _index = 0;
+      }
+
+      return _view < _views.size();
+    }
+
+    @Override
+    public T next() {
+      if (hasNext()) {
+        return _views.get(_view).get(_index++);
+      } else {
+        throw new NoSuchElementException();
+      }
+    }
+  }
+
+  /**
+   * A spliterator over a range of this view that only locates the first view of its range.
+   */
+  private final class Splitter extends ViewSpliterator<T> {
+    Splitter(@NonNegative final int from, final int fence) {
+      super(ConcatenatedView.this, from, fence);
+    }
+
+    @Override
+    protected void forEach(
+        @NonNegative final int from,
+        @NonNegative final int to,
+        @NonNull final Consumer<? super T> action
+    ) {
+      if (from >= to) {
+        return;
+      }
+
+      if (!_valid || _offsets[_views.size()] != getSize()) {
+        index();
+      }
+
+      int view = locate(from);
+      int index = from - _offsets[view];
+
+      for (int remaining = to - from; remaining > 0 && view < _views.size(); ++view, index = 0) {
+        @NonNull final View<T> current = _views.get(view);
+        @NonNegative final int end = Math.min(current.getSize(), index + remaining);
+
+        for (; index < end; ++index, --remaining) {
+          action.accept(current.get(index));
+        }
+      }
+    }
+
+    @Override
+    protected @NonNull ViewSpliterator<T> split(
+        @NonNegative final int from,
+        @NonNegative final int to
+    ) {
+      return new Splitter(from, to);
+    }
+  }
 }
@@ -51,4 +51,9 @@ public final class EmptyView<T> implements View<T> {
 
     return false;
   }
+
+  @Override
+  public int hashCode() {
+    return View.hashCode(this);
+  }
 }
@@ -0,0 +1,158 @@
+package org.liara.support.view;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A view of a selection of the elements of another view.
+ *
+ * The elements are not copied, the view only stores the selected indices of its source. Filtered
+ * views of the same source can be combined by combining their selections.
+ *
+ * @param <T> Type of element stored into the view.
+ */
+public final class FilteredView<T> implements View<T> {
+  @NonNull
+  private final View<T> _source;
+
+  @NonNull
+  private final Selection _selection;
+
+  /**
+   * Instantiate a view of the elements of a source that satisfy a predicate.
+   *
+   * @param source The view to filter.
+   * @param predicate A predicate to test on each element of the source.
+   */
+  public FilteredView(@NonNull final View<T> source, @NonNull final Predicate<? super T> predicate) {
+    this(source, Selection.of(source, predicate));
+  }
+
+  /**
+   * Instantiate a view of a selection of the elements of a source.
+   *
+   * @param source The view to filter.
+   * @param selection Indices of the selected elements of the source.
+   */
+  public FilteredView(@NonNull final View<T> source, @NonNull final Selection selection) {
+    _source = source;
+    _selection = selection;
+  }
+
+  @Override
+  public @NonNegative int getSize() {
+    return _selection.getSize();
+  }
+
+  @Override
+  public T get(@NonNegative final int index) throws IndexOutOfBoundsException {
+    return _source.get(_selection.get(index));
+  }
+
+  /**
+   * @return A spliterator that walks the selected indices in order instead of ranking each of them.
+   *
+   * @see View#spliterator()
+   */
+  @Override
+  public @NonNull Spliterator<T> spliterator() {
+    return Spliterators.spliterator(iterator(), getSize(), Spliterator.ORDERED);
+  }
+
+  /**
+   * @see View#iterator()
+   */
+  @Override
+  public @NonNull Iterator<T> iterator() {
+    return _selection.stream().mapToObj(_source::get).iterator();
+  }
+
+  /**
+   * @param other A filtered view of the same source.
+   *
+   * @return A view of the elements selected by both views.
+   */
+  public @NonNull FilteredView<T> and(@NonNull final FilteredView<T> other) {
+    return new FilteredView<>(_source, _selection.and(getSelectionOf(other)));
+  }
+
+  /**
+   * @param other A filtered view of the same source.
+   *
+   * @return A view of the elements selected by any of both views.
+   */
+  public @NonNull FilteredView<T> or(@NonNull final FilteredView<T> other) {
+    return new FilteredView<>(_source, _selection.or(getSelectionOf(other)));
+  }
+
+  /**
+   * @param other A filtered view of the same source.
+   *
+   * @return A view of the elements selected by this view and not by the other one.
+   */
+  public @NonNull FilteredView<T> andNot(@NonNull final FilteredView<T> other) {
+    return new FilteredView<>(_source, _selection.andNot(getSelectionOf(other)));
+  }
+
+  private @NonNull Selection getSelectionOf(@NonNull final FilteredView<T> other) {
+    if (other._source != _source) {
+      throw new IllegalArgumentException(
+          "Unable to combine the given filtered view with this one because both views do not " +
+              "filter the same source."
+      );
+    }
+
+    return other._selection;
+  }
+
+  @Override
+  public Object[] toArray() {
+    return stream().toArray();
+  }
+
+  /**
+   * @return The filtered view.
+   */
+  public @NonNull View<T> getSource() {
+    return _source;
+  }
+
+  /**
+   * @return Indices of the selected elements of the source.
+   */
+  public @NonNull Selection getSelection() {
+    return _selection;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return View.toString(this);
+  }
+
+  @Override
+  public boolean equals (@Nullable final Object other) {
+    if (other == null) {
+      return false;
+    }
+
+    if (other == this) {
+      return true;
+    }
+
+    if (other instanceof View<?>) {
+      return View.equals(this, (View<?>) other);
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return View.hashCode(this);
+  }
+}
@@ -1,7 +1,8 @@
 package org.liara.support.view;
 
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.RandomAccess;
+import java.util.Spliterator;
 import org.checkerframework.checker.index.qual.LessThan;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -29,9 +30,19 @@ public final class ListView<T> implements View<T> {
     return _list.get(index);
   }
 
+  /**
+   * Lists with random access are split by index, other lists are split by their own spliterator.
+   *
+   * @see View#spliterator()
+   */
   @Override
-  public @NonNull Stream<T> stream() {
-    return _list.stream().map(x -> (T) x);
+  @SuppressWarnings("unchecked")
+  public @NonNull Spliterator<T> spliterator() {
+    if (_list instanceof RandomAccess) {
+      return new ViewSpliterator<>(this);
+    } else {
+      return (Spliterator<T>) _list.spliterator();
+    }
   }
 
   @Override
@@ -60,4 +71,9 @@ public final class ListView<T> implements View<T> {
 
     return false;
   }
+
+  @Override
+  public int hashCode() {
+    return View.hashCode(this);
+  }
 }
@@ -71,4 +71,9 @@ public final class MappedView<From, To> implements View<To> {
 
     return false;
   }
+
+  @Override
+  public int hashCode() {
+    return View.hashCode(this);
+  }
 }
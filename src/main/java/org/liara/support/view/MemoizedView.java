@@ -0,0 +1,176 @@
+package org.liara.support.view;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A view that caches each element of another view the first time it is read.
+ *
+ * A full memoization keeps each element that was read, a bounded memoization only keeps the most
+ * recently read elements. Elements of a full memoization are cached in an array indexed as the
+ * source view and may be read concurrently, as two threads reading the same uncached element
+ * only compute it twice. The array is sized once to the size of the source view, elements added
+ * to the source view later are read without caching until the memoization is cleared. A bounded
+ * memoization serializes its reads.
+ *
+ * @param <T> Type of element stored into the view.
+ */
+public final class MemoizedView<T> implements View<T> {
+  /**
+   * Marker of an element that was not computed yet.
+   */
+  @NonNull
+  private static final Object MISSING = new Object();
+
+  /**
+   * Access to the cached elements that safely publishes elements computed by other threads.
+   */
+  @NonNull
+  private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+
+  @NonNull
+  private final View<T> _source;
+
+  private volatile Object @Nullable [] _values;
+
+  @Nullable
+  private final Map<@NonNull Integer, T> _cache;
+
+  /**
+   * Memoize each element of a view.
+   *
+   * @param source The view to memoize.
+   */
+  public MemoizedView(@NonNull final View<T> source) {
+    _source = source;
+    _values = allocate(source.getSize());
+    _cache = null;
+  }
+
+  /**
+   * Memoize the most recently read elements of a view.
+   *
+   * @param source The view to memoize.
+   * @param capacity Maximum number of elements to cache.
+   */
+  public MemoizedView(@NonNull final View<T> source, @NonNegative final int capacity) {
+    _source = source;
+    _values = null;
+    _cache = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<@NonNull Integer, T> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  @Override
+  public @NonNegative int getSize() {
+    return _source.getSize();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T get(@NonNegative final int index) throws IndexOutOfBoundsException {
+    if (_cache != null) {
+      synchronized (_cache) {
+        if (_cache.containsKey(index)) {
+          return _cache.get(index);
+        }
+
+        final T result = _source.get(index);
+        _cache.put(index, result);
+        return result;
+      }
+    }
+
+    @NonNull final Object[] values = _values;
+
+    if (index >= values.length) {
+      return _source.get(index);
+    }
+
+    @Nullable final Object value = VALUES.getAcquire(values, index);
+
+    if (value != MISSING) {
+      return (T) value;
+    }
+
+    final T result = _source.get(index);
+    VALUES.setRelease(values, index, result);
+
+    return result;
+  }
+
+  /**
+   * Allocate the cache of a full memoization.
+   *
+   * @param size Number of elements to cache.
+   *
+   * @return A cache of the given size without any computed element.
+   */
+  private static @NonNull Object @NonNull [] allocate(@NonNegative final int size) {
+    @NonNull final Object[] result = new Object[size];
+    Arrays.fill(result, MISSING);
+    return result;
+  }
+
+  /**
+   * Forget each cached element, for example when the source view changed, the cache of a full
+   * memoization is resized to the current size of the source view.
+   */
+  public void clear() {
+    if (_cache != null) {
+      synchronized (_cache) {
+        _cache.clear();
+      }
+    } else {
+      _values = allocate(_source.getSize());
+    }
+  }
+
+  @Override
+  public Object[] toArray() {
+    return stream().toArray();
+  }
+
+  /**
+   * @return The memoized view.
+   */
+  public @NonNull View<T> getSource() {
+    return _source;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return View.toString(this);
+  }
+
+  @Override
+  public boolean equals (@Nullable final Object other) {
+    if (other == null) {
+      return false;
+    }
+
+    if (other == this) {
+      return true;
+    }
+
+    if (other instanceof View<?>) {
+      return View.equals(this, (View<?>) other);
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return View.hashCode(this);
+  }
+}
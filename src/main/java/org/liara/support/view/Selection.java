@@ -0,0 +1,780 @@
+package org.liara.support.view;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A compressed set of non-negative indices.
+ *
+ * Indices are partitioned by their 16 upper bits into containers of 65536 indices. A container
+ * stores a sparse partition as a sorted array of its 16 lower bits and switches to a bitmap of
+ * 1024 words when the partition becomes dense. Intersections, unions and differences are computed
+ * container by container, and cardinalities are population counts of the bitmaps.
+ */
+public final class Selection implements Iterable<@NonNull Integer> {
+  /**
+   * Maximum number of indices of an array container, a denser container is stored as a bitmap.
+   */
+  @NonNegative
+  static final int ARRAY_LIMIT = 4096;
+
+  @NonNegative
+  private static final int BITMAP_WORDS = (1 << Character.SIZE) / Long.SIZE;
+
+  private char @NonNull [] _keys;
+
+  @NonNull
+  private Container @NonNull [] _containers;
+
+  @NonNegative
+  private int _count;
+
+  private int @Nullable [] _ranks;
+
+  /**
+   * Instantiate a new empty selection.
+   */
+  public Selection() {
+    _keys = new char[4];
+    _containers = new Container[4];
+    _count = 0;
+    _ranks = null;
+  }
+
+  /**
+   * Create a selection of the given indices.
+   *
+   * @param indices Indices to select.
+   *
+   * @return A selection of the given indices.
+   */
+  public static @NonNull Selection of(@NonNegative final int... indices) {
+    @NonNull final Selection result = new Selection();
+
+    for (final int index : indices) {
+      result.add(index);
+    }
+
+    return result;
+  }
+
+  /**
+   * Create a selection of a range of indices.
+   *
+   * @param from First index of the range, inclusive.
+   * @param to Last index of the range, exclusive.
+   *
+   * @return A selection of each index of the given range.
+   */
+  public static @NonNull Selection range(@NonNegative final int from, @NonNegative final int to) {
+    @NonNull final Selection result = new Selection();
+
+    for (int index = from; index < to; ++index) {
+      result.add(index);
+    }
+
+    return result;
+  }
+
+  /**
+   * Create a selection of the indices of the elements of a view that satisfy a predicate.
+   *
+   * @param view A view to filter.
+   * @param predicate A predicate to test on each element of the view.
+   * @param <T> Type of element stored into the view.
+   *
+   * @return A selection of the indices of the elements that satisfy the given predicate.
+   */
+  public static <T> @NonNull Selection of(
+      @NonNull final View<T> view,
+      @NonNull final Predicate<? super T> predicate
+  ) {
+    @NonNull final Selection result = new Selection();
+    @NonNegative final int size = view.getSize();
+
+    for (int index = 0; index < size; ++index) {
+      if (predicate.test(view.get(index))) {
+        result.add(index);
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Add an index to this selection.
+   *
+   * @param index The index to add.
+   */
+  public void add(@NonNegative final int index) {
+    if (index < 0) {
+      throw new IllegalArgumentException(
+          "Unable to add the index " + index + " to this selection because a selection only " +
+              "contains non-negative indices."
+      );
+    }
+
+    final char key = (char) (index >>> Character.SIZE);
+    final int position = Arrays.binarySearch(_keys, 0, _count, key);
+
+    if (position >= 0) {
+      _containers[position] = _containers[position].add((char) index);
+    } else {
+      insert(-position - 1, key, new ArrayContainer().add((char) index));
+    }
+
+    _ranks = null;
+  }
+
+  private void insert(
+      @NonNegative final int position,
+      final char key,
+      @NonNull final Container container
+  ) {
+    if (_count == _keys.length) {
+      _keys = Arrays.copyOf(_keys, _count * 2);
+      _containers = Arrays.copyOf(_containers, _count * 2);
+    }
+
+    System.arraycopy(_keys, position, _keys, position + 1, _count - position);
+    System.arraycopy(_containers, position, _containers, position + 1, _count - position);
+
+    _keys[position] = key;
+    _containers[position] = container;
+    _count += 1;
+  }
+
+  /**
+   * @param index An index.
+   *
+   * @return True if this selection contains the given index.
+   */
+  public boolean contains(final int index) {
+    if (index < 0) {
+      return false;
+    }
+
+    final int position = Arrays.binarySearch(_keys, 0, _count, (char) (index >>> Character.SIZE));
+
+    return position >= 0 && _containers[position].contains((char) index);
+  }
+
+  /**
+   * @return The number of indices of this selection.
+   */
+  public @NonNegative int getSize() {
+    return _count == 0 ? 0 : getRanks()[_count];
+  }
+
+  /**
+   * @return True if this selection is empty.
+   */
+  public boolean isEmpty() {
+    return _count == 0;
+  }
+
+  /**
+   * Return the index of this selection at the given rank, indices are ranked in ascending order.
+   *
+   * @param rank Rank of the index to return.
+   *
+   * @return The index at the given rank.
+   *
+   * @throws IndexOutOfBoundsException If the given rank is not lower than the size of this
+   *     selection.
+   */
+  public @NonNegative int get(@NonNegative final int rank) throws IndexOutOfBoundsException {
+    @NonNull final int[] ranks = getRanks();
+
+    if (rank < 0 || rank >= ranks[_count]) {
+      throw new IndexOutOfBoundsException(
+          "Unable to get the index of rank #" + rank + " because the given rank is out of " +
+              "bounds [0, " + ranks[_count] + "[."
+      );
+    }
+
+    int lower = 0;
+    int upper = _count - 1;
+
+    while (lower < upper) {
+      @NonNegative final int middle = (lower + upper + 1) >>> 1;
+
+      if (ranks[middle] <= rank) {
+        lower = middle;
+      } else {
+        upper = middle - 1;
+      }
+    }
+
+    return (_keys[lower] << Character.SIZE) | _containers[lower].select(rank - ranks[lower]);
+  }
+
+  /**
+   * @return The number of indices that precede each container, followed by the size of this
+   *     selection.
+   */
+  private int @NonNull [] getRanks() {
+    @Nullable int[] ranks = _ranks;
+
+    if (ranks == null) {
+      ranks = new int[_count + 1];
+
+      for (int position = 0; position < _count; ++position) {
+        ranks[position + 1] = ranks[position] + _containers[position].getCardinality();
+      }
+
+      _ranks = ranks;
+    }
+
+    return ranks;
+  }
+
+  /**
+   * @param other Another selection.
+   *
+   * @return A new selection of the indices that are in both selections.
+   */
+  public @NonNull Selection and(@NonNull final Selection other) {
+    @NonNull final Selection result = new Selection();
+    int left = 0;
+    int right = 0;
+
+    while (left < _count && right < other._count) {
+      if (_keys[left] < other._keys[right]) {
+        left += 1;
+      } else if (_keys[left] > other._keys[right]) {
+        right += 1;
+      } else {
+        result.append(_keys[left], _containers[left++].and(other._containers[right++]));
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * @param other Another selection.
+   *
+   * @return A new selection of the indices that are in any of both selections.
+   */
+  public @NonNull Selection or(@NonNull final Selection other) {
+    @NonNull final Selection result = new Selection();
+    int left = 0;
+    int right = 0;
+
+    while (left < _count || right < other._count) {
+      if (right >= other._count || (left < _count && _keys[left] < other._keys[right])) {
+        result.append(_keys[left], _containers[left++].copy());
+      } else if (left >= _count || _keys[left] > other._keys[right]) {
+        result.append(other._keys[right], other._containers[right++].copy());
+      } else {
+        result.append(_keys[left], _containers[left++].or(other._containers[right++]));
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * @param other Another selection.
+   *
+   * @return A new selection of the indices of this selection that are not in the other one.
+   */
+  public @NonNull Selection andNot(@NonNull final Selection other) {
+    @NonNull final Selection result = new Selection();
+    int right = 0;
+
+    for (int left = 0; left < _count; ++left) {
+      while (right < other._count && other._keys[right] < _keys[left]) {
+        right += 1;
+      }
+
+      if (right < other._count && other._keys[right] == _keys[left]) {
+        result.append(_keys[left], _containers[left].andNot(other._containers[right]));
+      } else {
+        result.append(_keys[left], _containers[left].copy());
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Append a container with a key greater than the key of each container of this selection.
+   *
+   * @param key Key of the container to append.
+   * @param container Container to append, ignored if empty.
+   */
+  private void append(final char key, @NonNull final Container container) {
+    if (container.getCardinality() > 0) {
+      insert(_count, key, container.optimize());
+    }
+  }
+
+  /**
+   * Apply an action to each index of this selection, in ascending order.
+   *
+   * @param action An action to apply.
+   */
+  public void forEachIndex(@NonNull final IntConsumer action) {
+    for (int position = 0; position < _count; ++position) {
+      _containers[position].forEach(_keys[position] << Character.SIZE, action);
+    }
+  }
+
+  /**
+   * @see Iterable#iterator()
+   */
+  @Override
+  public PrimitiveIterator.@NonNull OfInt iterator() {
+    return new Cursor();
+  }
+
+  /**
+   * @return A stream of each index of this selection, in ascending order.
+   */
+  public @NonNull IntStream stream() {
+    return StreamSupport.intStream(
+        Spliterators.spliterator(
+            iterator(), getSize(),
+            Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL
+        ),
+        false
+    );
+  }
+
+  /**
+   * @return Each index of this selection, in ascending order.
+   */
+  public int @NonNull [] toArray() {
+    @NonNull final int[] result = new int[getSize()];
+    @NonNull final int[] cursor = new int[1];
+
+    forEachIndex((final int index) -> result[cursor[0]++] = index);
+
+    return result;
+  }
+
+  @Override
+  public boolean equals(@Nullable final Object other) {
+    if (other == this) {
+      return true;
+    }
+
+    if (other instanceof Selection) {
+      return Arrays.equals(toArray(), ((Selection) other).toArray());
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(toArray());
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return super.toString() + Arrays.toString(toArray());
+  }
+
+  /**
+   * An iterator over each index of this selection that walks each container in turn.
+   */
+  private final class Cursor implements PrimitiveIterator.OfInt {
+    @NonNegative
+    private int _position;
+
+    private int _next;
+
+    Cursor() {
+      _position = 0;
+      _next = _count > 0 ? _containers[0].next(0) : -1;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return _next >= 0;
+    }
+
+    @Override
+    public int nextInt() {
+      if (_next < 0) {
+        throw new NoSuchElementException();
+      }
+
+      final int result = (_keys[_position] << Character.SIZE) | _next;
+
+      _next = _next + 1 < (1 << Character.SIZE) ? _containers[_position].next(_next + 1) : -1;
+
+      while (_next < 0 && _position + 1 < _count) {
+        _position += 1;
+        _next = _containers[_position].next(0);
+      }
+
+      return result;
+    }
+  }
+
+  /**
+   * The indices of a selection that share their 16 upper bits.
+   */
+  private abstract static class Container {
+    /**
+     * @return The number of indices of this container.
+     */
+    abstract @NonNegative int getCardinality();
+
+    abstract boolean contains(final char value);
+
+    /**
+     * Add a value to this container.
+     *
+     * @param value Lower bits of the index to add.
+     *
+     * @return This container or a new container that contains the given value.
+     */
+    abstract @NonNull Container add(final char value);
+
+    /**
+     * @param rank Rank of a value of this container.
+     *
+     * @return The value of the given rank.
+     */
+    abstract char select(@NonNegative final int rank);
+
+    abstract void forEach(final int high, @NonNull final IntConsumer action);
+
+    /**
+     * @param from A value.
+     *
+     * @return The lowest value of this container that is greater than or equal to the given one,
+     *     or -1 if there is none.
+     */
+    abstract int next(@NonNegative final int from);
+
+    abstract @NonNull Container copy();
+
+    abstract @NonNull BitmapContainer toBitmap();
+
+    /**
+     * @return The most compact representation of this container.
+     */
+    abstract @NonNull Container optimize();
+
+    @NonNull Container and(@NonNull final Container other) {
+      return toBitmap().and(other.toBitmap());
+    }
+
+    @NonNull Container or(@NonNull final Container other) {
+      return toBitmap().or(other.toBitmap());
+    }
+
+    @NonNull Container andNot(@NonNull final Container other) {
+      return toBitmap().andNot(other.toBitmap());
+    }
+  }
+
+  /**
+   * A sorted array of the values of a sparse container.
+   */
+  private static final class ArrayContainer extends Container {
+    private char @NonNull [] _values;
+
+    @NonNegative
+    private int _size;
+
+    ArrayContainer() {
+      this(new char[4], 0);
+    }
+
+    ArrayContainer(final char @NonNull [] values, @NonNegative final int size) {
+      _values = values;
+      _size = size;
+    }
+
+    @Override
+    @NonNegative int getCardinality() {
+      return _size;
+    }
+
+    @Override
+    boolean contains(final char value) {
+      return Arrays.binarySearch(_values, 0, _size, value) >= 0;
+    }
+
+    @Override
+    @NonNull Container add(final char value) {
+      final int position = Arrays.binarySearch(_values, 0, _size, value);
+
+      if (position >= 0) {
+        return this;
+      }
+
+      if (_size >= ARRAY_LIMIT) {
+        return toBitmap().add(value);
+      }
+
+      if (_size == _values.length) {
+        _values = Arrays.copyOf(_values, Math.min(_size * 2, ARRAY_LIMIT));
+      }
+
+      @NonNegative final int insertion = -position - 1;
+
+      System.arraycopy(_values, insertion, _values, insertion + 1, _size - insertion);
+      _values[insertion] = value;
+      _size += 1;
+
+      return this;
+    }
+
+    @Override
+    char select(@NonNegative final int rank) {
+      return _values[rank];
+    }
+
+    @Override
+    void forEach(final int high, @NonNull final IntConsumer action) {
+      for (int index = 0; index < _size; ++index) {
+        action.accept(high | _values[index]);
+      }
+    }
+
+    @Override
+    int next(@NonNegative final int from) {
+      final int position = Arrays.binarySearch(_values, 0, _size, (char) from);
+      @NonNegative final int index = position >= 0 ? position : -position - 1;
+
+      return index < _size ? _values[index] : -1;
+    }
+
+    @Override
+    @NonNull Container copy() {
+      return new ArrayContainer(Arrays.copyOf(_values, _size), _size);
+    }
+
+    @Override
+    @NonNull BitmapContainer toBitmap() {
+      @NonNull final long[] words = new long[BITMAP_WORDS];
+
+      for (int index = 0; index < _size; ++index) {
+        words[_values[index] >>> 6] |= 1L << _values[index];
+      }
+
+      return new BitmapContainer(words, _size);
+    }
+
+    @Override
+    @NonNull Container optimize() {
+      return this;
+    }
+
+    @Override
+    @NonNull Container and(@NonNull final Container other) {
+      @NonNull final char[] result = new char[_size];
+      int size = 0;
+
+      for (int index = 0; index < _size; ++index) {
+        if (other.contains(_values[index])) {
+          result[size++] = _values[index];
+        }
+      }
+
+      return new ArrayContainer(result, size);
+    }
+
+    @Override
+    @NonNull Container andNot(@NonNull final Container other) {
+      @NonNull final char[] result = new char[_size];
+      int size = 0;
+
+      for (int index = 0; index < _size; ++index) {
+        if (!other.contains(_values[index])) {
+          result[size++] = _values[index];
+        }
+      }
+
+      return new ArrayContainer(result, size);
+    }
+  }
+
+  /**
+   * A bitmap of the values of a dense container.
+   */
+  private static final class BitmapContainer extends Container {
+    private final long @NonNull [] _words;
+
+    @NonNegative
+    private int _cardinality;
+
+    BitmapContainer(final long @NonNull [] words, @NonNegative final int cardinality) {
+      _words = words;
+      _cardinality = cardinality;
+    }
+
+    /**
+     * Create a container from some words and count its values.
+     *
+     * @param words Words of the bitmap.
+     *
+     * @return A container of the given words.
+     */
+    static @NonNull BitmapContainer count(final long @NonNull [] words) {
+      int cardinality = 0;
+
+      for (final long word : words) {
+        cardinality += Long.bitCount(word);
+      }
+
+      return new BitmapContainer(words, cardinality);
+    }
+
+    @Override
+    @NonNegative int getCardinality() {
+      return _cardinality;
+    }
+
+    @Override
+    boolean contains(final char value) {
+      return (_words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    @Override
+    @NonNull Container add(final char value) {
+      if (!contains(value)) {
+        _words[value >>> 6] |= 1L << value;
+        _cardinality += 1;
+      }
+
+      return this;
+    }
+
+    @Override
+    char select(@NonNegative final int rank) {
+      int remaining = rank;
+
+      for (int word = 0; word < _words.length; ++word) {
+        final int count = Long.bitCount(_words[word]);
+
+        if (remaining < count) {
+          long bits = _words[word];
+
+          for (; remaining > 0; --remaining) {
+            bits &= bits - 1;
+          }
+
+          return (char) ((word << 6) | Long.numberOfTrailingZeros(bits));
+        }
+
+        remaining -= count;
+      }
+
+      throw new IndexOutOfBoundsException(
+          "Unable to select the value of rank #" + rank + " because this container only " +
+              "contains " + _cardinality + " values."
+      );
+    }
+
+    @Override
+    void forEach(final int high, @NonNull final IntConsumer action) {
+      for (int word = 0; word < _words.length; ++word) {
+        long bits = _words[word];
+
+        while (bits != 0) {
+          action.accept(high | (word << 6) | Long.numberOfTrailingZeros(bits));
+          bits &= bits - 1;
+        }
+      }
+    }
+
+    @Override
+    int next(@NonNegative final int from) {
+      int word = from >>> 6;
+      long bits = _words[word] & (-1L << from);
+
+      while (bits == 0) {
+        if (++word >= _words.length) {
+          return -1;
+        }
+
+        bits = _words[word];
+      }
+
+      return (word << 6) | Long.numberOfTrailingZeros(bits);
+    }
+
+    @Override
+    @NonNull Container copy() {
+      return new BitmapContainer(_words.clone(), _cardinality);
+    }
+
+    @Override
+    @NonNull BitmapContainer toBitmap() {
+      return this;
+    }
+
+    @Override
+    @NonNull Container optimize() {
+      if (_cardinality > ARRAY_LIMIT) {
+        return this;
+      }
+
+      @NonNull final char[] values = new char[_cardinality];
+      @NonNull final int[] size = new int[1];
+
+      forEach(0, (final int value) -> values[size[0]++] = (char) value);
+
+      return new ArrayContainer(values, _cardinality);
+    }
+
+    @Override
+    @NonNull Container and(@NonNull final Container other) {
+      if (other instanceof ArrayContainer) {
+        return other.and(this);
+      }
+
+      @NonNull final long[] words = new long[BITMAP_WORDS];
+      @NonNull final long[] otherWords = other.toBitmap()._words;
+
+      for (int word = 0; word < BITMAP_WORDS; ++word) {
+        words[word] = _words[word] & otherWords[word];
+      }
+
+      return count(words);
+    }
+
+    @Override
+    @NonNull Container or(@NonNull final Container other) {
+      @NonNull final long[] words = new long[BITMAP_WORDS];
+      @NonNull final long[] otherWords = other.toBitmap()._words;
+
+      for (int word = 0; word < BITMAP_WORDS; ++word) {
+        words[word] = _words[word] | otherWords[word];
+      }
+
+      return count(words);
+    }
+
+    @Override
+    @NonNull Container andNot(@NonNull final Container other) {
+      @NonNull final long[] words = new long[BITMAP_WORDS];
+      @NonNull final long[] otherWords = other.toBitmap()._words;
+
+      for (int word = 0; word < BITMAP_WORDS; ++word) {
+        words[word] = _words[word] & ~otherWords[word];
+      }
+
+      return count(words);
+    }
+  }
+}
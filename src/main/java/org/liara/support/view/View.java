@@ -4,10 +4,14 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.function.Function;
 import java.util.function.IntFunction;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.checkerframework.checker.index.qual.LessThan;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -59,6 +63,24 @@ public interface View<T> extends Iterable<T> {
     return true;
   }
 
+  /**
+   * Compute a hash code of the content of an existing view instance, in the same way as
+   * {@link List#hashCode()} does.
+   *
+   * @param view A view instance to hash.
+   *
+   * @return A hash code of the content of the given view.
+   */
+  static int hashCode (@NonNull final View<?> view) {
+    int result = 1;
+
+    for (@NonNegative int index = 0, size = view.getSize(); index < size; ++index) {
+      result = 31 * result + Objects.hashCode(view.get(index));
+    }
+
+    return result;
+  }
+
   /**
    * @param <T> Type of element stored into the empty view.
    *
@@ -153,7 +175,9 @@ public interface View<T> extends Iterable<T> {
   /**
    * @return A stream of each elements stored into this view.
    */
-  @NonNull Stream<T> stream();
+  default @NonNull Stream<T> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
 
   /**
    * @return The content of this view as an array of elements.
@@ -168,6 +192,17 @@ public interface View<T> extends Iterable<T> {
     return new ViewIterator<>(this);
   }
 
+  /**
+   * @return An ordered and sized spliterator over each element of this view that splits in balanced
+   *     halves.
+   *
+   * @see Iterable#spliterator()
+   */
+  @Override
+  default @NonNull Spliterator<T> spliterator() {
+    return new ViewSpliterator<>(this);
+  }
+
   /**
    * Return a view that is a mapping of the elements of this one.
    *
@@ -180,4 +215,55 @@ public interface View<T> extends Iterable<T> {
   default <To> @NonNull View<To> map(@NonNull final Function<? super T, To> mapper) {
     return new MappedView<>(this, mapper);
   }
+
+  /**
+   * Return a view of the elements of this one that satisfy a predicate, the elements are not
+   * copied.
+   *
+   * @param predicate A predicate to test on each element of this view.
+   *
+   * @return A view of the elements of this one that satisfy the given predicate.
+   *
+   * @see FilteredView
+   */
+  default @NonNull FilteredView<T> select(@NonNull final Predicate<? super T> predicate) {
+    return new FilteredView<>(this, predicate);
+  }
+
+  /**
+   * Return a view that computes each element of this one once, the first time it is read, and
+   * keeps it for further reads.
+   *
+   * @return A memoization of this view.
+   */
+  default @NonNull View<T> memoize() {
+    return new MemoizedView<>(this);
+  }
+
+  /**
+   * Return a view that keeps the most recently read elements of this one.
+   *
+   * @param capacity Maximum number of elements to keep.
+   *
+   * @return A bounded memoization of this view.
+   */
+  default @NonNull View<T> memoize(@NonNegative final int capacity) {
+    return new MemoizedView<>(this, capacity);
+  }
+
+  /**
+   * Compute each element of this view in parallel and copy them into an array.
+   *
+   * @return A view over a copy of the current elements of this view.
+   */
+  @SuppressWarnings("unchecked")
+  default @NonNull View<T> materialize() {
+    @NonNull final Object[] values = new Object[getSize()];
+
+    IntStream.range(0, values.length).parallel().forEach(
+        (final int index) -> values[index] = get(index)
+    );
+
+    return new ArrayView<>((T[]) values);
+  }
 }
@@ -0,0 +1,141 @@
+package org.liara.support.view;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A spliterator over a range of indices of a view.
+ *
+ * The range is split in two halves of the same size, so that parallel streams of a view are
+ * balanced. The end of the range is bound to the size of the view at the first traversal, split
+ * or size estimation.
+ *
+ * @param <T> Type of element stored into the view.
+ */
+public class ViewSpliterator<T> implements Spliterator<T> {
+  /**
+   * Characteristics of each view spliterator.
+   */
+  public static final int CHARACTERISTICS = (
+      Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED
+  );
+
+  @NonNull
+  private final View<? extends T> _view;
+
+  @NonNegative
+  private int _index;
+
+  private int _fence;
+
+  /**
+   * Instantiate a spliterator over each element of a view.
+   *
+   * @param view The view to traverse.
+   */
+  public ViewSpliterator(@NonNull final View<? extends T> view) {
+    this(view, 0, -1);
+  }
+
+  /**
+   * Instantiate a spliterator over a range of elements of a view.
+   *
+   * @param view The view to traverse.
+   * @param from First index of the range, inclusive.
+   * @param fence Last index of the range, exclusive, or a negative integer to bind it to the size
+   *     of the view on first use.
+   */
+  protected ViewSpliterator(
+      @NonNull final View<? extends T> view,
+      @NonNegative final int from,
+      final int fence
+  ) {
+    _view = view;
+    _index = from;
+    _fence = fence;
+  }
+
+  private @NonNegative int getFence() {
+    if (_fence < 0) {
+      _fence = _view.getSize();
+    }
+
+    return _fence;
+  }
+
+  @Override
+  public boolean tryAdvance(@NonNull final Consumer<? super T> action) {
+    if (_index < getFence()) {
+      action.accept(_view.get(_index++));
+      return true;
+    }
+
+    return false;
+  }
+
+  @Override
+  public void forEachRemaining(@NonNull final Consumer<? super T> action) {
+    @NonNegative final int fence = getFence();
+    @NonNegative final int from = _index;
+
+    _index = fence;
+
+    forEach(from, fence, action);
+  }
+
+  /**
+   * Apply an action to each element of a range of the traversed view.
+   *
+   * @param from First index of the range, inclusive.
+   * @param to Last index of the range, exclusive.
+   * @param action An action to apply to each element of the range, in order.
+   */
+  protected void forEach(
+      @NonNegative final int from,
+      @NonNegative final int to,
+      @NonNull final Consumer<? super T> action
+  ) {
+    for (int index = from; index < to; ++index) {
+      action.accept(_view.get(index));
+    }
+  }
+
+  @Override
+  public @Nullable Spliterator<T> trySplit() {
+    @NonNegative final int from = _index;
+    @NonNegative final int middle = (from + getFence()) >>> 1;
+
+    if (from >= middle) {
+      return null;
+    }
+
+    _index = middle;
+
+    return split(from, middle);
+  }
+
+  /**
+   * Create a spliterator over a range of the traversed view.
+   *
+   * @param from First index of the range, inclusive.
+   * @param to Last index of the range, exclusive.
+   *
+   * @return A spliterator over the given range.
+   */
+  protected @NonNull ViewSpliterator<T> split(@NonNegative final int from, @NonNegative final int to) {
+    return new ViewSpliterator<>(_view, from, to);
+  }
+
+  @Override
+  public long estimateSize() {
+    return getFence() - _index;
+  }
+
+  @Override
+  public int characteristics() {
+    return CHARACTERISTICS;
+  }
+}
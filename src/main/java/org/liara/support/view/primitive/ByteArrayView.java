@@ -1,13 +1,11 @@
 package org.liara.support.view.primitive;
 
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.liara.support.view.View;
 
-public final class ByteArrayView implements PrimitiveView<@NonNull Byte> {
+public final class ByteArrayView implements ByteView {
   private final byte[] _array;
 
   public ByteArrayView(final byte[] array) {
@@ -24,18 +22,13 @@ public final class ByteArrayView implements PrimitiveView<@NonNull Byte> {
   }
 
   @Override
-  public @NonNull Byte get(@NonNegative final int index) throws IndexOutOfBoundsException {
+  public byte getByte(@NonNegative final int index) throws IndexOutOfBoundsException {
     return _array[index];
   }
 
   @Override
-  public @NonNull Stream<@NonNull Byte> stream() {
-    return IntStream.range(0, _array.length).mapToObj(this::get);
-  }
-
-  @Override
-  public @NonNull Byte[] toArray() {
-    return (Byte[]) stream().toArray();
+  public byte @NonNull [] toByteArray() {
+    return _array.clone();
   }
 
   @Override
@@ -59,4 +52,9 @@ public final class ByteArrayView implements PrimitiveView<@NonNull Byte> {
 
     return false;
   }
+
+  @Override
+  public int hashCode() {
+    return View.hashCode(this);
+  }
 }
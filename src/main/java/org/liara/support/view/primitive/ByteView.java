@@ -0,0 +1,114 @@
+package org.liara.support.view.primitive;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import org.checkerframework.checker.index.qual.LessThan;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A view of byte values that can be read, streamed and transformed without boxing them.
+ */
+public interface ByteView extends PrimitiveView<@NonNull Byte> {
+  /**
+   * Return a value of this view without boxing it.
+   *
+   * @param index Index of the value to get from 0 (included) to the size of the view (excluded).
+   *
+   * @return The value at the given index.
+   *
+   * @throws IndexOutOfBoundsException If the given index is not between 0 (included) and the size
+   *     of the view (excluded).
+   */
+  byte getByte(
+      @NonNegative @LessThan("getSize()") final int index
+  ) throws IndexOutOfBoundsException;
+
+  /**
+   * @see org.liara.support.view.View#get(int)
+   */
+  @Override
+  default @NonNull Byte get(
+      @NonNegative @LessThan("getSize()") final int index
+  ) throws IndexOutOfBoundsException {
+    return getByte(index);
+  }
+
+  /**
+   * @return An unboxed stream of each value of this view, widened to int.
+   */
+  default @NonNull IntStream intStream() {
+    return IntStream.range(0, getSize()).map(this::getByte);
+  }
+
+  /**
+   * @return A copy of the content of this view as an array of byte values.
+   */
+  default byte @NonNull [] toByteArray() {
+    @NonNegative final int size = getSize();
+    @NonNull final byte[] result = new byte[size];
+
+    for (int index = 0; index < size; ++index) {
+      result[index] = getByte(index);
+    }
+
+    return result;
+  }
+
+  /**
+   * @see org.liara.support.view.View#toArray()
+   */
+  @Override
+  default @NonNull Byte @NonNull [] toArray() {
+    @NonNegative final int size = getSize();
+    @NonNull final Byte[] result = new Byte[size];
+
+    for (int index = 0; index < size; ++index) {
+      result[index] = getByte(index);
+    }
+
+    return result;
+  }
+
+  /**
+   * Return a view of the values of this one widened to int values, in order to map them without
+   * boxing them.
+   *
+   * @return A view of the widened values of this one.
+   */
+  default @NonNull IntegerView asIntegers() {
+    return new IntegerComputedView(this::getByte, this::getSize);
+  }
+
+  /**
+   * @see org.liara.support.view.View#materialize()
+   */
+  @Override
+  default @NonNull ByteView materialize() {
+    return new ByteArrayView(toByteArray());
+  }
+
+  /**
+   * Return a copy of the values of this view that satisfy a predicate.
+   *
+   * @param predicate A predicate to test on each value, widened to int.
+   *
+   * @return A view of the values of this one that satisfy the given predicate, in order.
+   */
+  default @NonNull ByteView filter(@NonNull final IntPredicate predicate) {
+    @NonNegative final int size = getSize();
+    @NonNull final byte[] result = new byte[size];
+    int filtered = 0;
+
+    for (int index = 0; index < size; ++index) {
+      final byte value = getByte(index);
+
+      if (predicate.test(value)) {
+        result[filtered++] = value;
+      }
+    }
+
+    return new ByteArrayView(Arrays.copyOf(result, filtered));
+  }
+}
@@ -1,13 +1,11 @@
 package org.liara.support.view.primitive;
 
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.liara.support.view.View;
 
-public final class CharArrayView implements PrimitiveView<@NonNull Character> {
+public final class CharArrayView implements CharView {
   private final char[] _array;
 
   public CharArrayView(final char[] array) {
@@ -24,18 +22,13 @@ public final class CharArrayView implements PrimitiveView<@NonNull Character> {
   }
 
   @Override
-  public @NonNull Character get(@NonNegative final int index) throws IndexOutOfBoundsException {
+  public char getChar(@NonNegative final int index) throws IndexOutOfBoundsException {
     return _array[index];
   }
 
   @Override
-  public @NonNull Stream<@NonNull Character> stream() {
-    return IntStream.range(0, _array.length).mapToObj(this::get);
-  }
-
-  @Override
-  public @NonNull Character[] toArray() {
-    return (Character[]) stream().toArray();
+  public char @NonNull [] toCharArray() {
+    return _array.clone();
   }
 
   @Override
@@ -59,4 +52,9 @@ public final class CharArrayView implements PrimitiveView<@NonNull Character> {
 
     return false;
   }
+
+  @Override
+  public int hashCode() {
+    return View.hashCode(this);
+  }
 }
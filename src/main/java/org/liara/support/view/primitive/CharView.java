@@ -0,0 +1,114 @@
+package org.liara.support.view.primitive;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import org.checkerframework.checker.index.qual.LessThan;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A view of char values that can be read, streamed and transformed without boxing them.
+ */
+public interface CharView extends PrimitiveView<@NonNull Character> {
+  /**
+   * Return a value of this view without boxing it.
+   *
+   * @param index Index of the value to get from 0 (included) to the size of the view (excluded).
+   *
+   * @return The value at the given index.
+   *
+   * @throws IndexOutOfBoundsException If the given index is not between 0 (included) and the size
+   *     of the view (excluded).
+   */
+  char getChar(
+      @NonNegative @LessThan("getSize()") final int index
+  ) throws IndexOutOfBoundsException;
+
+  /**
+   * @see org.liara.support.view.View#get(int)
+   */
+  @Override
+  default @NonNull Character get(
+      @NonNegative @LessThan("getSize()") final int index
+  ) throws IndexOutOfBoundsException {
+    return getChar(index);
+  }
+
+  /**
+   * @return An unboxed stream of each value of this view, widened to int.
+   */
+  default @NonNull IntStream intStream() {
+    return IntStream.range(0, getSize()).map(this::getChar);
+  }
+
+  /**
+   * @return A copy of the content of this view as an array of char values.
+   */
+  default char @NonNull [] toCharArray() {
+    @NonNegative final int size = getSize();
+    @NonNull final char[] result = new char[size];
+
+    for (int index = 0; index < size; ++index) {
+      result[index] = getChar(index);
+    }
+
+    return result;
+  }
+
+  /**
+   * @see org.liara.support.view.View#toArray()
+   */
+  @Override
+  default @NonNull Character @NonNull [] toArray() {
+    @NonNegative final int size = getSize();
+    @NonNull final Character[] result = new Character[size];
+
+    for (int index = 0; index < size; ++index) {
+      result[index] = getChar(index);
+    }
+
+    return result;
+  }
+
+  /**
+   * Return a view of the values of this one widened to int values, in order to map them without
+   * boxing them.
+   *
+   * @return A view of the widened values of this one.
+   */
+  default @NonNull IntegerView asIntegers() {
+    return new IntegerComputedView(this::getChar, this::getSize);
+  }
+
+  /**
+   * @see org.liara.support.view.View#materialize()
+   */
+  @Override
+  default @NonNull CharView materialize() {
+    return new CharArrayView(toCharArray());
+  }
+
+  /**
+   * Return a copy of the values of this view that satisfy a predicate.
+   *
+   * @param predicate A predicate to test on each value, widened to int.
+   *
+   * @return A view of the values of this one that satisfy the given predicate, in order.
+   */
+  default @NonNull CharView filter(@NonNull final IntPredicate predicate) {
+    @NonNegative final int size = getSize();
+    @NonNull final char[] result = new char[size];
+    int filtered = 0;
+
+    for (int index = 0; index < size; ++index) {
+      final char value = getChar(index);
+
+      if (predicate.test(value)) {
+        result[filtered++] = value;
+      }
+    }
+
+    return new CharArrayView(Arrays.copyOf(result, filtered));
+  }
+}
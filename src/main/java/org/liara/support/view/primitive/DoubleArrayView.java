@@ -1,13 +1,13 @@
 package org.liara.support.view.primitive;
 
 import java.util.Arrays;
-import java.util.stream.Stream;
+import java.util.stream.DoubleStream;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.liara.support.view.View;
 
-public final class DoubleArrayView implements PrimitiveView<@NonNull Double> {
+public final class DoubleArrayView implements DoubleView {
   private final double[] _array;
 
   public DoubleArrayView(final double[] array) {
@@ -24,18 +24,18 @@ public final class DoubleArrayView implements PrimitiveView<@NonNull Double> {
   }
 
   @Override
-  public @NonNull Double get(@NonNegative final int index) throws IndexOutOfBoundsException {
+  public double getDouble(@NonNegative final int index) throws IndexOutOfBoundsException {
     return _array[index];
   }
 
   @Override
-  public @NonNull Stream<@NonNull Double> stream() {
-    return Arrays.stream(_array).boxed();
+  public @NonNull DoubleStream doubleStream() {
+    return Arrays.stream(_array);
   }
 
   @Override
-  public @NonNull Double[] toArray() {
-    return (Double[]) stream().toArray();
+  public double @NonNull [] toDoubleArray() {
+    return _array.clone();
   }
 
   @Override
@@ -59,4 +59,9 @@ public final class DoubleArrayView implements PrimitiveView<@NonNull Double> {
 
     return false;
   }
+
+  @Override
+  public int hashCode() {
+    return View.hashCode(this);
+  }
 }
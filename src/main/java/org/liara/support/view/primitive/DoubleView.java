@@ -0,0 +1,134 @@
+package org.liara.support.view.primitive;
+
+import java.util.Arrays;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import org.checkerframework.checker.index.qual.LessThan;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A view of double values that can be read, streamed and transformed without boxing them.
+ */
+public interface DoubleView extends PrimitiveView<@NonNull Double> {
+  /**
+   * Return a value of this view without boxing it.
+   *
+   * @param index Index of the value to get from 0 (included) to the size of the view (excluded).
+   *
+   * @return The value at the given index.
+   *
+   * @throws IndexOutOfBoundsException If the given index is not between 0 (included) and the size
+   *     of the view (excluded).
+   */
+  double getDouble(
+      @NonNegative @LessThan("getSize()") final int index
+  ) throws IndexOutOfBoundsException;
+
+  /**
+   * @see org.liara.support.view.View#get(int)
+   */
+  @Override
+  default @NonNull Double get(
+      @NonNegative @LessThan("getSize()") final int index
+  ) throws IndexOutOfBoundsException {
+    return getDouble(index);
+  }
+
+  /**
+   * @return An unboxed stream of each value of this view.
+   */
+  default @NonNull DoubleStream doubleStream() {
+    return IntStream.range(0, getSize()).mapToDouble(this::getDouble);
+  }
+
+  /**
+   * @return A copy of the content of this view as an array of double values.
+   */
+  default double @NonNull [] toDoubleArray() {
+    @NonNegative final int size = getSize();
+    @NonNull final double[] result = new double[size];
+
+    for (int index = 0; index < size; ++index) {
+      result[index] = getDouble(index);
+    }
+
+    return result;
+  }
+
+  /**
+   * @see org.liara.support.view.View#toArray()
+   */
+  @Override
+  default @NonNull Double @NonNull [] toArray() {
+    @NonNegative final int size = getSize();
+    @NonNull final Double[] result = new Double[size];
+
+    for (int index = 0; index < size; ++index) {
+      result[index] = getDouble(index);
+    }
+
+    return result;
+  }
+
+  /**
+   * Return a view that is an unboxed mapping of the values of this one, the mapping is computed
+   * each time a value of the returned view is read.
+   *
+   * @param mapper A mapping function.
+   *
+   * @return A view that is a mapping of the values of this one.
+   */
+  default @NonNull DoubleView mapDouble(@NonNull final DoubleUnaryOperator mapper) {
+    return new DoubleComputedView((final int index) -> mapper.applyAsDouble(getDouble(index)), this::getSize);
+  }
+
+  /**
+   * @see #mapDouble(DoubleUnaryOperator)
+   */
+  default @NonNull IntegerView mapToInt(@NonNull final DoubleToIntFunction mapper) {
+    return new IntegerComputedView((final int index) -> mapper.applyAsInt(getDouble(index)), this::getSize);
+  }
+
+  /**
+   * @see #mapDouble(DoubleUnaryOperator)
+   */
+  default @NonNull LongView mapToLong(@NonNull final DoubleToLongFunction mapper) {
+    return new LongComputedView((final int index) -> mapper.applyAsLong(getDouble(index)), this::getSize);
+  }
+
+  /**
+   * @see org.liara.support.view.View#materialize()
+   */
+  @Override
+  default @NonNull DoubleView materialize() {
+    return new DoubleArrayView(doubleStream().parallel().toArray());
+  }
+
+  /**
+   * Return a copy of the values of this view that satisfy a predicate.
+   *
+   * @param predicate A predicate to test on each value.
+   *
+   * @return A view of the values of this one that satisfy the given predicate, in order.
+   */
+  default @NonNull DoubleView filter(@NonNull final DoublePredicate predicate) {
+    @NonNegative final int size = getSize();
+    @NonNull final double[] result = new double[size];
+    int filtered = 0;
+
+    for (int index = 0; index < size; ++index) {
+      final double value = getDouble(index);
+
+      if (predicate.test(value)) {
+        result[filtered++] = value;
+      }
+    }
+
+    return new DoubleArrayView(Arrays.copyOf(result, filtered));
+  }
+}
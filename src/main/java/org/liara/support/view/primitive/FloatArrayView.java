@@ -1,13 +1,11 @@
 package org.liara.support.view.primitive;
 
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.liara.support.view.View;
 
-public final class FloatArrayView implements PrimitiveView<@NonNull Float> {
+public final class FloatArrayView implements FloatView {
   private final float[] _array;
 
   public FloatArrayView(final float[] array) {
@@ -24,18 +22,13 @@ public final class FloatArrayView implements PrimitiveView<@NonNull Float> {
   }
 
   @Override
-  public @NonNull Float get(@NonNegative final int index) throws IndexOutOfBoundsException {
+  public float getFloat(@NonNegative final int index) throws IndexOutOfBoundsException {
     return _array[index];
   }
 
   @Override
-  public @NonNull Stream<@NonNull Float> stream() {
-    return IntStream.range(0, _array.length).mapToObj(this::get);
-  }
-
-  @Override
-  public @NonNull Float[] toArray() {
-    return (Float[]) stream().toArray();
+  public float @NonNull [] toFloatArray() {
+    return _array.clone();
   }
 
   @Override
@@ -59,4 +52,9 @@ public final class FloatArrayView implements PrimitiveView<@NonNull Float> {
 
     return false;
   }
+
+  @Override
+  public int hashCode() {
+    return View.hashCode(this);
+  }
 }
@@ -0,0 +1,115 @@
+package org.liara.support.view.primitive;
+
+import java.util.Arrays;
+import java.util.function.DoublePredicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import org.checkerframework.checker.index.qual.LessThan;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A view of float values that can be read, streamed and transformed without boxing them.
+ */
+public interface FloatView extends PrimitiveView<@NonNull Float> {
+  /**
+   * Return a value of this view without boxing it.
+   *
+   * @param index Index of the value to get from 0 (included) to the size of the view (excluded).
+   *
+   * @return The value at the given index.
+   *
+   * @throws IndexOutOfBoundsException If the given index is not between 0 (included) and the size
+   *     of the view (excluded).
+   */
+  float getFloat(
+      @NonNegative @LessThan("getSize()") final int index
+  ) throws IndexOutOfBoundsException;
+
+  /**
+   * @see org.liara.support.view.View#get(int)
+   */
+  @Override
+  default @NonNull Float get(
+      @NonNegative @LessThan("getSize()") final int index
+  ) throws IndexOutOfBoundsException {
+    return getFloat(index);
+  }
+
+  /**
+   * @return An unboxed stream of each value of this view, widened to double.
+   */
+  default @NonNull DoubleStream doubleStream() {
+    return IntStream.range(0, getSize()).mapToDouble(this::getFloat);
+  }
+
+  /**
+   * @return A copy of the content of this view as an array of float values.
+   */
+  default float @NonNull [] toFloatArray() {
+    @NonNegative final int size = getSize();
+    @NonNull final float[] result = new float[size];
+
+    for (int index = 0; index < size; ++index) {
+      result[index] = getFloat(index);
+    }
+
+    return result;
+  }
+
+  /**
+   * @see org.liara.support.view.View#toArray()
+   */
+  @Override
+  default @NonNull Float @NonNull [] toArray() {
+    @NonNegative final int size = getSize();
+    @NonNull final Float[] result = new Float[size];
+
+    for (int index = 0; index < size; ++index) {
+      result[index] = getFloat(index);
+    }
+
+    return result;
+  }
+
+  /**
+   * Return a view of the values of this one widened to double values, in order to map them without
+   * boxing them.
+   *
+   * @return A view of the widened values of this one.
+   */
+  default @NonNull DoubleView asDoubles() {
+    return new DoubleComputedView(this::getFloat, this::getSize);
+  }
+
+  /**
+   * @see org.liara.support.view.View#materialize()
+   */
+  @Override
+  default @NonNull FloatView materialize() {
+    return new FloatArrayView(toFloatArray());
+  }
+
+  /**
+   * Return a copy of the values of this view that satisfy a predicate.
+   *
+   * @param predicate A predicate to test on each value, widened to double.
+   *
+   * @return A view of the values of this one that satisfy the given predicate, in order.
+   */
+  default @NonNull FloatView filter(@NonNull final DoublePredicate predicate) {
+    @NonNegative final int size = getSize();
+    @NonNull final float[] result = new float[size];
+    int filtered = 0;
+
+    for (int index = 0; index < size; ++index) {
+      final float value = getFloat(index);
+
+      if (predicate.test(value)) {
+        result[filtered++] = value;
+      }
+    }
+
+    return new FloatArrayView(Arrays.copyOf(result, filtered));
+  }
+}
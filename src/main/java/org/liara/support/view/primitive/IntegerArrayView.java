@@ -1,13 +1,13 @@
 package org.liara.support.view.primitive;
 
 import java.util.Arrays;
-import java.util.stream.Stream;
+import java.util.stream.IntStream;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.liara.support.view.View;
 
-public final class IntegerArrayView implements PrimitiveView<@NonNull Integer> {
+public final class IntegerArrayView implements IntegerView {
   private final int[] _array;
 
   public IntegerArrayView(final int[] array) {
@@ -24,18 +24,18 @@ public final class IntegerArrayView implements PrimitiveView<@NonNull Integer> {
   }
 
   @Override
-  public @NonNull Integer get(@NonNegative final int index) throws IndexOutOfBoundsException {
+  public int getInt(@NonNegative final int index) throws IndexOutOfBoundsException {
     return _array[index];
   }
 
   @Override
-  public @NonNull Stream<@NonNull Integer> stream() {
-    return Arrays.stream(_array).boxed();
+  public @NonNull IntStream intStream() {
+    return Arrays.stream(_array);
   }
 
   @Override
-  public @NonNull Integer[] toArray() {
-    return (Integer[]) stream().toArray();
+  public int @NonNull [] toIntArray() {
+    return _array.clone();
   }
 
   @Override
@@ -59,4 +59,9 @@ public final class IntegerArrayView implements PrimitiveView<@NonNull Integer> {
 
     return false;
   }
+
+  @Override
+  public int hashCode() {
+    return View.hashCode(this);
+  }
 }
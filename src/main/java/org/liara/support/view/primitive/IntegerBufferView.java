@@ -2,15 +2,13 @@ package org.liara.support.view.primitive;
 
 import java.nio.IntBuffer;
 import java.util.function.Supplier;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 import org.checkerframework.checker.index.qual.LessThan;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.liara.support.view.View;
 
-public final class IntegerBufferView implements PrimitiveView<Integer> {
+public final class IntegerBufferView implements IntegerView {
   @NonNull
   private final IntBuffer _buffer;
 
@@ -31,7 +29,7 @@ public final class IntegerBufferView implements PrimitiveView<Integer> {
   }
 
   @Override
-  public Integer get(
+  public int getInt(
       @NonNegative @LessThan("getSize()") final int index
   ) throws IndexOutOfBoundsException {
     if (index < _size.get()) {
@@ -44,16 +42,6 @@ public final class IntegerBufferView implements PrimitiveView<Integer> {
     }
   }
 
-  @Override
-  public @NonNull Stream<Integer> stream() {
-    return IntStream.range(0, getSize()).mapToObj(this::get);
-  }
-
-  @Override
-  public @NonNull Object[] toArray() {
-    return stream().toArray();
-  }
-
   @Override
   public boolean equals (@Nullable final Object other) {
     if (other == null) {
@@ -70,4 +58,9 @@ public final class IntegerBufferView implements PrimitiveView<Integer> {
 
     return false;
   }
+
+  @Override
+  public int hashCode() {
+    return View.hashCode(this);
+  }
 }
@@ -0,0 +1,133 @@
+package org.liara.support.view.primitive;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import org.checkerframework.checker.index.qual.LessThan;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A view of int values that can be read, streamed and transformed without boxing them.
+ */
+public interface IntegerView extends PrimitiveView<@NonNull Integer> {
+  /**
+   * Return a value of this view without boxing it.
+   *
+   * @param index Index of the value to get from 0 (included) to the size of the view (excluded).
+   *
+   * @return The value at the given index.
+   *
+   * @throws IndexOutOfBoundsException If the given index is not between 0 (included) and the size
+   *     of the view (excluded).
+   */
+  int getInt(
+      @NonNegative @LessThan("getSize()") final int index
+  ) throws IndexOutOfBoundsException;
+
+  /**
+   * @see org.liara.support.view.View#get(int)
+   */
+  @Override
+  default @NonNull Integer get(
+      @NonNegative @LessThan("getSize()") final int index
+  ) throws IndexOutOfBoundsException {
+    return getInt(index);
+  }
+
+  /**
+   * @return An unboxed stream of each value of this view.
+   */
+  default @NonNull IntStream intStream() {
+    return IntStream.range(0, getSize()).map(this::getInt);
+  }
+
+  /**
+   * @return A copy of the content of this view as an array of int values.
+   */
+  default int @NonNull [] toIntArray() {
+    @NonNegative final int size = getSize();
+    @NonNull final int[] result = new int[size];
+
+    for (int index = 0; index < size; ++index) {
+      result[index] = getInt(index);
+    }
+
+    return result;
+  }
+
+  /**
+   * @see org.liara.support.view.View#toArray()
+   */
+  @Override
+  default @NonNull Integer @NonNull [] toArray() {
+    @NonNegative final int size = getSize();
+    @NonNull final Integer[] result = new Integer[size];
+
+    for (int index = 0; index < size; ++index) {
+      result[index] = getInt(index);
+    }
+
+    return result;
+  }
+
+  /**
+   * Return a view that is an unboxed mapping of the values of this one, the mapping is computed
+   * each time a value of the returned view is read.
+   *
+   * @param mapper A mapping function.
+   *
+   * @return A view that is a mapping of the values of this one.
+   */
+  default @NonNull IntegerView mapInt(@NonNull final IntUnaryOperator mapper) {
+    return new IntegerComputedView((final int index) -> mapper.applyAsInt(getInt(index)), this::getSize);
+  }
+
+  /**
+   * @see #mapInt(IntUnaryOperator)
+   */
+  default @NonNull LongView mapToLong(@NonNull final IntToLongFunction mapper) {
+    return new LongComputedView((final int index) -> mapper.applyAsLong(getInt(index)), this::getSize);
+  }
+
+  /**
+   * @see #mapInt(IntUnaryOperator)
+   */
+  default @NonNull DoubleView mapToDouble(@NonNull final IntToDoubleFunction mapper) {
+    return new DoubleComputedView((final int index) -> mapper.applyAsDouble(getInt(index)), this::getSize);
+  }
+
+  /**
+   * @see org.liara.support.view.View#materialize()
+   */
+  @Override
+  default @NonNull IntegerView materialize() {
+    return new IntegerArrayView(intStream().parallel().toArray());
+  }
+
+  /**
+   * Return a copy of the values of this view that satisfy a predicate.
+   *
+   * @param predicate A predicate to test on each value.
+   *
+   * @return A view of the values of this one that satisfy the given predicate, in order.
+   */
+  default @NonNull IntegerView filter(@NonNull final IntPredicate predicate) {
+    @NonNegative final int size = getSize();
+    @NonNull final int[] result = new int[size];
+    int filtered = 0;
+
+    for (int index = 0; index < size; ++index) {
+      final int value = getInt(index);
+
+      if (predicate.test(value)) {
+        result[filtered++] = value;
+      }
+    }
+
+    return new IntegerArrayView(Arrays.copyOf(result, filtered));
+  }
+}
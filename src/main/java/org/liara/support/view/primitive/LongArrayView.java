@@ -1,13 +1,13 @@
 package org.liara.support.view.primitive;
 
 import java.util.Arrays;
-import java.util.stream.Stream;
+import java.util.stream.LongStream;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.liara.support.view.View;
 
-public final class LongArrayView implements PrimitiveView<@NonNull Long> {
+public final class LongArrayView implements LongView {
   private final long[] _array;
 
   public LongArrayView(final long[] array) {
@@ -24,18 +24,18 @@ public final class LongArrayView implements PrimitiveView<@NonNull Long> {
   }
 
   @Override
-  public @NonNull Long get(@NonNegative final int index) throws IndexOutOfBoundsException {
+  public long getLong(@NonNegative final int index) throws IndexOutOfBoundsException {
     return _array[index];
   }
 
   @Override
-  public @NonNull Stream<@NonNull Long> stream() {
-    return Arrays.stream(_array).boxed();
+  public @NonNull LongStream longStream() {
+    return Arrays.stream(_array);
   }
 
   @Override
-  public @NonNull Long[] toArray() {
-    return (Long[]) stream().toArray();
+  public long @NonNull [] toLongArray() {
+    return _array.clone();
   }
 
   @Override
@@ -59,4 +59,9 @@ public final class LongArrayView implements PrimitiveView<@NonNull Long> {
 
     return false;
   }
+
+  @Override
+  public int hashCode() {
+    return View.hashCode(this);
+  }
 }
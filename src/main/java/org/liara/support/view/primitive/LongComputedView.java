@@ -0,0 +1,71 @@
+package org.liara.support.view.primitive;
+
+import java.util.function.IntToLongFunction;
+import java.util.function.IntSupplier;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.support.view.View;
+
+/**
+ * A view of long values computed from their index each time they are read.
+ */
+public final class LongComputedView implements LongView {
+  @NonNull
+  private final IntToLongFunction _values;
+
+  @NonNull
+  private final IntSupplier _size;
+
+  public LongComputedView(
+      @NonNull final IntToLongFunction values,
+      @NonNull final IntSupplier size
+  ) {
+    _values = values;
+    _size = size;
+  }
+
+  @Override
+  public @NonNegative int getSize() {
+    return _size.getAsInt();
+  }
+
+  @Override
+  public long getLong(@NonNegative final int index) throws IndexOutOfBoundsException {
+    if (index < _size.getAsInt()) {
+      return _values.applyAsLong(index);
+    } else {
+      throw new IndexOutOfBoundsException(
+          "Unable to get the value at the index #" + index + " because the given index is out of " +
+              "bounds [0, " + _size.getAsInt() + "[."
+      );
+    }
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return View.toString(this);
+  }
+
+  @Override
+  public boolean equals (@Nullable final Object other) {
+    if (other == null) {
+      return false;
+    }
+
+    if (other == this) {
+      return true;
+    }
+
+    if (other instanceof View<?>) {
+      return View.equals(this, (View<?>) other);
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return View.hashCode(this);
+  }
+}
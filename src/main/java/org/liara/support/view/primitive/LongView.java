@@ -0,0 +1,134 @@
+package org.liara.support.view.primitive;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.checkerframework.checker.index.qual.LessThan;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A view of long values that can be read, streamed and transformed without boxing them.
+ */
+public interface LongView extends PrimitiveView<@NonNull Long> {
+  /**
+   * Return a value of this view without boxing it.
+   *
+   * @param index Index of the value to get from 0 (included) to the size of the view (excluded).
+   *
+   * @return The value at the given index.
+   *
+   * @throws IndexOutOfBoundsException If the given index is not between 0 (included) and the size
+   *     of the view (excluded).
+   */
+  long getLong(
+      @NonNegative @LessThan("getSize()") final int index
+  ) throws IndexOutOfBoundsException;
+
+  /**
+   * @see org.liara.support.view.View#get(int)
+   */
+  @Override
+  default @NonNull Long get(
+      @NonNegative @LessThan("getSize()") final int index
+  ) throws IndexOutOfBoundsException {
+    return getLong(index);
+  }
+
+  /**
+   * @return An unboxed stream of each value of this view.
+   */
+  default @NonNull LongStream longStream() {
+    return IntStream.range(0, getSize()).mapToLong(this::getLong);
+  }
+
+  /**
+   * @return A copy of the content of this view as an array of long values.
+   */
+  default long @NonNull [] toLongArray() {
+    @NonNegative final int size = getSize();
+    @NonNull final long[] result = new long[size];
+
+    for (int index = 0; index < size; ++index) {
+      result[index] = getLong(index);
+    }
+
+    return result;
+  }
+
+  /**
+   * @see org.liara.support.view.View#toArray()
+   */
+  @Override
+  default @NonNull Long @NonNull [] toArray() {
+    @NonNegative final int size = getSize();
+    @NonNull final Long[] result = new Long[size];
+
+    for (int index = 0; index < size; ++index) {
+      result[index] = getLong(index);
+    }
+
+    return result;
+  }
+
+  /**
+   * Return a view that is an unboxed mapping of the values of this one, the mapping is computed
+   * each time a value of the returned view is read.
+   *
+   * @param mapper A mapping function.
+   *
+   * @return A view that is a mapping of the values of this one.
+   */
+  default @NonNull LongView mapLong(@NonNull final LongUnaryOperator mapper) {
+    return new LongComputedView((final int index) -> mapper.applyAsLong(getLong(index)), this::getSize);
+  }
+
+  /**
+   * @see #mapLong(LongUnaryOperator)
+   */
+  default @NonNull IntegerView mapToInt(@NonNull final LongToIntFunction mapper) {
+    return new IntegerComputedView((final int index) -> mapper.applyAsInt(getLong(index)), this::getSize);
+  }
+
+  /**
+   * @see #mapLong(LongUnaryOperator)
+   */
+  default @NonNull DoubleView mapToDouble(@NonNull final LongToDoubleFunction mapper) {
+    return new DoubleComputedView((final int index) -> mapper.applyAsDouble(getLong(index)), this::getSize);
+  }
+
+  /**
+   * @see org.liara.support.view.View#materialize()
+   */
+  @Override
+  default @NonNull LongView materialize() {
+    return new LongArrayView(longStream().parallel().toArray());
+  }
+
+  /**
+   * Return a copy of the values of this view that satisfy a predicate.
+   *
+   * @param predicate A predicate to test on each value.
+   *
+   * @return A view of the values of this one that satisfy the given predicate, in order.
+   */
+  default @NonNull LongView filter(@NonNull final LongPredicate predicate) {
+    @NonNegative final int size = getSize();
+    @NonNull final long[] result = new long[size];
+    int filtered = 0;
+
+    for (int index = 0; index < size; ++index) {
+      final long value = getLong(index);
+
+      if (predicate.test(value)) {
+        result[filtered++] = value;
+      }
+    }
+
+    return new LongArrayView(Arrays.copyOf(result, filtered));
+  }
+}
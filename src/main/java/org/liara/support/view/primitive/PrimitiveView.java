@@ -7,35 +7,35 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.liara.support.view.View;
 
 public interface PrimitiveView<T> extends View<T> {
-  static @NonNull PrimitiveView<@NonNull Byte> readonly (final byte[] array) {
+  static @NonNull ByteView readonly (final byte[] array) {
     return new ByteArrayView(array);
   }
 
-  static @NonNull PrimitiveView<@NonNull Short> readonly (final short[] array) {
+  static @NonNull ShortView readonly (final short[] array) {
     return new ShortArrayView(array);
   }
 
-  static @NonNull PrimitiveView<@NonNull Integer> readonly (final int[] array) {
+  static @NonNull IntegerView readonly (final int[] array) {
     return new IntegerArrayView(array);
   }
 
-  static @NonNull PrimitiveView<@NonNull Long> readonly (final long[] array) {
+  static @NonNull LongView readonly (final long[] array) {
     return new LongArrayView(array);
   }
 
-  static @NonNull PrimitiveView<@NonNull Float> readonly (final float[] array) {
+  static @NonNull FloatView readonly (final float[] array) {
     return new FloatArrayView(array);
   }
 
-  static @NonNull PrimitiveView<@NonNull Double> readonly (final double[] array) {
+  static @NonNull DoubleView readonly (final double[] array) {
     return new DoubleArrayView(array);
   }
 
-  static @NonNull PrimitiveView<@NonNull Character> readonly (final char[] array) {
+  static @NonNull CharView readonly (final char[] array) {
     return new CharArrayView(array);
   }
 
-  static @NonNull PrimitiveView<@NonNull Integer> readonly (
+  static @NonNull IntegerView readonly (
       @NonNull final IntBuffer buffer,
       @NonNull final Supplier<@NonNegative Integer> size
   ) {
@@ -1,13 +1,11 @@
 package org.liara.support.view.primitive;
 
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.liara.support.view.View;
 
-public final class ShortArrayView implements PrimitiveView<@NonNull Short> {
+public final class ShortArrayView implements ShortView {
   private final short[] _array;
 
   public ShortArrayView(final short[] array) {
@@ -24,18 +22,13 @@ public final class ShortArrayView implements PrimitiveView<@NonNull Short> {
   }
 
   @Override
-  public @NonNull Short get(@NonNegative final int index) throws IndexOutOfBoundsException {
+  public short getShort(@NonNegative final int index) throws IndexOutOfBoundsException {
     return _array[index];
   }
 
   @Override
-  public @NonNull Stream<@NonNull Short> stream() {
-    return IntStream.range(0, _array.length).mapToObj(this::get);
-  }
-
-  @Override
-  public @NonNull Short[] toArray() {
-    return (Short[]) stream().toArray();
+  public short @NonNull [] toShortArray() {
+    return _array.clone();
   }
 
   @Override
@@ -59,4 +52,9 @@ public final class ShortArrayView implements PrimitiveView<@NonNull Short> {
 
     return false;
   }
+
+  @Override
+  public int hashCode() {
+    return View.hashCode(this);
+  }
 }
@@ -0,0 +1,87 @@
+package org.liara.data.store
+
+import org.liara.data.mapping.Field
+import org.liara.data.mapping.implementation.MutableMapping
+import org.liara.data.mapping.implementation.MutableStructure
+import org.liara.data.primitive.Primitives
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.ForkJoinPool
+
+class ExternalSorterSpecification
+        extends Specification {
+    def "#sort merges spilled runs into a sorted segment"() {
+        given: "a structure of sensor events"
+        final MutableStructure structure = new MutableMapping().createStructure("events")
+        final Field sensor = structure.createField(Primitives.INTEGER, "sensor")
+        final Field timestamp = structure.createField(Primitives.LONG, "timestamp")
+        final Field value = structure.createField(Primitives.NULLABLE_DOUBLE, "value")
+        final RowLayout layout = RowLayout.of(structure)
+
+        and: "a sort that keeps few rows in memory"
+        final Path directory = Files.createTempDirectory("external-sorter")
+        final ExternalSorter sorter = new ExternalSorter(
+                directory,
+                new RowComparator(layout, layout.getColumn(sensor), layout.getColumn(timestamp)),
+                100,
+                ForkJoinPool.commonPool()
+        )
+
+        and: "some random events"
+        final Random random = new Random(42)
+        final List<List<Object>> rows = (0..<1050).collect {
+            [random.nextInt(10), (long) random.nextInt(500), random.nextBoolean() ? null : random.nextDouble()]
+        }
+
+        when: "we sort the events"
+        rows.each { final List<Object> row ->
+            final Object[] values = new Object[3]
+            values[layout.getColumn(sensor)] = row[0]
+            values[layout.getColumn(timestamp)] = row[1]
+            values[layout.getColumn(value)] = row[2]
+            sorter.append(values)
+        }
+        final int runs = sorter.getRuns()
+        final Path output = directory.resolve("sorted.segment")
+        sorter.sort(output)
+        final Segment segment = Segment.open(output, layout)
+        final List<List<Object>> sorted = (0..<segment.getSize()).collect { final int row ->
+            [segment.get(row, sensor), segment.get(row, timestamp), segment.get(row, value)]
+        }
+        segment.close()
+
+        then: "we expect the rows to have been spilled into runs"
+        runs == 10
+        sorter.getSize() == 1050
+
+        and: "the output to contain each row in a stable order of sensor and timestamp"
+        sorted == rows.withIndex().toSorted { final List<Object> left, final List<Object> right ->
+            left[0][0] <=> right[0][0] ?: left[0][1] <=> right[0][1] ?: left[1] <=> right[1]
+        }.collect { final List<Object> entry -> entry[0] }
+
+        and: "the temporary runs to have been deleted"
+        Files.list(directory).collect { final Path path -> path.getFileName().toString() } == ["sorted.segment"]
+    }
+
+    def "#sort writes rows that were never spilled"() {
+        given: "a sort of a single column"
+        final MutableStructure structure = new MutableMapping().createStructure("events")
+        structure.createField(Primitives.NULLABLE_INTEGER, "level")
+        final RowLayout layout = RowLayout.of(structure)
+        final Path directory = Files.createTempDirectory("external-sorter")
+        final ExternalSorter sorter = new ExternalSorter(directory, new RowComparator(layout, 0))
+
+        when: "we sort a few rows"
+        [3, null, 1, 2].each { final Integer level -> sorter.append([level] as Object[]) }
+        sorter.sort(directory.resolve("sorted.segment"))
+        final Segment segment = Segment.open(directory.resolve("sorted.segment"), layout)
+        final List<Object> sorted = (0..<segment.getSize()).collect { final int row -> segment.get(row, 0) }
+        segment.close()
+
+        then: "we expect the output to be sorted without any run"
+        sorter.getRuns() == 0
+        sorted == [null, 1, 2, 3]
+    }
+}
@@ -0,0 +1,106 @@
+package org.liara.data.store
+
+import org.apache.commons.lang3.mutable.Mutable
+import org.liara.data.mapping.Field
+import org.liara.data.mapping.implementation.MutableMapping
+import org.liara.data.mapping.implementation.MutableStructure
+import org.liara.data.primitive.Primitives
+import org.liara.data.type.DataType
+import org.liara.data.type.DataTypes
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+
+class RowSorterSpecification
+        extends Specification {
+    def "#sort orders the rows of a store by a column"() {
+        given: "a structure"
+        final MutableStructure structure = new MutableMapping().createStructure("events")
+        final Field label = structure.createField(Primitives.STRING, "label")
+        final Field level = structure.createField(Primitives.NULLABLE_INTEGER, "level")
+
+        and: "a store of small heap pages"
+        final RowLayout layout = new RowLayout(structure, { final Field field ->
+            field.is(label) ? DataTypes.string(24) : DataTypes.of(field.getType())
+        })
+        final RowStore store = new RowStore(layout, PageAllocator.heap(), 256)
+
+        and: "some random rows"
+        final Random random = new Random(42)
+        final List<String> labels = ["alpha", "alphabet", "alphabetical", "beta", "b", "été", ""]
+        final List<List<Object>> rows = (0..<300).collect {
+            [labels[random.nextInt(labels.size())], random.nextInt(4) == 0 ? null : random.nextInt(200) - 100]
+        }
+        rows.each { final List<Object> row ->
+            final int index = store.append()
+            store.set(index, label, row[0])
+            store.set(index, level, row[1])
+        }
+
+        when: "we sort the rows by each column"
+        final int[] byLabel = new RowSorter(store, layout.getColumn(label)).sort()
+        final int[] byLevel = new RowSorter(store, layout.getColumn(level)).sort()
+
+        then: "we expect a stable ordering of the rows by label"
+        byLabel as List == (0..<rows.size()).toSorted { final int left, final int right ->
+            rows[left][0] <=> rows[right][0] ?: left <=> right
+        }
+
+        and: "a stable ordering of the rows by level with null values first"
+        byLevel as List == (0..<rows.size()).toSorted { final int left, final int right ->
+            rows[left][1] <=> rows[right][1] ?: left <=> right
+        }
+    }
+
+    def "#parallelSort orders the rows of a store by many columns as #sort does"() {
+        given: "a store of sensor events"
+        final MutableStructure structure = new MutableMapping().createStructure("events")
+        final Field sensor = structure.createField(Primitives.INTEGER, "sensor")
+        final Field timestamp = structure.createField(Primitives.LONG, "timestamp")
+        final RowLayout layout = RowLayout.of(structure)
+        final RowStore store = new RowStore(layout, PageAllocator.heap(), 4096)
+
+        and: "more random events than a parallel task sorts"
+        final Random random = new Random(7)
+        final int size = RowSorter.PARALLEL_THRESHOLD * 4 + 17
+        for (int index = 0; index < size; ++index) {
+            final int row = store.append()
+            store.set(row, sensor, random.nextInt(50))
+            store.set(row, timestamp, (long) random.nextInt(1000))
+        }
+
+        when: "we sort the events by sensor and timestamp"
+        final RowSorter sorter = new RowSorter(store, layout.getColumn(sensor), layout.getColumn(timestamp))
+        final int[] sequential = sorter.sort()
+        final int[] parallel = sorter.parallelSort()
+
+        then: "we expect both sorts to return the same stable ordering"
+        sequential == parallel
+        sequential as List == (0..<size).toSorted { final int left, final int right ->
+            store.get(left, sensor) <=> store.get(right, sensor) ?:
+                    store.get(left, timestamp) <=> store.get(right, timestamp) ?:
+                            left <=> right
+        }
+    }
+
+    def "#RowSorter rejects columns that are not comparable"() {
+        given: "a store with a column of a non comparable type"
+        final MutableStructure structure = new MutableMapping().createStructure("events")
+        structure.createField(Primitives.STRING, "label")
+        final RowStore store = new RowStore(new RowLayout(structure, { final Field field ->
+            new DataType<String>() {
+                int getBytes() { return 1 }
+
+                void read(ByteBuffer buffer, int offset, Mutable<String> output) {}
+
+                void write(ByteBuffer buffer, int offset, String value) {}
+            }
+        }))
+
+        when: "we try to sort the store by this column"
+        new RowSorter(store, 0)
+
+        then: "we expect the sorter to reject the column"
+        thrown(IllegalArgumentException)
+    }
+}
@@ -0,0 +1,159 @@
+package org.liara.data.store
+
+import org.liara.data.mapping.Field
+import org.liara.data.mapping.implementation.MutableMapping
+import org.liara.data.mapping.implementation.MutableStructure
+import org.liara.data.primitive.Primitives
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.file.Files
+import java.nio.file.Path
+
+class RowStoreSpecification
+        extends Specification {
+    def "#append stores rows that can be read back"() {
+        given: "a structure"
+        final MutableStructure structure = new MutableMapping().createStructure("events")
+        final Field count = structure.createField(Primitives.INTEGER, "count")
+        final Field ratio = structure.createField(Primitives.DOUBLE, "ratio")
+        final Field level = structure.createField(Primitives.NULLABLE_LONG, "level")
+
+        and: "a store of small heap pages"
+        final RowStore store = new RowStore(RowLayout.of(structure), PageAllocator.heap(), 64)
+
+        when: "we append more rows than a page can hold"
+        final Random random = new Random(42)
+        final List<List<Object>> rows = (0..<100).collect {
+            [random.nextInt(), random.nextDouble(), random.nextBoolean() ? null : random.nextLong()]
+        }
+
+        rows.each { final List<Object> row ->
+            final int index = store.append()
+            store.set(index, count, row[0])
+            store.set(index, ratio, row[1])
+            store.set(index, level, row[2])
+        }
+
+        then: "we expect each row to be read back"
+        store.getSize() == 100
+        store.getPageCount() == 100 / store.getRowsPerPage()
+        (0..<100).every { final int index ->
+            store.get(index, count) == rows[index][0] &&
+                    store.get(index, ratio) == rows[index][1] &&
+                    store.get(index, level) == rows[index][2]
+        }
+    }
+
+    def "#getLong and #getDouble read columns without boxing them"() {
+        given: "a store"
+        final MutableStructure structure = new MutableMapping().createStructure("events")
+        structure.createField(Primitives.SHORT, "a")
+        structure.createField(Primitives.NULLABLE_INTEGER, "b")
+        structure.createField(Primitives.FLOAT, "c")
+        final RowStore store = new RowStore(RowLayout.of(structure))
+
+        when: "we append some rows"
+        store.append((short) 3, 7, 0.5f)
+        store.append((short) -2, null, 1.25f)
+
+        then: "we expect to read each column as a primitive"
+        store.getLong(0, 0) == 3L
+        store.getLong(1, 0) == -2L
+        !store.isNull(0, 1)
+        store.getLong(0, 1) == 7L
+        store.isNull(1, 1)
+        store.getDouble(0, 2) == 0.5d
+        store.getDouble(1, 2) == 1.25d
+    }
+
+    def "#append resets rows that are reused after a clear"() {
+        given: "a store"
+        final MutableStructure structure = new MutableMapping().createStructure("events")
+        final Field level = structure.createField(Primitives.NULLABLE_INTEGER, "level")
+        final RowStore store = new RowStore(RowLayout.of(structure), PageAllocator.heap(), 64)
+
+        when: "we clear a filled store and append a new row"
+        store.append(5)
+        store.clear()
+        final int row = store.append()
+
+        then: "we expect the new row to be null"
+        store.getSize() == 1
+        store.getPageCount() == 1
+        store.get(row, level) == null
+    }
+
+    def "#forEach scans each row in order"() {
+        given: "a store"
+        final MutableStructure structure = new MutableMapping().createStructure("events")
+        structure.createField(Primitives.INTEGER, "count")
+        final RowStore store = new RowStore(RowLayout.of(structure), PageAllocator.direct(), 16)
+
+        and: "some rows"
+        (0..<50).each { final int index -> store.append(index * 2) }
+
+        when: "we scan the store"
+        final List<Integer> rows = []
+        long sum = 0
+        store.forEach { final ByteBuffer page, final int offset, final int row ->
+            rows.add(row)
+            sum += page.getInt(offset)
+        }
+
+        then: "we expect each row to be visited once"
+        rows == (0..<50).toList()
+        sum == (0..<50).sum() * 2
+    }
+
+    def "#append stores rows into pages mapped into a file"() {
+        given: "a file that contains stale content"
+        final Path file = Files.createTempFile("pages", ".bin")
+        Files.write(file, [(byte) 0xFF] * 4096 as byte[])
+        file.toFile().deleteOnExit()
+
+        and: "a store of small pages mapped into the file"
+        final MutableStructure structure = new MutableMapping().createStructure("events")
+        final Field count = structure.createField(Primitives.INTEGER, "count")
+        final Field level = structure.createField(Primitives.NULLABLE_LONG, "level")
+        final RowStore store = new RowStore(RowLayout.of(structure), PageAllocator.mapped(file), 64)
+
+        when: "we append more rows than a page can hold"
+        (0..<100).each { final int index -> store.append(index, index % 3 == 0 ? null : (long) index) }
+
+        then: "we expect each row to be read back from the mapped pages"
+        store.getPageCount() > 1
+        (0..<100).every { final int index ->
+            store.get(index, count) == index &&
+                    store.get(index, level) == (index % 3 == 0 ? null : (long) index)
+        }
+
+        and: "the pages to be written into the file"
+        Files.size(file) == store.getPageCount() * store.getRowsPerPage() * RowLayout.of(structure).getBytes()
+    }
+
+    def "#get throws if the requested row does not exist"() {
+        given: "an empty store"
+        final MutableStructure structure = new MutableMapping().createStructure("events")
+        structure.createField(Primitives.INTEGER, "count")
+        final RowStore store = new RowStore(RowLayout.of(structure))
+
+        when: "we read a row that does not exist"
+        store.get(0, 0)
+
+        then: "we expect the store to throw"
+        thrown(IndexOutOfBoundsException)
+    }
+
+    def "#RowLayout throws if a field has no fixed-size data type"() {
+        given: "a structure with a string field"
+        final MutableStructure structure = new MutableMapping().createStructure("events")
+        structure.createField(Primitives.STRING, "label")
+
+        when: "we lay out the structure"
+        RowLayout.of(structure)
+
+        then: "we expect the layout to throw"
+        thrown(IllegalArgumentException)
+    }
+}
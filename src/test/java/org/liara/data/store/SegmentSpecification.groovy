@@ -0,0 +1,134 @@
+package org.liara.data.store
+
+import org.liara.data.mapping.Field
+import org.liara.data.mapping.implementation.MutableMapping
+import org.liara.data.mapping.implementation.MutableStructure
+import org.liara.data.primitive.Primitives
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.file.Files
+import java.nio.file.Path
+
+class SegmentSpecification
+        extends Specification {
+    Path directory
+
+    def setup() {
+        directory = Files.createTempDirectory("segments")
+    }
+
+    def cleanup() {
+        directory.toFile().deleteDir()
+    }
+
+    def "#open reads the rows written by a segment writer"() {
+        given: "a structure"
+        final MutableStructure structure = new MutableMapping().createStructure("events")
+        final Field count = structure.createField(Primitives.INTEGER, "count")
+        final Field level = structure.createField(Primitives.NULLABLE_LONG, "level")
+        final RowLayout layout = RowLayout.of(structure)
+
+        and: "some random rows"
+        final Random random = new Random(42)
+        final List<List<Object>> rows = (0..<1000).collect {
+            [random.nextInt(), random.nextBoolean() ? null : random.nextLong()]
+        }
+
+        when: "we write the rows into a segment with a small buffer and open it"
+        final Path path = directory.resolve("events.segment")
+        final SegmentWriter writer = new SegmentWriter(path, layout, 100)
+        rows.each { final List<Object> row -> writer.append(row[0], row[1]) }
+        writer.close()
+        final Segment segment = Segment.open(path, layout)
+        final List<Object> counts = segment.getColumn(count).toArray() as List
+        final List<Object> levels = segment.getColumn(level).toArray() as List
+        final Object middle = segment.get(500, count)
+        segment.close()
+
+        then: "we expect each row to be read back"
+        writer.isSealed()
+        segment.getSize() == 1000
+        counts == rows.collect { it[0] }
+        levels == rows.collect { it[1] }
+        middle == rows[500][0]
+    }
+
+    def "#append copies each row of a row store"() {
+        given: "a filled row store"
+        final MutableStructure structure = new MutableMapping().createStructure("events")
+        final Field count = structure.createField(Primitives.INTEGER, "count")
+        final RowLayout layout = RowLayout.of(structure)
+        final RowStore store = new RowStore(layout, PageAllocator.direct(), 64)
+        (0..<100).each { final int index -> store.append(index) }
+
+        when: "we append the store to a segment"
+        final Path path = directory.resolve("events.segment")
+        final SegmentWriter writer = new SegmentWriter(path, layout)
+        writer.append(-1)
+        writer.append(store)
+        writer.append(100)
+        writer.seal()
+
+        and: "we scan the segment"
+        final Segment segment = Segment.open(path, layout)
+        final List<Integer> values = []
+        segment.forEach { final ByteBuffer page, final int offset, final int row ->
+            values.add(page.getInt(offset))
+        }
+        segment.close()
+
+        then: "we expect the rows of the store to be in the segment"
+        values == (-1..100).toList()
+    }
+
+    def "#append throws once the segment was sealed"() {
+        given: "a sealed segment"
+        final MutableStructure structure = new MutableMapping().createStructure("events")
+        structure.createField(Primitives.INTEGER, "count")
+        final SegmentWriter writer = new SegmentWriter(
+                directory.resolve("events.segment"), RowLayout.of(structure)
+        )
+        writer.seal()
+
+        when: "we append a row"
+        writer.append(5)
+
+        then: "we expect the writer to throw"
+        thrown(IllegalStateException)
+    }
+
+    def "#open throws if the segment was not sealed"() {
+        given: "an unsealed segment"
+        final MutableStructure structure = new MutableMapping().createStructure("events")
+        structure.createField(Primitives.INTEGER, "count")
+        final Path path = directory.resolve("events.segment")
+        final SegmentWriter writer = new SegmentWriter(path, RowLayout.of(structure))
+        writer.append(5)
+
+        when: "we open the segment"
+        Segment.open(path, RowLayout.of(structure))
+
+        then: "we expect the segment to be rejected"
+        thrown(IOException)
+        writer.close()
+    }
+
+    def "#open throws if the layout does not match the segment"() {
+        given: "a sealed segment"
+        final MutableStructure structure = new MutableMapping().createStructure("events")
+        structure.createField(Primitives.INTEGER, "count")
+        final Path path = directory.resolve("events.segment")
+        new SegmentWriter(path, RowLayout.of(structure)).close()
+
+        and: "another structure"
+        final MutableStructure other = new MutableMapping().createStructure("events")
+        other.createField(Primitives.FLOAT, "count")
+
+        when: "we open the segment with the layout of the other structure"
+        Segment.open(path, RowLayout.of(other))
+
+        then: "we expect the layout to be rejected"
+        thrown(IllegalArgumentException)
+    }
+}
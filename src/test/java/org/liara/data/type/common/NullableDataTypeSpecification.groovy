@@ -0,0 +1,61 @@
+package org.liara.data.type.common
+
+import org.liara.data.type.DataType
+import org.liara.data.type.DataTypeSpecification
+import org.liara.data.type.DataTypes
+
+import java.nio.ByteBuffer
+
+class NullableDataTypeSpecification
+        extends DataTypeSpecification<Integer> {
+    @Override
+    DataType<Integer> getType() {
+        return DataTypes.NULLABLE_INTEGER
+    }
+
+    @Override
+    Integer getRandomValue() {
+        return random.nextInt(4) == 0 ? null : random.nextInt()
+    }
+
+    def "#readInt and #writeInt allows to read / write a value without boxing it"() {
+        given: "a nullable integer type"
+        final NullableDataType<Integer> type = (NullableDataType<Integer>) DataTypes.NULLABLE_INTEGER
+
+        and: "a buffer"
+        final ByteBuffer buffer = ByteBuffer.allocate(2 * type.bytes)
+
+        when: "we write a value and a null"
+        type.writeInt(buffer, 0, 42)
+        type.write(buffer, type.bytes, null)
+
+        then: "we expect to read them back"
+        !type.isNull(buffer, 0)
+        type.readInt(buffer, 0) == 42
+        type.isNull(buffer, type.bytes)
+        DataTypes.readLong(type, buffer, 0) == 42L
+        DataTypes.readDouble(type, buffer, 0) == 42d
+    }
+
+    def "#compare orders nulls first and compares the wrapped values"() {
+        given: "a nullable integer type"
+        final NullableDataType<Integer> type = (NullableDataType<Integer>) DataTypes.NULLABLE_INTEGER
+
+        and: "some values"
+        final List<Integer> values = [5, null, -3, 300, null, 0, 256]
+
+        and: "a buffer that contains each value"
+        final ByteBuffer buffer = ByteBuffer.allocate(values.size() * type.bytes)
+        values.eachWithIndex { final Integer value, final int index ->
+            type.write(buffer, index * type.bytes, value)
+        }
+
+        when: "we sort the values by comparing their encoding"
+        final List<Integer> sorted = (0..<values.size()).sort(false) { final int left, final int right ->
+            type.compare(buffer, left * type.bytes, buffer, right * type.bytes)
+        }.collect { values[it] }
+
+        then: "we expect the values to be in order"
+        sorted == [null, null, -3, 0, 5, 256, 300]
+    }
+}
@@ -1,9 +1,13 @@
 package org.liara.data.type.common
 
+import org.apache.commons.lang3.mutable.MutableObject
 import org.liara.data.type.DataType
 import org.liara.data.type.DataTypeSpecification
 import org.liara.data.type.DataTypes
 
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+
 class StringDataTypeSpecification
         extends DataTypeSpecification<String> {
     @Override
@@ -22,4 +26,77 @@ class StringDataTypeSpecification
 
         return new String(characters)
     }
+
+    def "#compare and #getPrefix order utf-8 strings by code point without decoding them"() {
+        given: "a utf-8 string type"
+        final StringDataType type = (StringDataType) DataTypes.string(32)
+
+        and: "some strings that are written into a buffer"
+        final List<String> values = ["", "a", "ab", "abcdefghij", "abcdefghik", "b", "z", "\u00e9", "\u4e2d", "\ud83d\ude00"]
+        final ByteBuffer data = ByteBuffer.allocate(values.size() * type.bytes)
+        values.eachWithIndex { final String value, final int index ->
+            type.write(data, index * type.bytes, value)
+        }
+
+        expect: "each string to be read back"
+        (0..<values.size()).every { final int index ->
+            final MutableObject<String> box = new MutableObject<>()
+            type.read(data, index * type.bytes, box)
+            box.value == values[index]
+        }
+
+        and: "the strings to be compared as their code points are"
+        [0..<values.size(), 0..<values.size()].combinations().every { final List<Integer> pair ->
+            final int left = pair[0]
+            final int right = pair[1]
+            final int expected = Integer.signum(
+                    compareCodePoints(values[left], values[right])
+            )
+
+            Integer.signum(type.compare(data, left * type.bytes, data, right * type.bytes)) == expected &&
+                    (expected >= 0 || Long.compareUnsigned(
+                            type.getPrefix(data, left * type.bytes), type.getPrefix(data, right * type.bytes)
+                    ) <= 0)
+        }
+    }
+
+    def "#read, #write and #compare can be used concurrently by many threads"() {
+        given: "a string type shared by many threads"
+        final DataType<String> type = DataTypes.string(StandardCharsets.UTF_16, 16)
+
+        when: "each thread writes, reads and compares its own strings"
+        final List<Boolean> results = Collections.synchronizedList([])
+        final List<Thread> threads = (0..<8).collect { final int thread ->
+            Thread.start {
+                final ByteBuffer data = ByteBuffer.allocate(2 * type.bytes)
+                final MutableObject<String> box = new MutableObject<>()
+                boolean valid = true
+
+                for (int index = 0; index < 2000; ++index) {
+                    final String left = "t" + thread + "-" + index
+                    final String right = "t" + thread + "-" + (index + 1)
+                    type.write(data, 0, left)
+                    type.write(data, type.bytes, right)
+                    type.read(data, 0, box)
+                    valid &= box.value == left
+                    valid &= Integer.signum(((StringDataType) type).compare(data, 0, data, type.bytes)) ==
+                            Integer.signum(left <=> right)
+                    valid &= data.position() == 0 && data.limit() == data.capacity()
+                }
+
+                results.add(valid)
+            }
+        }
+        threads.each { final Thread thread -> thread.join() }
+
+        then: "we expect each thread to read back and compare its strings correctly"
+        results.size() == 8
+        results.every()
+    }
+
+    private static int compareCodePoints(final String left, final String right) {
+        final int[] leftCodePoints = left.codePoints().toArray()
+        final int[] rightCodePoints = right.codePoints().toArray()
+        return Arrays.compare(leftCodePoints, rightCodePoints)
+    }
 }
@@ -0,0 +1,81 @@
+package org.liara.expression
+
+import org.liara.data.primitive.Primitives
+import org.liara.expression.sql.ExpressionToSQLCompiler
+import spock.lang.Specification
+
+class ExpressionFactorySpecification extends Specification {
+    def "#ExpressionFactory creates distinct instances of equal expressions by default"() {
+        given: "a default factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        when: "we create two structurally equal expressions"
+        final Expression first = factory.add(factory.nonnull(5), factory.nonnull(6))
+        final Expression second = factory.add(factory.nonnull(5), factory.nonnull(6))
+
+        then: "we expect them to be equal but distinct"
+        !factory.isInterning()
+        first == second
+        !first.is(second)
+    }
+
+    def "#ExpressionFactory interns structurally equal expressions when interning"() {
+        given: "an interning factory"
+        final ExpressionFactory factory = new ExpressionFactory(true)
+
+        when: "we create two structurally equal expressions"
+        final Expression first = factory.and(
+                factory.greaterThan(new Variable<>(Primitives.INTEGER, "count"), factory.nonnull(5)),
+                factory.between(new Variable<>(Primitives.INTEGER, "level"), factory.nonnull(1), factory.nonnull(3))
+        )
+        final Expression second = factory.and(
+                factory.greaterThan(new Variable<>(Primitives.INTEGER, "count"), factory.nonnull(5)),
+                factory.between(new Variable<>(Primitives.INTEGER, "level"), factory.nonnull(1), factory.nonnull(3))
+        )
+
+        then: "we expect them to be the same instance"
+        factory.isInterning()
+        first.is(second)
+        first.children.get(0).is(second.children.get(0))
+        factory.getInternedSize() > 0
+    }
+
+    def "#ExpressionFactory does not intern expressions over variables of another type"() {
+        given: "an interning factory"
+        final ExpressionFactory factory = new ExpressionFactory(true)
+
+        when: "we create expressions that only differ by the nullability of a variable"
+        final Expression nonnull = factory.greaterThan(
+                new Variable<>(Primitives.INTEGER, "count"), factory.nonnull(5)
+        )
+        final Expression nullable = factory.greaterThan(
+                new Variable<>(Primitives.NULLABLE_INTEGER, "count"), factory.nonnull(5)
+        )
+
+        then: "we expect each expression to keep its own variable"
+        !nonnull.is(nullable)
+        nonnull != nullable
+        nonnull.children.get(0).resultType == Primitives.INTEGER
+        nullable.children.get(0).resultType == Primitives.NULLABLE_INTEGER
+    }
+
+    def "#ExpressionFactory interned expressions can share children"() {
+        given: "an interning factory"
+        final ExpressionFactory factory = new ExpressionFactory(true)
+
+        and: "an SQL compiler"
+        final ExpressionToSQLCompiler compiler = new ExpressionToSQLCompiler()
+
+        when: "we render a range whose bounds are the same instance"
+        final StringBuilder output = new StringBuilder()
+        final Expression range = factory.between(
+                new Variable<>(Primitives.INTEGER, "count"), factory.nonnull(5), factory.nonnull(5)
+        )
+        compiler.setExpression(range)
+        compiler.compile(output)
+
+        then: "we expect the range to be rendered as usual"
+        range.children.get(1).is(range.children.get(2))
+        output.toString() == "count BETWEEN 5 AND 5"
+    }
+}
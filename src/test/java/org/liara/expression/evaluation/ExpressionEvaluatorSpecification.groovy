@@ -0,0 +1,122 @@
+package org.liara.expression.evaluation
+
+import org.liara.data.primitive.Primitives
+import org.liara.expression.Expression
+import org.liara.expression.ExpressionFactory
+import org.liara.expression.Variable
+import org.liara.expression.operation.Operator
+import org.liara.expression.operation.SequentialOperation
+import spock.lang.Specification
+
+class ExpressionEvaluatorSpecification
+        extends Specification {
+    def "#evaluate computes arithmetic operations"() {
+        given: "an evaluator"
+        final ExpressionEvaluator evaluator = new ExpressionEvaluator()
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        and: "an arithmetic expression"
+        final Expression expression = factory.add(
+                factory.multiply(factory.nonnull(5), factory.nonnull(6)),
+                factory.minus(factory.divide(factory.nonnull(7), factory.nonnull(2)))
+        )
+
+        when: "we evaluate the expression"
+        evaluator.setExpression(expression)
+
+        then: "we expect the evaluator to compute the result of the expression"
+        evaluator.evaluate(Row.of([:])) == 27
+    }
+
+    def "#evaluate resolves variables from the given row"() {
+        given: "an evaluator"
+        final ExpressionEvaluator evaluator = new ExpressionEvaluator()
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        and: "a predicate over some variables"
+        final Expression expression = factory.and(
+                factory.greaterThan(
+                        new Variable<>(Primitives.INTEGER, "temperature"),
+                        factory.nonnull(20)
+                ),
+                factory.like(new Variable<>(Primitives.STRING, "sensor"), factory.nonnull("k_tch%"))
+        )
+
+        when: "we evaluate the predicate against multiple rows"
+        evaluator.setExpression(expression)
+
+        then: "we expect the evaluator to resolve each variable from the given row"
+        evaluator.test(Row.of([temperature: 25, sensor: "kitchen"]))
+        !evaluator.test(Row.of([temperature: 15, sensor: "kitchen"]))
+        !evaluator.test(Row.of([temperature: 25, sensor: "bedroom"]))
+    }
+
+    def "#evaluate follows the SQL three-valued logic"() {
+        given: "an evaluator"
+        final ExpressionEvaluator evaluator = new ExpressionEvaluator()
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        expect: "the evaluator to propagate null values as SQL does"
+        evaluate(evaluator, factory.and(factory.nullable((Boolean) null), factory.nonnull(false))) == false
+        evaluate(evaluator, factory.and(factory.nullable((Boolean) null), factory.nonnull(true))) == null
+        evaluate(evaluator, factory.or(factory.nullable((Boolean) null), factory.nonnull(true))) == true
+        evaluate(evaluator, factory.or(factory.nullable((Boolean) null), factory.nonnull(false))) == null
+        evaluate(evaluator, factory.not(factory.nullable((Boolean) null))) == null
+        evaluate(evaluator, factory.equal(factory.nullable((Integer) null), factory.nullable((Integer) null))) == null
+        evaluate(evaluator, factory.add(factory.nullable((Integer) 5), factory.nullable((Integer) null))) == null
+        evaluate(evaluator, factory.divide(factory.nonnull(5), factory.nonnull(0))) == null
+    }
+
+    def "#evaluate handles ranges, membership and functions"() {
+        given: "an evaluator"
+        final ExpressionEvaluator evaluator = new ExpressionEvaluator()
+        evaluator.define("CONCAT", { Object[] parameters -> parameters.join("") } as FunctionImplementation)
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        expect: "the evaluator to compute each kind of expression"
+        evaluate(evaluator, factory.between(factory.nonnull(5), factory.nonnull(1), factory.nonnull(6))) == true
+        evaluate(evaluator, factory.between(factory.nonnull(8), factory.nonnull(1), factory.nonnull(6))) == false
+        evaluate(evaluator, new SequentialOperation<>(
+                Primitives.BOOLEAN, Operator.IN,
+                factory.nonnull(3), factory.nonnull(1), factory.nonnull(3)
+        )) == true
+        evaluate(evaluator, new SequentialOperation<>(
+                Primitives.BOOLEAN, Operator.IN,
+                factory.nonnull(3), factory.nonnull(1), factory.nullable((Integer) null)
+        )) == null
+        evaluate(evaluator, factory.function(
+                Primitives.STRING, "CONCAT", [factory.nonnull("a"), factory.nonnull(5)]
+        )) == "a5"
+    }
+
+    def "#evaluate binds placeholders to parameters in order of appearance"() {
+        given: "an evaluator"
+        final ExpressionEvaluator evaluator = new ExpressionEvaluator()
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        when: "we evaluate an expression with placeholders"
+        evaluator.setExpression(factory.subtract(
+                factory.placeholder(Primitives.INTEGER),
+                factory.placeholder(Primitives.INTEGER)
+        ))
+        evaluator.setParameters([10, 4])
+
+        then: "we expect each placeholder to be bound to its parameter"
+        evaluator.evaluate(Row.of([:])) == 6
+    }
+
+    Object evaluate(final ExpressionEvaluator evaluator, final Expression expression) {
+        evaluator.setExpression(expression)
+        return evaluator.evaluate(Row.of([:]))
+    }
+}
@@ -0,0 +1,309 @@
+package org.liara.expression.evaluation.compilation
+
+import org.liara.data.primitive.Primitives
+import org.liara.expression.Expression
+import org.liara.expression.ExpressionFactory
+import org.liara.expression.Variable
+import org.liara.expression.evaluation.ColumnarBatch
+import org.liara.expression.evaluation.ExpressionEvaluator
+import org.liara.expression.evaluation.Row
+import org.liara.support.view.View
+import org.liara.support.view.primitive.DoubleView
+import org.liara.support.view.primitive.IntegerView
+import spock.lang.Specification
+
+class ExpressionToPredicateCompilerSpecification
+        extends Specification {
+    def "#compile produces predicates that agree with the interpreter"() {
+        given: "a compiler and an interpreter"
+        final ExpressionToPredicateCompiler compiler = new ExpressionToPredicateCompiler()
+        final ExpressionEvaluator evaluator = new ExpressionEvaluator()
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        and: "some variables"
+        final Variable<Integer> count = new Variable<>(Primitives.INTEGER, "count")
+        final Variable<Double> ratio = new Variable<>(Primitives.DOUBLE, "ratio")
+        final Variable<Integer> level = new Variable<>(Primitives.NULLABLE_INTEGER, "level")
+        final Variable<String> label = new Variable<>(Primitives.STRING, "label")
+
+        and: "a predicate that mixes specialized and generic operations"
+        final Expression expression = factory.or(
+                factory.and(
+                        factory.greaterThan(
+                                factory.add(factory.multiply(count, factory.nonnull(3)), factory.nonnull(2)),
+                                factory.nonnull(40)
+                        ),
+                        factory.lessThan(factory.subtract(ratio, factory.nonnull(0.5d)), factory.nonnull(0.25d))
+                ),
+                factory.and(
+                        factory.between(count, factory.nonnull(2), factory.nonnull(8)),
+                        factory.greaterThanOrEqual(factory.modulus(level, factory.nonnull(4)), factory.nonnull(2))
+                ),
+                factory.and(
+                        factory.like(label, factory.nonnull("a%")),
+                        factory.not(factory.equal(factory.bitwiseAnd(count, factory.nonnull(1)), factory.nonnull(0)))
+                )
+        )
+
+        and: "some random rows"
+        final Random random = new Random(42)
+        final List<Row> rows = (0..<500).collect {
+            Row.of([
+                    count: random.nextInt(30) - 5,
+                    ratio: random.nextDouble(),
+                    level: random.nextInt(5) == 0 ? null : random.nextInt(20),
+                    label: random.nextInt(6) == 0 ? null : ["alpha", "beta", "atom"][random.nextInt(3)]
+            ])
+        }
+
+        when: "we compile the predicate"
+        final CompiledPredicate predicate = compiler.compile(expression)
+        evaluator.setExpression(expression)
+
+        then: "we expect the compiled predicate to agree with the interpreter for each row"
+        rows.every { final Row row ->
+            predicate.evaluate(row) == evaluator.evaluate(row) &&
+                    predicate.test(row) == evaluator.test(row)
+        }
+    }
+
+    def "#compile preserves the narrowing of integral types"() {
+        given: "a compiler"
+        final ExpressionToPredicateCompiler compiler = new ExpressionToPredicateCompiler()
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        when: "we compile an overflowing integer expression"
+        final CompiledPredicate predicate = compiler.compile(
+                factory.multiply(factory.nonnull(Integer.MAX_VALUE), factory.nonnull(2))
+        )
+
+        then: "we expect the compiled expression to overflow as the interpreter does"
+        predicate.evaluate(Row.of([:])) == Integer.MAX_VALUE * 2
+    }
+
+    def "#compile binds placeholders to parameters in order of appearance"() {
+        given: "a compiler"
+        final ExpressionToPredicateCompiler compiler = new ExpressionToPredicateCompiler()
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        when: "we compile an expression with placeholders"
+        final CompiledPredicate predicate = compiler.compile(
+                factory.between(
+                        new Variable<>(Primitives.INTEGER, "count"),
+                        factory.placeholder(Primitives.INTEGER),
+                        factory.placeholder(Primitives.INTEGER)
+                )
+        )
+
+        then: "we expect each placeholder to be bound to its parameter"
+        predicate.getPlaceholderCount() == 2
+        predicate.test(Row.of([count: 5]), 1, 10)
+        !predicate.test(Row.of([count: 5]), 6, 10)
+    }
+
+    def "#compile reuses the compilation of structurally equal expressions"() {
+        given: "a compiler with a small cache"
+        final ExpressionToPredicateCompiler compiler = new ExpressionToPredicateCompiler(2)
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        when: "we compile structurally equal expressions"
+        final CompiledPredicate first = compiler.compile(
+                factory.greaterThan(new Variable<>(Primitives.INTEGER, "count"), factory.nonnull(5))
+        )
+        final CompiledPredicate second = compiler.compile(
+                factory.greaterThan(new Variable<>(Primitives.INTEGER, "count"), factory.nonnull(5))
+        )
+
+        then: "we expect the compiler to return the cached compilation"
+        first.is(second)
+
+        when: "we compile more expressions than the cache can hold"
+        compiler.compile(factory.nonnull(1))
+        compiler.compile(factory.nonnull(2))
+
+        then: "we expect the least recently used compilations to be evicted"
+        compiler.getCacheSize() == 2
+        !compiler.compile(
+                factory.greaterThan(new Variable<>(Primitives.INTEGER, "count"), factory.nonnull(5))
+        ).is(first)
+    }
+
+    def "#compile does not reuse the compilation of variables of another type"() {
+        given: "a compiler"
+        final ExpressionToPredicateCompiler compiler = new ExpressionToPredicateCompiler()
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        and: "two expressions that only differ by the nullability of a variable"
+        final Variable<Boolean> flag = new Variable<>(Primitives.BOOLEAN, "flag")
+        final Expression nonnull = factory.and(
+                factory.greaterThan(new Variable<>(Primitives.INTEGER, "count"), factory.nonnull(5)),
+                flag
+        )
+        final Expression nullable = factory.and(
+                factory.greaterThan(new Variable<>(Primitives.NULLABLE_INTEGER, "count"), factory.nonnull(5)),
+                flag
+        )
+
+        when: "we compile both expressions"
+        final CompiledPredicate first = compiler.compile(nonnull)
+        final CompiledPredicate second = compiler.compile(nullable)
+
+        then: "we expect each expression to get its own compilation"
+        !first.is(second)
+        !second.test(Row.of([count: null, flag: false]))
+        second.evaluate(Row.of([count: null, flag: false])) == false
+    }
+
+    def "#test refuses parameters that do not match the placeholders"() {
+        given: "a compiler"
+        final ExpressionToPredicateCompiler compiler = new ExpressionToPredicateCompiler()
+
+        and: "a predicate with a placeholder"
+        final CompiledPredicate predicate = compiler.compile(
+                new ExpressionFactory().greaterThan(
+                        new Variable<>(Primitives.INTEGER, "count"),
+                        new ExpressionFactory().placeholder(Primitives.INTEGER)
+                )
+        )
+
+        when: "we test a row without any parameter"
+        predicate.test(Row.of([count: 5]))
+
+        then: "we expect an error"
+        thrown(IllegalArgumentException.class)
+
+        when: "we evaluate a row with too many parameters"
+        predicate.evaluate(Row.of([count: 5]), 1, 2)
+
+        then: "we expect an error"
+        thrown(IllegalArgumentException.class)
+    }
+
+    def "#select selects the same rows of a batch as the row by row evaluation"() {
+        given: "a compiler"
+        final ExpressionToPredicateCompiler compiler = new ExpressionToPredicateCompiler()
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        and: "some variables"
+        final Variable<Integer> count = new Variable<>(Primitives.INTEGER, "count")
+        final Variable<Double> ratio = new Variable<>(Primitives.DOUBLE, "ratio")
+        final Variable<Boolean> active = new Variable<>(Primitives.BOOLEAN, "active")
+        final Variable<Integer> level = new Variable<>(Primitives.NULLABLE_INTEGER, "level")
+
+        and: "a predicate that mixes vectorized and row by row operations"
+        final Expression expression = factory.and(
+                factory.or(
+                        factory.greaterThan(
+                                factory.add(factory.multiply(count, factory.nonnull(3)), factory.nonnull(2)),
+                                factory.nonnull(40)
+                        ),
+                        factory.not(active)
+                ),
+                factory.lessThan(factory.subtract(ratio, factory.nonnull(0.5d)), factory.nonnull(0.25d)),
+                factory.not(factory.equal(factory.modulus(level, factory.nonnull(3)), factory.nonnull(0))),
+                factory.between(count, factory.placeholder(Primitives.INTEGER), factory.nonnull(20))
+        )
+
+        and: "a batch of random rows"
+        final Random random = new Random(7)
+        final int size = 1024
+        final int[] counts = new int[size]
+        final double[] ratios = new double[size]
+        final boolean[] actives = new boolean[size]
+        final List<Integer> levels = []
+
+        for (int index = 0; index < size; ++index) {
+            counts[index] = random.nextInt(30) - 5
+            ratios[index] = random.nextDouble()
+            actives[index] = random.nextBoolean()
+            levels.add(random.nextInt(5) == 0 ? null : random.nextInt(20))
+        }
+
+        final ColumnarBatch batch = new ColumnarBatch(size)
+                .set(count, counts)
+                .set(ratio, ratios)
+                .set(active, actives)
+                .set(level, View.readonly(levels))
+
+        when: "we select the rows of the batch"
+        final CompiledPredicate predicate = compiler.compile(expression)
+        final int[] selection = new int[size]
+        final int selected = predicate.select(batch, selection, 2)
+
+        then: "we expect the selection to contain each row that satisfies the predicate"
+        selected > 0
+        Arrays.copyOf(selection, selected) as List == (0..<size).findAll { final int row ->
+            predicate.test(batch.getRow(row), 2)
+        }
+    }
+
+    def "#select reads primitive views without boxing their values"() {
+        given: "a compiler"
+        final ExpressionToPredicateCompiler compiler = new ExpressionToPredicateCompiler()
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        and: "some variables"
+        final Variable<Integer> count = new Variable<>(Primitives.INTEGER, "count")
+        final Variable<Double> ratio = new Variable<>(Primitives.DOUBLE, "ratio")
+
+        and: "a vectorized predicate"
+        final Expression expression = factory.and(
+                factory.greaterThan(factory.add(count, factory.nonnull(2)), factory.nonnull(10)),
+                factory.lessThan(factory.multiply(ratio, factory.nonnull(2.0d)), factory.nonnull(1.0d))
+        )
+
+        and: "a batch of primitive views that refuse boxed reads"
+        final int size = 256
+        final int[] counts = (0..<size).collect { final int index -> index % 20 } as int[]
+        final double[] ratios = (0..<size).collect { final int index -> (index % 7) / 7.0d } as double[]
+
+        final IntegerView countView = new IntegerView() {
+            @Override
+            int getSize() { return size }
+
+            @Override
+            int getInt(final int index) { return counts[index] }
+
+            @Override
+            Integer get(final int index) { throw new UnsupportedOperationException() }
+        }
+        final DoubleView ratioView = new DoubleView() {
+            @Override
+            int getSize() { return size }
+
+            @Override
+            double getDouble(final int index) { return ratios[index] }
+
+            @Override
+            Double get(final int index) { throw new UnsupportedOperationException() }
+        }
+
+        final ColumnarBatch views = new ColumnarBatch(size).set(count, countView).set(ratio, ratioView)
+        final ColumnarBatch arrays = new ColumnarBatch(size).set(count, counts).set(ratio, ratios)
+
+        when: "we select the rows of both batches"
+        final CompiledPredicate predicate = compiler.compile(expression)
+        final int[] selection = new int[size]
+        final int selected = predicate.select(views, selection)
+        final int[] expected = new int[size]
+        final int expectedCount = predicate.select(arrays, expected)
+
+        then: "we expect the views to select the same rows as the arrays"
+        selected > 0
+        Arrays.copyOf(selection, selected) == Arrays.copyOf(expected, expectedCount)
+    }
+}
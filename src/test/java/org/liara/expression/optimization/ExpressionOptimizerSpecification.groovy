@@ -0,0 +1,206 @@
+package org.liara.expression.optimization
+
+import org.liara.data.primitive.Primitives
+import org.liara.expression.Constant
+import org.liara.expression.Expression
+import org.liara.expression.ExpressionFactory
+import org.liara.expression.Identity
+import org.liara.expression.Variable
+import org.liara.expression.evaluation.ExpressionEvaluator
+import org.liara.expression.evaluation.Row
+import org.liara.expression.operation.Operator
+import org.liara.expression.operation.SequentialOperation
+import spock.lang.Specification
+
+class ExpressionOptimizerSpecification
+        extends Specification {
+    def "#optimize folds operations over constants"() {
+        given: "an optimizer"
+        final ExpressionOptimizer optimizer = new ExpressionOptimizer()
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        expect: "constant subtrees to be replaced by their value"
+        optimizer.optimize(
+                factory.add(factory.multiply(factory.nonnull(3), factory.nonnull(4)), factory.nonnull(2))
+        ) == factory.nonnull(14)
+        optimizer.optimize(
+                factory.between(factory.nonnull(5), factory.nonnull(1), factory.nonnull(10))
+        ) == factory.nonnull(true)
+        optimizer.optimize(
+                factory.greaterThan(
+                        new Variable<>(Primitives.INTEGER, "count"),
+                        factory.subtract(factory.nonnull(10), factory.nonnull(4))
+                )
+        ) == factory.greaterThan(new Variable<>(Primitives.INTEGER, "count"), factory.nonnull(6))
+    }
+
+    def "#optimize does not fold a null result into a non-null constant"() {
+        given: "an optimizer"
+        final ExpressionOptimizer optimizer = new ExpressionOptimizer()
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        and: "an expression that evaluates to null"
+        final Expression<Boolean> expression = factory.equal(
+                factory.nullable((Integer) null), factory.nonnull(5)
+        )
+
+        expect: "the expression to be kept as is"
+        optimizer.optimize(expression).is(expression)
+    }
+
+    def "#optimize does not fold operations that depend on the SQL dialect"() {
+        given: "an optimizer"
+        final ExpressionOptimizer optimizer = new ExpressionOptimizer()
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        and: "operations over constants that depend on the collation or on the arithmetic of the database"
+        final List<Expression<?>> expressions = [
+                factory.equal(factory.nonnull("a"), factory.nonnull("A")),
+                factory.lessThan(factory.nonnull("a"), factory.nonnull("B")),
+                factory.between(factory.nonnull("b"), factory.nonnull("A"), factory.nonnull("C")),
+                factory.like(factory.nonnull("ABC"), factory.nonnull("a%")),
+                factory.regexp(factory.nonnull("ABC"), factory.nonnull("^a")),
+                factory.divide(factory.nonnull(7), factory.nonnull(2)),
+                factory.modulus(factory.nonnull(-7), factory.nonnull(2)),
+                factory.bitwiseAnd(factory.nonnull(-1L), factory.nonnull(6L))
+        ]
+
+        expect: "each operation to be kept as is"
+        expressions.every { final Expression<?> expression ->
+            optimizer.optimize(expression).is(expression)
+        }
+
+        and: "dialect independent operations to be folded"
+        optimizer.optimize(factory.equal(factory.nonnull(2.5d), factory.nonnull(2.5d))) == factory.nonnull(true)
+        optimizer.optimize(
+                factory.and(factory.nonnull(true), factory.xor(factory.nonnull(true), factory.nonnull(false)))
+        ) == factory.nonnull(true)
+    }
+
+    def "#optimize removes identities and flattens associative operations"() {
+        given: "an optimizer"
+        final ExpressionOptimizer optimizer = new ExpressionOptimizer()
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        and: "some predicates"
+        final Expression<Boolean> first = factory.greaterThan(
+                new Variable<>(Primitives.INTEGER, "count"), factory.nonnull(5)
+        )
+        final Expression<Boolean> second = new Variable<>(Primitives.BOOLEAN, "active")
+        final Expression<Boolean> third = factory.lessThan(
+                new Variable<>(Primitives.DOUBLE, "ratio"), factory.nonnull(0.5d)
+        )
+
+        when: "we optimize nested conjunctions"
+        final Expression<Boolean> result = optimizer.optimize(
+                factory.and(
+                        factory.and(new Identity<>(first), factory.nonnull(true)),
+                        factory.and(second, third)
+                )
+        )
+
+        then: "we expect a single flat conjunction"
+        result == new SequentialOperation<>(Primitives.BOOLEAN, Operator.AND, first, second, third)
+    }
+
+    def "#optimize simplifies boolean logic"() {
+        given: "an optimizer"
+        final ExpressionOptimizer optimizer = new ExpressionOptimizer()
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        and: "a variable"
+        final Variable<Integer> count = new Variable<>(Primitives.INTEGER, "count")
+        final Variable<Boolean> active = new Variable<>(Primitives.BOOLEAN, "active")
+
+        expect: "absorbing operands to absorb their operation"
+        optimizer.optimize(factory.and(active, factory.nonnull(false))) == factory.nonnull(false)
+        optimizer.optimize(factory.or(factory.nonnull(true), active)) == factory.nonnull(true)
+
+        and: "neutral operands to be removed"
+        optimizer.optimize(factory.or(active, factory.nonnull(false))).is(active)
+        optimizer.optimize(factory.add(count, factory.nonnull(0))).is(count)
+
+        and: "double negations to be removed"
+        optimizer.optimize(factory.not(factory.not(active))).is(active)
+
+        and: "negated comparisons to be inverted"
+        optimizer.optimize(factory.not(factory.greaterThan(count, factory.nonnull(3)))) ==
+                factory.lessThanOrEqual(count, factory.nonnull(3))
+    }
+
+    def "#optimize returns the same instance for expressions that can't be simplified"() {
+        given: "an optimizer"
+        final ExpressionOptimizer optimizer = new ExpressionOptimizer()
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        and: "an expression that can't be simplified"
+        final Expression<Boolean> expression = factory.or(
+                factory.greaterThan(new Variable<>(Primitives.INTEGER, "count"), factory.nonnull(5)),
+                factory.like(new Variable<>(Primitives.STRING, "label"), factory.nonnull("a%"))
+        )
+
+        expect: "the same instance to be returned"
+        optimizer.optimize(expression).is(expression)
+    }
+
+    def "#optimize preserves the result of the evaluation"() {
+        given: "an optimizer and an evaluator"
+        final ExpressionOptimizer optimizer = new ExpressionOptimizer()
+        final ExpressionEvaluator original = new ExpressionEvaluator()
+        final ExpressionEvaluator optimized = new ExpressionEvaluator()
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        and: "some variables"
+        final Variable<Integer> count = new Variable<>(Primitives.INTEGER, "count")
+        final Variable<Integer> level = new Variable<>(Primitives.NULLABLE_INTEGER, "level")
+        final Variable<Boolean> active = new Variable<>(Primitives.NULLABLE_BOOLEAN, "active")
+
+        and: "an expression full of simplifiable parts"
+        final Expression<Boolean> expression = factory.or(
+                factory.and(
+                        factory.not(factory.not(active)),
+                        factory.and(factory.nonnull(true), factory.nullable((Boolean) null)),
+                        factory.not(factory.lessThan(
+                                factory.add(factory.add(count, factory.nonnull(0)), level),
+                                factory.multiply(factory.nonnull(2), factory.nonnull(8))
+                        ))
+                ),
+                factory.xor(
+                        factory.or(factory.nonnull(false), factory.equal(level, factory.nonnull(3))),
+                        new Identity<>(active)
+                )
+        )
+
+        and: "some random rows"
+        final Random random = new Random(42)
+        final List<Row> rows = (0..<300).collect {
+            Row.of([
+                    count : random.nextInt(30) - 5,
+                    level : random.nextInt(4) == 0 ? null : random.nextInt(10),
+                    active: random.nextInt(3) == 0 ? null : random.nextBoolean()
+            ])
+        }
+
+        when: "we optimize the expression"
+        original.setExpression(expression)
+        optimized.setExpression(optimizer.optimize(expression))
+
+        then: "we expect both expressions to evaluate to the same value for each row"
+        !optimized.getExpression().is(expression)
+        rows.every { final Row row -> original.evaluate(row) == optimized.evaluate(row) }
+    }
+}
@@ -14,6 +14,17 @@ import java.time.format.DateTimeFormatter
 
 class ExpressionToSQLCompilerSpecification
         extends Specification {
+    static class RecordingWriter
+            extends StringWriter {
+        int largestWrite = 0
+
+        @Override
+        StringWriter append(final CharSequence sequence) {
+            largestWrite = Math.max(largestWrite, sequence.length())
+            return super.append(sequence)
+        }
+    }
+
     def "#compile successfully render booleans constants"() {
         given: "an SQL expression compiler"
         final ExpressionToSQLCompiler compiler = new ExpressionToSQLCompiler()
@@ -581,4 +592,89 @@ class ExpressionToSQLCompilerSpecification
                 "CONCAT(TO_STRING(5), \"text\", FORMAT(\"yyyy-MM-dd\", \"2018-12-01T20:30:10\"))"
         )
     }
+
+    def "#compile streams the rendered expression into an appendable with a bounded buffer"() {
+        given: "a compiler with a small buffer"
+        final ExpressionToSQLCompiler compiler = new ExpressionToSQLCompiler(SQLDialect.MYSQL, 64)
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        and: "a huge predicate"
+        final Variable<Integer> identifier = new Variable<>(Primitives.INTEGER, "identifier")
+        final Expression expression = factory.or(
+                (0..<100000).collect { factory.equal(identifier, factory.nonnull(it)) }
+        )
+
+        when: "we compile the predicate into a builder and into a writer"
+        final StringBuilder builder = new StringBuilder()
+        final RecordingWriter writer = new RecordingWriter()
+
+        compiler.setExpression(expression)
+        compiler.compile(builder)
+        compiler.reset()
+        compiler.compile(writer)
+
+        then: "we expect the writer to receive the same content by chunks of the buffer size"
+        writer.toString() == builder.toString()
+        builder.toString().startsWith("identifier = 0 OR identifier = 1 OR ")
+        builder.toString().endsWith(" OR identifier = 99999")
+        writer.largestWrite == 64
+    }
+
+    def "#enter, #exit and #back write each step into a string builder"() {
+        given: "a compiler"
+        final ExpressionToSQLCompiler compiler = new ExpressionToSQLCompiler(SQLDialect.MYSQL)
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        and: "a string builder"
+        final StringBuilder output = new StringBuilder()
+
+        when: "we walk through an expression step by step"
+        compiler.setExpression(factory.add(factory.nonnull(5), factory.nonnull(-12L)))
+        compiler.enter(output)
+        compiler.enter(output)
+        compiler.exit(output)
+
+        then: "we expect the builder to receive the content of each step"
+        output.toString() == "5"
+
+        when: "we complete the walk"
+        compiler.back(output)
+        compiler.enter(output)
+        compiler.exit(output)
+        compiler.back(output)
+        compiler.exit(output)
+
+        then: "we expect the builder to receive the entire expression"
+        output.toString() == "5 + -12"
+    }
+
+    def "#compile rethrows the failures of the appendable"() {
+        given: "a compiler"
+        final ExpressionToSQLCompiler compiler = new ExpressionToSQLCompiler()
+
+        and: "an appendable that fails"
+        final Appendable output = new Writer() {
+            @Override
+            void write(final char[] buffer, final int offset, final int length) throws IOException {
+                throw new IOException("closed")
+            }
+
+            @Override
+            void flush() {}
+
+            @Override
+            void close() {}
+        }
+
+        when: "we compile an expression into the appendable"
+        compiler.setExpression(new ExpressionFactory().nonnull("text"))
+        compiler.compile(output)
+
+        then: "we expect an unchecked error"
+        thrown(UncheckedIOException.class)
+    }
 }
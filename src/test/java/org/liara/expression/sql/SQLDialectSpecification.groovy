@@ -0,0 +1,163 @@
+package org.liara.expression.sql
+
+import org.liara.data.primitive.Primitives
+import org.liara.expression.Expression
+import org.liara.expression.ExpressionFactory
+import org.liara.expression.Variable
+import spock.lang.Specification
+
+import java.time.LocalDate
+import java.time.ZonedDateTime
+
+class SQLDialectSpecification
+        extends Specification {
+    static String compile(final SQLDialect dialect, final Expression expression) {
+        final ExpressionToSQLCompiler compiler = new ExpressionToSQLCompiler(dialect)
+        final StringBuilder output = new StringBuilder()
+
+        compiler.setExpression(expression)
+        compiler.compile(output)
+
+        return output.toString()
+    }
+
+    def "#compile renders logic operations with the operators of each dialect"() {
+        given: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        and: "a logic expression"
+        final Expression expression = factory.or(
+                factory.not(
+                        factory.and(Arrays.asList(
+                                factory.nonnull(true),
+                                factory.xor(
+                                        factory.nonnull(false),
+                                        factory.and(
+                                                factory.nonnull(true),
+                                                factory.not(factory.nonnull(false))
+                                        )
+                                ),
+                                factory.or(
+                                        factory.nonnull(true),
+                                        factory.not(factory.not(factory.nonnull(true)))
+                                )
+                        ))
+                ),
+                factory.nonnull(false)
+        )
+
+        expect: "each dialect to render its own boolean literals and exclusive or"
+        compile(SQLDialect.MYSQL, expression) == (
+                "NOT (1 AND (0 XOR 1 AND NOT 0) AND (1 OR NOT NOT 1)) OR 0"
+        )
+        compile(SQLDialect.POSTGRESQL, expression) == (
+                "NOT (TRUE AND FALSE <> (TRUE AND NOT FALSE) AND (TRUE OR NOT NOT TRUE)) OR FALSE"
+        )
+        compile(SQLDialect.H2, expression) == compile(SQLDialect.POSTGRESQL, expression)
+    }
+
+    def "#compile renders bitwise operations with the priorities of each dialect"() {
+        given: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        and: "a bitwise expression"
+        final Expression expression = factory.between(
+                factory.bitwiseOr(Arrays.asList(
+                        factory.nonnull(5),
+                        factory.bitwiseAnd(factory.nonnull(1), factory.nonnull(6))
+                )),
+                factory.bitwiseXor(
+                        factory.nonnull(6),
+                        factory.bitwiseOr(factory.nonnull(8), factory.bitwiseNot(factory.nonnull(3)))
+                ),
+                factory.nonnull(3)
+        )
+
+        expect: "PostgreSQL to parenthesize bitwise operations of the same priority"
+        compile(SQLDialect.MYSQL, expression) == "5 | 1 & 6 BETWEEN 6 ^ (8 | ~ 3) AND 3"
+        compile(SQLDialect.POSTGRESQL, expression) == "5 | (1 & 6) BETWEEN 6 # (8 | ~ 3) AND 3"
+
+        when: "we render the expression with H2"
+        compile(SQLDialect.H2, expression)
+
+        then: "we expect an error as H2 does not support bitwise operators"
+        thrown(UnsupportedOperationException.class)
+    }
+
+    def "#compile renders literals and identifiers with the quotes of each dialect"() {
+        given: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        and: "an expression with literals and identifiers"
+        final Expression expression = factory.and(Arrays.asList(
+                factory.regexp(new Variable<>(Primitives.STRING, "sensor name"), factory.nonnull("it's\n")),
+                factory.greaterThan(
+                        new Variable<>(Primitives.DATE_TIME, "events.date"),
+                        factory.nonnull(ZonedDateTime.parse("2018-12-01T20:30:10Z"))
+                ),
+                factory.lessThan(
+                        new Variable<>(Primitives.DATE, "day"),
+                        factory.nonnull(LocalDate.parse("2018-12-02"))
+                )
+        ))
+
+        expect: "each dialect to render its own literals and identifiers as is"
+        compile(SQLDialect.MYSQL, expression) == (
+                "sensor name REGEXP \"it's\\n\" AND events.date > \"2018-12-01T20:30:10\" AND " +
+                        "day < \"2018-12-02\""
+        )
+        compile(SQLDialect.POSTGRESQL, expression) == (
+                "sensor name ~ 'it''s\n' AND events.date > TIMESTAMP '2018-12-01T20:30:10' AND " +
+                        "day < DATE '2018-12-02'"
+        )
+    }
+
+    def "#compile quotes identifiers that are not plain names when the dialect quotes identifiers"() {
+        given: "a dialect that quotes identifiers"
+        final SQLDialectBuilder builder = new SQLDialectBuilder()
+        builder.setQuotingIdentifiers(true)
+        final SQLDialect dialect = builder.build()
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        expect: "identifiers that are not plain names to be quoted"
+        compile(dialect, factory.equal(
+                new Variable<>(Primitives.STRING, "sensor `name`"),
+                new Variable<>(Primitives.STRING, "events.label")
+        )) == "`sensor ``name``` = events.label"
+
+        and: "built-in dialects to render identifiers as is"
+        compile(SQLDialect.MYSQL, new Variable<>(Primitives.INTEGER, "`events`.`id`")) == "`events`.`id`"
+        compile(SQLDialect.MYSQL, new Variable<>(Primitives.INTEGER, "COUNT(*)")) == "COUNT(*)"
+    }
+
+    def "#compile parenthesizes exclusive or in dialects that render it as a comparison"() {
+        given: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        and: "some boolean variables"
+        final List<Variable<Boolean>> variables = ["a", "b", "c", "d"].collect { final String name ->
+            new Variable<>(Primitives.BOOLEAN, name)
+        }
+        final Variable<Integer> count = new Variable<>(Primitives.INTEGER, "count")
+
+        and: "some exclusive or operations mixed with comparisons"
+        final Expression chain = factory.xor(variables.subList(0, 3))
+        final Expression longChain = factory.xor(variables)
+        final Expression compared = factory.equal(factory.xor(variables[0], variables[1]), variables[2])
+        final Expression comparison = factory.xor(factory.equal(count, factory.nonnull(1)), variables[2])
+
+        expect: "MySQL to chain exclusive or"
+        compile(SQLDialect.MYSQL, chain) == "a XOR b XOR c"
+        compile(SQLDialect.MYSQL, compared) == "(a XOR b) = c"
+        compile(SQLDialect.MYSQL, comparison) == "count = 1 XOR c"
+
+        and: "PostgreSQL and H2 to never chain comparisons"
+        compile(SQLDialect.POSTGRESQL, chain) == "(a <> b) <> c"
+        compile(SQLDialect.POSTGRESQL, longChain) == "((a <> b) <> c) <> d"
+        compile(SQLDialect.POSTGRESQL, compared) == "(a <> b) = c"
+        compile(SQLDialect.POSTGRESQL, comparison) == "(count = 1) <> c"
+        compile(SQLDialect.H2, chain) == compile(SQLDialect.POSTGRESQL, chain)
+    }
+}
@@ -0,0 +1,101 @@
+package org.liara.expression.sql
+
+import spock.lang.Specification
+
+class SQLOutputSpecification
+        extends Specification {
+    def "#append writes into the target each time the buffer is full"() {
+        given: "an output of a small capacity"
+        final StringBuilder target = new StringBuilder()
+        final SQLOutput output = new SQLOutput(4)
+        output.setTarget(target)
+
+        when: "we append content larger than its capacity"
+        output.append("SELECT").append(' ' as char).append(15L).append(new StringBuffer("abc"))
+
+        then: "we expect the target to receive each full buffer"
+        target.toString() == "SELECT 1"
+        output.getSize() == 4
+
+        when: "we flush the output"
+        output.flush()
+
+        then: "we expect the target to receive the remaining content"
+        target.toString() == "SELECT 15abc"
+        output.getSize() == 0
+    }
+
+    def "#append writes integers of any size into a buffer of any capacity"() {
+        given: "outputs of various capacities"
+        final List<StringBuilder> targets = [1, 3, 8192].collect { new StringBuilder() }
+        final List<SQLOutput> outputs = [1, 3, 8192].withIndex().collect { final int capacity, final int index ->
+            final SQLOutput output = new SQLOutput(capacity)
+            output.setTarget(targets[index])
+            return output
+        }
+
+        when: "we append integers"
+        outputs.each { final SQLOutput output ->
+            output.append("x").append(0L).append(' ' as char).append(-7L).append(' ' as char)
+            output.append(Long.MAX_VALUE).append(' ' as char).append(Long.MIN_VALUE).append(' ' as char)
+            output.append(1000L)
+            output.flush()
+        }
+
+        then: "we expect each target to receive the same digits"
+        targets.each { final StringBuilder target ->
+            assert target.toString() == "x0 -7 9223372036854775807 -9223372036854775808 1000"
+        }
+    }
+
+    def "#append writes real numbers into a string builder and into any appendable"() {
+        given: "an output into a string builder and an output into a writer"
+        final StringBuilder builder = new StringBuilder()
+        final StringWriter writer = new StringWriter()
+        final SQLOutput builderOutput = new SQLOutput(4)
+        final SQLOutput writerOutput = new SQLOutput(4)
+        builderOutput.setTarget(builder)
+        writerOutput.setTarget(writer)
+
+        when: "we append real numbers"
+        [builderOutput, writerOutput].each { final SQLOutput output ->
+            output.append("x = ").append(2.5d).append(' ' as char).append(-0.125f).append(' ' as char)
+            output.append(Double.NaN)
+            output.flush()
+        }
+
+        then: "we expect both targets to receive the same content"
+        builder.toString() == "x = 2.5 -0.125 NaN"
+        writer.toString() == builder.toString()
+    }
+
+    def "#setTarget writes the buffered content into the previous target"() {
+        given: "an output"
+        final StringBuilder first = new StringBuilder()
+        final StringBuilder second = new StringBuilder()
+        final SQLOutput output = new SQLOutput()
+        output.setTarget(first)
+
+        when: "we change its target after appending content"
+        output.append("first")
+        output.setTarget(second)
+        output.append("second")
+        output.flush()
+
+        then: "we expect each target to receive its own content"
+        first.toString() == "first"
+        second.toString() == "second"
+    }
+
+    def "#flush fails without target"() {
+        given: "an output without target"
+        final SQLOutput output = new SQLOutput()
+
+        when: "we flush buffered content"
+        output.append("content")
+        output.flush()
+
+        then: "we expect an error"
+        thrown(IllegalStateException.class)
+    }
+}
@@ -0,0 +1,152 @@
+package org.liara.expression.sql
+
+import org.apache.commons.text.StringEscapeUtils
+import org.liara.data.primitive.Primitives
+import org.liara.expression.ExpressionFactory
+import org.liara.expression.Variable
+import spock.lang.Specification
+
+class SQLStatementCompilerSpecification
+        extends Specification {
+    def "#compile renders statements with their parameters in order of appearance"() {
+        given: "a statement compiler"
+        final SQLStatementCompiler compiler = new SQLStatementCompiler()
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        when: "we compile an expression with placeholders"
+        final SQLStatement statement = compiler.compile(
+                factory.and(
+                        factory.greaterThan(
+                                new Variable<>(Primitives.INTEGER, "temperature"),
+                                factory.placeholder(Primitives.INTEGER)
+                        ),
+                        factory.equal(
+                                new Variable<>(Primitives.STRING, "sensor"),
+                                factory.placeholder(Primitives.STRING)
+                        )
+                )
+        )
+
+        then: "we expect the statement to list its placeholders in order of appearance"
+        statement.getSQL() == "temperature > ? AND sensor = ?"
+        statement.getParameters() == [
+                factory.placeholder(Primitives.INTEGER),
+                factory.placeholder(Primitives.STRING)
+        ]
+    }
+
+    def "#compile reuses the statements of structurally equal expressions"() {
+        given: "a statement compiler with a small cache"
+        final SQLStatementCompiler compiler = new SQLStatementCompiler(2)
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        when: "we compile structurally equal expressions"
+        final SQLStatement first = compiler.compile(
+                factory.add(new Variable<>(Primitives.INTEGER, "count"), factory.nonnull(5))
+        )
+        final StringBuilder output = new StringBuilder("WHERE ")
+        final SQLStatement second = compiler.compile(
+                factory.add(new Variable<>(Primitives.INTEGER, "count"), factory.nonnull(5)),
+                output
+        )
+
+        then: "we expect the compiler to return the cached statement"
+        first.is(second)
+        output.toString() == "WHERE count + 5"
+
+        when: "we compile more expressions than the cache can hold"
+        compiler.compile(factory.nonnull(1))
+        compiler.compile(factory.nonnull(2))
+
+        then: "we expect the least recently used statements to be evicted"
+        compiler.getCacheSize() == 2
+        !compiler.compile(
+                factory.add(new Variable<>(Primitives.INTEGER, "count"), factory.nonnull(5))
+        ).is(first)
+    }
+
+    def "#compile escapes string literals as Java string literals"() {
+        given: "a statement compiler"
+        final SQLStatementCompiler compiler = new SQLStatementCompiler()
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        and: "some strings to escape"
+        final List<String> values = [
+                "plain", "te\"st", "back\\slash", "tab\tline\nfeed\r\b\f", "\u0001\u007f", "café 😀"
+        ]
+
+        expect: "the compiler to escape each string literal"
+        values.every { final String value ->
+            compiler.compile(factory.nonnull(value)).getSQL() == "\"${StringEscapeUtils.escapeJava(value)}\""
+        }
+    }
+
+    def "#compile renders constants as parameters when parameterized"() {
+        given: "a parameterized statement compiler"
+        final SQLStatementCompiler compiler = new SQLStatementCompiler(
+                SQLStatementCompiler.DEFAULT_CACHE_CAPACITY, true
+        )
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+
+        when: "we compile expressions that only differ by their constants"
+        final SQLStatement first = compiler.compile(factory.and(
+                factory.greaterThan(new Variable<>(Primitives.INTEGER, "temperature"), factory.nonnull(20)),
+                factory.equal(new Variable<>(Primitives.STRING, "sensor"), factory.nonnull("kitchen")),
+                factory.equal(new Variable<>(Primitives.NULLABLE_STRING, "room"), factory.nullable((String) null))
+        ))
+        final SQLStatement second = compiler.compile(factory.and(
+                factory.greaterThan(new Variable<>(Primitives.INTEGER, "temperature"), factory.nonnull(15)),
+                factory.equal(new Variable<>(Primitives.STRING, "sensor"), factory.nonnull("bedroom")),
+                factory.equal(new Variable<>(Primitives.NULLABLE_STRING, "room"), factory.nullable((String) null))
+        ))
+
+        then: "we expect both statements to share the same text, rendered once"
+        first.getSQL() == "temperature > ? AND sensor = ? AND room = NULL"
+        second.getSQL().is(first.getSQL())
+        compiler.getCacheSize() == 1
+
+        and: "we expect each statement to bind its own constants in order"
+        first.getParameters().size() == 2
+        first.getParameterValue(0) == 20
+        first.getParameterType(0) == Primitives.INTEGER
+        first.getParameterValue(1) == "kitchen"
+        first.getParameterType(1) == Primitives.STRING
+        second.getParameterValue(0) == 15
+        second.getParameterValue(1) == "bedroom"
+    }
+
+    def "#compile does not share the text of expressions of another shape when parameterized"() {
+        given: "a parameterized statement compiler"
+        final SQLStatementCompiler compiler = new SQLStatementCompiler(
+                SQLStatementCompiler.DEFAULT_CACHE_CAPACITY, true
+        )
+
+        and: "an expression factory"
+        final ExpressionFactory factory = new ExpressionFactory()
+        final Variable<String> room = new Variable<>(Primitives.NULLABLE_STRING, "room")
+
+        when: "we compile expressions that differ by the nullity, the type or the operator of a constant"
+        final List<SQLStatement> statements = [
+                compiler.compile(factory.equal(room, factory.nullable("kitchen"))),
+                compiler.compile(factory.equal(room, factory.nullable((String) null))),
+                compiler.compile(factory.equal(room, factory.placeholder(Primitives.NULLABLE_STRING))),
+                compiler.compile(factory.greaterThan(room, factory.nullable("kitchen"))),
+                compiler.compile(factory.equal(room, factory.nullable("bedroom")))
+        ]
+
+        then: "we expect each shape to be rendered once"
+        statements*.getSQL() == ["room = ?", "room = NULL", "room = ?", "room > ?", "room = ?"]
+        compiler.getCacheSize() == 4
+        statements[4].getSQL().is(statements[0].getSQL())
+        statements[4].getParameterValue(0) == "bedroom"
+        statements[2].getParameters() == [factory.placeholder(Primitives.NULLABLE_STRING)]
+    }
+}
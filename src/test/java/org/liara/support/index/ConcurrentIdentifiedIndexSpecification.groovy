@@ -0,0 +1,92 @@
+package org.liara.support.index
+
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+
+class ConcurrentIdentifiedIndexSpecification
+        extends Specification {
+    def "#put maps identifiers put by many threads to their values"() {
+        given: "an empty index and a pool of threads"
+        final ConcurrentIdentifiedIndex<String> index = new ConcurrentIdentifiedIndex<>()
+        final ExecutorService executor = Executors.newFixedThreadPool(8)
+        final CountDownLatch start = new CountDownLatch(1)
+
+        when: "each thread puts its own identifiers and identifiers shared with the other threads"
+        final List<Future<?>> tasks = (0..<8).collect { final int thread ->
+            executor.submit({
+                start.await()
+                for (int identifier = thread; identifier < 20000; identifier += 8) {
+                    index.put(identifier * 3, "value " + identifier * 3)
+                    index.put(identifier % 500, "value " + identifier % 500)
+                }
+            } as Runnable)
+        }
+        start.countDown()
+        tasks.each { final Future<?> task -> task.get(30, TimeUnit.SECONDS) }
+        executor.shutdown()
+
+        then: "we expect the index to contain each identifier once"
+        final Set<Integer> expected = ((0..<20000).collect { it * 3 } + (0..<500)) as Set
+        index.getSize() == expected.size()
+        index.getKeys().stream().collect() as Set == expected
+        expected.every { final Integer identifier ->
+            index.getValueWithKey(identifier) == "value " + identifier &&
+            index.getKey(index.getIndexOfKey(identifier)) == identifier &&
+            index.getValueWithIndex(index.getIndexOfKey(identifier)) == "value " + identifier
+        }
+        !index.containsValueWithKey(1 << 20)
+        !index.containsValueWithKey(1001)
+    }
+
+    def "#remove moves the last entry of the index into the removed entry"() {
+        given: "an index"
+        final ConcurrentIdentifiedIndex<String> index = new ConcurrentIdentifiedIndex<>()
+        index.put(5, "a")
+        index.put(4000, "b")
+        index.put(12, "c")
+
+        when: "we remove an identifier"
+        index.remove(5)
+        index.remove(7)
+
+        then: "we expect the last entry to take its index"
+        index.getSize() == 2
+        !index.containsValueWithKey(5)
+        index.getKeys().stream().collect() == [12, 4000]
+        index.getValues().stream().collect() == ["c", "b"]
+        index.getIndexOfKey(12) == 0
+
+        when: "we clear the index and put new identifiers"
+        index.clear()
+        index.put(4000, "d")
+
+        then: "we expect the index to only contain them"
+        index.getSize() == 1
+        !index.containsValueWithKey(12)
+        index.getValueWithKey(4000) == "d"
+    }
+
+    def "#add enlarges a sparse set without keeping values that were removed"() {
+        given: "a sparse set of a small capacity"
+        final SparseSet set = new SparseSet(2)
+
+        when: "we add values beyond its capacity and remove some of them"
+        set.add(1)
+        set.add(2)
+        set.add(1000)
+        set.remove(2)
+
+        then: "we expect the set to only contain the remaining values"
+        set.getCapacity() >= 1001
+        set.getSize() == 2
+        set.contains(1)
+        !set.contains(2)
+        set.contains(1000)
+        set.indexOf(2) == -1
+    }
+}
@@ -0,0 +1,98 @@
+package org.liara.support.index
+
+import org.liara.support.view.View
+import spock.lang.Specification
+
+class HashIndexSpecification
+        extends Specification {
+    def "#put add key / value pairs to the index in insertion order"() {
+        given: "an index and a large number of keys"
+        final HashIndex<String, Integer> index = new HashIndex<>()
+        final List<String> keys = (0..<5000).collect { "key " + (it * 7919 % 5000) }
+
+        when: "we put all keys into the index twice"
+        for (int ith = 0; ith < keys.size(); ++ith) {
+            index.put(keys.get(ith), -1)
+        }
+        for (int ith = 0; ith < keys.size(); ++ith) {
+            index.put(keys.get(ith), ith)
+        }
+
+        then: "we expect the index to contain each pair once in insertion order"
+        index.getSize() == keys.size()
+        index.keys == View.readonly(keys)
+        index.values == View.readonly((0..<5000).collect())
+        keys.withIndex().every { final String key, final int ith ->
+            index.getIndexOfKey(key) == ith && index.getValueWithKey(key) == ith
+        }
+        !index.containsValueWithKey("missing")
+    }
+
+    def "#remove shifts the following pairs of the index"() {
+        given: "an index"
+        final HashIndex<String, Integer> index = new HashIndex<>(2)
+        final List<String> keys = ["first", "second", "third", "fourth", "last"]
+        keys.eachWithIndex { final String key, final int ith -> index.put(key, ith) }
+
+        when: "we remove some pairs"
+        index.remove("second")
+        index.remove(2)
+
+        then: "we expect the remaining pairs to keep their order and to be retrievable"
+        index.keys == View.readonly(["first", "third", "last"])
+        index.values == View.readonly([0, 2, 4])
+        index.getIndexOfKey("third") == 1
+        index.getIndexOfKey("last") == 2
+        !index.containsValueWithKey("second")
+        !index.containsValueWithKey("fourth")
+
+        when: "we remove a missing key"
+        index.remove("second")
+
+        then: "we expect an error"
+        thrown(IllegalArgumentException.class)
+    }
+
+    def "#setKey renames a pair without moving it"() {
+        given: "an index"
+        final HashIndex<String, Integer> index = new HashIndex<>()
+        final List<String> keys = ["first", "second", "third", "fourth", "last"]
+        keys.eachWithIndex { final String key, final int ith -> index.put(key, ith) }
+
+        when: "we rename some pairs"
+        index.setKey("second", "bird")
+        index.setKey(4, "cat")
+
+        then: "we expect the renamed pairs to keep their index"
+        index.keys == View.readonly(["first", "bird", "third", "fourth", "cat"])
+        index.getIndexOfKey("bird") == 1
+        index.getIndexOfKey("cat") == 4
+        !index.containsValueWithKey("second")
+        !index.containsValueWithKey("last")
+
+        when: "we rename a pair to a key that is already used"
+        index.setKey("first", "third")
+
+        then: "we expect an error"
+        thrown(IllegalArgumentException.class)
+    }
+
+    def "#getOrderedKeys returns the keys in the order of the comparator of the index"() {
+        given: "an index loaded in bulk"
+        final List<String> keys = ["delta", "alpha", "charlie", "bravo"]
+        final HashIndex<String, Integer> index = new HashIndex<>(
+                View.readonly(keys), View.readonly([3, 0, 2, 1]), Comparator.naturalOrder()
+        )
+
+        expect: "we expect the ordered keys to be sorted and to follow the updates of the index"
+        index.orderedKeys == View.readonly(["alpha", "bravo", "charlie", "delta"])
+        index.keys == View.readonly(keys)
+
+        when: "we update the index"
+        index.put("aardvark", 4)
+        index.remove("charlie")
+
+        then: "we expect the ordered keys to be updated"
+        index.orderedKeys == View.readonly(["aardvark", "alpha", "bravo", "delta"])
+    }
+}
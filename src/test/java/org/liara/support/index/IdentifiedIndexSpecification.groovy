@@ -0,0 +1,55 @@
+package org.liara.support.index
+
+import spock.lang.Specification
+
+class IdentifiedIndexSpecification
+        extends Specification {
+    def "#put grows the index past its capacity and keeps existing entries"() {
+        given: "an index of a small capacity"
+        final IdentifiedIndex<String> index = new IdentifiedIndex<>(2)
+
+        when: "we put keys greater than its capacity and update an existing one"
+        index.put(0, "zero")
+        index.put(5, "five")
+        index.put(130, "hundred thirty")
+        index.put(5, "FIVE")
+
+        then: "we expect each entry to be kept in order of insertion"
+        index.getSize() == 3
+        index.getKeys().stream().toList() == [0, 5, 130]
+        index.getValues().stream().toList() == ["zero", "FIVE", "hundred thirty"]
+        index.getValueWithKey(130) == "hundred thirty"
+        index.getIndexOfKey(5) == 1
+        !index.containsValueWithKey(6)
+    }
+
+    def "#remove forgets the last dense entry"() {
+        given: "an index with some entries"
+        final IdentifiedIndex<String> index = new IdentifiedIndex<>(8)
+        index.put(3, "three")
+        index.put(1, "one")
+        index.put(6, "six")
+
+        when: "we remove the last entry"
+        index.remove(6)
+
+        then: "we expect the entry to be removed"
+        index.getSize() == 2
+        !index.containsValueWithKey(6)
+        index.getKeys().stream().toList() == [3, 1]
+
+        when: "we remove the first entry"
+        index.remove(3)
+
+        then: "we expect the last entry to take its place"
+        !index.containsValueWithKey(3)
+        index.getIndexOfKey(1) == 0
+        index.getValueWithIndex(0) == "one"
+
+        when: "we request the index of a removed key"
+        index.getIndexOfKey(6)
+
+        then: "we expect an error"
+        thrown(NoSuchElementException.class)
+    }
+}
@@ -0,0 +1,84 @@
+package org.liara.support.index
+
+import spock.lang.Specification
+
+class SparseSetSpecification
+        extends Specification {
+    def "#add grows the set past its capacity"() {
+        given: "a sparse set of a small capacity"
+        final SparseSet set = new SparseSet(4)
+
+        when: "we add values greater than its capacity"
+        set.add(1)
+        set.add(3)
+        set.add(9)
+        set.add(40)
+        set.add(9)
+
+        then: "we expect the set to grow and to keep each value once"
+        set.getCapacity() == 64
+        set.getSize() == 4
+        set.toArray() == [1, 3, 9, 40] as int[]
+        [1, 3, 9, 40].every { final int value -> set.contains(value) }
+        !set.contains(2)
+        !set.contains(100)
+        set.indexOf(40) == 3
+    }
+
+    def "#add refuses negative values"() {
+        given: "a sparse set"
+        final SparseSet set = new SparseSet(4)
+
+        when: "we add a negative value"
+        set.add(-1)
+
+        then: "we expect an error"
+        thrown(IllegalArgumentException.class)
+    }
+
+    def "#add refuses values that can't be stored"() {
+        given: "a sparse set"
+        final SparseSet set = new SparseSet(4)
+
+        when: "we add the largest integer"
+        set.add(Integer.MAX_VALUE)
+
+        then: "we expect an error instead of an endless growth"
+        thrown(IllegalArgumentException.class)
+        set.getCapacity() == 4
+
+        when: "we add a value equal to the maximum capacity"
+        set.add(SparseSet.MAXIMUM_CAPACITY)
+
+        then: "we expect an error"
+        thrown(IllegalArgumentException.class)
+        set.getCapacity() == 4
+    }
+
+    def "#remove forgets the last dense entry"() {
+        given: "a sparse set with some values"
+        final SparseSet set = new SparseSet(8)
+        set.add(5)
+        set.add(2)
+        set.add(7)
+
+        when: "we remove the last added value"
+        set.remove(7)
+
+        then: "we expect the value to be removed"
+        set.getSize() == 2
+        !set.contains(7)
+        set.indexOf(7) == -1
+        set.toArray() == [5, 2] as int[]
+
+        when: "we remove the first added value and add the removed one again"
+        set.remove(5)
+        set.add(7)
+
+        then: "we expect the last value to take the place of the removed one"
+        !set.contains(5)
+        set.indexOf(5) == -1
+        set.toArray() == [2, 7] as int[]
+        set.indexOf(7) == 1
+    }
+}
@@ -0,0 +1,93 @@
+package org.liara.support.tree
+
+import org.liara.support.view.View
+import spock.lang.Specification
+
+class TreeFoldSpecification
+        extends Specification {
+    static class Node implements TreeElement {
+        final String name
+        final List<Node> children
+
+        Node(final String name, final List<Node> children) {
+            this.name = name
+            this.children = children
+        }
+
+        @Override
+        View<? extends TreeElement> getChildren() {
+            return View.readonly(children)
+        }
+    }
+
+    static class Call extends Node {
+        Call(final String name, final List<Node> children) {
+            super(name, children)
+        }
+    }
+
+    static class Pruned extends Node {
+        Pruned(final String name, final List<Node> children) {
+            super(name, children)
+        }
+    }
+
+    def "#fold calls the hooks of the most specific class of each node in depth-first order"() {
+        given: "a tree of calls and leaves"
+        final Node tree = new Call("f", [
+                new Node("a", []),
+                new Call("g", [new Node("b", []), new Node("c", [])]),
+                new Pruned("p", [new Node("hidden", [])])
+        ])
+
+        and: "a fold that renders calls and leaves"
+        final TreeFold<Node, StringBuilder> fold = new TreeFold<>(Node.class)
+        fold.onEnter(Node.class, { final Node node, final StringBuilder output ->
+            output.append(node.name)
+            true
+        } as TreeFold.Enter<Node, StringBuilder>)
+        fold.onEnter(Call.class, { final Call node, final StringBuilder output ->
+            output.append(node.name).append('(')
+            true
+        } as TreeFold.Enter<Call, StringBuilder>)
+        fold.onBetween(Call.class, { final Call node, final int child, final StringBuilder output ->
+            output.append(', ')
+        } as TreeFold.Between<Call, StringBuilder>)
+        fold.onExit(Call.class, { final Call node, final StringBuilder output ->
+            output.append(')')
+        } as TreeFold.Exit<Call, StringBuilder>)
+        fold.onEnter(Pruned.class, { final Pruned node, final StringBuilder output ->
+            output.append('?')
+            false
+        } as TreeFold.Enter<Pruned, StringBuilder>)
+
+        expect: "we expect the tree to be rendered and the pruned subtree to be skipped"
+        fold.fold(tree, new StringBuilder()).toString() == "f(a, g(b, c), ?)"
+        fold.fold(tree.children.get(0), new StringBuilder()).toString() == "a"
+    }
+
+    def "#fold does not depend on the depth of the tree"() {
+        given: "a very deep tree"
+        Node tree = new Node("leaf", [])
+        for (int depth = 0; depth < 100000; ++depth) {
+            tree = new Call("node", [tree])
+        }
+
+        and: "a fold that counts entered and exited nodes"
+        final TreeFold<Node, int[]> fold = new TreeFold<>(Node.class)
+        fold.onEnter(Node.class, { final Node node, final int[] counts ->
+            counts[0] += 1
+            true
+        } as TreeFold.Enter<Node, int[]>)
+        fold.onExit(Call.class, { final Call node, final int[] counts ->
+            counts[1] += 1
+        } as TreeFold.Exit<Call, int[]>)
+
+        when: "we fold the tree"
+        final int[] counts = fold.fold(tree, new int[2])
+
+        then: "we expect each node to be visited"
+        counts[0] == 100001
+        counts[1] == 100000
+    }
+}
@@ -0,0 +1,84 @@
+package org.liara.support.tree
+
+import org.liara.support.view.View
+import spock.lang.Specification
+
+import java.util.concurrent.ForkJoinPool
+
+class TreeReductionSpecification
+        extends Specification {
+    static class Node implements TreeElement {
+        final String name
+        final List<Node> children
+
+        Node(final String name, final List<Node> children) {
+            this.name = name
+            this.children = children
+        }
+
+        @Override
+        View<? extends TreeElement> getChildren() {
+            return View.readonly(children)
+        }
+    }
+
+    static TreeReduction.Reducer<Node, String> render() {
+        return { final Node node, final View<String> children ->
+            children.getSize() == 0 ? node.name : node.name + "(" + children.stream().collect().join(", ") + ")"
+        } as TreeReduction.Reducer<Node, String>
+    }
+
+    def "#parallelReduce merges the results of wide nodes in order"() {
+        given: "a wide tree of wide nodes"
+        final Node tree = new Node("or", (0..<3000).collect { final int sensor ->
+            new Node("and", [
+                    new Node("sensor" + sensor, []),
+                    new Node("in", (0..<(sensor % 7 == 0 ? 300 : 2)).collect { new Node("v" + it, []) })
+            ])
+        })
+
+        and: "a reduction that renders each node"
+        final ForkJoinPool pool = new ForkJoinPool(4)
+        final TreeReduction<Node, String> reduction = new TreeReduction<>(
+                Node.class, render(), 64, pool
+        )
+
+        when: "we reduce the tree sequentially and in parallel"
+        final String sequential = reduction.reduce(tree)
+        final String parallel = reduction.parallelReduce(tree)
+        pool.shutdown()
+
+        then: "we expect both reductions to render the same tree"
+        parallel == sequential
+        sequential.startsWith("or(and(sensor0, in(v0, v1, v2, ")
+        sequential.endsWith("and(sensor2999, in(v0, v1)))")
+    }
+
+    def "#reduce does not depend on the depth of the tree"() {
+        given: "a very deep tree"
+        Node tree = new Node("leaf", [])
+        for (int depth = 0; depth < 100000; ++depth) {
+            tree = new Node("node", [tree])
+        }
+
+        and: "a reduction that computes the height of each node"
+        final TreeReduction<Node, Integer> reduction = new TreeReduction<>(
+                Node.class,
+                { final Node node, final View<Integer> children ->
+                    children.getSize() == 0 ? 0 : children.get(0) + 1
+                } as TreeReduction.Reducer<Node, Integer>
+        )
+
+        expect: "we expect the height of the tree"
+        reduction.reduce(tree) == 100000
+        reduction.parallelReduce(tree) == 100000
+    }
+
+    def "#TreeReduction refuses thresholds that can't split a node"() {
+        when: "we instantiate a reduction with a threshold of 1"
+        new TreeReduction<>(Node.class, render(), 1, ForkJoinPool.commonPool())
+
+        then: "we expect an error"
+        thrown(IllegalArgumentException.class)
+    }
+}
@@ -461,4 +461,48 @@ class TreeWalkerSpecification
         then: "we expect the walker to goes movesBackward"
         !walker.doesMoveForward()
     }
+
+    def "#reset allows to walk deep trees by reusing the walker"() {
+        given: "a deep tree and a small tree"
+        TreeElement deep = makeNode()
+        for (int depth = 0; depth < 100; ++depth) {
+            deep = makeNode([makeNode(), deep])
+        }
+        final TreeElement small = makeNode([makeNode()])
+
+        and: "a walker over the deep tree"
+        final TreeWalker<TreeElement> walker = new TreeWalker<>(TreeElement.class, deep)
+
+        when: "we walk to the deepest element of the tree"
+        int entered = 0
+        while (!walker.isAtEnd()) {
+            while (walker.canEnter()) {
+                walker.enter()
+                entered += 1
+            }
+
+            if (walker.getPath().size() == 101) {
+                break
+            }
+
+            walker.exit()
+        }
+
+        and: "we copy the walker and reset the walker to the small tree"
+        final TreeWalker<TreeElement> copy = new TreeWalker<>(walker)
+        walker.reset(small)
+
+        then: "we expect the copy to keep the deep path"
+        entered == 200
+        copy.getPath().size() == 101
+        copy.getPath().get(0) == deep
+        copy.getCursor() == 0
+
+        and: "we expect the walker to walk the small tree from its start"
+        walker.isAtStart()
+        walker.getPath().isEmpty()
+        walker.enter() == small
+        walker.enter() == small.children.get(0)
+        walker.getPath() == [small, small.children.get(0)]
+    }
 }
@@ -0,0 +1,71 @@
+package org.liara.support.view
+
+import spock.lang.Specification
+
+class ConcatenatedViewSpecification
+        extends Specification {
+    def "#get returns each element of each concatenated view"() {
+        given: "some views of various sizes, some of them empty"
+        final Random random = new Random(42)
+        final List<List<Integer>> lists = (0..<200).collect { final int view ->
+            (0..<random.nextInt(5)).collect { final int index -> view * 10 + index }
+        }
+
+        when: "we concatenate them"
+        final View<Integer> view = View.concatenate(lists.collect { final List<Integer> list -> View.readonly(list) })
+
+        then: "we expect each element to be found at its index"
+        view.getSize() == lists.flatten().size()
+        (0..<view.getSize()).every { final int index -> view.get(index) == lists.flatten()[index] }
+
+        and: "the iteration and the stream to return each element in order"
+        view.iterator().collect() == lists.flatten()
+        view.stream().collect() == lists.flatten()
+
+        when: "we request an element out of bounds"
+        view.get(view.getSize())
+
+        then: "we expect an exception to be thrown"
+        thrown(IndexOutOfBoundsException)
+    }
+
+    def "#get follows the size changes of the concatenated views"() {
+        given: "a concatenation of growing views"
+        final List<Integer> first = [1, 2]
+        final List<Integer> second = [3]
+        final ConcatenatedView<Integer> view = new ConcatenatedView<>(
+                View.readonly(first), View.readonly(second)
+        )
+
+        expect: "the initial elements to be found"
+        view.get(2) == 3
+
+        when: "the concatenated views grow"
+        first.add(5)
+        second.add(4)
+
+        then: "we expect the new elements to be found"
+        view.get(2) == 5
+        view.get(4) == 4
+        view.getSize() == 5
+
+        when: "a concatenated view grows"
+        second.add(6)
+
+        then: "we expect the size, the iteration and the stream to follow"
+        view.getSize() == 6
+        view.stream().count() == 6
+        view.iterator().collect() == [1, 2, 5, 3, 4, 6]
+        view.get(5) == 6
+    }
+
+    def "#stream supports the concatenation of many views"() {
+        given: "a concatenation of many views"
+        final View<Integer> view = View.concatenate((0..<20000).collect { final int index ->
+            View.readonly([index])
+        })
+
+        expect: "the stream to return each element without overflowing the stack"
+        view.stream().mapToInt({ final Integer value -> value }).sum() == (0..<20000).sum()
+    }
+}
@@ -0,0 +1,93 @@
+package org.liara.support.view
+
+import spock.lang.Specification
+
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.function.IntFunction
+import java.util.function.Supplier
+
+class MemoizedViewSpecification
+        extends Specification {
+    def "#memoize computes each element of a view once"() {
+        given: "a computed view that counts its computations"
+        final AtomicInteger computations = new AtomicInteger()
+        final View<String> view = View.readonly(
+                { final int index -> computations.incrementAndGet(); "value-" + index } as IntFunction<String>,
+                { 100 } as Supplier<Integer>
+        )
+
+        when: "we read each element of its memoization many times"
+        final View<String> memoized = view.memoize()
+        final List<String> values = (0..<3).collectMany { memoized.stream().parallel().toList() }
+
+        then: "we expect each element to be computed once"
+        values == (0..<3).collectMany { (0..<100).collect { final int index -> "value-" + index } }
+        computations.get() == 100
+    }
+
+    def "#memoize reads the elements added to the view later without caching until cleared"() {
+        given: "a growing list that counts the reads of its elements"
+        final AtomicInteger reads = new AtomicInteger()
+        final List<Integer> list = [0, 1]
+        final View<Integer> view = View.readonly(
+                { final int index -> reads.incrementAndGet(); list[index] } as IntFunction<Integer>,
+                { list.size() } as Supplier<Integer>
+        )
+
+        when: "we read each element of its memoization twice after the list grew"
+        final MemoizedView<Integer> memoized = (MemoizedView<Integer>) view.memoize()
+        list.add(2)
+        final List<Integer> values = (0..<2).collectMany { (0..<3).collect { memoized.get(it) } }
+
+        then: "we expect the new element to be read from the view each time"
+        values == [0, 1, 2, 0, 1, 2]
+        reads.get() == 4
+
+        when: "we clear the memoization and read each element twice again"
+        memoized.clear()
+        reads.set(0)
+        (0..<2).each { (0..<3).each { memoized.get(it) } }
+
+        then: "we expect each element to be read once"
+        reads.get() == 3
+    }
+
+    def "#memoize with a capacity keeps the most recently read elements"() {
+        given: "a computed view that counts its computations"
+        final AtomicInteger computations = new AtomicInteger()
+        final View<Integer> view = View.readonly(
+                { final int index -> computations.incrementAndGet(); index * 2 } as IntFunction<Integer>,
+                { 10 } as Supplier<Integer>
+        )
+
+        when: "we read more elements than the memoization can keep"
+        final View<Integer> memoized = view.memoize(2)
+        memoized.get(0)
+        memoized.get(1)
+        memoized.get(0)
+        memoized.get(2)
+
+        then: "we expect the least recently read element to be computed again"
+        computations.get() == 3
+        memoized.get(0) == 0
+        computations.get() == 3
+        memoized.get(1) == 2
+        computations.get() == 4
+    }
+
+    def "#materialize copies the current elements of a view"() {
+        given: "a view over a list"
+        final List<Integer> list = (0..<1000).toList()
+        final View<Integer> view = View.readonly(list).map { final Integer value -> value * 3 }
+
+        when: "we materialize the view and then change the list"
+        final View<Integer> materialized = view.materialize()
+        list[0] = 7
+
+        then: "we expect the materialized view to keep the previous elements"
+        materialized.getSize() == 1000
+        materialized.get(0) == 0
+        materialized.stream().toList() == (0..<1000).collect { final int value -> value * 3 }
+        view.get(0) == 21
+    }
+}
@@ -0,0 +1,73 @@
+package org.liara.support.view
+
+import spock.lang.Specification
+
+import java.util.function.IntConsumer
+
+class SelectionSpecification
+        extends Specification {
+    def "#add, #contains and #get behave as a sorted set of sparse and dense indices"() {
+        given: "some random indices, dense in a partition and sparse in others"
+        final Random random = new Random(42)
+        final TreeSet<Integer> expected = new TreeSet<>()
+        (0..<6000).each { expected.add(random.nextInt(1 << 16)) }
+        (0..<500).each { expected.add(random.nextInt(1 << 24)) }
+
+        when: "we add them to a selection"
+        final Selection selection = new Selection()
+        expected.each { final Integer index -> selection.add(index) }
+
+        then: "we expect the selection to contain each index in order"
+        selection.getSize() == expected.size()
+        selection.toArray() as List == expected as List
+        selection.iterator().collect() == expected as List
+        final List<Integer> visited = []
+        selection.forEachIndex({ final int index -> visited.add(index) } as IntConsumer)
+        visited == expected as List
+        (0..<expected.size()).step(37).every { final int rank -> selection.get(rank) == (expected as List)[rank] }
+        expected.every { final Integer index -> selection.contains(index) }
+        !selection.contains(-1)
+        (0..<1000).every { final int index ->
+            final int candidate = random.nextInt(1 << 24)
+            selection.contains(candidate) == expected.contains(candidate)
+        }
+    }
+
+    def "#and, #or and #andNot combine selections"() {
+        given: "two random selections"
+        final Random random = new Random(7)
+        final Set<Integer> left = (0..<20000).collect { random.nextInt(200000) } as Set
+        final Set<Integer> right = (0..<3000).collect { random.nextInt(200000) } as Set
+        final Selection leftSelection = Selection.of(left as int[])
+        final Selection rightSelection = Selection.of(right as int[])
+
+        expect: "each combination to contain the expected indices"
+        leftSelection.and(rightSelection).toArray() as List == left.intersect(right).sort()
+        leftSelection.or(rightSelection).toArray() as List == (left + right).sort()
+        leftSelection.andNot(rightSelection).toArray() as List == (left - right).sort()
+        rightSelection.andNot(leftSelection).getSize() == (right - left).size()
+    }
+
+    def "#select presents the matching elements of a view without copying them"() {
+        given: "a view of sensor values"
+        final List<Integer> values = (0..<100000).collect { final int index -> (index * 7919) % 1000 }
+        final View<Integer> view = View.readonly(values)
+
+        when: "we select and combine some of its elements"
+        final FilteredView<Integer> high = view.select { final Integer value -> value > 900 }
+        final FilteredView<Integer> even = view.select { final Integer value -> value % 2 == 0 }
+        final FilteredView<Integer> both = high.and(even)
+
+        then: "we expect each view to present the matching elements in order"
+        high.getSize() == values.count { final Integer value -> value > 900 }
+        both.stream().toList() == values.findAll { final Integer value -> value > 900 && value % 2 == 0 }
+        both.get(3) == values.findAll { final Integer value -> value > 900 && value % 2 == 0 }[3]
+        high.andNot(even).getSize() + both.getSize() == high.getSize()
+
+        when: "we combine views of different sources"
+        high.or(View.readonly(values).select { true })
+
+        then: "we expect an exception to be thrown"
+        thrown(IllegalArgumentException)
+    }
+}
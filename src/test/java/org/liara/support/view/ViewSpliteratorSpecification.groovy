@@ -0,0 +1,56 @@
+package org.liara.support.view
+
+import org.liara.support.view.primitive.PrimitiveView
+import spock.lang.Specification
+
+import java.util.function.Function
+import java.util.function.IntFunction
+import java.util.function.Supplier
+import java.util.function.ToLongFunction
+import java.util.stream.Collectors
+
+class ViewSpliteratorSpecification
+        extends Specification {
+    def "#trySplit splits a view in sized and balanced halves"() {
+        given: "a spliterator over a computed view"
+        final Spliterator<Integer> right = View.readonly(
+                { final int index -> index } as IntFunction<Integer>, { 1001 } as Supplier<Integer>
+        ).spliterator()
+
+        when: "we split the spliterator"
+        final Spliterator<Integer> left = right.trySplit()
+
+        then: "we expect two sized and ordered halves of the same size"
+        left.estimateSize() == 500
+        right.estimateSize() == 501
+        left.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED)
+        right.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED)
+
+        and: "each half to traverse its own range in order"
+        final List<Integer> values = []
+        left.forEachRemaining { final Integer value -> values.add(value) }
+        right.tryAdvance { final Integer value -> values.add(value) }
+        right.forEachRemaining { final Integer value -> values.add(value) }
+        values == (0..<1001).toList()
+    }
+
+    def "parallel streams of each view return the elements of the view in order"() {
+        given: "some views of the same elements"
+        final List<Integer> values = (0..<10000).toList()
+        final List<View<Integer>> views = [
+                View.readonly(values.toArray(new Integer[0])),
+                View.readonly(new ArrayList<>(values)),
+                View.readonly(new LinkedList<>(values)),
+                View.readonly({ final int index -> index } as IntFunction<Integer>, { 10000 } as Supplier<Integer>),
+                View.readonly(values).map({ final Integer value -> value } as Function<Integer, Integer>),
+                View.concatenate(values.collate(7).collect { final List<Integer> chunk -> View.readonly(chunk) }),
+                PrimitiveView.readonly(values as int[])
+        ]
+
+        expect: "each parallel stream to collect the elements in order"
+        views.every { final View<Integer> view ->
+            view.stream().parallel().collect(Collectors.toList()) == values &&
+                    view.stream().parallel().mapToLong({ final Integer value -> (long) value } as ToLongFunction<Integer>).sum() == values.sum()
+        }
+    }
+}
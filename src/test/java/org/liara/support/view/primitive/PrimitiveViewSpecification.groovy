@@ -0,0 +1,75 @@
+package org.liara.support.view.primitive
+
+import spock.lang.Specification
+
+import java.nio.IntBuffer
+import java.util.function.IntPredicate
+import java.util.function.IntToDoubleFunction
+import java.util.function.IntToLongFunction
+import java.util.function.IntUnaryOperator
+
+class PrimitiveViewSpecification
+        extends Specification {
+    def "#getInt, #intStream and #toIntArray read an integer view without boxing"() {
+        given: "an integer view over an array"
+        final int[] array = [4, 8, 15, 16, 23, 42] as int[]
+        final IntegerView view = PrimitiveView.readonly(array)
+
+        expect: "each value to be read unboxed"
+        (0..<array.length).every { final int index -> view.getInt(index) == array[index] }
+        view.intStream().sum() == 108
+        view.toIntArray() == array
+        !view.toIntArray().is(array)
+
+        and: "the boxed accessors to return the same values"
+        view.toArray() == [4, 8, 15, 16, 23, 42] as Integer[]
+        view.stream().collect() == [4, 8, 15, 16, 23, 42]
+    }
+
+    def "#map, #mapToLong, #mapToDouble and #filter transform an integer view lazily or by copy"() {
+        given: "an integer view over a buffer"
+        final IntBuffer buffer = IntBuffer.wrap([1, 2, 3, 4, 5, 6] as int[])
+        final IntegerView view = PrimitiveView.readonly(buffer, { 6 })
+
+        when: "we transform the view"
+        final IntegerView squares = view.mapInt({ final int value -> value * value } as IntUnaryOperator)
+        final LongView shifted = view.mapToLong({ final int value -> (long) value << 40 } as IntToLongFunction)
+        final DoubleView halves = view.mapToDouble({ final int value -> value / 2.0d } as IntToDoubleFunction)
+        final IntegerView evens = view.filter({ final int value -> value % 2 == 0 } as IntPredicate)
+
+        then: "we expect each transformation to be computed as expected"
+        squares.toIntArray() == [1, 4, 9, 16, 25, 36] as int[]
+        shifted.getLong(5) == 6L << 40
+        halves.doubleStream().sum() == 10.5d
+        evens.toIntArray() == [2, 4, 6] as int[]
+
+        when: "the mapped source changes"
+        buffer.put(0, 10)
+
+        then: "we expect the mapping to be computed again"
+        squares.getInt(0) == 100
+    }
+
+    def "#toArray returns boxed arrays for each primitive view"() {
+        expect: "each primitive view to return an array of its boxed values"
+        PrimitiveView.readonly([1, 2] as byte[]).toArray() == [1, 2] as Byte[]
+        PrimitiveView.readonly([1, 2] as short[]).toArray() == [1, 2] as Short[]
+        PrimitiveView.readonly([1L, 2L] as long[]).toArray() == [1L, 2L] as Long[]
+        PrimitiveView.readonly([1f, 2f] as float[]).toArray() == [1f, 2f] as Float[]
+        PrimitiveView.readonly([1d, 2d] as double[]).toArray() == [1d, 2d] as Double[]
+        PrimitiveView.readonly(['a', 'b'] as char[]).toArray() == ['a', 'b'] as Character[]
+    }
+
+    def "narrow primitive views can be widened and filtered without boxing"() {
+        given: "some narrow primitive views"
+        final ShortView shorts = PrimitiveView.readonly([3, -1, 7] as short[])
+        final FloatView floats = PrimitiveView.readonly([0.5f, 1.5f] as float[])
+        final CharView characters = PrimitiveView.readonly(['x', 'y', 'z'] as char[])
+
+        expect: "each view to be widened or filtered"
+        shorts.asIntegers().mapInt({ final int value -> value * 2 } as IntUnaryOperator).toIntArray() == [6, -2, 14] as int[]
+        shorts.filter({ final int value -> value > 0 } as IntPredicate).toShortArray() == [3, 7] as short[]
+        floats.asDoubles().doubleStream().sum() == 2.0d
+        characters.intStream().toArray() == [120, 121, 122] as int[]
+    }
+}